@@ -7,4 +7,7 @@ import co.edu.uco.ucochallenge.application.idtype.dto.IdTypeDTO;
 public interface IdTypeQueryService {
 
         List<IdTypeDTO> findAll();
+
+        /** Versión del catálogo; cambia solo cuando cambian sus datos. */
+        String dataVersion();
 }
@@ -7,24 +7,29 @@ import org.springframework.stereotype.Service;
 import co.edu.uco.ucochallenge.application.idtype.dto.IdTypeDTO;
 import co.edu.uco.ucochallenge.application.idtype.service.IdTypeQueryService;
 import co.edu.uco.ucochallenge.application.idtype.service.IdTypeMapper;
-import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.repository.IdTypeRepository;
+import co.edu.uco.ucochallenge.infrastructure.secondary.cache.reference.ReferenceDataRegistry;
 
 @Service
 public class IdTypeQueryServiceImpl implements IdTypeQueryService {
 
-        private final IdTypeRepository repository;
+        private final ReferenceDataRegistry registry;
         private final IdTypeMapper mapper;
 
-        public IdTypeQueryServiceImpl(final IdTypeRepository repository, final IdTypeMapper mapper) {
-                this.repository = repository;
+        public IdTypeQueryServiceImpl(final ReferenceDataRegistry registry, final IdTypeMapper mapper) {
+                this.registry = registry;
                 this.mapper = mapper;
         }
 
         @Override
         public List<IdTypeDTO> findAll() {
-                return repository.findAll()
+                return registry.idTypes()
                                 .stream()
                                 .map(mapper::toDTO)
                                 .toList();
         }
+
+        @Override
+        public String dataVersion() {
+                return registry.version();
+        }
 }
@@ -14,4 +14,7 @@ public interface LocationQueryService {
         List<DepartmentDTO> getDepartmentsByCountry(UUID countryId);
 
         List<CityDTO> getCitiesByDepartment(UUID departmentId);
+
+        /** Versión del catálogo; cambia solo cuando cambian sus datos. */
+        String dataVersion();
 }
@@ -10,33 +10,21 @@ import co.edu.uco.ucochallenge.application.location.dto.CityDTO;
 import co.edu.uco.ucochallenge.application.location.dto.CountryDTO;
 import co.edu.uco.ucochallenge.application.location.dto.DepartmentDTO;
 import co.edu.uco.ucochallenge.application.location.service.LocationQueryService;
-import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.entity.CityEntity;
-import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.entity.CountryEntity;
-import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.entity.StateEntity;
-import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.repository.SpringDataCityRepository;
-import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.repository.SpringDataCountryRepository;
-import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.repository.SpringDataStateRepository;
-import jakarta.transaction.Transactional;
+import co.edu.uco.ucochallenge.infrastructure.secondary.cache.reference.ReferenceDataItem;
+import co.edu.uco.ucochallenge.infrastructure.secondary.cache.reference.ReferenceDataRegistry;
 
 @Service
-@Transactional(Transactional.TxType.SUPPORTS)
 public class LocationQueryServiceImpl implements LocationQueryService {
 
-        private final SpringDataCountryRepository countryRepository;
-        private final SpringDataStateRepository stateRepository;
-        private final SpringDataCityRepository cityRepository;
+        private final ReferenceDataRegistry registry;
 
-        public LocationQueryServiceImpl(final SpringDataCountryRepository countryRepository,
-                        final SpringDataStateRepository stateRepository,
-                        final SpringDataCityRepository cityRepository) {
-                this.countryRepository = countryRepository;
-                this.stateRepository = stateRepository;
-                this.cityRepository = cityRepository;
+        public LocationQueryServiceImpl(final ReferenceDataRegistry registry) {
+                this.registry = registry;
         }
 
         @Override
         public List<CountryDTO> getCountries() {
-                return countryRepository.findAll()
+                return registry.countries()
                                 .stream()
                                 .map(this::mapCountry)
                                 .toList();
@@ -44,7 +32,7 @@ public class LocationQueryServiceImpl implements LocationQueryService {
 
         @Override
         public List<DepartmentDTO> getDepartmentsByCountry(final UUID countryId) {
-                return stateRepository.findByCountryId(countryId)
+                return registry.departmentsOf(countryId)
                                 .stream()
                                 .map(this::mapDepartment)
                                 .toList();
@@ -52,30 +40,35 @@ public class LocationQueryServiceImpl implements LocationQueryService {
 
         @Override
         public List<CityDTO> getCitiesByDepartment(final UUID departmentId) {
-                return cityRepository.findByStateId(departmentId)
+                return registry.citiesOf(departmentId)
                                 .stream()
                                 .map(this::mapCity)
                                 .toList();
         }
 
-        private CountryDTO mapCountry(final CountryEntity entity) {
+        @Override
+        public String dataVersion() {
+                return registry.version();
+        }
+
+        private CountryDTO mapCountry(final ReferenceDataItem item) {
                 final CountryDTO dto = new CountryDTO();
-                dto.setId(entity.getId());
-                dto.setName(TextHelper.getDefaultWithTrim(entity.getName()));
+                dto.setId(item.id());
+                dto.setName(TextHelper.getDefaultWithTrim(item.name()));
                 return dto;
         }
 
-        private DepartmentDTO mapDepartment(final StateEntity entity) {
+        private DepartmentDTO mapDepartment(final ReferenceDataItem item) {
                 final DepartmentDTO dto = new DepartmentDTO();
-                dto.setId(entity.getId());
-                dto.setName(TextHelper.getDefaultWithTrim(entity.getName()));
+                dto.setId(item.id());
+                dto.setName(TextHelper.getDefaultWithTrim(item.name()));
                 return dto;
         }
 
-        private CityDTO mapCity(final CityEntity entity) {
+        private CityDTO mapCity(final ReferenceDataItem item) {
                 final CityDTO dto = new CityDTO();
-                dto.setId(entity.getId());
-                dto.setName(TextHelper.getDefaultWithTrim(entity.getName()));
+                dto.setId(item.id());
+                dto.setName(TextHelper.getDefaultWithTrim(item.name()));
                 return dto;
         }
 }
@@ -12,11 +12,10 @@ import co.edu.uco.ucochallenge.crosscutting.exception.BusinessException;
 import co.edu.uco.ucochallenge.crosscutting.exception.NotificationDeliveryException;
 import co.edu.uco.ucochallenge.crosscutting.exception.NotFoundException;
 import co.edu.uco.ucochallenge.crosscutting.ParamKeys;
-import co.edu.uco.ucochallenge.crosscutting.dto.ParameterDTO;
 import co.edu.uco.ucochallenge.infrastructure.secondary.notification.NotificationContactConfirmationAdapter;
 import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.entity.UserEntity;
 import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.repository.SpringDataUserRepository;
-import co.edu.uco.ucochallenge.infrastructure.secondary.cache.catalog.ParametersCatalogCache;
+import co.edu.uco.ucochallenge.infrastructure.secondary.cache.catalog.ParameterRegistry;
 import co.edu.uco.ucochallenge.domain.user.confirm.VerificationChannel;
 
 @Service
@@ -30,16 +29,16 @@ public class SendVerificationCodeService {
         private final SpringDataUserRepository userRepo;
         private final VerificationCodeService codeService;
         private final NotificationContactConfirmationAdapter notifier;
-        private final ParametersCatalogCache parametersCatalogCache;
+        private final ParameterRegistry parameterRegistry;
 
         public SendVerificationCodeService(final SpringDataUserRepository userRepo,
                         final VerificationCodeService codeService,
                         final NotificationContactConfirmationAdapter notifier,
-                        final ParametersCatalogCache parametersCatalogCache) {
+                        final ParameterRegistry parameterRegistry) {
                 this.userRepo = userRepo;
                 this.codeService = codeService;
                 this.notifier = notifier;
-                this.parametersCatalogCache = parametersCatalogCache;
+                this.parameterRegistry = parameterRegistry;
         }
 
         @Transactional(noRollbackFor = NotificationDeliveryException.class)
@@ -50,14 +49,7 @@ public class SendVerificationCodeService {
                 final String contact = resolveContact(user, channel);
                 final String normalizedContact = channel.normalizeContact(contact);
                 final String code = codeService.generateCode();
-                final Integer ttlValue = parametersCatalogCache.getParameter(ParamKeys.TOKEN_DURATION_MINUTES)
-                                .map(ParameterDTO::value)
-                                .map(String::trim)
-                                .map(Integer::parseInt)
-                                .onErrorReturn(15)
-                                .defaultIfEmpty(15)
-                                .block();
-                final int ttlMinutes = ttlValue == null || ttlValue <= 0 ? 15 : ttlValue;
+                final int ttlMinutes = parameterRegistry.positiveInt(ParamKeys.TOKEN_DURATION_MINUTES, 15);
                 final LocalDateTime expiration = LocalDateTime.now().plusMinutes(ttlMinutes);
 
                 LOGGER.info("[Verification] Saving code for contact={}, expires={}", normalizedContact, expiration);
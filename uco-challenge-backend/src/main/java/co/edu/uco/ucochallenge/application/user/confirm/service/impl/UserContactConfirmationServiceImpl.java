@@ -12,12 +12,11 @@ import co.edu.uco.ucochallenge.crosscutting.exception.DomainValidationException;
 import co.edu.uco.ucochallenge.crosscutting.exception.NotFoundException;
 import co.edu.uco.ucochallenge.application.user.confirm.service.UserContactConfirmationService;
 import co.edu.uco.ucochallenge.crosscutting.ParamKeys;
-import co.edu.uco.ucochallenge.crosscutting.dto.ParameterDTO;
 import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.entity.UserEntity;
 import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.entity.VerificationCodeEntity;
 import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.repository.SpringDataUserRepository;
 import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.repository.VerificationCodeRepository;
-import co.edu.uco.ucochallenge.infrastructure.secondary.cache.catalog.ParametersCatalogCache;
+import co.edu.uco.ucochallenge.infrastructure.secondary.cache.catalog.ParameterRegistry;
 import co.edu.uco.ucochallenge.domain.user.port.ConfirmUserContactRepositoryPort;
 import co.edu.uco.ucochallenge.domain.user.confirm.VerificationChannel;
 
@@ -33,16 +32,16 @@ public class UserContactConfirmationServiceImpl implements UserContactConfirmati
 
     private final VerificationCodeRepository codeRepo;
     private final SpringDataUserRepository userRepo;
-    private final ParametersCatalogCache parametersCatalogCache;
+    private final ParameterRegistry parameterRegistry;
     private final ConfirmUserContactRepositoryPort confirmUserContactRepository;
 
     public UserContactConfirmationServiceImpl(final VerificationCodeRepository codeRepo,
             final SpringDataUserRepository userRepo,
-            final ParametersCatalogCache parametersCatalogCache,
+            final ParameterRegistry parameterRegistry,
             final ConfirmUserContactRepositoryPort confirmUserContactRepository) {
         this.codeRepo = codeRepo;
         this.userRepo = userRepo;
-        this.parametersCatalogCache = parametersCatalogCache;
+        this.parameterRegistry = parameterRegistry;
         this.confirmUserContactRepository = confirmUserContactRepository;
     }
 
@@ -62,14 +61,7 @@ public class UserContactConfirmationServiceImpl implements UserContactConfirmati
         final VerificationCodeEntity verificationCode = codeRepo.findByContactIgnoreCase(normalizedContact)
                 .orElseThrow(() -> new BusinessException("verification.code.notfound"));
 
-        final Integer attemptsValue = parametersCatalogCache.getParameter(ParamKeys.MAX_CONFIRM_ATTEMPTS)
-                .map(ParameterDTO::value)
-                .map(String::trim)
-                .map(Integer::parseInt)
-                .onErrorReturn(DEFAULT_MAX_ATTEMPTS)
-                .defaultIfEmpty(DEFAULT_MAX_ATTEMPTS)
-                .block();
-        final int maxAttempts = attemptsValue == null || attemptsValue <= 0 ? DEFAULT_MAX_ATTEMPTS : attemptsValue;
+        final int maxAttempts = parameterRegistry.positiveInt(ParamKeys.MAX_CONFIRM_ATTEMPTS, DEFAULT_MAX_ATTEMPTS);
 
         if (verificationCode.getAttempts() >= maxAttempts) {
             throw new BusinessException("verification.code.max.attempts");
@@ -0,0 +1,19 @@
+package co.edu.uco.ucochallenge.application.user.export.service;
+
+import java.io.OutputStream;
+
+import co.edu.uco.ucochallenge.application.user.find.dto.UserSearchFilterDTO;
+import co.edu.uco.ucochallenge.domain.user.export.model.UserExportFormat;
+
+public interface UserExportService {
+
+        UserExportFormat resolveFormat(String format);
+
+        /**
+         * Escribe en {@code output} los usuarios que cumplen {@code filter} a medida que se leen. Si
+         * el cliente se desconecta la escritura falla, la lectura se cancela y la excepción se propaga.
+         *
+         * @return filas escritas
+         */
+        long export(UserExportFormat format, UserSearchFilterDTO filter, OutputStream output);
+}
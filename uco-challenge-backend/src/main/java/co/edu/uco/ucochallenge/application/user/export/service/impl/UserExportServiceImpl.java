@@ -0,0 +1,114 @@
+package co.edu.uco.ucochallenge.application.user.export.service.impl;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import co.edu.uco.ucochallenge.application.user.export.service.UserExportService;
+import co.edu.uco.ucochallenge.application.user.export.writer.UserExportWriter;
+import co.edu.uco.ucochallenge.application.user.find.dto.UserSearchFilterDTO;
+import co.edu.uco.ucochallenge.application.user.find.interactor.mapper.impl.UserSearchFilterMapper;
+import co.edu.uco.ucochallenge.domain.user.export.model.UserExportFormat;
+import co.edu.uco.ucochallenge.domain.user.port.UserExportRepositoryPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Exportación completa en una transacción de solo lectura, para que el adaptador pueda leer con un
+ * cursor. La memoria no depende del número de filas: cada usuario se escribe y se descarta. Una
+ * desconexión del cliente hace fallar la siguiente escritura, lo que cierra el cursor y revierte la
+ * transacción.
+ */
+@Service
+public class UserExportServiceImpl implements UserExportService {
+
+        private static final Logger LOGGER = LoggerFactory.getLogger(UserExportServiceImpl.class);
+
+        private final UserExportRepositoryPort repositoryPort;
+        private final TransactionTemplate readOnlyTransaction;
+        private final UserSearchFilterMapper filterMapper;
+        private final MeterRegistry meterRegistry;
+
+        public UserExportServiceImpl(final UserExportRepositoryPort repositoryPort,
+                        final PlatformTransactionManager transactionManager,
+                        final UserSearchFilterMapper filterMapper,
+                        final MeterRegistry meterRegistry) {
+                this.repositoryPort = repositoryPort;
+                this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+                this.readOnlyTransaction.setReadOnly(true);
+                this.filterMapper = filterMapper;
+                this.meterRegistry = meterRegistry;
+        }
+
+        @Override
+        public UserExportFormat resolveFormat(final String format) {
+                return format == null ? UserExportFormat.NDJSON : UserExportFormat.from(format);
+        }
+
+        @Override
+        public long export(final UserExportFormat format, final UserSearchFilterDTO filter, final OutputStream output) {
+                final var specification = filterMapper.toDomain(filter).toSpecification();
+                final var counted = new CountingOutputStream(output);
+                final Counter rowsCounter = meterRegistry.counter("users.export.rows", "format", format.getValue());
+                final Timer.Sample sample = Timer.start(meterRegistry);
+                final var rows = new AtomicLong();
+                String outcome = "failed";
+                try {
+                        final UserExportWriter writer = UserExportWriter.of(format, counted);
+                        readOnlyTransaction.executeWithoutResult(status -> repositoryPort.streamAll(specification, user -> {
+                                try {
+                                        writer.write(user);
+                                } catch (final IOException exception) {
+                                        throw new UncheckedIOException(exception);
+                                }
+                                rows.incrementAndGet();
+                                rowsCounter.increment();
+                        }));
+                        writer.finish();
+                        outcome = "completed";
+                        return rows.get();
+                } catch (final IOException exception) {
+                        outcome = "cancelled";
+                        throw new UncheckedIOException(exception);
+                } catch (final UncheckedIOException exception) {
+                        outcome = "cancelled";
+                        LOGGER.info("Exportación de usuarios cancelada tras {} filas: {}", rows.get(),
+                                        exception.getCause().getMessage());
+                        throw exception;
+                } finally {
+                        meterRegistry.counter("users.export.bytes", "format", format.getValue()).increment(counted.count);
+                        sample.stop(meterRegistry.timer("users.export", "format", format.getValue(), "outcome", outcome));
+                }
+        }
+
+        /** Cuenta los bytes entregados al contenedor para la métrica de volumen. */
+        private static final class CountingOutputStream extends FilterOutputStream {
+
+                private long count;
+
+                private CountingOutputStream(final OutputStream output) {
+                        super(output);
+                }
+
+                @Override
+                public void write(final int value) throws IOException {
+                        out.write(value);
+                        count++;
+                }
+
+                @Override
+                public void write(final byte[] buffer, final int offset, final int length) throws IOException {
+                        out.write(buffer, offset, length);
+                        count += length;
+                }
+        }
+}
@@ -0,0 +1,70 @@
+package co.edu.uco.ucochallenge.application.user.export.writer;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import co.edu.uco.ucochallenge.domain.user.find.model.UserSummaryDomain;
+
+/** CSV (RFC 4180) con encabezado; los campos con coma, comillas o saltos de línea van entre comillas. */
+public class CsvUserExportWriter implements UserExportWriter {
+
+        static final String HEADER = "id,idType,idNumber,firstName,secondName,firstSurname,secondSurname,homeCity,"
+                        + "email,mobileNumber,emailConfirmed,mobileNumberConfirmed\r\n";
+
+        private final Writer writer;
+
+        public CsvUserExportWriter(final OutputStream output) throws IOException {
+                this.writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+                writer.write(HEADER);
+        }
+
+        @Override
+        public void write(final UserSummaryDomain user) throws IOException {
+                field(user.getId()).write(',');
+                field(user.getIdType()).write(',');
+                field(user.getIdNumber()).write(',');
+                field(user.getFirstName()).write(',');
+                field(user.getSecondName()).write(',');
+                field(user.getFirstSurname()).write(',');
+                field(user.getSecondSurname()).write(',');
+                field(user.getHomeCity()).write(',');
+                field(user.getEmail()).write(',');
+                field(user.getMobileNumber()).write(',');
+                writer.write(Boolean.toString(user.isEmailConfirmed()));
+                writer.write(',');
+                writer.write(Boolean.toString(user.isMobileNumberConfirmed()));
+                writer.write("\r\n");
+        }
+
+        @Override
+        public void finish() throws IOException {
+                writer.flush();
+        }
+
+        private Writer field(final UUID value) throws IOException {
+                if (value != null) {
+                        writer.write(value.toString());
+                }
+                return writer;
+        }
+
+        private Writer field(final String value) throws IOException {
+                if (value == null || value.isEmpty()) {
+                        return writer;
+                }
+                if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0
+                                && value.indexOf('\r') < 0) {
+                        writer.write(value);
+                        return writer;
+                }
+                writer.write('"');
+                writer.write(value.replace("\"", "\"\""));
+                writer.write('"');
+                return writer;
+        }
+}
@@ -0,0 +1,55 @@
+package co.edu.uco.ucochallenge.application.user.export.writer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.UUID;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+
+import co.edu.uco.ucochallenge.domain.user.find.model.UserSummaryDomain;
+
+/** Un objeto JSON por línea, escrito campo a campo sin pasar por un DTO intermedio. */
+public class NdjsonUserExportWriter implements UserExportWriter {
+
+        private static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+                        .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+                        .build();
+
+        private final JsonGenerator generator;
+
+        public NdjsonUserExportWriter(final OutputStream output) throws IOException {
+                this.generator = JSON_FACTORY.createGenerator(output, JsonEncoding.UTF8);
+                generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void write(final UserSummaryDomain user) throws IOException {
+                generator.writeStartObject();
+                writeUuid("id", user.getId());
+                writeUuid("idType", user.getIdType());
+                generator.writeStringField("idNumber", user.getIdNumber());
+                generator.writeStringField("firstName", user.getFirstName());
+                generator.writeStringField("secondName", user.getSecondName());
+                generator.writeStringField("firstSurname", user.getFirstSurname());
+                generator.writeStringField("secondSurname", user.getSecondSurname());
+                writeUuid("homeCity", user.getHomeCity());
+                generator.writeStringField("email", user.getEmail());
+                generator.writeStringField("mobileNumber", user.getMobileNumber());
+                generator.writeBooleanField("emailConfirmed", user.isEmailConfirmed());
+                generator.writeBooleanField("mobileNumberConfirmed", user.isMobileNumberConfirmed());
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+        }
+
+        @Override
+        public void finish() throws IOException {
+                generator.flush();
+        }
+
+        private void writeUuid(final String name, final UUID value) throws IOException {
+                generator.writeStringField(name, value == null ? null : value.toString());
+        }
+}
@@ -0,0 +1,23 @@
+package co.edu.uco.ucochallenge.application.user.export.writer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import co.edu.uco.ucochallenge.domain.user.export.model.UserExportFormat;
+import co.edu.uco.ucochallenge.domain.user.find.model.UserSummaryDomain;
+
+/** Escribe usuarios uno a uno sobre la respuesta; no retiene filas ya escritas. */
+public interface UserExportWriter {
+
+        void write(UserSummaryDomain user) throws IOException;
+
+        /** Vacía lo pendiente sin cerrar el flujo, que pertenece al contenedor. */
+        void finish() throws IOException;
+
+        static UserExportWriter of(final UserExportFormat format, final OutputStream output) throws IOException {
+                return switch (format) {
+                case CSV -> new CsvUserExportWriter(output);
+                case NDJSON -> new NdjsonUserExportWriter(output);
+                };
+        }
+}
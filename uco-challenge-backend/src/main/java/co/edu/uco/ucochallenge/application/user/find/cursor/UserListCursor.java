@@ -0,0 +1,51 @@
+package co.edu.uco.ucochallenge.application.user.find.cursor;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.UUID;
+
+import co.edu.uco.ucochallenge.crosscutting.exception.DomainValidationException;
+import co.edu.uco.ucochallenge.crosscutting.helper.TextHelper;
+
+/**
+ * Token de continuación del listado por cursor. Para el cliente es opaco: codifica en base64url
+ * una versión de formato y el id del último usuario entregado, que es la clave de orden.
+ */
+public final class UserListCursor {
+
+        private static final byte VERSION = 1;
+        private static final int LENGTH = 1 + Long.BYTES * 2;
+        private static final String INVALID_CODE = "users.cursor.invalid";
+
+        private UserListCursor() {
+                super();
+        }
+
+        public static String encode(final UUID lastId) {
+                final var buffer = ByteBuffer.allocate(LENGTH)
+                                .put(VERSION)
+                                .putLong(lastId.getMostSignificantBits())
+                                .putLong(lastId.getLeastSignificantBits());
+                return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+        }
+
+        /** @return el id a partir del cual continuar, o {@code null} para la primera página */
+        public static UUID decode(final String token) {
+                if (TextHelper.isEmpty(token)) {
+                        return null;
+                }
+
+                final byte[] bytes;
+                try {
+                        bytes = Base64.getUrlDecoder().decode(token.trim());
+                } catch (final IllegalArgumentException exception) {
+                        throw new DomainValidationException(INVALID_CODE);
+                }
+                if (bytes.length != LENGTH || bytes[0] != VERSION) {
+                        throw new DomainValidationException(INVALID_CODE);
+                }
+
+                final var buffer = ByteBuffer.wrap(bytes, 1, LENGTH - 1);
+                return new UUID(buffer.getLong(), buffer.getLong());
+        }
+}
@@ -1,15 +1,43 @@
 package co.edu.uco.ucochallenge.application.user.find.dto;
 
 import co.edu.uco.ucochallenge.crosscutting.helper.NumberHelper;
+import co.edu.uco.ucochallenge.crosscutting.helper.TextHelper;
 
-public record FindUsersByFilterInputDTO(Integer page, Integer size) {
+/**
+ * Con {@code cursor} en {@code null} el listado es por desplazamiento ({@code page}); con un
+ * cursor, aunque sea vacío para pedir la primera página, es por clave y {@code page} se ignora.
+ * {@code count} elige cómo se calcula el total ({@code exact}, {@code estimate}, {@code counter} o
+ * {@code none}); en {@code null} es {@code exact} por desplazamiento y {@code none} por cursor.
+ */
+public record FindUsersByFilterInputDTO(Integer page, Integer size, String cursor, String count,
+                UserSearchFilterDTO filter) {
 
         private static final int DEFAULT_PAGE = 0;
         private static final int DEFAULT_SIZE = 10;
 
+        public FindUsersByFilterInputDTO(final Integer page, final Integer size) {
+                this(page, size, null, null, UserSearchFilterDTO.empty());
+        }
+
         public static FindUsersByFilterInputDTO normalize(final Integer page, final Integer size) {
+                return normalize(page, size, null, null);
+        }
+
+        public static FindUsersByFilterInputDTO normalize(final Integer page, final Integer size, final String cursor,
+                        final String count) {
+                return normalize(page, size, cursor, count, UserSearchFilterDTO.empty());
+        }
+
+        public static FindUsersByFilterInputDTO normalize(final Integer page, final Integer size, final String cursor,
+                        final String count, final UserSearchFilterDTO filter) {
                 var sanitizedPage = NumberHelper.ensureMinimum(NumberHelper.getDefault(page, DEFAULT_PAGE), 0, DEFAULT_PAGE);
                 var sanitizedSize = NumberHelper.ensureRange(NumberHelper.getDefault(size, DEFAULT_SIZE), 1, 100, DEFAULT_SIZE);
-                return new FindUsersByFilterInputDTO(sanitizedPage, sanitizedSize);
+                var sanitizedCount = TextHelper.isEmpty(count) ? null : count.trim();
+                var sanitizedFilter = filter != null ? filter : UserSearchFilterDTO.empty();
+                return new FindUsersByFilterInputDTO(sanitizedPage, sanitizedSize, cursor, sanitizedCount, sanitizedFilter);
+        }
+
+        public boolean isKeyset() {
+                return cursor != null;
         }
 }
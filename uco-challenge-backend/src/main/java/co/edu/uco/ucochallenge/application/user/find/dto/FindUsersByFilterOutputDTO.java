@@ -2,12 +2,18 @@ package co.edu.uco.ucochallenge.application.user.find.dto;
 
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class FindUsersByFilterOutputDTO {
 
         private List<UserSummaryDTO> users;
         private int page;
         private int size;
-        private long totalElements;
+        private Long totalElements;
+        private String nextCursor;
+        private boolean hasNext;
+        private String countStrategy;
 
         public List<UserSummaryDTO> getUsers() {
                 return users;
@@ -33,11 +39,38 @@ public class FindUsersByFilterOutputDTO {
                 this.size = size;
         }
 
-        public long getTotalElements() {
+        /** {@code null} cuando no se pidió el conteo. */
+        public Long getTotalElements() {
                 return totalElements;
         }
 
-        public void setTotalElements(final long totalElements) {
+        public void setTotalElements(final Long totalElements) {
                 this.totalElements = totalElements;
         }
+
+        /** Token para pedir la página siguiente por cursor; {@code null} si no hay más. */
+        public String getNextCursor() {
+                return nextCursor;
+        }
+
+        public void setNextCursor(final String nextCursor) {
+                this.nextCursor = nextCursor;
+        }
+
+        public boolean isHasNext() {
+                return hasNext;
+        }
+
+        public void setHasNext(final boolean hasNext) {
+                this.hasNext = hasNext;
+        }
+
+        /** Estrategia con la que se calculó {@code totalElements}: exact, estimate, counter o none. */
+        public String getCountStrategy() {
+                return countStrategy;
+        }
+
+        public void setCountStrategy(final String countStrategy) {
+                this.countStrategy = countStrategy;
+        }
 }
@@ -0,0 +1,18 @@
+package co.edu.uco.ucochallenge.application.user.find.dto;
+
+import java.util.UUID;
+
+/**
+ * Filtros del listado tal como llegan en la URL. {@code name}, {@code surname} e {@code idNumber}
+ * son prefijos; los demás comparan por igualdad.
+ */
+public record UserSearchFilterDTO(UUID idType, String idNumber, String name, String surname, UUID city,
+                UUID state, UUID country, Boolean emailConfirmed, Boolean mobileNumberConfirmed) {
+
+        private static final UserSearchFilterDTO EMPTY = new UserSearchFilterDTO(null, null, null, null, null, null,
+                        null, null, null);
+
+        public static UserSearchFilterDTO empty() {
+                return EMPTY;
+        }
+}
@@ -3,24 +3,37 @@ package co.edu.uco.ucochallenge.application.user.find.interactor.mapper.impl;
 import org.springframework.stereotype.Component;
 
 import co.edu.uco.ucochallenge.application.common.mapper.DomainMapper;
+import co.edu.uco.ucochallenge.application.user.find.cursor.UserListCursor;
 import co.edu.uco.ucochallenge.application.user.find.dto.FindUsersByFilterInputDTO;
 import co.edu.uco.ucochallenge.domain.user.find.model.FindUsersByFilterInputDomain;
+import co.edu.uco.ucochallenge.domain.user.find.model.UserCountStrategy;
 
 @Component
 public class FindUsersByFilterInputMapper
                 implements DomainMapper<FindUsersByFilterInputDTO, FindUsersByFilterInputDomain> {
 
+        private final UserSearchFilterMapper filterMapper = new UserSearchFilterMapper();
+
         @Override
         public FindUsersByFilterInputDomain toDomain(final FindUsersByFilterInputDTO dto) {
-                final var normalized = FindUsersByFilterInputDTO.normalize(dto.page(), dto.size());
+                final var normalized = FindUsersByFilterInputDTO.normalize(dto.page(), dto.size(), dto.cursor(),
+                                dto.count(), dto.filter());
                 return FindUsersByFilterInputDomain.builder()
                                 .page(normalized.page())
                                 .size(normalized.size())
+                                .keyset(normalized.isKeyset())
+                                .after(UserListCursor.decode(normalized.cursor()))
+                                .countStrategy(normalized.count() == null ? null : UserCountStrategy.from(normalized.count()))
+                                .filter(filterMapper.toDomain(normalized.filter()))
                                 .build();
         }
 
         @Override
         public FindUsersByFilterInputDTO toDto(final FindUsersByFilterInputDomain domain) {
-                return new FindUsersByFilterInputDTO(domain.getPage(), domain.getSize());
+                final String cursor = domain.getAfter() != null
+                                ? UserListCursor.encode(domain.getAfter())
+                                : domain.isKeyset() ? "" : null;
+                return new FindUsersByFilterInputDTO(domain.getPage(), domain.getSize(), cursor,
+                                domain.getCountStrategy().getValue(), filterMapper.toDto(domain.getFilter()));
         }
 }
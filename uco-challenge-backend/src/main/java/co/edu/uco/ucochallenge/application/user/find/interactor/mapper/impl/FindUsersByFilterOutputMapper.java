@@ -6,9 +6,11 @@ import java.util.stream.Collectors;
 import org.springframework.stereotype.Component;
 
 import co.edu.uco.ucochallenge.application.common.mapper.DomainMapper;
+import co.edu.uco.ucochallenge.application.user.find.cursor.UserListCursor;
 import co.edu.uco.ucochallenge.application.user.find.dto.FindUsersByFilterOutputDTO;
 import co.edu.uco.ucochallenge.application.user.find.dto.UserSummaryDTO;
 import co.edu.uco.ucochallenge.domain.user.find.model.FindUsersByFilterResponseDomain;
+import co.edu.uco.ucochallenge.domain.user.find.model.UserCountStrategy;
 import co.edu.uco.ucochallenge.domain.user.find.model.UserSummaryDomain;
 
 @Component
@@ -28,7 +30,12 @@ public class FindUsersByFilterOutputMapper
                                 .users(users)
                                 .page(dto.getPage())
                                 .size(dto.getSize())
-                                .totalElements(dto.getTotalElements())
+                                .totalElements(dto.getTotalElements() != null
+                                                ? dto.getTotalElements()
+                                                : FindUsersByFilterResponseDomain.UNKNOWN_TOTAL)
+                                .nextAfter(UserListCursor.decode(dto.getNextCursor()))
+                                .hasNext(dto.isHasNext())
+                                .countStrategy(dto.getCountStrategy() == null ? null : UserCountStrategy.from(dto.getCountStrategy()))
                                 .build();
         }
 
@@ -43,7 +50,10 @@ public class FindUsersByFilterOutputMapper
                 dto.setUsers(users);
                 dto.setPage(domain.getPage());
                 dto.setSize(domain.getSize());
-                dto.setTotalElements(domain.getTotalElements());
+                dto.setTotalElements(domain.hasTotal() ? domain.getTotalElements() : null);
+                dto.setNextCursor(domain.getNextAfter() != null ? UserListCursor.encode(domain.getNextAfter()) : null);
+                dto.setHasNext(domain.isHasNext());
+                dto.setCountStrategy(domain.getCountStrategy().getValue());
                 return dto;
         }
 
@@ -0,0 +1,36 @@
+package co.edu.uco.ucochallenge.application.user.find.interactor.mapper.impl;
+
+import org.springframework.stereotype.Component;
+
+import co.edu.uco.ucochallenge.application.common.mapper.DomainMapper;
+import co.edu.uco.ucochallenge.application.user.find.dto.UserSearchFilterDTO;
+import co.edu.uco.ucochallenge.domain.user.find.model.UserSearchFilter;
+
+@Component
+public class UserSearchFilterMapper implements DomainMapper<UserSearchFilterDTO, UserSearchFilter> {
+
+        @Override
+        public UserSearchFilter toDomain(final UserSearchFilterDTO dto) {
+                if (dto == null) {
+                        return UserSearchFilter.empty();
+                }
+                return UserSearchFilter.builder()
+                                .idType(dto.idType())
+                                .idNumber(dto.idNumber())
+                                .name(dto.name())
+                                .surname(dto.surname())
+                                .homeCity(dto.city())
+                                .homeState(dto.state())
+                                .homeCountry(dto.country())
+                                .emailConfirmed(dto.emailConfirmed())
+                                .mobileNumberConfirmed(dto.mobileNumberConfirmed())
+                                .build();
+        }
+
+        @Override
+        public UserSearchFilterDTO toDto(final UserSearchFilter domain) {
+                return new UserSearchFilterDTO(domain.getIdType(), domain.getIdNumber(), domain.getName(),
+                                domain.getSurname(), domain.getHomeCity(), domain.getHomeState(), domain.getHomeCountry(),
+                                domain.getEmailConfirmed(), domain.getMobileNumberConfirmed());
+        }
+}
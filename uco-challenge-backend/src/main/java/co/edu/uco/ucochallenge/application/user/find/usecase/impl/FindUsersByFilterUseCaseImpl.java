@@ -28,6 +28,12 @@ public class FindUsersByFilterUseCaseImpl implements FindUsersByFilterUseCase {
                         throw new BusinessException(notification.formattedMessages());
                 }
 
-                return repositoryPort.findAll(domain.getPage(), domain.getSize());
+                final var filter = domain.getFilter().toSpecification();
+                if (domain.isKeyset()) {
+                        return repositoryPort.findAfter(filter, domain.getAfter(), domain.getSize(),
+                                        domain.getCountStrategy());
+                }
+
+                return repositoryPort.findAll(filter, domain.getPage(), domain.getSize(), domain.getCountStrategy());
         }
 }
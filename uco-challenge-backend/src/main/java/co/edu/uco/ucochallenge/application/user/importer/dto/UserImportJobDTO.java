@@ -0,0 +1,37 @@
+package co.edu.uco.ucochallenge.application.user.importer.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import co.edu.uco.ucochallenge.domain.user.importer.model.UserImportJobDomain;
+
+public record UserImportJobDTO(
+                UUID jobId,
+                String format,
+                String status,
+                long processedRecords,
+                long inserted,
+                long conflicts,
+                long rejected,
+                double recordsPerSecond,
+                Instant startedAt,
+                Instant updatedAt,
+                Instant finishedAt,
+                String lastError) {
+
+        public static UserImportJobDTO from(final UserImportJobDomain job) {
+                return new UserImportJobDTO(
+                                job.getId(),
+                                job.getFormat().getValue(),
+                                job.getStatus().name(),
+                                job.getProcessedRecords(),
+                                job.getInserted(),
+                                job.getConflicts(),
+                                job.getRejected(),
+                                job.recordsPerSecond(),
+                                job.getStartedAt(),
+                                job.getUpdatedAt(),
+                                job.getFinishedAt(),
+                                job.getLastError());
+        }
+}
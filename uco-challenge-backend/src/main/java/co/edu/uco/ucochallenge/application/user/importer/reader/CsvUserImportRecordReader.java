@@ -0,0 +1,133 @@
+package co.edu.uco.ucochallenge.application.user.importer.reader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+import co.edu.uco.ucochallenge.application.user.register.dto.RegisterUserInputDTO;
+import co.edu.uco.ucochallenge.crosscutting.exception.BusinessException;
+import co.edu.uco.ucochallenge.crosscutting.helper.TextHelper;
+
+/**
+ * CSV (RFC 4180) con encabezado. Las columnas usan los nombres de {@link RegisterUserInputDTO}
+ * (idTypeId, idTypeName, idNumber, firstName, middleName, lastName, secondLastName, email, mobile,
+ * countryId, departmentId, cityId) sin importar mayúsculas ni orden; las desconocidas se ignoran.
+ * El número de registro cuenta filas de datos desde 1.
+ */
+public class CsvUserImportRecordReader implements UserImportRecordReader {
+
+        private final BufferedReader reader;
+        private final Map<String, Integer> columns = new HashMap<>();
+        private final List<String> fields = new ArrayList<>();
+        private final StringBuilder field = new StringBuilder(64);
+        private long recordNumber;
+
+        public CsvUserImportRecordReader(final Reader reader) throws IOException {
+                this.reader = new BufferedReader(reader);
+                if (!readRecord()) {
+                        throw new BusinessException("users.import.header.required");
+                }
+                for (int i = 0; i < fields.size(); i++) {
+                        columns.put(fields.get(i).replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT), i);
+                }
+        }
+
+        @Override
+        public UserImportRecord next() throws IOException {
+                while (readRecord()) {
+                        if (fields.size() == 1 && fields.get(0).isBlank()) {
+                                continue;
+                        }
+                        recordNumber++;
+                        if (fields.size() != columns.size()) {
+                                return UserImportRecord.malformed(recordNumber);
+                        }
+                        try {
+                                return UserImportRecord.parsed(recordNumber, toDto());
+                        } catch (final IllegalArgumentException exception) {
+                                return UserImportRecord.malformed(recordNumber);
+                        }
+                }
+                return null;
+        }
+
+        private RegisterUserInputDTO toDto() {
+                return new RegisterUserInputDTO(
+                                uuid("idTypeId"),
+                                text("idTypeName"),
+                                text("idNumber"),
+                                text("firstName"),
+                                text("middleName"),
+                                text("lastName"),
+                                text("secondLastName"),
+                                text("email"),
+                                text("mobile"),
+                                uuid("countryId"),
+                                uuid("departmentId"),
+                                uuid("cityId"));
+        }
+
+        private String text(final String column) {
+                final Integer position = columns.get(column.toLowerCase(Locale.ROOT));
+                return position == null ? null : fields.get(position);
+        }
+
+        private UUID uuid(final String column) {
+                final String value = text(column);
+                return TextHelper.isEmpty(value) ? null : UUID.fromString(value.trim());
+        }
+
+        /** Lee un registro completo en {@link #fields}; admite comillas dobles, comas y saltos de línea escapados. */
+        private boolean readRecord() throws IOException {
+                fields.clear();
+                field.setLength(0);
+                int c = reader.read();
+                if (c == -1) {
+                        return false;
+                }
+
+                boolean quoted = false;
+                int length = 0;
+                while (c != -1) {
+                        if (++length > MAX_RECORD_CHARS) {
+                                throw new BusinessException("users.import.record.too.long");
+                        }
+                        if (quoted) {
+                                if (c == '"') {
+                                        reader.mark(1);
+                                        final int nextChar = reader.read();
+                                        if (nextChar == '"') {
+                                                field.append('"');
+                                        } else {
+                                                quoted = false;
+                                                reader.reset();
+                                        }
+                                } else {
+                                        field.append((char) c);
+                                }
+                        } else if (c == '"') {
+                                quoted = true;
+                        } else if (c == ',') {
+                                endField();
+                        } else if (c == '\n') {
+                                break;
+                        } else if (c != '\r') {
+                                field.append((char) c);
+                        }
+                        c = reader.read();
+                }
+                endField();
+                return true;
+        }
+
+        private void endField() {
+                fields.add(field.toString());
+                field.setLength(0);
+        }
+}
@@ -0,0 +1,60 @@
+package co.edu.uco.ucochallenge.application.user.importer.reader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import co.edu.uco.ucochallenge.application.user.register.dto.RegisterUserInputDTO;
+import co.edu.uco.ucochallenge.crosscutting.exception.BusinessException;
+
+/** Un objeto JSON por línea; el número de registro es el número de línea y las líneas vacías se omiten. */
+public class NdjsonUserImportRecordReader implements UserImportRecordReader {
+
+        private final BufferedReader reader;
+        private final ObjectReader jsonReader;
+        private final StringBuilder line = new StringBuilder(256);
+        private long lineNumber;
+
+        public NdjsonUserImportRecordReader(final Reader reader, final ObjectMapper objectMapper) {
+                this.reader = new BufferedReader(reader);
+                this.jsonReader = objectMapper.readerFor(RegisterUserInputDTO.class);
+        }
+
+        @Override
+        public UserImportRecord next() throws IOException {
+                while (readLine()) {
+                        lineNumber++;
+                        if (line.toString().isBlank()) {
+                                continue;
+                        }
+                        try {
+                                return UserImportRecord.parsed(lineNumber, jsonReader.readValue(line.toString()));
+                        } catch (final JsonProcessingException exception) {
+                                return UserImportRecord.malformed(lineNumber);
+                        }
+                }
+                return null;
+        }
+
+        private boolean readLine() throws IOException {
+                line.setLength(0);
+                int c = reader.read();
+                if (c == -1) {
+                        return false;
+                }
+                while (c != -1 && c != '\n') {
+                        if (c != '\r') {
+                                line.append((char) c);
+                        }
+                        if (line.length() > MAX_RECORD_CHARS) {
+                                throw new BusinessException("users.import.record.too.long");
+                        }
+                        c = reader.read();
+                }
+                return true;
+        }
+}
@@ -0,0 +1,24 @@
+package co.edu.uco.ucochallenge.application.user.importer.reader;
+
+import co.edu.uco.ucochallenge.application.user.register.dto.RegisterUserInputDTO;
+
+/**
+ * Registro leído del archivo. Si no se pudo interpretar, {@code user} es null y
+ * {@code errorCode} indica el motivo.
+ */
+public record UserImportRecord(long recordNumber, RegisterUserInputDTO user, String errorCode) {
+
+        public static final String MALFORMED_CODE = "users.import.record.malformed";
+
+        public static UserImportRecord parsed(final long recordNumber, final RegisterUserInputDTO user) {
+                return new UserImportRecord(recordNumber, user, null);
+        }
+
+        public static UserImportRecord malformed(final long recordNumber) {
+                return new UserImportRecord(recordNumber, null, MALFORMED_CODE);
+        }
+
+        public boolean isMalformed() {
+                return user == null;
+        }
+}
@@ -0,0 +1,33 @@
+package co.edu.uco.ucochallenge.application.user.importer.reader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import co.edu.uco.ucochallenge.domain.user.importer.model.UserImportFormat;
+
+/**
+ * Lector incremental: solo mantiene en memoria el registro actual, así que la siguiente lectura
+ * del cuerpo HTTP ocurre cuando el consumidor pide el siguiente registro.
+ */
+public interface UserImportRecordReader {
+
+        /** Límite por registro; una comilla sin cerrar no puede consumir el archivo completo. */
+        int MAX_RECORD_CHARS = 16_384;
+
+        /** @return el siguiente registro o null al final del archivo */
+        UserImportRecord next() throws IOException;
+
+        static UserImportRecordReader open(final UserImportFormat format, final InputStream input,
+                        final ObjectMapper objectMapper) throws IOException {
+                final Reader reader = new InputStreamReader(input, StandardCharsets.UTF_8);
+                return switch (format) {
+                        case CSV -> new CsvUserImportRecordReader(reader);
+                        case NDJSON -> new NdjsonUserImportRecordReader(reader, objectMapper);
+                };
+        }
+}
@@ -0,0 +1,17 @@
+package co.edu.uco.ucochallenge.application.user.importer.service;
+
+import java.io.InputStream;
+import java.util.UUID;
+
+import co.edu.uco.ucochallenge.application.user.importer.dto.UserImportJobDTO;
+
+public interface UserImportService {
+
+        /**
+         * Importa el archivo completo. Con un {@code jobId} existente y no completado se reanuda
+         * desde su último checkpoint; el cliente debe reenviar el mismo archivo.
+         */
+        UserImportJobDTO importUsers(UUID jobId, String format, InputStream content);
+
+        UserImportJobDTO findJob(UUID jobId);
+}
@@ -0,0 +1,253 @@
+package co.edu.uco.ucochallenge.application.user.importer.service.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import co.edu.uco.ucochallenge.application.common.mapper.DomainMapper;
+import co.edu.uco.ucochallenge.application.user.importer.dto.UserImportJobDTO;
+import co.edu.uco.ucochallenge.application.user.importer.reader.UserImportRecord;
+import co.edu.uco.ucochallenge.application.user.importer.reader.UserImportRecordReader;
+import co.edu.uco.ucochallenge.application.user.importer.service.UserImportService;
+import co.edu.uco.ucochallenge.application.user.register.dto.RegisterUserInputDTO;
+import co.edu.uco.ucochallenge.application.user.registerbatch.usecase.impl.RegisterUserRowsValidator;
+import co.edu.uco.ucochallenge.crosscutting.exception.BusinessException;
+import co.edu.uco.ucochallenge.crosscutting.exception.NotFoundException;
+import co.edu.uco.ucochallenge.crosscutting.helper.ObjectHelper;
+import co.edu.uco.ucochallenge.domain.common.notification.Notification;
+import co.edu.uco.ucochallenge.domain.user.importer.model.UserImportFormat;
+import co.edu.uco.ucochallenge.domain.user.importer.model.UserImportJobDomain;
+import co.edu.uco.ucochallenge.domain.user.importer.model.UserImportRejectionDomain;
+import co.edu.uco.ucochallenge.domain.user.importer.model.UserImportRowDomain;
+import co.edu.uco.ucochallenge.domain.user.port.UserImportRepositoryPort;
+import co.edu.uco.ucochallenge.domain.user.register.model.RegisterUserDomain;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * Importación en bloques de {@code uco.users.import.chunk-size} registros. Cada bloque se valida,
+ * se copia y se fusiona en su propia transacción junto con el checkpoint del job, de modo que la
+ * memoria no crece con el archivo y un fallo solo obliga a repetir el bloque en curso. El cuerpo
+ * se lee a medida que se confirman los bloques, así que un cliente más rápido que la base de
+ * datos queda frenado por el control de flujo de TCP.
+ * <p>
+ * A diferencia del registro individual, los duplicados no generan notificaciones: se reportan
+ * como errores del job.
+ */
+@Service
+public class UserImportServiceImpl implements UserImportService {
+
+        private static final Logger LOGGER = LoggerFactory.getLogger(UserImportServiceImpl.class);
+
+        private final UserImportRepositoryPort repositoryPort;
+        private final RegisterUserRowsValidator rowsValidator;
+        private final DomainMapper<RegisterUserInputDTO, RegisterUserDomain> inputMapper;
+        private final Validator validator;
+        private final ObjectMapper objectMapper;
+        private final TransactionTemplate transactionTemplate;
+        private final Clock clock;
+        private final Supplier<UUID> idGenerator;
+        private final int chunkSize;
+        private final Duration staleAfter;
+        private final Counter insertedCounter;
+        private final Counter conflictCounter;
+        private final Counter rejectedCounter;
+        private final Timer chunkTimer;
+
+        public UserImportServiceImpl(final UserImportRepositoryPort repositoryPort,
+                        final RegisterUserRowsValidator rowsValidator,
+                        final DomainMapper<RegisterUserInputDTO, RegisterUserDomain> inputMapper,
+                        final Validator validator,
+                        final ObjectMapper objectMapper,
+                        final PlatformTransactionManager transactionManager,
+                        final Clock clock,
+                        final Supplier<UUID> idGenerator,
+                        final MeterRegistry meterRegistry,
+                        @Value("${uco.users.import.chunk-size:5000}") final int chunkSize,
+                        @Value("${uco.users.import.stale-after:PT2M}") final Duration staleAfter) {
+                this.repositoryPort = repositoryPort;
+                this.rowsValidator = rowsValidator;
+                this.inputMapper = inputMapper;
+                this.validator = validator;
+                this.objectMapper = objectMapper;
+                this.transactionTemplate = new TransactionTemplate(transactionManager);
+                this.clock = clock;
+                this.idGenerator = idGenerator;
+                this.chunkSize = Math.max(1, chunkSize);
+                this.staleAfter = ObjectHelper.getDefault(staleAfter, Duration.ofMinutes(2));
+                this.insertedCounter = recordsCounter(meterRegistry, "inserted");
+                this.conflictCounter = recordsCounter(meterRegistry, "conflict");
+                this.rejectedCounter = recordsCounter(meterRegistry, "rejected");
+                this.chunkTimer = Timer.builder("users.import.chunk")
+                                .description("Tiempo de validación, COPY y merge de un bloque de importación")
+                                .register(meterRegistry);
+        }
+
+        @Override
+        public UserImportJobDTO importUsers(final UUID jobId, final String format, final InputStream content) {
+                final var importFormat = UserImportFormat.from(format);
+                final var job = startOrResume(ObjectHelper.getDefault(jobId, idGenerator.get()), importFormat);
+                if (job.isCompleted()) {
+                        return UserImportJobDTO.from(job);
+                }
+
+                try {
+                        final var reader = UserImportRecordReader.open(importFormat, content, objectMapper);
+                        final List<UserImportRecord> chunk = new ArrayList<>(chunkSize);
+                        UserImportRecord record;
+                        while ((record = reader.next()) != null) {
+                                // Reanudación: lo confirmado antes del checkpoint ya está en la base de datos
+                                if (record.recordNumber() <= job.getProcessedRecords()) {
+                                        continue;
+                                }
+                                chunk.add(record);
+                                if (chunk.size() == chunkSize) {
+                                        processChunk(job, chunk);
+                                        chunk.clear();
+                                }
+                        }
+                        processChunk(job, chunk);
+                } catch (final IOException exception) {
+                        markFailed(job.getId(), exception);
+                        throw new BusinessException("users.import.read.failed");
+                } catch (final RuntimeException exception) {
+                        markFailed(job.getId(), exception);
+                        throw exception;
+                }
+
+                job.complete(clock.instant());
+                repositoryPort.saveJob(job);
+                LOGGER.info("User import {} completed: {} inserted, {} conflicts, {} rejected", job.getId(),
+                                job.getInserted(), job.getConflicts(), job.getRejected());
+                return UserImportJobDTO.from(job);
+        }
+
+        @Override
+        public UserImportJobDTO findJob(final UUID jobId) {
+                return repositoryPort.findJob(jobId)
+                                .map(UserImportJobDTO::from)
+                                .orElseThrow(() -> new NotFoundException("users.import.job.not.found"));
+        }
+
+        private UserImportJobDomain startOrResume(final UUID jobId, final UserImportFormat format) {
+                final var now = clock.instant();
+                final var existing = repositoryPort.findJob(jobId);
+                if (existing.isEmpty()) {
+                        final var job = UserImportJobDomain.start(jobId, format, now);
+                        repositoryPort.saveJob(job);
+                        return job;
+                }
+
+                final var job = existing.get();
+                if (job.isCompleted()) {
+                        return job;
+                }
+                if (job.getFormat() != format) {
+                        throw new BusinessException("users.import.format.mismatch");
+                }
+                if (job.isActive(now, staleAfter)) {
+                        throw new BusinessException("users.import.job.running");
+                }
+                job.resume(now);
+                repositoryPort.saveJob(job);
+                return job;
+        }
+
+        private void processChunk(final UserImportJobDomain job, final List<UserImportRecord> records) {
+                if (records.isEmpty()) {
+                        return;
+                }
+                final long lastRecordNumber = records.get(records.size() - 1).recordNumber();
+                chunkTimer.record(() -> transactionTemplate.executeWithoutResult(status -> {
+                        final List<UserImportRejectionDomain> rejections = new ArrayList<>();
+                        final List<RegisterUserDomain> candidates = new ArrayList<>(records.size());
+                        final List<Long> candidateNumbers = new ArrayList<>(records.size());
+
+                        for (final var record : records) {
+                                if (record.isMalformed()) {
+                                        rejections.add(new UserImportRejectionDomain(record.recordNumber(), record.errorCode()));
+                                        continue;
+                                }
+                                final Set<ConstraintViolation<RegisterUserInputDTO>> violations = validator.validate(record.user());
+                                if (!violations.isEmpty()) {
+                                        violations.forEach(violation -> rejections.add(
+                                                        new UserImportRejectionDomain(record.recordNumber(), violation.getMessage())));
+                                        continue;
+                                }
+                                candidates.add(inputMapper.toDomain(record.user()));
+                                candidateNumbers.add(record.recordNumber());
+                        }
+
+                        final List<Notification> notifications = rowsValidator.validate(candidates);
+                        final List<UserImportRowDomain> rows = new ArrayList<>(candidates.size());
+                        for (int i = 0; i < candidates.size(); i++) {
+                                final long recordNumber = candidateNumbers.get(i);
+                                if (notifications.get(i).hasErrors()) {
+                                        notifications.get(i).getErrors().stream()
+                                                        .map(Notification.NotificationError::code)
+                                                        .distinct()
+                                                        .forEach(code -> rejections.add(new UserImportRejectionDomain(recordNumber, code)));
+                                } else {
+                                        rows.add(new UserImportRowDomain(recordNumber, candidates.get(i)));
+                                }
+                        }
+
+                        repositoryPort.saveRejections(job.getId(), rejections);
+                        final Set<Long> conflicts = repositoryPort.stageAndMerge(job.getId(), rows);
+                        final long rejectedRecords = rejectedRecords(rejections);
+
+                        job.recordChunk(lastRecordNumber, rows.size() - conflicts.size(), conflicts.size(), rejectedRecords,
+                                        clock.instant());
+                        repositoryPort.saveJob(job);
+
+                        insertedCounter.increment(rows.size() - conflicts.size());
+                        conflictCounter.increment(conflicts.size());
+                        rejectedCounter.increment(rejectedRecords);
+                }));
+        }
+
+        /** Persiste el fallo sobre el último checkpoint confirmado, no sobre el estado en memoria. */
+        private void markFailed(final UUID jobId, final Exception cause) {
+                LOGGER.error("User import {} failed", jobId, cause);
+                try {
+                        repositoryPort.findJob(jobId).ifPresent(persisted -> {
+                                persisted.fail(cause.getMessage(), clock.instant());
+                                repositoryPort.saveJob(persisted);
+                        });
+                } catch (final RuntimeException exception) {
+                        LOGGER.warn("Unable to record failure of user import {}", jobId, exception);
+                }
+        }
+
+        private static long rejectedRecords(final List<UserImportRejectionDomain> rejections) {
+                final Set<Long> recordNumbers = new HashSet<>();
+                rejections.forEach(rejection -> recordNumbers.add(rejection.recordNumber()));
+                return recordNumbers.size();
+        }
+
+        private static Counter recordsCounter(final MeterRegistry meterRegistry, final String result) {
+                return Counter.builder("users.import.records")
+                                .description("Registros procesados por la importación masiva de usuarios")
+                                .tag("result", result)
+                                .register(meterRegistry);
+        }
+}
@@ -7,10 +7,11 @@ import co.edu.uco.ucochallenge.application.user.register.interactor.RegisterUser
 import co.edu.uco.ucochallenge.application.user.register.dto.RegisterUserInputDTO;
 import co.edu.uco.ucochallenge.application.user.register.dto.RegisterUserResponseDTO;
 import co.edu.uco.ucochallenge.application.user.register.usecase.RegisterUserUseCase;
+import co.edu.uco.ucochallenge.crosscutting.exception.BusinessException;
 import co.edu.uco.ucochallenge.domain.user.register.model.RegisterUserDomain;
 import jakarta.transaction.Transactional;
 
-@Transactional
+@Transactional(dontRollbackOn = BusinessException.class)
 @Service
 public class RegisterUserInteractorImpl implements RegisterUserInteractor {
 
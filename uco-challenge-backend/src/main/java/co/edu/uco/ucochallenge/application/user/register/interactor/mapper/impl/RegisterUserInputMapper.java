@@ -1,6 +1,7 @@
 package co.edu.uco.ucochallenge.application.user.register.interactor.mapper.impl;
 
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import org.springframework.stereotype.Component;
 
@@ -11,10 +12,16 @@ import co.edu.uco.ucochallenge.domain.user.register.model.RegisterUserDomain;
 @Component
 public class RegisterUserInputMapper implements DomainMapper<RegisterUserInputDTO, RegisterUserDomain> {
 
+        private final Supplier<UUID> idGenerator;
+
+        public RegisterUserInputMapper(final Supplier<UUID> idGenerator) {
+                this.idGenerator = idGenerator;
+        }
+
         @Override
         public RegisterUserDomain toDomain(final RegisterUserInputDTO dto) {
                 return RegisterUserDomain.builder()
-                                .id(UUID.randomUUID())
+                                .id(idGenerator.get())
                                 .idType(dto.idTypeId())
                                 .idTypeName(dto.idTypeName())
                                 .idNumber(dto.idNumber())
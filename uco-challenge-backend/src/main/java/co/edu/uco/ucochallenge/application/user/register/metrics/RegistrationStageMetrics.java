@@ -0,0 +1,71 @@
+package co.edu.uco.ucochallenge.application.user.register.metrics;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import co.edu.uco.ucochallenge.crosscutting.helper.ObjectHelper;
+import io.micrometer.core.instrument.LongTaskTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Medidores de las etapas del registro individual:
+ * <ul>
+ * <li>{@code users.registration.stage{stage,outcome}}: duración de cada etapa, con histograma
+ * para calcular percentiles en Prometheus;</li>
+ * <li>{@code users.registration.stage.active{stage}}: etapas en curso y su antigüedad, para ver
+ * una etapa bloqueada antes de que termine;</li>
+ * <li>{@code users.registration.specification{specification,outcome}} y su
+ * {@code .active}: lo mismo por cada especificación de unicidad, que incluye las notificaciones
+ * que emite;</li>
+ * <li>{@code users.registration{mode,outcome}}: el total por petición.</li>
+ * </ul>
+ */
+@Component
+public class RegistrationStageMetrics {
+
+        static final String STAGE_METRIC = "users.registration.stage";
+        static final String SPECIFICATION_METRIC = "users.registration.specification";
+        static final String TOTAL_METRIC = "users.registration";
+
+        private final MeterRegistry meterRegistry;
+        private final Duration slowThreshold;
+        private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+        private final Map<String, LongTaskTimer> activeTimers = new ConcurrentHashMap<>();
+
+        public RegistrationStageMetrics(final MeterRegistry meterRegistry,
+                        @Value("${uco.users.registration.slow-threshold:PT500MS}") final Duration slowThreshold) {
+                this.meterRegistry = meterRegistry;
+                this.slowThreshold = ObjectHelper.getDefault(slowThreshold, Duration.ofMillis(500));
+        }
+
+        /** Inicia la traza de una petición; no es segura entre hilos y no debe compartirse. */
+        public RegistrationStageTrace begin(final String mode) {
+                return new RegistrationStageTrace(this, mode, System.nanoTime());
+        }
+
+        Duration slowThreshold() {
+                return slowThreshold;
+        }
+
+        LongTaskTimer.Sample startActive(final String metric, final String tagKey, final String name) {
+                return activeTimers.computeIfAbsent(metric + '|' + name, ignored -> LongTaskTimer.builder(metric + ".active")
+                                .tag(tagKey, name)
+                                .register(meterRegistry))
+                                .start();
+        }
+
+        void record(final String metric, final String tagKey, final String name, final String outcome,
+                        final long nanos) {
+                timers.computeIfAbsent(metric + '|' + name + '|' + outcome, ignored -> Timer.builder(metric)
+                                .tag(tagKey, name)
+                                .tag("outcome", outcome)
+                                .publishPercentileHistogram()
+                                .register(meterRegistry))
+                                .record(Duration.ofNanos(nanos));
+        }
+}
@@ -0,0 +1,115 @@
+package co.edu.uco.ucochallenge.application.user.register.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import co.edu.uco.ucochallenge.crosscutting.exception.BusinessException;
+import co.edu.uco.ucochallenge.crosscutting.exception.DomainValidationException;
+import co.edu.uco.ucochallenge.domain.common.specification.Specification;
+import io.micrometer.core.instrument.LongTaskTimer;
+
+/**
+ * Tiempos de una petición de registro. Cada etapa se publica en Micrometer y además se acumula
+ * aquí; al terminar, si el total supera {@code uco.users.registration.slow-threshold}, se
+ * registra el desglose completo en una sola línea de log.
+ */
+public final class RegistrationStageTrace {
+
+        private static final Logger LOGGER = LoggerFactory.getLogger(RegistrationStageTrace.class);
+        private static final String SUCCESS = "success";
+        private static final String REJECTED = "rejected";
+        private static final String ERROR = "error";
+
+        private final RegistrationStageMetrics metrics;
+        private final String mode;
+        private final long startedAt;
+        private final Map<String, Long> breakdown = new LinkedHashMap<>();
+        private String outcome = SUCCESS;
+
+        RegistrationStageTrace(final RegistrationStageMetrics metrics, final String mode, final long startedAt) {
+                this.metrics = metrics;
+                this.mode = mode;
+                this.startedAt = startedAt;
+        }
+
+        public void stage(final String name, final Runnable body) {
+                stage(name, () -> {
+                        body.run();
+                        return null;
+                });
+        }
+
+        public <T> T stage(final String name, final Supplier<T> body) {
+                final LongTaskTimer.Sample active = metrics.startActive(RegistrationStageMetrics.STAGE_METRIC, "stage", name);
+                final long start = System.nanoTime();
+                String stageOutcome = ERROR;
+                try {
+                        final T result = body.get();
+                        stageOutcome = SUCCESS;
+                        return result;
+                } catch (final RuntimeException exception) {
+                        stageOutcome = outcomeOf(exception);
+                        throw exception;
+                } finally {
+                        active.stop();
+                        finishStep(RegistrationStageMetrics.STAGE_METRIC, "stage", name, stageOutcome, start);
+                }
+        }
+
+        /** Envuelve una especificación para medirla cada vez que se evalúa. */
+        public <T> Specification<T> specification(final String name, final Specification<T> specification) {
+                return candidate -> {
+                        final LongTaskTimer.Sample active = metrics.startActive(RegistrationStageMetrics.SPECIFICATION_METRIC,
+                                        "specification", name);
+                        final long start = System.nanoTime();
+                        String specificationOutcome = ERROR;
+                        try {
+                                final boolean satisfied = specification.isSatisfiedBy(candidate);
+                                specificationOutcome = satisfied ? "satisfied" : "unsatisfied";
+                                return satisfied;
+                        } finally {
+                                active.stop();
+                                finishStep(RegistrationStageMetrics.SPECIFICATION_METRIC, "specification", name,
+                                                specificationOutcome, start);
+                        }
+                };
+        }
+
+        public void fail(final RuntimeException exception) {
+                outcome = outcomeOf(exception);
+        }
+
+        public void finish() {
+                final long elapsed = System.nanoTime() - startedAt;
+                metrics.record(RegistrationStageMetrics.TOTAL_METRIC, "mode", mode, outcome, elapsed);
+
+                if (elapsed > metrics.slowThreshold().toNanos()) {
+                        LOGGER.warn("Slow registration: {} ms (mode={}, outcome={}) stages [{}]",
+                                        toMillis(elapsed), mode, outcome, breakdown.entrySet().stream()
+                                                        .map(entry -> entry.getKey() + "=" + toMillis(entry.getValue()) + "ms")
+                                                        .collect(Collectors.joining(", ")));
+                }
+        }
+
+        private void finishStep(final String metric, final String tagKey, final String name, final String stepOutcome,
+                        final long start) {
+                final long elapsed = System.nanoTime() - start;
+                metrics.record(metric, tagKey, name, stepOutcome, elapsed);
+                breakdown.merge(name, elapsed, Long::sum);
+        }
+
+        private static String outcomeOf(final RuntimeException exception) {
+                return exception instanceof BusinessException || exception instanceof DomainValidationException
+                                ? REJECTED
+                                : ERROR;
+        }
+
+        private static String toMillis(final long nanos) {
+                return String.format("%.1f", nanos / 1_000_000D);
+        }
+}
@@ -0,0 +1,10 @@
+package co.edu.uco.ucochallenge.application.user.register.usecase;
+
+public enum RegistrationWriteMode {
+
+        /** Valida unicidad con consultas previas y luego inserta. */
+        CHECKED,
+
+        /** Inserta primero y delega la unicidad en las restricciones de la base de datos. */
+        OPTIMISTIC
+}
@@ -1,18 +1,24 @@
 package co.edu.uco.ucochallenge.application.user.register.usecase.impl;
 
+import java.util.Locale;
 import java.util.UUID;
 import java.util.function.Supplier;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import co.edu.uco.ucochallenge.crosscutting.exception.BusinessException;
 import co.edu.uco.ucochallenge.crosscutting.exception.DomainValidationException;
+import co.edu.uco.ucochallenge.crosscutting.helper.ObjectHelper;
 import co.edu.uco.ucochallenge.crosscutting.helper.TextHelper;
 import co.edu.uco.ucochallenge.crosscutting.helper.UUIDHelper;
+import co.edu.uco.ucochallenge.application.user.register.metrics.RegistrationStageMetrics;
+import co.edu.uco.ucochallenge.application.user.register.metrics.RegistrationStageTrace;
 import co.edu.uco.ucochallenge.application.user.register.usecase.RegisterUserUseCase;
+import co.edu.uco.ucochallenge.application.user.register.usecase.RegistrationWriteMode;
 import co.edu.uco.ucochallenge.domain.user.port.ContactConfirmationPort;
 import co.edu.uco.ucochallenge.domain.user.port.IdTypeQueryPort;
 import co.edu.uco.ucochallenge.domain.user.port.LocationQueryPort;
@@ -21,11 +27,15 @@ import co.edu.uco.ucochallenge.domain.user.port.RegisterUserRepositoryPort;
 import co.edu.uco.ucochallenge.domain.user.register.model.RegisterUserDomain;
 import co.edu.uco.ucochallenge.domain.user.register.validation.RegisterUserDomainValidator;
 @Service
-@Transactional
+// Un duplicado no escribe el usuario, pero sí las notificaciones del outbox: no se revierte
+@Transactional(noRollbackFor = BusinessException.class)
 public class RegisterUserUseCaseImpl implements RegisterUserUseCase {
 
         private static final Logger LOGGER = LoggerFactory.getLogger(RegisterUserUseCaseImpl.class);
         private static final int MAX_ID_GENERATION_ATTEMPTS = 5;
+        private static final String EXECUTOR_IDENTIFIER = "register-api";
+        private static final String DUPLICATED_CODE = "register.user.duplicated";
+        private static final String IDENTIFIER_UNAVAILABLE_CODE = "register.user.identifier.unavailable";
 
         private final RegisterUserRepositoryPort repositoryPort;
         private final NotificationPort notificationPort;
@@ -34,13 +44,17 @@ public class RegisterUserUseCaseImpl implements RegisterUserUseCase {
         private final LocationQueryPort locationQueryPort;
         private final Supplier<UUID> idGenerator;
         private final RegisterUserDomainValidator validator;
+        private final RegistrationWriteMode writeMode;
+        private final RegistrationStageMetrics stageMetrics;
 
         public RegisterUserUseCaseImpl(final RegisterUserRepositoryPort repositoryPort,
                         final NotificationPort notificationPort,
                         final ContactConfirmationPort contactConfirmationPort,
                         final IdTypeQueryPort idTypeQueryPort,
                         final LocationQueryPort locationQueryPort,
-                        final Supplier<UUID> idGenerator) {
+                        final Supplier<UUID> idGenerator,
+                        @Value("${uco.users.registration.write-mode:checked}") final RegistrationWriteMode writeMode,
+                        final RegistrationStageMetrics stageMetrics) {
                 this.repositoryPort = repositoryPort;
                 this.notificationPort = notificationPort;
                 this.contactConfirmationPort = contactConfirmationPort;
@@ -48,22 +62,91 @@ public class RegisterUserUseCaseImpl implements RegisterUserUseCase {
                 this.locationQueryPort = locationQueryPort;
                 this.idGenerator = idGenerator;
                 this.validator = new RegisterUserDomainValidator(repositoryPort, notificationPort, idGenerator);
+                this.writeMode = effectiveWriteMode(ObjectHelper.getDefault(writeMode, RegistrationWriteMode.CHECKED),
+                                repositoryPort);
+                this.stageMetrics = stageMetrics;
+        }
+
+        /**
+         * El modo optimista no consulta antes de insertar: sin los índices únicos de
+         * db/001-usuario-unique-constraints.sql insertaría duplicados sin error, así que se usa el
+         * modo con consultas previas.
+         */
+        private static RegistrationWriteMode effectiveWriteMode(final RegistrationWriteMode configured,
+                        final RegisterUserRepositoryPort repositoryPort) {
+                if (configured == RegistrationWriteMode.OPTIMISTIC && !repositoryPort.hasUniqueConstraints()) {
+                        LOGGER.warn("write-mode optimistic requires the unique indexes of "
+                                        + "db/001-usuario-unique-constraints.sql; falling back to checked");
+                        return RegistrationWriteMode.CHECKED;
+                }
+                return configured;
         }
 
         @Override
         public RegisterUserDomain execute(final RegisterUserDomain domain) {
-                ensureContactInformation(domain);
-                resolveIdentificationType(domain);
-                validateLocation(domain);
-                ensureUniqueUserId(domain);
-                final var notification = validator.validate(domain, "register-api");
-                if (notification.hasErrors()) {
-                        throw new BusinessException("register.user.duplicated");
+                final var trace = stageMetrics.begin(writeMode.name().toLowerCase(Locale.ROOT));
+                try {
+                        register(domain, trace);
+                        return domain;
+                } catch (final RuntimeException exception) {
+                        trace.fail(exception);
+                        throw exception;
+                } finally {
+                        trace.finish();
                 }
+        }
 
-                repositoryPort.save(domain);
+        private void register(final RegisterUserDomain domain, final RegistrationStageTrace trace) {
+                trace.stage("contact", () -> ensureContactInformation(domain));
+                trace.stage("id-type", () -> resolveIdentificationType(domain));
+                trace.stage("location", () -> validateLocation(domain));
+
+                if (writeMode == RegistrationWriteMode.OPTIMISTIC) {
+                        insertOptimistically(domain, trace);
+                        return;
+                }
 
-                return domain;
+                trace.stage("uniqueness", () -> {
+                        final var notification = validator.validate(domain, EXECUTOR_IDENTIFIER, trace::specification);
+                        if (notification.hasErrors()) {
+                                throw new BusinessException(DUPLICATED_CODE);
+                        }
+                });
+
+                // Las consultas pueden no ver un duplicado (otra petición concurrente, el índice de
+                // unicidad de un nodo atrasado): la restricción única lo rechaza y se vuelve a validar
+                insert(domain, trace);
+        }
+
+        /** Inserta primero y solo consulta cuando la base de datos rechaza la fila. */
+        private void insertOptimistically(final RegisterUserDomain domain, final RegistrationStageTrace trace) {
+                if (domain.validate().hasErrors()) {
+                        throw new BusinessException(DUPLICATED_CODE);
+                }
+                insert(domain, trace);
+        }
+
+        /**
+         * Si la base de datos rechaza la fila, las especificaciones de unicidad identifican la
+         * restricción violada y emiten los mismos códigos y notificaciones que la validación previa.
+         * Si ninguna aplica, el choque fue con el id, así que se genera uno nuevo y se reintenta.
+         */
+        private void insert(final RegisterUserDomain domain, final RegistrationStageTrace trace) {
+                for (int attempt = 0; attempt <= MAX_ID_GENERATION_ATTEMPTS; attempt++) {
+                        if (trace.stage("persist", () -> repositoryPort.saveIfAbsent(domain))) {
+                                return;
+                        }
+
+                        final var notification = trace.stage("uniqueness",
+                                        () -> validator.validate(domain, EXECUTOR_IDENTIFIER, trace::specification));
+                        if (notification.hasErrors()) {
+                                throw new BusinessException(DUPLICATED_CODE);
+                        }
+                        domain.updateId(idGenerator.get());
+                }
+
+                LOGGER.warn("Unable to insert user after {} id collisions", MAX_ID_GENERATION_ATTEMPTS);
+                throw new BusinessException(IDENTIFIER_UNAVAILABLE_CODE);
         }
 
         private void ensureContactInformation(final RegisterUserDomain domain) {
@@ -105,24 +188,10 @@ public class RegisterUserUseCaseImpl implements RegisterUserUseCase {
                                 || !locationQueryPort.cityExists(domain.getHomeCity())) {
                         throw new DomainValidationException("register.user.validation.city.required");
                 }
-        }
-
-        private void ensureUniqueUserId(final RegisterUserDomain domain) {
-                UUID candidateId = domain.getId();
-                int attempts = 0;
-
-                while (repositoryPort.existsById(candidateId) && attempts < MAX_ID_GENERATION_ATTEMPTS) {
-                        candidateId = idGenerator.get();
-                        attempts++;
-                }
-
-                if (repositoryPort.existsById(candidateId)) {
-                        LOGGER.warn("Unable to generate a unique user id after {} attempts", attempts);
-                        throw new BusinessException("register.user.identifier.unavailable");
-                }
 
-                if (!candidateId.equals(domain.getId())) {
-                        domain.updateId(candidateId);
+                if (!locationQueryPort.isValidHierarchy(domain.getCountryId(), domain.getDepartmentId(),
+                                domain.getHomeCity())) {
+                        throw new DomainValidationException("register.user.validation.location.mismatch");
                 }
         }
 
@@ -0,0 +1,14 @@
+package co.edu.uco.ucochallenge.application.user.registerbatch.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+public record RegisterUserBatchItemDTO(
+                int index,
+                String status,
+                UUID id,
+                List<String> errors) {
+
+        public static final String CREATED = "CREATED";
+        public static final String REJECTED = "REJECTED";
+}
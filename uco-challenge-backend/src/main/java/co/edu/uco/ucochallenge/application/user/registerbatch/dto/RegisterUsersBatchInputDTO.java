@@ -0,0 +1,15 @@
+package co.edu.uco.ucochallenge.application.user.registerbatch.dto;
+
+import java.util.List;
+
+import co.edu.uco.ucochallenge.application.user.register.dto.RegisterUserInputDTO;
+import jakarta.validation.constraints.NotEmpty;
+
+/** Las filas se validan una a una en el interactor para poder rechazar solo las inválidas. */
+public record RegisterUsersBatchInputDTO(
+                @NotEmpty(message = "register.users.batch.empty") List<RegisterUserInputDTO> users) {
+
+        public RegisterUsersBatchInputDTO {
+                users = users == null ? List.of() : users;
+        }
+}
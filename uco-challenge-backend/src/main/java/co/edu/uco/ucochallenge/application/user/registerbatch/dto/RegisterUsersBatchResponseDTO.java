@@ -0,0 +1,10 @@
+package co.edu.uco.ucochallenge.application.user.registerbatch.dto;
+
+import java.util.List;
+
+public record RegisterUsersBatchResponseDTO(
+                int received,
+                int created,
+                int rejected,
+                List<RegisterUserBatchItemDTO> results) {
+}
@@ -0,0 +1,9 @@
+package co.edu.uco.ucochallenge.application.user.registerbatch.interactor;
+
+import co.edu.uco.ucochallenge.application.common.interactor.Interactor;
+import co.edu.uco.ucochallenge.application.user.registerbatch.dto.RegisterUsersBatchInputDTO;
+import co.edu.uco.ucochallenge.application.user.registerbatch.dto.RegisterUsersBatchResponseDTO;
+
+public interface RegisterUsersBatchInteractor
+                extends Interactor<RegisterUsersBatchInputDTO, RegisterUsersBatchResponseDTO> {
+}
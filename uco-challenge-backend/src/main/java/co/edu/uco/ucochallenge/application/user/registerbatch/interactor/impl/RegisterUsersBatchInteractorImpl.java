@@ -0,0 +1,90 @@
+package co.edu.uco.ucochallenge.application.user.registerbatch.interactor.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import co.edu.uco.ucochallenge.application.common.mapper.DomainMapper;
+import co.edu.uco.ucochallenge.application.user.register.dto.RegisterUserInputDTO;
+import co.edu.uco.ucochallenge.application.user.registerbatch.dto.RegisterUserBatchItemDTO;
+import co.edu.uco.ucochallenge.application.user.registerbatch.dto.RegisterUsersBatchInputDTO;
+import co.edu.uco.ucochallenge.application.user.registerbatch.dto.RegisterUsersBatchResponseDTO;
+import co.edu.uco.ucochallenge.application.user.registerbatch.interactor.RegisterUsersBatchInteractor;
+import co.edu.uco.ucochallenge.application.user.registerbatch.usecase.RegisterUsersBatchUseCase;
+import co.edu.uco.ucochallenge.crosscutting.exception.BusinessException;
+import co.edu.uco.ucochallenge.domain.user.register.model.RegisterUserDomain;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+@Service
+public class RegisterUsersBatchInteractorImpl implements RegisterUsersBatchInteractor {
+
+        private final RegisterUsersBatchUseCase useCase;
+        private final DomainMapper<RegisterUserInputDTO, RegisterUserDomain> inputMapper;
+        private final Validator validator;
+        private final int maxSize;
+
+        public RegisterUsersBatchInteractorImpl(final RegisterUsersBatchUseCase useCase,
+                        final DomainMapper<RegisterUserInputDTO, RegisterUserDomain> inputMapper,
+                        final Validator validator,
+                        @Value("${uco.users.registration.batch.max-size:1000}") final int maxSize) {
+                this.useCase = useCase;
+                this.inputMapper = inputMapper;
+                this.validator = validator;
+                this.maxSize = maxSize;
+        }
+
+        @Override
+        public RegisterUsersBatchResponseDTO execute(final RegisterUsersBatchInputDTO dto) {
+                final var users = dto.users();
+                if (users.isEmpty()) {
+                        throw new BusinessException("register.users.batch.empty");
+                }
+                if (users.size() > maxSize) {
+                        throw new BusinessException("register.users.batch.size.exceeded");
+                }
+
+                final var results = new RegisterUserBatchItemDTO[users.size()];
+                final List<RegisterUserDomain> accepted = new ArrayList<>(users.size());
+                final List<Integer> acceptedIndexes = new ArrayList<>(users.size());
+
+                // Mismas anotaciones que POST /users, pero evaluadas por fila
+                for (int i = 0; i < users.size(); i++) {
+                        final var row = users.get(i);
+                        if (row == null) {
+                                results[i] = rejected(i, List.of("register.user.validation.body.required"));
+                                continue;
+                        }
+
+                        final var violations = validator.validate(row);
+                        if (!violations.isEmpty()) {
+                                results[i] = rejected(i, violations.stream().map(ConstraintViolation::getMessage).sorted().toList());
+                                continue;
+                        }
+
+                        accepted.add(inputMapper.toDomain(row));
+                        acceptedIndexes.add(i);
+                }
+
+                if (!accepted.isEmpty()) {
+                        for (final var result : useCase.execute(accepted)) {
+                                final int index = acceptedIndexes.get(result.getIndex());
+                                results[index] = result.isCreated()
+                                                ? new RegisterUserBatchItemDTO(index, RegisterUserBatchItemDTO.CREATED, result.getId(), List.of())
+                                                : rejected(index, result.getErrorCodes());
+                        }
+                }
+
+                final int created = (int) Arrays.stream(results)
+                                .filter(item -> RegisterUserBatchItemDTO.CREATED.equals(item.status()))
+                                .count();
+                return new RegisterUsersBatchResponseDTO(users.size(), created, users.size() - created, List.of(results));
+        }
+
+        private static RegisterUserBatchItemDTO rejected(final int index, final List<String> errors) {
+                return new RegisterUserBatchItemDTO(index, RegisterUserBatchItemDTO.REJECTED, null, errors);
+        }
+}
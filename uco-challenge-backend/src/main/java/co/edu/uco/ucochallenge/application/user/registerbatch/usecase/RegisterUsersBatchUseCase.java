@@ -0,0 +1,11 @@
+package co.edu.uco.ucochallenge.application.user.registerbatch.usecase;
+
+import java.util.List;
+
+import co.edu.uco.ucochallenge.application.common.usecase.UseCase;
+import co.edu.uco.ucochallenge.domain.user.register.model.RegisterUserBatchItemResultDomain;
+import co.edu.uco.ucochallenge.domain.user.register.model.RegisterUserDomain;
+
+public interface RegisterUsersBatchUseCase
+                extends UseCase<List<RegisterUserDomain>, List<RegisterUserBatchItemResultDomain>> {
+}
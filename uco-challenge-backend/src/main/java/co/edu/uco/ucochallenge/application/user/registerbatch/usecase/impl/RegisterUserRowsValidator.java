@@ -0,0 +1,119 @@
+package co.edu.uco.ucochallenge.application.user.registerbatch.usecase.impl;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.springframework.stereotype.Component;
+
+import co.edu.uco.ucochallenge.crosscutting.helper.TextHelper;
+import co.edu.uco.ucochallenge.crosscutting.helper.UUIDHelper;
+import co.edu.uco.ucochallenge.domain.common.notification.Notification;
+import co.edu.uco.ucochallenge.domain.user.port.IdTypeQueryPort;
+import co.edu.uco.ucochallenge.domain.user.port.LocationQueryPort;
+import co.edu.uco.ucochallenge.domain.user.register.model.RegisterUserDomain;
+
+/**
+ * Reglas de registro que no dependen de otros usuarios (contacto, tipo de documento, ubicación y
+ * auto-validación del dominio), evaluadas para un conjunto de filas con una consulta IN (...) por
+ * catálogo. Devuelve una notificación por fila, en el mismo orden de entrada.
+ */
+@Component
+public class RegisterUserRowsValidator {
+
+        private final IdTypeQueryPort idTypeQueryPort;
+        private final LocationQueryPort locationQueryPort;
+
+        public RegisterUserRowsValidator(final IdTypeQueryPort idTypeQueryPort,
+                        final LocationQueryPort locationQueryPort) {
+                this.idTypeQueryPort = idTypeQueryPort;
+                this.locationQueryPort = locationQueryPort;
+        }
+
+        public List<Notification> validate(final List<RegisterUserDomain> domains) {
+                final List<Notification> notifications = new ArrayList<>(domains.size());
+                domains.forEach(domain -> notifications.add(Notification.create()));
+
+                resolveIdentificationTypes(domains, notifications);
+                validateLocations(domains, notifications);
+                for (int i = 0; i < domains.size(); i++) {
+                        final var domain = domains.get(i);
+                        if (!domain.hasEmail() && !domain.hasMobileNumber()) {
+                                notifications.get(i).addError("register.user.validation.contact.required", null);
+                        }
+                        notifications.get(i).merge(domain.validate());
+                }
+                return notifications;
+        }
+
+        private void resolveIdentificationTypes(final List<RegisterUserDomain> domains,
+                        final List<Notification> notifications) {
+                final Set<UUID> ids = new HashSet<>();
+                final Set<String> names = new HashSet<>();
+                for (final var domain : domains) {
+                        if (!UUIDHelper.getDefault().equals(domain.getIdType())) {
+                                ids.add(domain.getIdType());
+                        } else if (!TextHelper.isEmpty(domain.getIdTypeName())) {
+                                names.add(domain.getIdTypeName());
+                        }
+                }
+
+                final Set<UUID> existingIds = idTypeQueryPort.findExistingIds(ids);
+                final Map<String, UUID> idsByName = idTypeQueryPort.findIdsByNames(names);
+
+                for (int i = 0; i < domains.size(); i++) {
+                        final var domain = domains.get(i);
+                        if (!UUIDHelper.getDefault().equals(domain.getIdType())) {
+                                if (!existingIds.contains(domain.getIdType())) {
+                                        notifications.get(i).addError("register.user.validation.idtype.required", null);
+                                }
+                                continue;
+                        }
+
+                        final var resolved = TextHelper.isEmpty(domain.getIdTypeName()) ? null
+                                        : idsByName.get(domain.getIdTypeName());
+                        if (resolved == null) {
+                                notifications.get(i).addError("register.user.validation.idtype.required", null);
+                        } else {
+                                domain.updateIdType(resolved);
+                        }
+                }
+        }
+
+        private void validateLocations(final List<RegisterUserDomain> domains, final List<Notification> notifications) {
+                final Set<UUID> countries = locationQueryPort.findExistingCountries(collect(domains, RegisterUserDomain::getCountryId));
+                final Set<UUID> departments = locationQueryPort.findExistingDepartments(collect(domains, RegisterUserDomain::getDepartmentId));
+                final Set<UUID> cities = locationQueryPort.findExistingCities(collect(domains, RegisterUserDomain::getHomeCity));
+
+                for (int i = 0; i < domains.size(); i++) {
+                        final var domain = domains.get(i);
+                        final var notification = notifications.get(i);
+                        if (!countries.contains(domain.getCountryId())) {
+                                notification.addError("register.user.validation.country.required", null);
+                        } else if (!departments.contains(domain.getDepartmentId())) {
+                                notification.addError("register.user.validation.department.required", null);
+                        } else if (!cities.contains(domain.getHomeCity())) {
+                                notification.addError("register.user.validation.city.required", null);
+                        } else if (!locationQueryPort.isValidHierarchy(domain.getCountryId(), domain.getDepartmentId(),
+                                        domain.getHomeCity())) {
+                                notification.addError("register.user.validation.location.mismatch", null);
+                        }
+                }
+        }
+
+        private static Set<UUID> collect(final List<RegisterUserDomain> domains,
+                        final Function<RegisterUserDomain, UUID> extractor) {
+                final Set<UUID> values = new HashSet<>();
+                for (final var domain : domains) {
+                        final var value = extractor.apply(domain);
+                        if (value != null && !UUIDHelper.getDefault().equals(value)) {
+                                values.add(value);
+                        }
+                }
+                return values;
+        }
+}
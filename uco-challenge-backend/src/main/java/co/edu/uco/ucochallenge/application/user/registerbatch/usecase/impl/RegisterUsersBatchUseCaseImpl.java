@@ -0,0 +1,149 @@
+package co.edu.uco.ucochallenge.application.user.registerbatch.usecase.impl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import co.edu.uco.ucochallenge.application.user.registerbatch.usecase.RegisterUsersBatchUseCase;
+import co.edu.uco.ucochallenge.crosscutting.exception.BusinessException;
+import co.edu.uco.ucochallenge.domain.common.notification.Notification;
+import co.edu.uco.ucochallenge.domain.user.port.BatchRegisterUserRepositoryPort;
+import co.edu.uco.ucochallenge.domain.user.port.NotificationPort;
+import co.edu.uco.ucochallenge.domain.user.register.model.IdentificationKey;
+import co.edu.uco.ucochallenge.domain.user.register.model.RegisterUserBatchItemResultDomain;
+import co.edu.uco.ucochallenge.domain.user.register.model.RegisterUserDomain;
+import co.edu.uco.ucochallenge.domain.user.register.validation.RegisterUserBatchDomainValidator;
+
+/**
+ * Registro por lotes: tipos de documento, ubicaciones y usuarios existentes se consultan una
+ * vez por lote con IN (...), los duplicados dentro del lote se detectan en memoria y las filas
+ * válidas se insertan en un único batch JDBC.
+ */
+@Service
+@Transactional(noRollbackFor = BusinessException.class)
+public class RegisterUsersBatchUseCaseImpl implements RegisterUsersBatchUseCase {
+
+        private static final String EXECUTOR_IDENTIFIER = "register-batch-api";
+        private static final String IDENTIFICATION_DUPLICATED_CODE = "REGISTER_USER_IDENTIFICATION_DUPLICATED";
+        private static final String EMAIL_DUPLICATED_CODE = "REGISTER_USER_EMAIL_DUPLICATED";
+        private static final String MOBILE_DUPLICATED_CODE = "REGISTER_USER_MOBILE_DUPLICATED";
+
+        private final BatchRegisterUserRepositoryPort repositoryPort;
+        private final NotificationPort notificationPort;
+        private final RegisterUserRowsValidator rowsValidator;
+
+        public RegisterUsersBatchUseCaseImpl(final BatchRegisterUserRepositoryPort repositoryPort,
+                        final NotificationPort notificationPort,
+                        final RegisterUserRowsValidator rowsValidator) {
+                this.repositoryPort = repositoryPort;
+                this.notificationPort = notificationPort;
+                this.rowsValidator = rowsValidator;
+        }
+
+        @Override
+        public List<RegisterUserBatchItemResultDomain> execute(final List<RegisterUserDomain> domains) {
+                final List<Notification> notifications = rowsValidator.validate(domains);
+
+                rejectDuplicatesWithinBatch(domains, notifications);
+                rejectDuplicatesInDatabase(domains, notifications);
+
+                return persistValidRows(domains, notifications);
+        }
+
+        /** La primera aparición de cada identificación, email o móvil gana; las siguientes se rechazan. */
+        private void rejectDuplicatesWithinBatch(final List<RegisterUserDomain> domains,
+                        final List<Notification> notifications) {
+                final Set<IdentificationKey> identifications = new HashSet<>();
+                final Set<String> emails = new HashSet<>();
+                final Set<String> mobileNumbers = new HashSet<>();
+
+                for (int i = 0; i < domains.size(); i++) {
+                        final var notification = notifications.get(i);
+                        if (notification.hasErrors()) {
+                                continue;
+                        }
+
+                        final var domain = domains.get(i);
+                        if (!identifications.add(IdentificationKey.of(domain))) {
+                                notification.addError(IDENTIFICATION_DUPLICATED_CODE, "Duplicated identification within the batch.");
+                        }
+                        if (domain.hasEmail() && !emails.add(domain.getEmail())) {
+                                notification.addError(EMAIL_DUPLICATED_CODE, "Duplicated email within the batch.");
+                        }
+                        if (domain.hasMobileNumber() && !mobileNumbers.add(domain.getMobileNumber())) {
+                                notification.addError(MOBILE_DUPLICATED_CODE, "Duplicated mobile number within the batch.");
+                        }
+                }
+        }
+
+        private void rejectDuplicatesInDatabase(final List<RegisterUserDomain> domains,
+                        final List<Notification> notifications) {
+                final List<RegisterUserDomain> candidates = validRows(domains, notifications);
+                if (candidates.isEmpty()) {
+                        return;
+                }
+
+                final var validator = new RegisterUserBatchDomainValidator(notificationPort,
+                                repositoryPort.findByIdentifications(candidates.stream().map(IdentificationKey::of).toList()),
+                                repositoryPort.findByEmails(candidates.stream()
+                                                .filter(RegisterUserDomain::hasEmail).map(RegisterUserDomain::getEmail).toList()),
+                                repositoryPort.findByMobileNumbers(candidates.stream()
+                                                .filter(RegisterUserDomain::hasMobileNumber).map(RegisterUserDomain::getMobileNumber).toList()));
+
+                for (int i = 0; i < domains.size(); i++) {
+                        if (!notifications.get(i).hasErrors()) {
+                                notifications.get(i).merge(validator.validate(domains.get(i), EXECUTOR_IDENTIFIER));
+                        }
+                }
+        }
+
+        private List<RegisterUserBatchItemResultDomain> persistValidRows(final List<RegisterUserDomain> domains,
+                        final List<Notification> notifications) {
+                final List<RegisterUserDomain> toInsert = validRows(domains, notifications);
+                final boolean[] inserted = toInsert.isEmpty() ? new boolean[0] : repositoryPort.saveAllIfAbsent(toInsert);
+
+                final Map<RegisterUserDomain, Boolean> insertedByDomain = new HashMap<>();
+                for (int i = 0; i < toInsert.size(); i++) {
+                        insertedByDomain.put(toInsert.get(i), inserted[i]);
+                }
+
+                final List<RegisterUserBatchItemResultDomain> results = new ArrayList<>(domains.size());
+                for (int i = 0; i < domains.size(); i++) {
+                        final var domain = domains.get(i);
+                        final var notification = notifications.get(i);
+                        if (notification.hasErrors()) {
+                                results.add(RegisterUserBatchItemResultDomain.rejected(i, errorCodes(notification)));
+                        } else if (Boolean.TRUE.equals(insertedByDomain.get(domain))) {
+                                results.add(RegisterUserBatchItemResultDomain.created(i, domain.getId()));
+                        } else {
+                                // Otra transacción ganó la carrera entre la verificación y el insert
+                                results.add(RegisterUserBatchItemResultDomain.rejected(i, List.of("register.user.duplicated")));
+                        }
+                }
+                return results;
+        }
+
+        private static List<RegisterUserDomain> validRows(final List<RegisterUserDomain> domains,
+                        final List<Notification> notifications) {
+                final List<RegisterUserDomain> valid = new ArrayList<>();
+                for (int i = 0; i < domains.size(); i++) {
+                        if (!notifications.get(i).hasErrors()) {
+                                valid.add(domains.get(i));
+                        }
+                }
+                return valid;
+        }
+
+        private static List<String> errorCodes(final Notification notification) {
+                return notification.getErrors().stream()
+                                .map(Notification.NotificationError::code)
+                                .distinct()
+                                .toList();
+        }
+}
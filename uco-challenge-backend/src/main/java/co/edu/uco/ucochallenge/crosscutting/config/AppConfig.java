@@ -1,16 +1,26 @@
 package co.edu.uco.ucochallenge.crosscutting.config;
 
+import java.time.Clock;
 import java.util.UUID;
 import java.util.function.Supplier;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import co.edu.uco.ucochallenge.crosscutting.id.TimeOrderedUuidGenerator;
 
 @Configuration
+@EnableScheduling
 public class AppConfig {
 
         @Bean
         public Supplier<UUID> idGenerator() {
-                return UUID::randomUUID;
+                return TimeOrderedUuidGenerator.system();
+        }
+
+        @Bean
+        public Clock clock() {
+                return Clock.systemUTC();
         }
 }
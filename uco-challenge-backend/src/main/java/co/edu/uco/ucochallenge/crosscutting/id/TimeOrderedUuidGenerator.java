@@ -0,0 +1,60 @@
+package co.edu.uco.ucochallenge.crosscutting.id;
+
+import java.time.Clock;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Genera UUID versión 7 (RFC 9562): 48 bits de milisegundos Unix, un contador de 12 bits en
+ * {@code rand_a} y 62 bits aleatorios. Los identificadores crecen con el tiempo, de modo que las
+ * inserciones caen al final del índice de la llave primaria en lugar de repartirse por todo el
+ * árbol como con la versión 4.
+ *
+ * <p>El par milisegundo/contador vive en un único {@link AtomicLong} y avanza por CAS, sin
+ * bloqueos. Si el reloj retrocede o se agotan los 4096 valores del contador en un mismo
+ * milisegundo, se sigue incrementando el último valor emitido: la secuencia nunca decrece.
+ */
+public final class TimeOrderedUuidGenerator implements Supplier<UUID> {
+
+        private static final int COUNTER_BITS = 12;
+        private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+        private static final long VERSION_7 = 0x7000L;
+        private static final long VARIANT_MASK = 0x3FFFFFFFFFFFFFFFL;
+        private static final long VARIANT_RFC = 0x8000000000000000L;
+
+        private static final TimeOrderedUuidGenerator SYSTEM = new TimeOrderedUuidGenerator(Clock.systemUTC());
+
+        private final Clock clock;
+        private final AtomicLong lastTimestampAndCounter = new AtomicLong();
+
+        public TimeOrderedUuidGenerator(final Clock clock) {
+                this.clock = clock;
+        }
+
+        /** Instancia compartida por Spring e Hibernate para que toda la aplicación use una sola secuencia. */
+        public static TimeOrderedUuidGenerator system() {
+                return SYSTEM;
+        }
+
+        @Override
+        public UUID get() {
+                final long timestampAndCounter = nextTimestampAndCounter();
+                final long millis = timestampAndCounter >>> COUNTER_BITS;
+                final long mostSignificant = (millis << 16) | VERSION_7 | (timestampAndCounter & COUNTER_MASK);
+                final long leastSignificant = (ThreadLocalRandom.current().nextLong() & VARIANT_MASK) | VARIANT_RFC;
+                return new UUID(mostSignificant, leastSignificant);
+        }
+
+        private long nextTimestampAndCounter() {
+                final long now = clock.millis() << COUNTER_BITS;
+                while (true) {
+                        final long last = lastTimestampAndCounter.get();
+                        final long next = now > last ? now : last + 1;
+                        if (lastTimestampAndCounter.compareAndSet(last, next)) {
+                                return next;
+                        }
+                }
+        }
+}
@@ -1,5 +1,7 @@
 package co.edu.uco.ucochallenge.domain.user.find.model;
 
+import java.util.UUID;
+
 import co.edu.uco.ucochallenge.crosscutting.helper.NumberHelper;
 import co.edu.uco.ucochallenge.domain.common.notification.Notification;
 import co.edu.uco.ucochallenge.domain.common.notification.SelfValidating;
@@ -10,13 +12,25 @@ public class FindUsersByFilterInputDomain implements SelfValidating {
         private static final int DEFAULT_SIZE = 10;
         private static final String PAGE_NEGATIVE_CODE = "FIND_USERS_PAGE_NEGATIVE";
         private static final String SIZE_RANGE_CODE = "FIND_USERS_SIZE_RANGE";
+        private static final String FILTER_LENGTH_CODE = "FIND_USERS_FILTER_LENGTH";
+        private static final int MAX_FILTER_LENGTH = 100;
 
         private final int page;
         private final int size;
+        private final boolean keyset;
+        private final UUID after;
+        private final UserCountStrategy countStrategy;
+        private final UserSearchFilter filter;
 
         private FindUsersByFilterInputDomain(final Builder builder) {
                 this.page = sanitizePage(builder.page);
                 this.size = sanitizeSize(builder.size);
+                this.keyset = builder.keyset;
+                this.after = builder.after;
+                this.countStrategy = builder.countStrategy != null
+                                ? builder.countStrategy
+                                : keyset ? UserCountStrategy.NONE : UserCountStrategy.EXACT;
+                this.filter = builder.filter != null ? builder.filter : UserSearchFilter.empty();
         }
 
         public static Builder builder() {
@@ -31,6 +45,24 @@ public class FindUsersByFilterInputDomain implements SelfValidating {
                 return size;
         }
 
+        /** Listado por clave: continúa tras {@link #getAfter()} en lugar de saltar páginas. */
+        public boolean isKeyset() {
+                return keyset;
+        }
+
+        /** Último id entregado; {@code null} en la primera página por clave. */
+        public UUID getAfter() {
+                return after;
+        }
+
+        public UserCountStrategy getCountStrategy() {
+                return countStrategy;
+        }
+
+        public UserSearchFilter getFilter() {
+                return filter;
+        }
+
         @Override
         public Notification validate() {
                 final var notification = Notification.create();
@@ -42,9 +74,17 @@ public class FindUsersByFilterInputDomain implements SelfValidating {
                         notification.addError(SIZE_RANGE_CODE, "Page size must be between 1 and 100");
                 }
 
+                if (exceeds(filter.getIdNumber()) || exceeds(filter.getName()) || exceeds(filter.getSurname())) {
+                        notification.addError(FILTER_LENGTH_CODE, "Search filters must not exceed 100 characters");
+                }
+
                 return notification;
         }
 
+        private static boolean exceeds(final String value) {
+                return value != null && value.length() > MAX_FILTER_LENGTH;
+        }
+
         private int sanitizePage(final Integer page) {
                 final var defaultValue = DEFAULT_PAGE;
                 final var sanitizedPage = NumberHelper.getDefault(page, defaultValue);
@@ -61,6 +101,10 @@ public class FindUsersByFilterInputDomain implements SelfValidating {
 
                 private Integer page = DEFAULT_PAGE;
                 private Integer size = DEFAULT_SIZE;
+                private boolean keyset;
+                private UUID after;
+                private UserCountStrategy countStrategy;
+                private UserSearchFilter filter;
 
                 public Builder page(final Integer page) {
                         this.page = page;
@@ -72,6 +116,26 @@ public class FindUsersByFilterInputDomain implements SelfValidating {
                         return this;
                 }
 
+                public Builder keyset(final boolean keyset) {
+                        this.keyset = keyset;
+                        return this;
+                }
+
+                public Builder after(final UUID after) {
+                        this.after = after;
+                        return this;
+                }
+
+                public Builder countStrategy(final UserCountStrategy countStrategy) {
+                        this.countStrategy = countStrategy;
+                        return this;
+                }
+
+                public Builder filter(final UserSearchFilter filter) {
+                        this.filter = filter;
+                        return this;
+                }
+
                 public FindUsersByFilterInputDomain build() {
                         return new FindUsersByFilterInputDomain(this);
                 }
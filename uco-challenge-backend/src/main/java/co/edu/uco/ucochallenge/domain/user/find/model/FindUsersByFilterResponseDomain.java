@@ -2,6 +2,7 @@ package co.edu.uco.ucochallenge.domain.user.find.model;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.UUID;
 
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
@@ -11,11 +12,17 @@ import co.edu.uco.ucochallenge.crosscutting.helper.ObjectHelper;
 @JsonDeserialize(builder = FindUsersByFilterResponseDomain.Builder.class)
 public class FindUsersByFilterResponseDomain {
 
+        /** Valor de {@code totalElements} cuando no se pidió el conteo. */
+        public static final long UNKNOWN_TOTAL = -1L;
+
         private final List<UserSummaryDomain> users;
         private final int page;
         private final int size;
         private final long totalElements;
         private final int totalPages;
+        private final UUID nextAfter;
+        private final boolean hasNext;
+        private final UserCountStrategy countStrategy;
 
         private FindUsersByFilterResponseDomain(final Builder builder) {
                 this.users = List.copyOf(ObjectHelper.getDefault(builder.users, Collections.emptyList()));
@@ -23,6 +30,9 @@ public class FindUsersByFilterResponseDomain {
                 this.size = builder.size;
                 this.totalElements = builder.totalElements;
                 this.totalPages = builder.totalPages;
+                this.nextAfter = builder.nextAfter;
+                this.hasNext = builder.hasNext;
+                this.countStrategy = ObjectHelper.getDefault(builder.countStrategy, UserCountStrategy.EXACT);
         }
 
         public static Builder builder() {
@@ -49,6 +59,24 @@ public class FindUsersByFilterResponseDomain {
                 return totalPages;
         }
 
+        public boolean hasTotal() {
+                return totalElements != UNKNOWN_TOTAL;
+        }
+
+        /** Id desde el que continúa la página siguiente por clave; {@code null} si no hay más. */
+        public UUID getNextAfter() {
+                return nextAfter;
+        }
+
+        public boolean isHasNext() {
+                return hasNext;
+        }
+
+        /** Estrategia con la que se obtuvo {@code totalElements}. */
+        public UserCountStrategy getCountStrategy() {
+                return countStrategy;
+        }
+
         @JsonPOJOBuilder(withPrefix = "")
         public static final class Builder {
 
@@ -57,6 +85,9 @@ public class FindUsersByFilterResponseDomain {
                 private int size;
                 private long totalElements;
                 private int totalPages;
+                private UUID nextAfter;
+                private boolean hasNext;
+                private UserCountStrategy countStrategy;
 
                 public Builder users(final List<UserSummaryDomain> users) {
                         this.users = users;
@@ -83,6 +114,21 @@ public class FindUsersByFilterResponseDomain {
                         return this;
                 }
 
+                public Builder nextAfter(final UUID nextAfter) {
+                        this.nextAfter = nextAfter;
+                        return this;
+                }
+
+                public Builder hasNext(final boolean hasNext) {
+                        this.hasNext = hasNext;
+                        return this;
+                }
+
+                public Builder countStrategy(final UserCountStrategy countStrategy) {
+                        this.countStrategy = countStrategy;
+                        return this;
+                }
+
                 public FindUsersByFilterResponseDomain build() {
                         return new FindUsersByFilterResponseDomain(this);
                 }
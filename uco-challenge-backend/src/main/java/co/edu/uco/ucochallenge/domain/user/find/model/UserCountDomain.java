@@ -0,0 +1,12 @@
+package co.edu.uco.ucochallenge.domain.user.find.model;
+
+/**
+ * Total obtenido y la estrategia que realmente lo produjo, que puede diferir de la pedida si
+ * esta no estaba disponible.
+ */
+public record UserCountDomain(UserCountStrategy strategy, long total) {
+
+        public static UserCountDomain none() {
+                return new UserCountDomain(UserCountStrategy.NONE, FindUsersByFilterResponseDomain.UNKNOWN_TOTAL);
+        }
+}
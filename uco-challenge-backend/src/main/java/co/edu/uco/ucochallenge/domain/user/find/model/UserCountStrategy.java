@@ -0,0 +1,41 @@
+package co.edu.uco.ucochallenge.domain.user.find.model;
+
+import java.util.Arrays;
+
+import co.edu.uco.ucochallenge.crosscutting.exception.DomainValidationException;
+
+/**
+ * Cómo se obtiene el total de usuarios de un listado:
+ * <ul>
+ * <li>{@code EXACT}: {@code COUNT(*)} sobre {@code usuario};</li>
+ * <li>{@code ESTIMATE}: filas estimadas por el planificador de Postgres ({@code pg_class.reltuples}),
+ * tan exactas como el último ANALYZE;</li>
+ * <li>{@code COUNTER}: contador en Redis que se incrementa con cada inserción confirmada;</li>
+ * <li>{@code NONE}: sin total, solo {@code hasNext}.</li>
+ * </ul>
+ */
+public enum UserCountStrategy {
+
+        EXACT("exact"),
+        ESTIMATE("estimate"),
+        COUNTER("counter"),
+        NONE("none");
+
+        private final String value;
+
+        UserCountStrategy(final String value) {
+                this.value = value;
+        }
+
+        public String getValue() {
+                return value;
+        }
+
+        public static UserCountStrategy from(final String rawStrategy) {
+                final String normalized = rawStrategy == null ? null : rawStrategy.trim();
+                return Arrays.stream(values())
+                                .filter(strategy -> strategy.value.equalsIgnoreCase(normalized))
+                                .findFirst()
+                                .orElseThrow(() -> new DomainValidationException("users.count.strategy.invalid"));
+        }
+}
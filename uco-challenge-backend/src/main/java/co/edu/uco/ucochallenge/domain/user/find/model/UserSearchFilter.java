@@ -0,0 +1,181 @@
+package co.edu.uco.ucochallenge.domain.user.find.model;
+
+import java.util.UUID;
+
+import co.edu.uco.ucochallenge.crosscutting.helper.TextHelper;
+import co.edu.uco.ucochallenge.domain.user.find.specification.UserSearchSpecification;
+
+/**
+ * Filtros opcionales del listado de usuarios. Los textos se comparan por prefijo; un campo vacío
+ * no filtra.
+ */
+public final class UserSearchFilter {
+
+        private static final UserSearchFilter EMPTY = builder().build();
+
+        private final UUID idType;
+        private final String idNumber;
+        private final String name;
+        private final String surname;
+        private final UUID homeCity;
+        private final UUID homeState;
+        private final UUID homeCountry;
+        private final Boolean emailConfirmed;
+        private final Boolean mobileNumberConfirmed;
+
+        private UserSearchFilter(final Builder builder) {
+                this.idType = builder.idType;
+                this.idNumber = sanitize(builder.idNumber);
+                this.name = sanitize(builder.name);
+                this.surname = sanitize(builder.surname);
+                this.homeCity = builder.homeCity;
+                this.homeState = builder.homeState;
+                this.homeCountry = builder.homeCountry;
+                this.emailConfirmed = builder.emailConfirmed;
+                this.mobileNumberConfirmed = builder.mobileNumberConfirmed;
+        }
+
+        public static UserSearchFilter empty() {
+                return EMPTY;
+        }
+
+        public static Builder builder() {
+                return new Builder();
+        }
+
+        /** Compone los filtros informados en un único predicado, en un orden fijo. */
+        public UserSearchSpecification toSpecification() {
+                var specification = UserSearchSpecification.all();
+                if (idType != null) {
+                        specification = specification.and(new UserSearchSpecification.IdTypeIs(idType));
+                }
+                if (idNumber != null) {
+                        specification = specification.and(new UserSearchSpecification.IdNumberStartsWith(idNumber));
+                }
+                if (name != null) {
+                        specification = specification.and(new UserSearchSpecification.FirstNameStartsWith(name));
+                }
+                if (surname != null) {
+                        specification = specification.and(new UserSearchSpecification.FirstSurnameStartsWith(surname));
+                }
+                if (homeCity != null) {
+                        specification = specification.and(new UserSearchSpecification.HomeCityIs(homeCity));
+                }
+                if (homeState != null) {
+                        specification = specification.and(new UserSearchSpecification.HomeStateIs(homeState));
+                }
+                if (homeCountry != null) {
+                        specification = specification.and(new UserSearchSpecification.HomeCountryIs(homeCountry));
+                }
+                if (emailConfirmed != null) {
+                        specification = specification.and(new UserSearchSpecification.EmailConfirmedIs(emailConfirmed));
+                }
+                if (mobileNumberConfirmed != null) {
+                        specification = specification
+                                        .and(new UserSearchSpecification.MobileNumberConfirmedIs(mobileNumberConfirmed));
+                }
+                return specification;
+        }
+
+        public UUID getIdType() {
+                return idType;
+        }
+
+        public String getIdNumber() {
+                return idNumber;
+        }
+
+        public String getName() {
+                return name;
+        }
+
+        public String getSurname() {
+                return surname;
+        }
+
+        public UUID getHomeCity() {
+                return homeCity;
+        }
+
+        public UUID getHomeState() {
+                return homeState;
+        }
+
+        public UUID getHomeCountry() {
+                return homeCountry;
+        }
+
+        public Boolean getEmailConfirmed() {
+                return emailConfirmed;
+        }
+
+        public Boolean getMobileNumberConfirmed() {
+                return mobileNumberConfirmed;
+        }
+
+        private static String sanitize(final String value) {
+                return TextHelper.isEmpty(value) ? null : value.trim();
+        }
+
+        public static final class Builder {
+
+                private UUID idType;
+                private String idNumber;
+                private String name;
+                private String surname;
+                private UUID homeCity;
+                private UUID homeState;
+                private UUID homeCountry;
+                private Boolean emailConfirmed;
+                private Boolean mobileNumberConfirmed;
+
+                public Builder idType(final UUID idType) {
+                        this.idType = idType;
+                        return this;
+                }
+
+                public Builder idNumber(final String idNumber) {
+                        this.idNumber = idNumber;
+                        return this;
+                }
+
+                public Builder name(final String name) {
+                        this.name = name;
+                        return this;
+                }
+
+                public Builder surname(final String surname) {
+                        this.surname = surname;
+                        return this;
+                }
+
+                public Builder homeCity(final UUID homeCity) {
+                        this.homeCity = homeCity;
+                        return this;
+                }
+
+                public Builder homeState(final UUID homeState) {
+                        this.homeState = homeState;
+                        return this;
+                }
+
+                public Builder homeCountry(final UUID homeCountry) {
+                        this.homeCountry = homeCountry;
+                        return this;
+                }
+
+                public Builder emailConfirmed(final Boolean emailConfirmed) {
+                        this.emailConfirmed = emailConfirmed;
+                        return this;
+                }
+
+                public Builder mobileNumberConfirmed(final Boolean mobileNumberConfirmed) {
+                        this.mobileNumberConfirmed = mobileNumberConfirmed;
+                        return this;
+                }
+
+                public UserSearchFilter build() {
+                        return new UserSearchFilter(this);
+                }
+        }
+}
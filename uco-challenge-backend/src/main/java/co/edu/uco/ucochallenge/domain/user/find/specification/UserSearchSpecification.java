@@ -0,0 +1,84 @@
+package co.edu.uco.ucochallenge.domain.user.find.specification;
+
+import java.util.UUID;
+
+/**
+ * Predicado componible sobre el listado de usuarios. A diferencia de
+ * {@link co.edu.uco.ucochallenge.domain.common.specification.Specification} no se evalúa en
+ * memoria: describe el criterio para que el adaptador de lectura lo traduzca a SQL y lo resuelva
+ * con índices. Los registros son inmutables y su {@code toString} es estable, por lo que sirve
+ * como parte de la clave de caché.
+ */
+public sealed interface UserSearchSpecification {
+
+        static UserSearchSpecification all() {
+                return All.INSTANCE;
+        }
+
+        default UserSearchSpecification and(final UserSearchSpecification other) {
+                if (this instanceof All) {
+                        return other;
+                }
+                return other instanceof All ? this : new And(this, other);
+        }
+
+        default UserSearchSpecification or(final UserSearchSpecification other) {
+                return this instanceof All || other instanceof All ? All.INSTANCE : new Or(this, other);
+        }
+
+        default UserSearchSpecification not() {
+                return new Not(this);
+        }
+
+        default boolean isAll() {
+                return this instanceof All;
+        }
+
+        /** Sin filtros. */
+        enum All implements UserSearchSpecification {
+                INSTANCE;
+
+                @Override
+                public String toString() {
+                        return "All";
+                }
+        }
+
+        record And(UserSearchSpecification left, UserSearchSpecification right) implements UserSearchSpecification {
+        }
+
+        record Or(UserSearchSpecification left, UserSearchSpecification right) implements UserSearchSpecification {
+        }
+
+        record Not(UserSearchSpecification operand) implements UserSearchSpecification {
+        }
+
+        record IdTypeIs(UUID idType) implements UserSearchSpecification {
+        }
+
+        record IdNumberStartsWith(String prefix) implements UserSearchSpecification {
+        }
+
+        /** Prefijo del primer nombre, sin distinguir mayúsculas ni tildes. */
+        record FirstNameStartsWith(String prefix) implements UserSearchSpecification {
+        }
+
+        /** Prefijo del primer apellido, sin distinguir mayúsculas ni tildes. */
+        record FirstSurnameStartsWith(String prefix) implements UserSearchSpecification {
+        }
+
+        record HomeCityIs(UUID city) implements UserSearchSpecification {
+        }
+
+        record HomeStateIs(UUID state) implements UserSearchSpecification {
+        }
+
+        record HomeCountryIs(UUID country) implements UserSearchSpecification {
+        }
+
+        record EmailConfirmedIs(boolean confirmed) implements UserSearchSpecification {
+        }
+
+        record MobileNumberConfirmedIs(boolean confirmed) implements UserSearchSpecification {
+        }
+}
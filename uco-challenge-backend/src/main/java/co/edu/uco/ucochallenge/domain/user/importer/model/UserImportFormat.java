@@ -0,0 +1,29 @@
+package co.edu.uco.ucochallenge.domain.user.importer.model;
+
+import java.util.Arrays;
+
+import co.edu.uco.ucochallenge.crosscutting.exception.DomainValidationException;
+
+public enum UserImportFormat {
+
+        CSV("csv"),
+        NDJSON("ndjson");
+
+        private final String value;
+
+        UserImportFormat(final String value) {
+                this.value = value;
+        }
+
+        public String getValue() {
+                return value;
+        }
+
+        public static UserImportFormat from(final String rawFormat) {
+                final String normalized = rawFormat == null ? null : rawFormat.trim();
+                return Arrays.stream(values())
+                                .filter(format -> format.value.equalsIgnoreCase(normalized))
+                                .findFirst()
+                                .orElseThrow(() -> new DomainValidationException("users.import.format.invalid"));
+        }
+}
@@ -0,0 +1,217 @@
+package co.edu.uco.ucochallenge.domain.user.importer.model;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import co.edu.uco.ucochallenge.crosscutting.helper.ObjectHelper;
+import co.edu.uco.ucochallenge.crosscutting.helper.TextHelper;
+import co.edu.uco.ucochallenge.crosscutting.helper.UUIDHelper;
+
+/**
+ * Estado de una importación. {@code processedRecords} es el checkpoint: todos los registros con
+ * número menor o igual ya fueron insertados, rechazados o reportados como conflicto en una
+ * transacción confirmada, así que una reanudación empieza en el siguiente.
+ */
+public class UserImportJobDomain {
+
+        private final UUID id;
+        private final UserImportFormat format;
+        private final Instant startedAt;
+        private UserImportStatus status;
+        private long processedRecords;
+        private long inserted;
+        private long conflicts;
+        private long rejected;
+        private Instant updatedAt;
+        private Instant finishedAt;
+        private String lastError;
+
+        private UserImportJobDomain(final Builder builder) {
+                this.id = UUIDHelper.getDefault(builder.id);
+                this.format = ObjectHelper.getDefault(builder.format, UserImportFormat.CSV);
+                this.status = ObjectHelper.getDefault(builder.status, UserImportStatus.RUNNING);
+                this.processedRecords = builder.processedRecords;
+                this.inserted = builder.inserted;
+                this.conflicts = builder.conflicts;
+                this.rejected = builder.rejected;
+                this.startedAt = builder.startedAt;
+                this.updatedAt = ObjectHelper.getDefault(builder.updatedAt, builder.startedAt);
+                this.finishedAt = builder.finishedAt;
+                this.lastError = builder.lastError;
+        }
+
+        public static UserImportJobDomain start(final UUID id, final UserImportFormat format, final Instant now) {
+                return builder().id(id).format(format).startedAt(now).build();
+        }
+
+        public static Builder builder() {
+                return new Builder();
+        }
+
+        public void recordChunk(final long lastRecordNumber, final long insertedRows, final long conflictRows,
+                        final long rejectedRows, final Instant now) {
+                processedRecords = Math.max(processedRecords, lastRecordNumber);
+                inserted += insertedRows;
+                conflicts += conflictRows;
+                rejected += rejectedRows;
+                updatedAt = now;
+        }
+
+        public void resume(final Instant now) {
+                status = UserImportStatus.RUNNING;
+                lastError = null;
+                updatedAt = now;
+        }
+
+        public void complete(final Instant now) {
+                status = UserImportStatus.COMPLETED;
+                updatedAt = now;
+                finishedAt = now;
+        }
+
+        public void fail(final String error, final Instant now) {
+                status = UserImportStatus.FAILED;
+                lastError = TextHelper.getDefaultWithTrim(error);
+                updatedAt = now;
+        }
+
+        public boolean isCompleted() {
+                return status == UserImportStatus.COMPLETED;
+        }
+
+        /** Otro proceso sigue importando si el job está en curso y su último checkpoint es reciente. */
+        public boolean isActive(final Instant now, final Duration staleAfter) {
+                return status == UserImportStatus.RUNNING && updatedAt != null
+                                && updatedAt.plus(staleAfter).isAfter(now);
+        }
+
+        public double recordsPerSecond() {
+                final var end = ObjectHelper.getDefault(finishedAt, updatedAt);
+                if (startedAt == null || end == null) {
+                        return 0D;
+                }
+                final long millis = Duration.between(startedAt, end).toMillis();
+                return millis <= 0 ? 0D : (inserted + conflicts + rejected) * 1000D / millis;
+        }
+
+        public UUID getId() {
+                return id;
+        }
+
+        public UserImportFormat getFormat() {
+                return format;
+        }
+
+        public UserImportStatus getStatus() {
+                return status;
+        }
+
+        public long getProcessedRecords() {
+                return processedRecords;
+        }
+
+        public long getInserted() {
+                return inserted;
+        }
+
+        public long getConflicts() {
+                return conflicts;
+        }
+
+        public long getRejected() {
+                return rejected;
+        }
+
+        public Instant getStartedAt() {
+                return startedAt;
+        }
+
+        public Instant getUpdatedAt() {
+                return updatedAt;
+        }
+
+        public Instant getFinishedAt() {
+                return finishedAt;
+        }
+
+        public String getLastError() {
+                return lastError;
+        }
+
+        public static final class Builder {
+                private UUID id;
+                private UserImportFormat format;
+                private UserImportStatus status;
+                private long processedRecords;
+                private long inserted;
+                private long conflicts;
+                private long rejected;
+                private Instant startedAt;
+                private Instant updatedAt;
+                private Instant finishedAt;
+                private String lastError;
+
+                private Builder() {
+                }
+
+                public Builder id(final UUID id) {
+                        this.id = id;
+                        return this;
+                }
+
+                public Builder format(final UserImportFormat format) {
+                        this.format = format;
+                        return this;
+                }
+
+                public Builder status(final UserImportStatus status) {
+                        this.status = status;
+                        return this;
+                }
+
+                public Builder processedRecords(final long processedRecords) {
+                        this.processedRecords = processedRecords;
+                        return this;
+                }
+
+                public Builder inserted(final long inserted) {
+                        this.inserted = inserted;
+                        return this;
+                }
+
+                public Builder conflicts(final long conflicts) {
+                        this.conflicts = conflicts;
+                        return this;
+                }
+
+                public Builder rejected(final long rejected) {
+                        this.rejected = rejected;
+                        return this;
+                }
+
+                public Builder startedAt(final Instant startedAt) {
+                        this.startedAt = startedAt;
+                        return this;
+                }
+
+                public Builder updatedAt(final Instant updatedAt) {
+                        this.updatedAt = updatedAt;
+                        return this;
+                }
+
+                public Builder finishedAt(final Instant finishedAt) {
+                        this.finishedAt = finishedAt;
+                        return this;
+                }
+
+                public Builder lastError(final String lastError) {
+                        this.lastError = lastError;
+                        return this;
+                }
+
+                public UserImportJobDomain build() {
+                        return new UserImportJobDomain(this);
+                }
+        }
+}
@@ -0,0 +1,4 @@
+package co.edu.uco.ucochallenge.domain.user.importer.model;
+
+public record UserImportRejectionDomain(long recordNumber, String errorCode) {
+}
@@ -0,0 +1,7 @@
+package co.edu.uco.ucochallenge.domain.user.importer.model;
+
+import co.edu.uco.ucochallenge.domain.user.register.model.RegisterUserDomain;
+
+/** Usuario válido listo para el staging, con su número de registro dentro del archivo. */
+public record UserImportRowDomain(long recordNumber, RegisterUserDomain user) {
+}
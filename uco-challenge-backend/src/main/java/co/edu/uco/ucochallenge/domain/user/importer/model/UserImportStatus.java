@@ -0,0 +1,7 @@
+package co.edu.uco.ucochallenge.domain.user.importer.model;
+
+public enum UserImportStatus {
+        RUNNING,
+        COMPLETED,
+        FAILED
+}
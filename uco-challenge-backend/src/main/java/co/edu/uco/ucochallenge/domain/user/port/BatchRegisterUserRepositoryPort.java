@@ -0,0 +1,25 @@
+package co.edu.uco.ucochallenge.domain.user.port;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import co.edu.uco.ucochallenge.domain.user.register.model.ExistingUserSnapshotDomain;
+import co.edu.uco.ucochallenge.domain.user.register.model.IdentificationKey;
+import co.edu.uco.ucochallenge.domain.user.register.model.RegisterUserDomain;
+
+/** Operaciones por conjunto para el registro por lotes: una consulta por criterio, no por fila. */
+public interface BatchRegisterUserRepositoryPort {
+
+        Map<IdentificationKey, ExistingUserSnapshotDomain> findByIdentifications(Collection<IdentificationKey> keys);
+
+        Map<String, ExistingUserSnapshotDomain> findByEmails(Collection<String> emails);
+
+        Map<String, ExistingUserSnapshotDomain> findByMobileNumbers(Collection<String> mobileNumbers);
+
+        /**
+         * Inserta en un único batch JDBC. La posición i indica si la fila i quedó insertada;
+         * {@code false} significa que chocó con una restricción única.
+         */
+        boolean[] saveAllIfAbsent(List<RegisterUserDomain> domains);
+}
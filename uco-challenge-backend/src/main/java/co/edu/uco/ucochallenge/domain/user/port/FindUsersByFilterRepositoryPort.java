@@ -1,8 +1,25 @@
 package co.edu.uco.ucochallenge.domain.user.port;
 
+import java.util.UUID;
+
 import co.edu.uco.ucochallenge.domain.user.find.model.FindUsersByFilterResponseDomain;
+import co.edu.uco.ucochallenge.domain.user.find.model.UserCountStrategy;
+import co.edu.uco.ucochallenge.domain.user.find.specification.UserSearchSpecification;
 
 public interface FindUsersByFilterRepositoryPort {
 
-        FindUsersByFilterResponseDomain findAll(int page, int size);
+        /**
+         * Página por desplazamiento de los usuarios que cumplen {@code filter}. Con filtros, un total
+         * distinto de {@code none} se calcula siempre con un conteo exacto del subconjunto.
+         */
+        FindUsersByFilterResponseDomain findAll(UserSearchSpecification filter, int page, int size,
+                        UserCountStrategy countStrategy);
+
+        /**
+         * Página por clave ordenada por id: los usuarios con id mayor que {@code after} (todos si es
+         * {@code null}). El costo no depende de la profundidad porque se busca en el índice de la
+         * llave primaria en lugar de descartar filas con OFFSET.
+         */
+        FindUsersByFilterResponseDomain findAfter(UserSearchSpecification filter, UUID after, int size,
+                        UserCountStrategy countStrategy);
 }
@@ -1,6 +1,9 @@
 package co.edu.uco.ucochallenge.domain.user.port;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 public interface IdTypeQueryPort {
@@ -8,4 +11,9 @@ public interface IdTypeQueryPort {
         boolean existsById(UUID id);
 
         Optional<UUID> findIdByName(String name);
+
+        Set<UUID> findExistingIds(Collection<UUID> ids);
+
+        /** Nombre tal como se consultó -> id. Los nombres inexistentes no aparecen. */
+        Map<String, UUID> findIdsByNames(Collection<String> names);
 }
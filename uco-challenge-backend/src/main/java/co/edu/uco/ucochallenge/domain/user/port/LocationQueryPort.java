@@ -1,5 +1,7 @@
 package co.edu.uco.ucochallenge.domain.user.port;
 
+import java.util.Collection;
+import java.util.Set;
 import java.util.UUID;
 
 public interface LocationQueryPort {
@@ -9,4 +11,13 @@ public interface LocationQueryPort {
         boolean departmentExists(UUID departmentId);
 
         boolean cityExists(UUID cityId);
+
+        /** La ciudad pertenece al departamento y el departamento al país. */
+        boolean isValidHierarchy(UUID countryId, UUID departmentId, UUID cityId);
+
+        Set<UUID> findExistingCountries(Collection<UUID> countryIds);
+
+        Set<UUID> findExistingDepartments(Collection<UUID> departmentIds);
+
+        Set<UUID> findExistingCities(Collection<UUID> cityIds);
 }
@@ -8,8 +8,6 @@ import co.edu.uco.ucochallenge.domain.user.register.model.RegisterUserDomain;
 
 public interface RegisterUserRepositoryPort {
 
-        boolean existsById(UUID id);
-
         Optional<ExistingUserSnapshotDomain> findByIdentification(UUID idType, String idNumber);
 
         Optional<ExistingUserSnapshotDomain> findByEmail(String email);
@@ -17,4 +15,16 @@ public interface RegisterUserRepositoryPort {
         Optional<ExistingUserSnapshotDomain> findByMobileNumber(String mobileNumber);
 
         void save(RegisterUserDomain domain);
+
+        /**
+         * Inserta el usuario sin consultas previas. Devuelve {@code false} cuando la
+         * fila choca con alguna restricción única (identificación, email, móvil o id).
+         */
+        boolean saveIfAbsent(RegisterUserDomain domain);
+
+        /**
+         * Indica si la base de datos tiene las restricciones únicas de identificación, email y móvil;
+         * sin ellas {@link #saveIfAbsent} solo detecta choques de id.
+         */
+        boolean hasUniqueConstraints();
 }
@@ -0,0 +1,12 @@
+package co.edu.uco.ucochallenge.domain.user.port;
+
+import co.edu.uco.ucochallenge.domain.user.find.model.UserCountDomain;
+import co.edu.uco.ucochallenge.domain.user.find.model.UserCountStrategy;
+
+public interface UserCountPort {
+
+        UserCountDomain count(UserCountStrategy strategy);
+
+        /** Suma usuarios insertados al contador; se aplica cuando confirma la transacción en curso. */
+        void recordInserted(long inserted);
+}
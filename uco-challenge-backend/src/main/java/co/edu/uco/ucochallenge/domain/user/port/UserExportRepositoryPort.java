@@ -0,0 +1,18 @@
+package co.edu.uco.ucochallenge.domain.user.port;
+
+import java.util.function.Consumer;
+
+import co.edu.uco.ucochallenge.domain.user.find.model.UserSummaryDomain;
+import co.edu.uco.ucochallenge.domain.user.find.specification.UserSearchSpecification;
+
+public interface UserExportRepositoryPort {
+
+        /**
+         * Entrega a {@code consumer} los usuarios que cumplen {@code filter}, en orden de id, a medida
+         * que llegan de la base de datos; no los acumula. Debe invocarse dentro de una transacción
+         * para que el driver use un cursor. Una excepción del consumidor cancela la lectura.
+         *
+         * @return filas entregadas
+         */
+        long streamAll(UserSearchSpecification filter, Consumer<UserSummaryDomain> consumer);
+}
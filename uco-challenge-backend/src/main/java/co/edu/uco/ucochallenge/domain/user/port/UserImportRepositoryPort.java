@@ -0,0 +1,28 @@
+package co.edu.uco.ucochallenge.domain.user.port;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import co.edu.uco.ucochallenge.domain.user.importer.model.UserImportJobDomain;
+import co.edu.uco.ucochallenge.domain.user.importer.model.UserImportRejectionDomain;
+import co.edu.uco.ucochallenge.domain.user.importer.model.UserImportRowDomain;
+
+public interface UserImportRepositoryPort {
+
+        Optional<UserImportJobDomain> findJob(UUID jobId);
+
+        void saveJob(UserImportJobDomain job);
+
+        void saveRejections(UUID jobId, List<UserImportRejectionDomain> rejections);
+
+        /**
+         * Copia las filas a una tabla de staging y las fusiona con {@code usuario} en una sola
+         * sentencia. Las filas que chocan con un usuario existente (o con otra fila del mismo
+         * bloque) quedan registradas como rechazo del job.
+         *
+         * @return números de registro que no se insertaron por conflicto
+         */
+        Set<Long> stageAndMerge(UUID jobId, List<UserImportRowDomain> rows);
+}
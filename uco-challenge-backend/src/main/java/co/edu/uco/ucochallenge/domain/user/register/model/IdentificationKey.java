@@ -0,0 +1,11 @@
+package co.edu.uco.ucochallenge.domain.user.register.model;
+
+import java.util.UUID;
+
+/** Identificación de un usuario: tipo de documento y número. */
+public record IdentificationKey(UUID idType, String idNumber) {
+
+        public static IdentificationKey of(final RegisterUserDomain domain) {
+                return new IdentificationKey(domain.getIdType(), domain.getIdNumber());
+        }
+}
@@ -0,0 +1,47 @@
+package co.edu.uco.ucochallenge.domain.user.register.model;
+
+import java.util.List;
+import java.util.UUID;
+
+import co.edu.uco.ucochallenge.crosscutting.helper.UUIDHelper;
+
+/** Resultado de una fila de un registro por lotes. */
+public final class RegisterUserBatchItemResultDomain {
+
+        private final int index;
+        private final UUID id;
+        private final boolean created;
+        private final List<String> errorCodes;
+
+        private RegisterUserBatchItemResultDomain(final int index, final UUID id, final boolean created,
+                        final List<String> errorCodes) {
+                this.index = index;
+                this.id = UUIDHelper.getDefault(id);
+                this.created = created;
+                this.errorCodes = List.copyOf(errorCodes);
+        }
+
+        public static RegisterUserBatchItemResultDomain created(final int index, final UUID id) {
+                return new RegisterUserBatchItemResultDomain(index, id, true, List.of());
+        }
+
+        public static RegisterUserBatchItemResultDomain rejected(final int index, final List<String> errorCodes) {
+                return new RegisterUserBatchItemResultDomain(index, null, false, errorCodes);
+        }
+
+        public int getIndex() {
+                return index;
+        }
+
+        public UUID getId() {
+                return id;
+        }
+
+        public boolean isCreated() {
+                return created;
+        }
+
+        public List<String> getErrorCodes() {
+                return errorCodes;
+        }
+}
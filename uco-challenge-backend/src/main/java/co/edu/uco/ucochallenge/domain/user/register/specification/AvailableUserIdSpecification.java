@@ -1,34 +1,30 @@
 package co.edu.uco.ucochallenge.domain.user.register.specification;
 
 import java.util.UUID;
-import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 import co.edu.uco.ucochallenge.crosscutting.helper.UUIDHelper;
 import co.edu.uco.ucochallenge.domain.common.specification.Specification;
 import co.edu.uco.ucochallenge.domain.user.register.model.RegisterUserDomain;
 
+/**
+ * Asigna un id cuando el candidato no trae uno. Los ids son UUIDv7 (marca de tiempo más 62 bits
+ * aleatorios), así que no se consulta la base de datos para descartar colisiones: si llegara a
+ * ocurrir una, la llave primaria la rechaza.
+ */
 public class AvailableUserIdSpecification implements Specification<RegisterUserDomain> {
 
-        private final Predicate<UUID> idExists;
         private final Supplier<UUID> idGenerator;
 
-        public AvailableUserIdSpecification(final Predicate<UUID> idExists, final Supplier<UUID> idGenerator) {
-                this.idExists = idExists;
+        public AvailableUserIdSpecification(final Supplier<UUID> idGenerator) {
                 this.idGenerator = idGenerator;
         }
 
         @Override
         public boolean isSatisfiedBy(final RegisterUserDomain candidate) {
-                UUID currentId = candidate.getId();
-                if (UUIDHelper.getDefault().equals(currentId) || idExists.test(currentId)) {
-                        currentId = idGenerator.get();
-                        candidate.updateId(currentId);
-                }
-
-                while (idExists.test(currentId)) {
-                        currentId = idGenerator.get();
-                        candidate.updateId(currentId);
+                final UUID currentId = candidate.getId();
+                if (currentId == null || UUIDHelper.getDefault().equals(currentId)) {
+                        candidate.updateId(idGenerator.get());
                 }
 
                 return true;
@@ -0,0 +1,68 @@
+package co.edu.uco.ucochallenge.domain.user.register.validation;
+
+import java.util.Map;
+import java.util.Optional;
+
+import co.edu.uco.ucochallenge.domain.common.notification.Notification;
+import co.edu.uco.ucochallenge.domain.common.specification.Specification;
+import co.edu.uco.ucochallenge.domain.user.port.NotificationPort;
+import co.edu.uco.ucochallenge.domain.user.register.model.ExistingUserSnapshotDomain;
+import co.edu.uco.ucochallenge.domain.user.register.model.IdentificationKey;
+import co.edu.uco.ucochallenge.domain.user.register.model.RegisterUserDomain;
+import co.edu.uco.ucochallenge.domain.user.register.specification.UniqueEmailSpecification;
+import co.edu.uco.ucochallenge.domain.user.register.specification.UniqueIdentificationSpecification;
+import co.edu.uco.ucochallenge.domain.user.register.specification.UniqueMobileNumberSpecification;
+
+/**
+ * Mismas reglas de unicidad que {@link RegisterUserDomainValidator}, pero alimentadas con
+ * usuarios existentes precargados por lote en lugar de un finder por fila.
+ */
+public class RegisterUserBatchDomainValidator {
+
+        private final NotificationPort notificationPort;
+        private final Map<IdentificationKey, ExistingUserSnapshotDomain> byIdentification;
+        private final Map<String, ExistingUserSnapshotDomain> byEmail;
+        private final Map<String, ExistingUserSnapshotDomain> byMobileNumber;
+
+        public RegisterUserBatchDomainValidator(final NotificationPort notificationPort,
+                        final Map<IdentificationKey, ExistingUserSnapshotDomain> byIdentification,
+                        final Map<String, ExistingUserSnapshotDomain> byEmail,
+                        final Map<String, ExistingUserSnapshotDomain> byMobileNumber) {
+                this.notificationPort = notificationPort;
+                this.byIdentification = byIdentification;
+                this.byEmail = byEmail;
+                this.byMobileNumber = byMobileNumber;
+        }
+
+        public Notification validate(final RegisterUserDomain domain, final String executorIdentifier) {
+                final var notification = Notification.create();
+
+                final Specification<RegisterUserDomain> uniqueIdentificationSpec = new UniqueIdentificationSpecification(
+                                notification,
+                                (idType, idNumber) -> Optional.ofNullable(
+                                                byIdentification.get(new IdentificationKey(idType, idNumber))),
+                                notificationPort::notifyAdministrator,
+                                notificationPort::notifyExecutor,
+                                executorIdentifier);
+
+                final Specification<RegisterUserDomain> uniqueEmailSpec = new UniqueEmailSpecification(
+                                notification,
+                                email -> Optional.ofNullable(byEmail.get(email)),
+                                notificationPort::notifyEmailOwner,
+                                notificationPort::notifyExecutor,
+                                executorIdentifier);
+
+                final Specification<RegisterUserDomain> uniqueMobileSpec = new UniqueMobileNumberSpecification(
+                                notification,
+                                mobileNumber -> Optional.ofNullable(byMobileNumber.get(mobileNumber)),
+                                notificationPort::notifyMobileOwner,
+                                notificationPort::notifyExecutor,
+                                executorIdentifier);
+
+                uniqueIdentificationSpec.and(uniqueEmailSpec)
+                                .and(uniqueMobileSpec)
+                                .isSatisfiedBy(domain);
+
+                return notification;
+        }
+}
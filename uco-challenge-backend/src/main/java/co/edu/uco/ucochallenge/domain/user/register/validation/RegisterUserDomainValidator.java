@@ -1,6 +1,7 @@
 package co.edu.uco.ucochallenge.domain.user.register.validation;
 
 import java.util.UUID;
+import java.util.function.BiFunction;
 import java.util.function.Supplier;
 
 import co.edu.uco.ucochallenge.domain.common.notification.Notification;
@@ -28,32 +29,44 @@ public class RegisterUserDomainValidator {
         }
 
         public Notification validate(final RegisterUserDomain domain, final String executorIdentifier) {
+                return validate(domain, executorIdentifier, (name, specification) -> specification);
+        }
+
+        /**
+         * @param decorator recibe el nombre y la especificación y devuelve la que se evalúa; permite
+         *                  instrumentarlas sin que el dominio conozca la infraestructura de métricas
+         */
+        public Notification validate(final RegisterUserDomain domain, final String executorIdentifier,
+                        final BiFunction<String, Specification<RegisterUserDomain>, Specification<RegisterUserDomain>> decorator) {
                 final var notification = Notification.create();
                 notification.merge(domain.validate());
 
-                final Specification<RegisterUserDomain> availableIdSpec = new AvailableUserIdSpecification(
-                                repositoryPort::existsById, idGenerator);
+                final Specification<RegisterUserDomain> availableIdSpec = decorator.apply("available-id",
+                                new AvailableUserIdSpecification(idGenerator));
 
-                final Specification<RegisterUserDomain> uniqueIdentificationSpec = new UniqueIdentificationSpecification(
-                                notification,
-                                repositoryPort::findByIdentification,
-                                notificationPort::notifyAdministrator,
-                                notificationPort::notifyExecutor,
-                                executorIdentifier);
+                final Specification<RegisterUserDomain> uniqueIdentificationSpec = decorator.apply("unique-identification",
+                                new UniqueIdentificationSpecification(
+                                        notification,
+                                        repositoryPort::findByIdentification,
+                                        notificationPort::notifyAdministrator,
+                                        notificationPort::notifyExecutor,
+                                        executorIdentifier));
 
-                final Specification<RegisterUserDomain> uniqueEmailSpec = new UniqueEmailSpecification(
-                                notification,
-                                repositoryPort::findByEmail,
-                                notificationPort::notifyEmailOwner,
-                                notificationPort::notifyExecutor,
-                                executorIdentifier);
+                final Specification<RegisterUserDomain> uniqueEmailSpec = decorator.apply("unique-email",
+                                new UniqueEmailSpecification(
+                                        notification,
+                                        repositoryPort::findByEmail,
+                                        notificationPort::notifyEmailOwner,
+                                        notificationPort::notifyExecutor,
+                                        executorIdentifier));
 
-                final Specification<RegisterUserDomain> uniqueMobileSpec = new UniqueMobileNumberSpecification(
-                                notification,
-                                repositoryPort::findByMobileNumber,
-                                notificationPort::notifyMobileOwner,
-                                notificationPort::notifyExecutor,
-                                executorIdentifier);
+                final Specification<RegisterUserDomain> uniqueMobileSpec = decorator.apply("unique-mobile",
+                                new UniqueMobileNumberSpecification(
+                                        notification,
+                                        repositoryPort::findByMobileNumber,
+                                        notificationPort::notifyMobileOwner,
+                                        notificationPort::notifyExecutor,
+                                        executorIdentifier));
 
                 availableIdSpec.and(uniqueIdentificationSpec)
                                 .and(uniqueEmailSpec)
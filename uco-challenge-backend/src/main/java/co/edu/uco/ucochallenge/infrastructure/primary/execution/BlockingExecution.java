@@ -0,0 +1,87 @@
+package co.edu.uco.ucochallenge.infrastructure.primary.execution;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import co.edu.uco.ucochallenge.crosscutting.helper.ObjectHelper;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Dónde corre el trabajo bloqueante (JPA, Redis, HTTP síncrono) de los controladores según
+ * {@code uco.execution.mode}:
+ * <ul>
+ * <li>{@code bounded-elastic}: se suscribe en {@code boundedElastic}; la petición ocupa un hilo
+ * de Tomcat y otro del pool elástico;</li>
+ * <li>{@code virtual-threads}: si ya se está en un hilo virtual (Tomcat con
+ * {@link VirtualThreadsConfig}) se ejecuta ahí mismo, sin cambio de hilo; si no, en un
+ * {@link Scheduler} de hilos virtuales.</li>
+ * </ul>
+ * Las lecturas JDBC ({@link #callJdbc}) en {@code bounded-elastic} usan un scheduler propio con
+ * tantos hilos como conexiones tiene Hikari: las peticiones de más esperan en la cola de Reactor
+ * sin ocupar un hilo bloqueado en {@code getConnection()}.
+ */
+@Component
+public class BlockingExecution implements DisposableBean {
+
+        private static final int JDBC_QUEUE_CAPACITY = 100_000;
+
+        private final ExecutionMode mode;
+        private final Scheduler scheduler;
+        private final Scheduler jdbcScheduler;
+
+        public BlockingExecution(@Value("${uco.execution.mode:bounded-elastic}") final ExecutionMode mode,
+                        @Value("${uco.datasource.maximum-pool-size:10}") final int connections) {
+                this.mode = ObjectHelper.getDefault(mode, ExecutionMode.BOUNDED_ELASTIC);
+                if (this.mode == ExecutionMode.VIRTUAL_THREADS) {
+                        this.scheduler = Schedulers.fromExecutorService(Executors.newThreadPerTaskExecutor(
+                                        Thread.ofVirtual().name("blocking-vt-", 0).factory()), "virtual-threads");
+                        // Un hilo virtual esperando conexión no cuesta un hilo de plataforma
+                        this.jdbcScheduler = scheduler;
+                } else {
+                        this.scheduler = Schedulers.boundedElastic();
+                        this.jdbcScheduler = Schedulers.newBoundedElastic(connections, JDBC_QUEUE_CAPACITY, "jdbc-read");
+                }
+        }
+
+        public <T> Mono<T> call(final Callable<T> work) {
+                if (mode == ExecutionMode.BOUNDED_ELASTIC) {
+                        return Mono.fromCallable(work).subscribeOn(scheduler);
+                }
+                return Mono.defer(() -> Thread.currentThread().isVirtual()
+                                ? Mono.fromCallable(work)
+                                : Mono.fromCallable(work).subscribeOn(scheduler));
+        }
+
+        /** Trabajo que ocupa una conexión JDBC durante toda su ejecución. */
+        public <T> Mono<T> callJdbc(final Callable<T> work) {
+                if (mode == ExecutionMode.BOUNDED_ELASTIC) {
+                        return Mono.fromCallable(work).subscribeOn(jdbcScheduler);
+                }
+                return call(work);
+        }
+
+        /** Scheduler para el resto del código Reactor que deba bloquear. */
+        public Scheduler scheduler() {
+                return scheduler;
+        }
+
+        public ExecutionMode mode() {
+                return mode;
+        }
+
+        @Override
+        public void destroy() {
+                // boundedElastic es compartido y lo administra Reactor
+                if (mode == ExecutionMode.VIRTUAL_THREADS) {
+                        scheduler.dispose();
+                } else {
+                        jdbcScheduler.dispose();
+                }
+        }
+}
@@ -0,0 +1,10 @@
+package co.edu.uco.ucochallenge.infrastructure.primary.execution;
+
+public enum ExecutionMode {
+
+        /** Tomcat con hilos de plataforma y el trabajo bloqueante en {@code Schedulers.boundedElastic()}. */
+        BOUNDED_ELASTIC,
+
+        /** Tomcat con un hilo virtual por petición; el trabajo bloqueante corre en ese mismo hilo. */
+        VIRTUAL_THREADS
+}
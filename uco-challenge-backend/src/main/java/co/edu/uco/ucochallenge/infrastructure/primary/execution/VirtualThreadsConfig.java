@@ -0,0 +1,24 @@
+package co.edu.uco.ucochallenge.infrastructure.primary.execution;
+
+import java.util.concurrent.Executors;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Con {@code uco.execution.mode=virtual-threads} Tomcat atiende cada petición en un hilo virtual.
+ * La concurrencia hacia la base de datos la sigue limitando el pool de conexiones: las peticiones
+ * que no consiguen conexión esperan en Hikari y no en la cola de Tomcat.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "uco.execution", name = "mode", havingValue = "virtual-threads")
+public class VirtualThreadsConfig {
+
+        @Bean
+        public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+                return protocolHandler -> protocolHandler.setExecutor(Executors.newThreadPerTaskExecutor(
+                                Thread.ofVirtual().name("tomcat-vt-", 0).factory()));
+        }
+}
@@ -0,0 +1,40 @@
+package co.edu.uco.ucochallenge.infrastructure.primary.rest.admin;
+
+import java.util.Map;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import co.edu.uco.ucochallenge.infrastructure.primary.execution.BlockingExecution;
+import co.edu.uco.ucochallenge.infrastructure.secondary.cache.reference.ReferenceDataRegistry;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/uco-challenge/api/v1/admin")
+public class ReferenceDataAdminController {
+
+        private final ReferenceDataRegistry registry;
+        private final BlockingExecution blockingExecution;
+
+        public ReferenceDataAdminController(final ReferenceDataRegistry registry,
+                        final BlockingExecution blockingExecution) {
+                this.registry = registry;
+                this.blockingExecution = blockingExecution;
+        }
+
+        @GetMapping("/reference-data")
+        public Mono<ResponseEntity<Map<String, Object>>> summary() {
+                return blockingExecution.call(() -> ResponseEntity.ok(registry.summary()));
+        }
+
+        @PostMapping("/reference-data:reload")
+        public Mono<ResponseEntity<Map<String, Object>>> reload() {
+                return blockingExecution.call(() -> {
+                        registry.reload();
+                        return ResponseEntity.ok(registry.summary());
+                });
+        }
+}
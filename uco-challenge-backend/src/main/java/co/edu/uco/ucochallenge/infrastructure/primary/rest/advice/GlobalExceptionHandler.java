@@ -1,7 +1,6 @@
 package co.edu.uco.ucochallenge.infrastructure.primary.rest.advice;
 
 import java.util.Optional;
-import java.util.function.Function;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -18,8 +17,8 @@ import co.edu.uco.ucochallenge.crosscutting.exception.BusinessException;
 import co.edu.uco.ucochallenge.crosscutting.exception.DomainValidationException;
 import co.edu.uco.ucochallenge.crosscutting.exception.NotFoundException;
 import co.edu.uco.ucochallenge.crosscutting.exception.NotificationDeliveryException;
-import co.edu.uco.ucochallenge.crosscutting.dto.MessageDTO;
-import co.edu.uco.ucochallenge.infrastructure.secondary.cache.catalog.MessagesCatalogCache;
+import co.edu.uco.ucochallenge.infrastructure.primary.rest.idempotency.IdempotencyException;
+import co.edu.uco.ucochallenge.infrastructure.secondary.cache.catalog.LocalMessageCatalog;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.ConstraintViolationException;
 
@@ -31,40 +30,21 @@ public class GlobalExceptionHandler {
     private static final String GENERIC_ERROR_MESSAGE =
             "Ocurrió un error inesperado. Por favor, intente nuevamente más tarde.";
 
-    private final MessagesCatalogCache messagesCatalogCache;
+    private final LocalMessageCatalog messageCatalog;
 
-    public GlobalExceptionHandler(final MessagesCatalogCache messagesCatalogCache) {
-        this.messagesCatalogCache = messagesCatalogCache;
+    public GlobalExceptionHandler(final LocalMessageCatalog messageCatalog) {
+        this.messageCatalog = messageCatalog;
     }
 
-    /** Resuelve un mensaje humano desde el Message-Service con fallback seguro. */
+    /**
+     * Resuelve el mensaje humano desde el catálogo precargado en memoria: responder un error no
+     * consulta messages-service. Un código desconocido se devuelve tal cual.
+     */
     private String resolveCatalogMessage(final String code) {
         if (code == null || code.isBlank()) {
             return GENERIC_ERROR_MESSAGE;
         }
-        try {
-            // Tipado explícito para evitar “Cannot infer type arguments for map…”
-            final Function<MessageDTO, String> toUserMessage = new Function<MessageDTO, String>() {
-                @Override public String apply(MessageDTO dto) {
-                    return dto.getUserMessageResolved();
-                }
-            };
-
-            Optional<String> resolved = messagesCatalogCache
-                    .getMessage(code)              // Mono<MessageDTO>
-                    .map(toUserMessage)            // Mono<String>
-                    .onErrorResume(e -> {          // por si 404/timeout
-                        log.warn("Fallo consultando catálogo para '{}': {}", code, e.toString());
-                        return reactor.core.publisher.Mono.empty();
-                    })
-                    .blockOptional();
-
-            return resolved.filter(msg -> msg != null && !msg.isBlank()).orElse(code);
-
-        } catch (Exception ex) {
-            log.warn("No se pudo obtener el mensaje para el código '{}': {}", code, ex.toString());
-            return code;
-        }
+        return messageCatalog.resolve(code);
     }
 
     // ================== EXCEPCIONES DE NEGOCIO ==================
@@ -82,6 +62,14 @@ public class GlobalExceptionHandler {
                 .body(ApiErrorResponse.validationError(message));
     }
 
+    // ================== IDEMPOTENCIA ==================
+    @ExceptionHandler(IdempotencyException.class)
+    public ResponseEntity<ApiErrorResponse> handleIdempotency(final IdempotencyException ex) {
+        final String message = resolveCatalogMessage(ex.getMessage());
+        return ResponseEntity.status(ex.getStatus())
+                .body(ApiErrorResponse.businessError(message));
+    }
+
     // ================== RECURSOS NO ENCONTRADOS ==================
     @ExceptionHandler(NotFoundException.class)
     public ResponseEntity<ApiErrorResponse> handleNotFound(final NotFoundException ex) {
@@ -0,0 +1,100 @@
+package co.edu.uco.ucochallenge.infrastructure.primary.rest.conditional;
+
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import co.edu.uco.ucochallenge.crosscutting.helper.TextHelper;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * GET condicional con ETag fuerte calculado a partir de una versión de los datos (la huella de los
+ * catálogos o la generación de usuarios), no del cuerpo serializado. Si {@code If-None-Match}
+ * coincide se responde 304 sin ejecutar la consulta. La versión se lee antes que los datos: si
+ * cambian en medio, el ETag queda viejo y la siguiente petición recibe 200, nunca un 304 con datos
+ * viejos. Si la versión no está disponible se responde sin ETag.
+ */
+@Component
+public class ConditionalGet {
+
+        private static final Logger LOGGER = LoggerFactory.getLogger(ConditionalGet.class);
+        private static final String ANY = "*";
+        private static final String WEAK_PREFIX = "W/";
+
+        private final MeterRegistry meterRegistry;
+
+        public ConditionalGet(final MeterRegistry meterRegistry) {
+                this.meterRegistry = meterRegistry;
+        }
+
+        /**
+         * @param endpoint     nombre corto del recurso; forma parte del ETag y de la métrica
+         * @param cacheControl política de {@code Cache-Control}; vacía no agrega el encabezado
+         */
+        public <T> ResponseEntity<T> execute(final String endpoint,
+                        final String ifNoneMatch,
+                        final String cacheControl,
+                        final Supplier<String> version,
+                        final Callable<T> body) throws Exception {
+                final String etag = etag(endpoint, version);
+                if (etag != null && matches(ifNoneMatch, etag)) {
+                        count(endpoint, "not_modified");
+                        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                                        .headers(headers(etag, cacheControl))
+                                        .build();
+                }
+
+                final T result = body.call();
+                count(endpoint, etag == null ? "untagged" : "modified");
+                return ResponseEntity.ok()
+                                .headers(headers(etag, cacheControl))
+                                .body(result);
+        }
+
+        static boolean matches(final String ifNoneMatch, final String etag) {
+                if (TextHelper.isEmpty(ifNoneMatch)) {
+                        return false;
+                }
+                // If-None-Match usa comparación débil: W/"x" coincide con "x"
+                for (final String candidate : ifNoneMatch.split(",")) {
+                        final String tag = candidate.trim();
+                        if (ANY.equals(tag) || etag.equals(tag.startsWith(WEAK_PREFIX) ? tag.substring(2) : tag)) {
+                                return true;
+                        }
+                }
+                return false;
+        }
+
+        private String etag(final String endpoint, final Supplier<String> version) {
+                try {
+                        final String current = version.get();
+                        return TextHelper.isEmpty(current) ? null : "\"" + endpoint + "-" + current + "\"";
+                } catch (final DataAccessException exception) {
+                        LOGGER.warn("Version of {} unavailable, responding without ETag: {}", endpoint,
+                                        exception.getMessage());
+                        return null;
+                }
+        }
+
+        private static HttpHeaders headers(final String etag, final String cacheControl) {
+                final HttpHeaders headers = new HttpHeaders();
+                if (etag != null) {
+                        headers.setETag(etag);
+                }
+                if (!TextHelper.isEmpty(cacheControl)) {
+                        headers.setCacheControl(cacheControl);
+                }
+                return headers;
+        }
+
+        private void count(final String endpoint, final String outcome) {
+                meterRegistry.counter("http.conditional", "endpoint", endpoint, "outcome", outcome).increment();
+        }
+}
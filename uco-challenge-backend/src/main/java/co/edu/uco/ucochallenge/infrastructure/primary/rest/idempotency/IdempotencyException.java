@@ -0,0 +1,19 @@
+package co.edu.uco.ucochallenge.infrastructure.primary.rest.idempotency;
+
+import org.springframework.http.HttpStatus;
+
+public class IdempotencyException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        private final HttpStatus status;
+
+        public IdempotencyException(final String code, final HttpStatus status) {
+                super(code);
+                this.status = status;
+        }
+
+        public HttpStatus getStatus() {
+                return status;
+        }
+}
@@ -0,0 +1,189 @@
+package co.edu.uco.ucochallenge.infrastructure.primary.rest.idempotency;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.Principal;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.concurrent.Callable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import co.edu.uco.ucochallenge.crosscutting.exception.BusinessException;
+import co.edu.uco.ucochallenge.crosscutting.exception.DomainValidationException;
+import co.edu.uco.ucochallenge.crosscutting.helper.TextHelper;
+import co.edu.uco.ucochallenge.infrastructure.secondary.cache.redis.IdempotencyRecord;
+import co.edu.uco.ucochallenge.infrastructure.secondary.cache.redis.RedisIdempotencyStore;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Ejecuta una operación de escritura a lo sumo una vez por {@code Idempotency-Key}. La clave se
+ * aísla por usuario autenticado y por operación, y se asocia a la huella (SHA-256) de la
+ * operación y su carga útil:
+ * <ul>
+ * <li>primer intento: se reserva la clave, se ejecuta y se guarda la respuesta durante
+ * {@code uco.idempotency.replay-window};</li>
+ * <li>reintento con la misma huella: se devuelve la respuesta guardada sin tocar la base de datos
+ * ni reenviar notificaciones;</li>
+ * <li>reintento mientras el original sigue en curso: 409;</li>
+ * <li>misma clave con otra carga útil: 422.</li>
+ * </ul>
+ * Un rechazo de negocio o de validación ({@link BusinessException}, {@link DomainValidationException})
+ * es determinista: se guarda y los reintentos lo repiten sin volver a ejecutar la operación ni
+ * encolar de nuevo sus notificaciones. Ante cualquier otro fallo la clave se libera para que el
+ * cliente pueda reintentar. Si Redis no está disponible la petición se ejecuta sin protección.
+ */
+@Component
+public class IdempotencyGuard {
+
+        public static final String HEADER = "Idempotency-Key";
+        public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+        private static final Logger LOGGER = LoggerFactory.getLogger(IdempotencyGuard.class);
+        private static final int MAX_KEY_LENGTH = 255;
+        private static final String ANONYMOUS = "anonymous";
+
+        private final RedisIdempotencyStore store;
+        private final ObjectMapper objectMapper;
+        private final MeterRegistry meterRegistry;
+        private final Duration replayWindow;
+        private final Duration lockTtl;
+
+        public IdempotencyGuard(final RedisIdempotencyStore store,
+                        final ObjectMapper objectMapper,
+                        final MeterRegistry meterRegistry,
+                        @Value("${uco.idempotency.replay-window:PT24H}") final Duration replayWindow,
+                        @Value("${uco.idempotency.lock-ttl:PT30S}") final Duration lockTtl) {
+                this.store = store;
+                this.objectMapper = objectMapper;
+                this.meterRegistry = meterRegistry;
+                this.replayWindow = replayWindow;
+                this.lockTtl = lockTtl;
+        }
+
+        public <T> ResponseEntity<T> execute(final String idempotencyKey,
+                        final Principal principal,
+                        final String operation,
+                        final Object payload,
+                        final Class<T> bodyType,
+                        final Callable<ResponseEntity<T>> action) throws Exception {
+                if (TextHelper.isEmpty(idempotencyKey)) {
+                        return action.call();
+                }
+                if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+                        throw new DomainValidationException("idempotency.key.invalid");
+                }
+
+                final String key = scope(principal) + ":" + operation + ":" + idempotencyKey.trim();
+                final String fingerprint = fingerprint(operation, payload);
+
+                final IdempotencyRecord existing;
+                try {
+                        existing = store.reserve(key, fingerprint, lockTtl).orElse(null);
+                } catch (final DataAccessException exception) {
+                        LOGGER.warn("Idempotency store unavailable, executing {} without protection: {}", operation,
+                                        exception.getMessage());
+                        count(operation, "bypassed");
+                        return action.call();
+                }
+
+                if (existing != null) {
+                        return resolveExisting(existing, fingerprint, operation, bodyType);
+                }
+
+                final ResponseEntity<T> response;
+                try {
+                        response = action.call();
+                } catch (final BusinessException exception) {
+                        complete(key, IdempotencyRecord.rejected(fingerprint, IdempotencyRecord.BUSINESS_ERROR,
+                                        exception.getMessage()), operation);
+                        count(operation, "rejected");
+                        throw exception;
+                } catch (final DomainValidationException exception) {
+                        complete(key, IdempotencyRecord.rejected(fingerprint, IdempotencyRecord.VALIDATION_ERROR,
+                                        exception.getMessage()), operation);
+                        count(operation, "rejected");
+                        throw exception;
+                } catch (final Exception exception) {
+                        releaseQuietly(key);
+                        throw exception;
+                }
+
+                complete(key, IdempotencyRecord.completed(fingerprint, response.getStatusCode().value(),
+                                serialize(response.getBody())), operation);
+                count(operation, "executed");
+                return response;
+        }
+
+        private void complete(final String key, final IdempotencyRecord record, final String operation) {
+                try {
+                        store.complete(key, record, replayWindow);
+                } catch (final DataAccessException exception) {
+                        LOGGER.warn("Unable to store idempotent response for {}: {}", operation, exception.getMessage());
+                }
+        }
+
+        private <T> ResponseEntity<T> resolveExisting(final IdempotencyRecord existing, final String fingerprint,
+                        final String operation, final Class<T> bodyType) throws JsonProcessingException {
+                if (!existing.fingerprint().equals(fingerprint)) {
+                        count(operation, "mismatch");
+                        throw new IdempotencyException("idempotency.key.mismatch", HttpStatus.UNPROCESSABLE_ENTITY);
+                }
+                if (!existing.completed()) {
+                        count(operation, "in_progress");
+                        throw new IdempotencyException("idempotency.key.in.progress", HttpStatus.CONFLICT);
+                }
+
+                count(operation, "replayed");
+                if (existing.isRejection()) {
+                        throw IdempotencyRecord.VALIDATION_ERROR.equals(existing.errorType())
+                                        ? new DomainValidationException(existing.errorCode())
+                                        : new BusinessException(existing.errorCode());
+                }
+                final T body = existing.body() == null ? null : objectMapper.readValue(existing.body(), bodyType);
+                return ResponseEntity.status(existing.status())
+                                .header(REPLAYED_HEADER, "true")
+                                .body(body);
+        }
+
+        private String fingerprint(final String operation, final Object payload) throws JsonProcessingException {
+                final byte[] canonical = (operation + "\n" + objectMapper.writeValueAsString(payload))
+                                .getBytes(StandardCharsets.UTF_8);
+                try {
+                        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(canonical));
+                } catch (final NoSuchAlgorithmException exception) {
+                        throw new IllegalStateException("SHA-256 not available", exception);
+                }
+        }
+
+        private String serialize(final Object body) throws JsonProcessingException {
+                return body == null ? null : objectMapper.writeValueAsString(body);
+        }
+
+        private void releaseQuietly(final String key) {
+                try {
+                        store.release(key);
+                } catch (final DataAccessException exception) {
+                        // La reserva expira sola tras lock-ttl
+                        LOGGER.warn("Unable to release idempotency key: {}", exception.getMessage());
+                }
+        }
+
+        private String scope(final Principal principal) {
+                return principal == null || TextHelper.isEmpty(principal.getName()) ? ANONYMOUS : principal.getName();
+        }
+
+        private void count(final String operation, final String outcome) {
+                meterRegistry.counter("http.idempotency", "operation", operation, "outcome", outcome).increment();
+        }
+}
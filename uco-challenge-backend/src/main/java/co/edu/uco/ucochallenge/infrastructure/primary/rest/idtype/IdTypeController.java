@@ -2,29 +2,43 @@ package co.edu.uco.ucochallenge.infrastructure.primary.rest.idtype;
 
 import java.util.List;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import co.edu.uco.ucochallenge.application.idtype.dto.IdTypeDTO;
 import co.edu.uco.ucochallenge.application.idtype.service.IdTypeQueryService;
+import co.edu.uco.ucochallenge.infrastructure.primary.rest.conditional.ConditionalGet;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
+/**
+ * Los catálogos salen del registro en memoria: se responden en el hilo de la petición, sin JDBC
+ * ni cambio de hilo.
+ */
 @RestController
 @RequestMapping("/uco-challenge/api/v1/idtypes")
 public class IdTypeController {
 
         private final IdTypeQueryService idTypeQueryService;
+        private final ConditionalGet conditionalGet;
+        private final String cacheControl;
 
-        public IdTypeController(final IdTypeQueryService idTypeQueryService) {
+        public IdTypeController(final IdTypeQueryService idTypeQueryService,
+                        final ConditionalGet conditionalGet,
+                        @Value("${uco.http.cache-control.idtypes:no-cache}") final String cacheControl) {
                 this.idTypeQueryService = idTypeQueryService;
+                this.conditionalGet = conditionalGet;
+                this.cacheControl = cacheControl;
         }
 
         @GetMapping
-        public Mono<ResponseEntity<List<IdTypeDTO>>> getAll() {
-                return Mono.fromCallable(() -> ResponseEntity.ok(idTypeQueryService.findAll()))
-                                .subscribeOn(Schedulers.boundedElastic());
+        public Mono<ResponseEntity<List<IdTypeDTO>>> getAll(
+                        @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) final String ifNoneMatch) {
+                return Mono.fromCallable(() -> conditionalGet.execute("idtypes", ifNoneMatch, cacheControl,
+                                idTypeQueryService::dataVersion, idTypeQueryService::findAll));
         }
 }
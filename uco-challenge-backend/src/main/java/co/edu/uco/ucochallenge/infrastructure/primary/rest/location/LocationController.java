@@ -3,9 +3,12 @@ package co.edu.uco.ucochallenge.infrastructure.primary.rest.location;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -13,34 +16,51 @@ import co.edu.uco.ucochallenge.application.location.dto.CityDTO;
 import co.edu.uco.ucochallenge.application.location.dto.CountryDTO;
 import co.edu.uco.ucochallenge.application.location.dto.DepartmentDTO;
 import co.edu.uco.ucochallenge.application.location.service.LocationQueryService;
+import co.edu.uco.ucochallenge.infrastructure.primary.rest.conditional.ConditionalGet;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
+/**
+ * Los catálogos salen del registro en memoria: se responden en el hilo de la petición, sin JDBC
+ * ni cambio de hilo.
+ */
 @RestController
 @RequestMapping("/uco-challenge/api/v1/locations")
 public class LocationController {
 
+        private static final String ENDPOINT = "locations";
+
         private final LocationQueryService locationQueryService;
+        private final ConditionalGet conditionalGet;
+        private final String cacheControl;
 
-        public LocationController(final LocationQueryService locationQueryService) {
+        public LocationController(final LocationQueryService locationQueryService,
+                        final ConditionalGet conditionalGet,
+                        @Value("${uco.http.cache-control.locations:no-cache}") final String cacheControl) {
                 this.locationQueryService = locationQueryService;
+                this.conditionalGet = conditionalGet;
+                this.cacheControl = cacheControl;
         }
 
         @GetMapping("/countries")
-        public Mono<ResponseEntity<List<CountryDTO>>> getCountries() {
-                return Mono.fromCallable(() -> ResponseEntity.ok(locationQueryService.getCountries()))
-                                .subscribeOn(Schedulers.boundedElastic());
+        public Mono<ResponseEntity<List<CountryDTO>>> getCountries(
+                        @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) final String ifNoneMatch) {
+                return Mono.fromCallable(() -> conditionalGet.execute(ENDPOINT, ifNoneMatch, cacheControl,
+                                locationQueryService::dataVersion, locationQueryService::getCountries));
         }
 
         @GetMapping("/countries/{countryId}/departments")
-        public Mono<ResponseEntity<List<DepartmentDTO>>> getDepartments(@PathVariable final UUID countryId) {
-                return Mono.fromCallable(() -> ResponseEntity.ok(locationQueryService.getDepartmentsByCountry(countryId)))
-                                .subscribeOn(Schedulers.boundedElastic());
+        public Mono<ResponseEntity<List<DepartmentDTO>>> getDepartments(@PathVariable final UUID countryId,
+                        @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) final String ifNoneMatch) {
+                return Mono.fromCallable(() -> conditionalGet.execute(ENDPOINT, ifNoneMatch, cacheControl,
+                                locationQueryService::dataVersion,
+                                () -> locationQueryService.getDepartmentsByCountry(countryId)));
         }
 
         @GetMapping("/departments/{departmentId}/cities")
-        public Mono<ResponseEntity<List<CityDTO>>> getCities(@PathVariable final UUID departmentId) {
-                return Mono.fromCallable(() -> ResponseEntity.ok(locationQueryService.getCitiesByDepartment(departmentId)))
-                                .subscribeOn(Schedulers.boundedElastic());
+        public Mono<ResponseEntity<List<CityDTO>>> getCities(@PathVariable final UUID departmentId,
+                        @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) final String ifNoneMatch) {
+                return Mono.fromCallable(() -> conditionalGet.execute(ENDPOINT, ifNoneMatch, cacheControl,
+                                locationQueryService::dataVersion,
+                                () -> locationQueryService.getCitiesByDepartment(departmentId)));
         }
 }
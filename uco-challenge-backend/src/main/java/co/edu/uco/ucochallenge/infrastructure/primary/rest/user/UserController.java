@@ -1,8 +1,14 @@
 package co.edu.uco.ucochallenge.infrastructure.primary.rest.user;
 
+import java.io.IOException;
+import java.security.Principal;
+import java.util.List;
 import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -10,18 +16,30 @@ import org.springframework.web.bind.annotation.*;
 import co.edu.uco.ucochallenge.application.user.confirm.service.SendVerificationCodeService;
 import co.edu.uco.ucochallenge.application.user.confirm.service.UserContactConfirmationService;
 import co.edu.uco.ucochallenge.domain.user.confirm.VerificationChannel;
+import co.edu.uco.ucochallenge.domain.user.export.model.UserExportFormat;
 import co.edu.uco.ucochallenge.application.user.confirm.dto.ConfirmVerificationCodeRequestDTO;
 import co.edu.uco.ucochallenge.application.user.confirm.dto.ConfirmVerificationCodeResponseDTO;
+import co.edu.uco.ucochallenge.application.user.export.service.UserExportService;
 import co.edu.uco.ucochallenge.application.user.find.interactor.FindUsersByFilterInteractor;
+import co.edu.uco.ucochallenge.application.user.importer.dto.UserImportJobDTO;
+import co.edu.uco.ucochallenge.application.user.importer.service.UserImportService;
 import co.edu.uco.ucochallenge.application.user.find.dto.FindUsersByFilterInputDTO;
+import co.edu.uco.ucochallenge.application.user.find.dto.UserSearchFilterDTO;
 import co.edu.uco.ucochallenge.application.user.find.dto.FindUsersByFilterOutputDTO;
 import co.edu.uco.ucochallenge.application.user.register.interactor.RegisterUserInteractor;
 import co.edu.uco.ucochallenge.application.user.register.dto.RegisterUserInputDTO;
 import co.edu.uco.ucochallenge.application.user.register.dto.RegisterUserResponseDTO;
+import co.edu.uco.ucochallenge.application.user.registerbatch.dto.RegisterUsersBatchInputDTO;
+import co.edu.uco.ucochallenge.application.user.registerbatch.dto.RegisterUsersBatchResponseDTO;
+import co.edu.uco.ucochallenge.application.user.registerbatch.interactor.RegisterUsersBatchInteractor;
+import co.edu.uco.ucochallenge.infrastructure.primary.execution.BlockingExecution;
+import co.edu.uco.ucochallenge.infrastructure.primary.rest.conditional.ConditionalGet;
+import co.edu.uco.ucochallenge.infrastructure.primary.rest.idempotency.IdempotencyGuard;
+import co.edu.uco.ucochallenge.infrastructure.secondary.cache.redis.UsersPageCacheGeneration;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
 @Validated
 @RestController
@@ -31,63 +49,146 @@ public class UserController {
     private static final Logger log = LoggerFactory.getLogger(UserController.class);
 
     private final RegisterUserInteractor registerUserInteractor;
+    private final RegisterUsersBatchInteractor registerUsersBatchInteractor;
     private final FindUsersByFilterInteractor findUsersByFilterInteractor;
     private final UserContactConfirmationService userContactConfirmationService;
     private final SendVerificationCodeService sendVerificationCodeService;
+    private final UserImportService userImportService;
+    private final IdempotencyGuard idempotencyGuard;
+    private final UserExportService userExportService;
+    private final BlockingExecution blockingExecution;
+    private final ConditionalGet conditionalGet;
+    private final UsersPageCacheGeneration usersGeneration;
+    private final String usersCacheControl;
 
     public UserController(final RegisterUserInteractor registerUserInteractor,
+                          final RegisterUsersBatchInteractor registerUsersBatchInteractor,
                           final FindUsersByFilterInteractor findUsersByFilterInteractor,
                           final UserContactConfirmationService userContactConfirmationService,
-                          final SendVerificationCodeService sendVerificationCodeService) {
+                          final SendVerificationCodeService sendVerificationCodeService,
+                          final UserImportService userImportService,
+                          final IdempotencyGuard idempotencyGuard,
+                          final UserExportService userExportService,
+                          final BlockingExecution blockingExecution,
+                          final ConditionalGet conditionalGet,
+                          final UsersPageCacheGeneration usersGeneration,
+                          @Value("${uco.http.cache-control.users:no-cache}") final String usersCacheControl) {
         this.registerUserInteractor = registerUserInteractor;
+        this.registerUsersBatchInteractor = registerUsersBatchInteractor;
         this.findUsersByFilterInteractor = findUsersByFilterInteractor;
         this.userContactConfirmationService = userContactConfirmationService;
         this.sendVerificationCodeService = sendVerificationCodeService;
+        this.userImportService = userImportService;
+        this.idempotencyGuard = idempotencyGuard;
+        this.userExportService = userExportService;
+        this.blockingExecution = blockingExecution;
+        this.conditionalGet = conditionalGet;
+        this.usersGeneration = usersGeneration;
+        this.usersCacheControl = usersCacheControl;
     }
 
     @PostMapping("/users")
-    public Mono<ResponseEntity<RegisterUserResponseDTO>> create(@Valid @RequestBody final RegisterUserInputDTO request) {
-        return Mono.fromCallable(() -> {
-                    final RegisterUserResponseDTO response = registerUserInteractor.execute(request);
-                    return ResponseEntity.status(HttpStatus.CREATED).body(response);
-                })
-                .subscribeOn(Schedulers.boundedElastic());
+    public Mono<ResponseEntity<RegisterUserResponseDTO>> create(
+            @RequestHeader(name = IdempotencyGuard.HEADER, required = false) final String idempotencyKey,
+            @Valid @RequestBody final RegisterUserInputDTO request,
+            final Principal principal) {
+        return blockingExecution.call(() -> idempotencyGuard.execute(idempotencyKey, principal, "register-user", request,
+                        RegisterUserResponseDTO.class, () -> {
+                            final RegisterUserResponseDTO response = registerUserInteractor.execute(request);
+                            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+                        }));
     }
 
+    @PostMapping("/users:batch")
+    public Mono<ResponseEntity<RegisterUsersBatchResponseDTO>> createBatch(
+            @Valid @RequestBody final RegisterUsersBatchInputDTO request) {
+        return blockingExecution.call(() -> ResponseEntity.ok(registerUsersBatchInteractor.execute(request)));
+    }
+
+    /**
+     * Cuerpo CSV o NDJSON leído en streaming. Para consultar el progreso o reanudar tras un fallo
+     * el cliente envía su propio jobId y repite la petición con el mismo archivo. Síncrono, como
+     * {@code exportUsers}: un archivo grande no queda sujeto al timeout de las peticiones asíncronas.
+     */
+    @PostMapping("/users:import")
+    public ResponseEntity<UserImportJobDTO> importUsers(
+            @RequestParam(name = "format", defaultValue = "csv") final String format,
+            @RequestParam(name = "jobId", required = false) final UUID jobId,
+            final HttpServletRequest req) throws IOException {
+        return ResponseEntity.ok(userImportService.importUsers(jobId, format, req.getInputStream()));
+    }
+
+    @GetMapping("/users:import/{jobId}")
+    public Mono<ResponseEntity<UserImportJobDTO>> getImport(@PathVariable final UUID jobId) {
+        return blockingExecution.call(() -> ResponseEntity.ok(userImportService.findJob(jobId)));
+    }
+
+    /**
+     * Por defecto pagina con {@code page}. Con {@code cursor} (vacío para la primera página) pagina
+     * por clave y la respuesta trae {@code nextCursor}. {@code count} elige cómo se obtiene el total
+     * (exact, estimate, counter o none); por defecto exact con page y none con cursor. Los filtros
+     * son opcionales: {@code idNumber}, {@code name} y {@code surname} buscan por prefijo sin
+     * distinguir mayúsculas ni tildes; {@code city}, {@code state} y {@code country} por lugar de
+     * residencia. El ETag es la generación de la tabla de usuarios, que avanza con cada escritura;
+     * con {@code count=estimate} el total puede variar sin que cambie.
+     */
     @GetMapping("/users")
     public Mono<ResponseEntity<FindUsersByFilterOutputDTO>> getUsers(
             @RequestParam(name = "page", required = false) final Integer page,
-            @RequestParam(name = "size", required = false) final Integer size) {
-        return Mono.fromCallable(() -> {
-                    final var normalizedInput = FindUsersByFilterInputDTO.normalize(page, size);
-                    final var response = findUsersByFilterInteractor.execute(normalizedInput);
-                    return ResponseEntity.ok(response);
-                })
-                .subscribeOn(Schedulers.boundedElastic());
+            @RequestParam(name = "size", required = false) final Integer size,
+            @RequestParam(name = "cursor", required = false) final String cursor,
+            @RequestParam(name = "count", required = false) final String count,
+            @ModelAttribute final UserSearchFilterDTO filter,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) final String ifNoneMatch) {
+        return blockingExecution.callJdbc(() -> {
+            final var normalizedInput = FindUsersByFilterInputDTO.normalize(page, size, cursor, count, filter);
+            return conditionalGet.execute("users", ifNoneMatch, usersCacheControl,
+                    () -> Long.toString(usersGeneration.current()),
+                    () -> findUsersByFilterInteractor.execute(normalizedInput));
+        });
+    }
+
+    /**
+     * Todos los usuarios que cumplen los mismos filtros de {@code GET /users}, en orden de id, como
+     * NDJSON (por defecto) o CSV. Se escribe fila a fila desde un cursor de la base de datos, sin
+     * paginar, contar ni pasar por el caché del listado.
+     */
+    @GetMapping("/users/export")
+    public void exportUsers(@RequestParam(name = "format", required = false) final String format,
+                            @ModelAttribute final UserSearchFilterDTO filter,
+                            final HttpServletResponse response) throws IOException {
+        final UserExportFormat exportFormat = userExportService.resolveFormat(format);
+        response.setContentType(exportFormat == UserExportFormat.CSV ? "text/csv;charset=UTF-8" : "application/x-ndjson");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("users." + exportFormat.getValue())
+                .build()
+                .toString());
+        userExportService.export(exportFormat, filter, response.getOutputStream());
     }
 
     @PostMapping("/users/{id}/send-code")
     public Mono<ResponseEntity<Object>> sendCode(@PathVariable UUID id,
                                                @RequestParam("channel") String channel,
-                                               HttpServletRequest req) {
+                                               @RequestHeader(name = IdempotencyGuard.HEADER, required = false) String idempotencyKey,
+                                               HttpServletRequest req,
+                                               Principal principal) {
         log.info("send-code hit: {} {} channel={}", req.getMethod(), req.getRequestURI(), channel);
-        return Mono.fromCallable(() -> {
-                    final VerificationChannel verificationChannel = VerificationChannel.from(channel);
-                    sendVerificationCodeService.sendVerificationCode(id, verificationChannel);
-                    return ResponseEntity.accepted().build();
-                })
-                .subscribeOn(Schedulers.boundedElastic());
+        return blockingExecution.call(() -> idempotencyGuard.execute(idempotencyKey, principal, "send-code",
+                        List.of(id, channel), Object.class, () -> {
+                            final VerificationChannel verificationChannel = VerificationChannel.from(channel);
+                            sendVerificationCodeService.sendVerificationCode(id, verificationChannel);
+                            return ResponseEntity.accepted().build();
+                        }));
     }
 
     @PostMapping("/users/{id}/confirm-code")
     public Mono<ResponseEntity<ConfirmVerificationCodeResponseDTO>> confirmCode(
             @PathVariable UUID id,
             @Valid @RequestBody final ConfirmVerificationCodeRequestDTO request) {
-        return Mono.fromCallable(() -> {
-                    final VerificationChannel channel = VerificationChannel.from(request.channel());
-                    userContactConfirmationService.confirmVerificationCode(id, channel, request.code());
-                    return ResponseEntity.ok(new ConfirmVerificationCodeResponseDTO(true));
-                })
-                .subscribeOn(Schedulers.boundedElastic());
+        return blockingExecution.call(() -> {
+            final VerificationChannel channel = VerificationChannel.from(request.channel());
+            userContactConfirmationService.confirmVerificationCode(id, channel, request.code());
+            return ResponseEntity.ok(new ConfirmVerificationCodeResponseDTO(true));
+        });
     }
 }
@@ -0,0 +1,171 @@
+package co.edu.uco.ucochallenge.infrastructure.secondary.cache.bloom;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter sin bloqueos sobre un {@link AtomicLongArray}. Solo admite inserciones:
+ * un "no está" es definitivo, un "puede estar" obliga a consultar la fuente real.
+ */
+public final class BloomFilter {
+
+        private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+        private static final long FNV_PRIME = 0x100000001b3L;
+        private static final long SECOND_HASH_SEED = 0x9e3779b97f4a7c15L;
+
+        private final AtomicLongArray words;
+        private final long bitSize;
+        private final int hashFunctions;
+        private final AtomicLong bitsSet = new AtomicLong();
+        private final AtomicLong insertions = new AtomicLong();
+
+        private BloomFilter(final long bitSize, final int hashFunctions) {
+                final long wordCount = (bitSize + Long.SIZE - 1) / Long.SIZE;
+                if (wordCount > Integer.MAX_VALUE) {
+                        throw new IllegalArgumentException("Bloom filter too large: " + bitSize + " bits");
+                }
+                this.words = new AtomicLongArray((int) wordCount);
+                this.bitSize = wordCount * Long.SIZE;
+                this.hashFunctions = hashFunctions;
+        }
+
+        /** Dimensiona el filtro con las fórmulas clásicas m = -n ln p / (ln 2)^2 y k = m/n ln 2. */
+        public static BloomFilter create(final long expectedInsertions, final double falsePositiveRate) {
+                if (expectedInsertions <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+                        throw new IllegalArgumentException("Invalid bloom filter sizing");
+                }
+                final long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate)
+                                / (Math.log(2) * Math.log(2)));
+                final int hashes = Math.max(1, (int) Math.round((double) bits / expectedInsertions * Math.log(2)));
+                return new BloomFilter(bits, hashes);
+        }
+
+        public boolean put(final String value) {
+                final long hash1 = hash(value);
+                final long hash2 = mix(hash1 + SECOND_HASH_SEED);
+                boolean changed = false;
+                for (int i = 0; i < hashFunctions; i++) {
+                        changed |= setBit(Math.floorMod(hash1 + i * hash2, bitSize));
+                }
+                insertions.incrementAndGet();
+                return changed;
+        }
+
+        public boolean mightContain(final String value) {
+                final long hash1 = hash(value);
+                final long hash2 = mix(hash1 + SECOND_HASH_SEED);
+                for (int i = 0; i < hashFunctions; i++) {
+                        if (!getBit(Math.floorMod(hash1 + i * hash2, bitSize))) {
+                                return false;
+                        }
+                }
+                return true;
+        }
+
+        /** Posiciones de bit que activa {@code value}; útil para replicar la inserción fuera del proceso. */
+        public long[] bitOffsets(final String value) {
+                final long hash1 = hash(value);
+                final long hash2 = mix(hash1 + SECOND_HASH_SEED);
+                final long[] offsets = new long[hashFunctions];
+                for (int i = 0; i < hashFunctions; i++) {
+                        offsets[i] = Math.floorMod(hash1 + i * hash2, bitSize);
+                }
+                return offsets;
+        }
+
+        /**
+         * Une un bitmap con orden de bits de Redis (bit 0 = bit más significativo del primer byte).
+         * El bitmap puede ser más corto que el filtro.
+         */
+        public void mergeRedisBitmap(final byte[] bitmap) {
+                final int limit = (int) Math.min(bitmap.length, bitSize / Byte.SIZE);
+                for (int byteIndex = 0; byteIndex < limit; byteIndex++) {
+                        final int value = bitmap[byteIndex] & 0xFF;
+                        if (value == 0) {
+                                continue;
+                        }
+                        for (int bit = 0; bit < Byte.SIZE; bit++) {
+                                if ((value & (0x80 >>> bit)) != 0) {
+                                        setBit((long) byteIndex * Byte.SIZE + bit);
+                                }
+                        }
+                }
+        }
+
+        /** Exporta el filtro con orden de bits de Redis para guardarlo con un único SET. */
+        public byte[] toRedisBitmap() {
+                final byte[] bitmap = new byte[(int) (bitSize / Byte.SIZE)];
+                for (int wordIndex = 0; wordIndex < words.length(); wordIndex++) {
+                        final long word = words.get(wordIndex);
+                        if (word == 0) {
+                                continue;
+                        }
+                        for (int bit = 0; bit < Long.SIZE; bit++) {
+                                if ((word & (1L << bit)) != 0) {
+                                        final long offset = (long) wordIndex * Long.SIZE + bit;
+                                        bitmap[(int) (offset / Byte.SIZE)] |= (byte) (0x80 >>> (offset % Byte.SIZE));
+                                }
+                        }
+                }
+                return bitmap;
+        }
+
+        /** Probabilidad de falso positivo estimada a partir de la ocupación actual: (bits en 1 / m)^k. */
+        public double expectedFalsePositiveRate() {
+                return Math.pow((double) bitsSet.get() / bitSize, hashFunctions);
+        }
+
+        public long bitSize() {
+                return bitSize;
+        }
+
+        public int hashFunctions() {
+                return hashFunctions;
+        }
+
+        public long memoryBytes() {
+                return (long) words.length() * Long.BYTES;
+        }
+
+        public long insertions() {
+                return insertions.get();
+        }
+
+        private boolean setBit(final long offset) {
+                final int wordIndex = (int) (offset >>> 6);
+                final long mask = 1L << (offset & 63);
+                long current;
+                do {
+                        current = words.get(wordIndex);
+                        if ((current & mask) != 0) {
+                                return false;
+                        }
+                } while (!words.compareAndSet(wordIndex, current, current | mask));
+                bitsSet.incrementAndGet();
+                return true;
+        }
+
+        private boolean getBit(final long offset) {
+                return (words.get((int) (offset >>> 6)) & (1L << (offset & 63))) != 0;
+        }
+
+        private static long hash(final String value) {
+                long hash = FNV_OFFSET;
+                for (final byte b : value.getBytes(StandardCharsets.UTF_8)) {
+                        hash ^= b;
+                        hash *= FNV_PRIME;
+                }
+                return mix(hash);
+        }
+
+        private static long mix(final long value) {
+                long hash = value;
+                hash ^= hash >>> 33;
+                hash *= 0xff51afd7ed558ccdL;
+                hash ^= hash >>> 33;
+                hash *= 0xc4ceb9fe1a85ec53L;
+                hash ^= hash >>> 33;
+                return hash;
+        }
+}
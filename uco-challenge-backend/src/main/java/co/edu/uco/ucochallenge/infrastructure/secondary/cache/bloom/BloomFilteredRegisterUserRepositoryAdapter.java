@@ -0,0 +1,121 @@
+package co.edu.uco.ucochallenge.infrastructure.secondary.cache.bloom;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import co.edu.uco.ucochallenge.domain.user.port.BatchRegisterUserRepositoryPort;
+import co.edu.uco.ucochallenge.domain.user.port.RegisterUserRepositoryPort;
+import co.edu.uco.ucochallenge.domain.user.register.model.ExistingUserSnapshotDomain;
+import co.edu.uco.ucochallenge.domain.user.register.model.IdentificationKey;
+import co.edu.uco.ucochallenge.domain.user.register.model.RegisterUserDomain;
+import co.edu.uco.ucochallenge.infrastructure.secondary.cache.bloom.UserUniquenessIndex.KeyType;
+
+/**
+ * Decorator que consulta el índice de unicidad antes de los finders del adaptador JPA.
+ * Las consultas por lote van directo a la base de datos (ya son una sola consulta por criterio),
+ * pero sus inserciones también alimentan el índice.
+ */
+public class BloomFilteredRegisterUserRepositoryAdapter implements RegisterUserRepositoryPort,
+                BatchRegisterUserRepositoryPort {
+
+        private final RegisterUserRepositoryPort delegate;
+        private final BatchRegisterUserRepositoryPort batchDelegate;
+        private final UserUniquenessIndex index;
+
+        public BloomFilteredRegisterUserRepositoryAdapter(final RegisterUserRepositoryPort delegate,
+                        final BatchRegisterUserRepositoryPort batchDelegate,
+                        final UserUniquenessIndex index) {
+                this.delegate = delegate;
+                this.batchDelegate = batchDelegate;
+                this.index = index;
+        }
+
+        @Override
+        public Optional<ExistingUserSnapshotDomain> findByIdentification(final UUID idType, final String idNumber) {
+                if (!index.mightContain(KeyType.IDENTIFICATION, String.valueOf(idType), idNumber)) {
+                        return Optional.empty();
+                }
+                return track(KeyType.IDENTIFICATION, delegate.findByIdentification(idType, idNumber));
+        }
+
+        @Override
+        public Optional<ExistingUserSnapshotDomain> findByEmail(final String email) {
+                if (!index.mightContain(KeyType.EMAIL, email)) {
+                        return Optional.empty();
+                }
+                return track(KeyType.EMAIL, delegate.findByEmail(email));
+        }
+
+        @Override
+        public Optional<ExistingUserSnapshotDomain> findByMobileNumber(final String mobileNumber) {
+                if (!index.mightContain(KeyType.MOBILE, mobileNumber)) {
+                        return Optional.empty();
+                }
+                return track(KeyType.MOBILE, delegate.findByMobileNumber(mobileNumber));
+        }
+
+        @Override
+        public void save(final RegisterUserDomain domain) {
+                delegate.save(domain);
+                addToIndex(domain);
+        }
+
+        @Override
+        public boolean saveIfAbsent(final RegisterUserDomain domain) {
+                final boolean inserted = delegate.saveIfAbsent(domain);
+                if (inserted) {
+                        addToIndex(domain);
+                } else {
+                        // Alguna clave ya existe (quizá escrita por otro nodo): los finders deben ir a la base de datos
+                        index.addLocally(domain.getIdType(), domain.getIdNumber(), domain.getEmail(), domain.getMobileNumber());
+                }
+                return inserted;
+        }
+
+        @Override
+        public boolean hasUniqueConstraints() {
+                return delegate.hasUniqueConstraints();
+        }
+
+        @Override
+        public Map<IdentificationKey, ExistingUserSnapshotDomain> findByIdentifications(
+                        final Collection<IdentificationKey> keys) {
+                return batchDelegate.findByIdentifications(keys);
+        }
+
+        @Override
+        public Map<String, ExistingUserSnapshotDomain> findByEmails(final Collection<String> emails) {
+                return batchDelegate.findByEmails(emails);
+        }
+
+        @Override
+        public Map<String, ExistingUserSnapshotDomain> findByMobileNumbers(final Collection<String> mobileNumbers) {
+                return batchDelegate.findByMobileNumbers(mobileNumbers);
+        }
+
+        @Override
+        public boolean[] saveAllIfAbsent(final List<RegisterUserDomain> domains) {
+                final boolean[] inserted = batchDelegate.saveAllIfAbsent(domains);
+                for (int i = 0; i < inserted.length; i++) {
+                        if (inserted[i]) {
+                                addToIndex(domains.get(i));
+                        }
+                }
+                return inserted;
+        }
+
+        private void addToIndex(final RegisterUserDomain domain) {
+                index.add(domain.getIdType(), domain.getIdNumber(), domain.getEmail(), domain.getMobileNumber());
+        }
+
+        private Optional<ExistingUserSnapshotDomain> track(final KeyType type,
+                        final Optional<ExistingUserSnapshotDomain> result) {
+                if (result.isEmpty() && index.isReady()) {
+                        index.recordFalsePositive(type);
+                }
+                return result;
+        }
+}
@@ -0,0 +1,61 @@
+package co.edu.uco.ucochallenge.infrastructure.secondary.cache.bloom;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import co.edu.uco.ucochallenge.domain.user.importer.model.UserImportJobDomain;
+import co.edu.uco.ucochallenge.domain.user.importer.model.UserImportRejectionDomain;
+import co.edu.uco.ucochallenge.domain.user.importer.model.UserImportRowDomain;
+import co.edu.uco.ucochallenge.domain.user.port.UserImportRepositoryPort;
+import co.edu.uco.ucochallenge.domain.user.register.model.RegisterUserDomain;
+
+/**
+ * Las filas importadas no pasan por el registro, así que se agregan aquí al índice de unicidad.
+ * Sin esto el filtro respondería "no existe" para usuarios recién importados hasta la siguiente
+ * reconciliación.
+ */
+public class BloomFilteredUserImportRepositoryAdapter implements UserImportRepositoryPort {
+
+        private final UserImportRepositoryPort delegate;
+        private final UserUniquenessIndex index;
+
+        public BloomFilteredUserImportRepositoryAdapter(final UserImportRepositoryPort delegate,
+                        final UserUniquenessIndex index) {
+                this.delegate = delegate;
+                this.index = index;
+        }
+
+        @Override
+        public Optional<UserImportJobDomain> findJob(final UUID jobId) {
+                return delegate.findJob(jobId);
+        }
+
+        @Override
+        public void saveJob(final UserImportJobDomain job) {
+                delegate.saveJob(job);
+        }
+
+        @Override
+        public void saveRejections(final UUID jobId, final List<UserImportRejectionDomain> rejections) {
+                delegate.saveRejections(jobId, rejections);
+        }
+
+        @Override
+        public Set<Long> stageAndMerge(final UUID jobId, final List<UserImportRowDomain> rows) {
+                final Set<Long> conflicts = delegate.stageAndMerge(jobId, rows);
+                final List<RegisterUserDomain> inserted = new ArrayList<>(rows.size());
+                for (final var row : rows) {
+                        final var user = row.user();
+                        if (conflicts.contains(row.recordNumber())) {
+                                index.addLocally(user.getIdType(), user.getIdNumber(), user.getEmail(), user.getMobileNumber());
+                        } else {
+                                inserted.add(user);
+                        }
+                }
+                index.addAll(inserted);
+                return conflicts;
+        }
+}
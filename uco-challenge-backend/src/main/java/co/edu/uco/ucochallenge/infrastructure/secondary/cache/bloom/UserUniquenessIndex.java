@@ -0,0 +1,285 @@
+package co.edu.uco.ucochallenge.infrastructure.secondary.cache.bloom;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.RedisStringCommands.BitOperation;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import co.edu.uco.ucochallenge.crosscutting.helper.TextHelper;
+import co.edu.uco.ucochallenge.domain.user.register.model.RegisterUserDomain;
+import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.repository.SpringDataUserRepository;
+import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.repository.UserUniquenessKeysView;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Índice probabilístico por nodo sobre email, móvil e identificación de {@code usuario}.
+ * <p>
+ * Se calienta en segundo plano: primero desde el bitmap compartido en Redis (sin recorrer la
+ * tabla) y solo si no existe con un recorrido completo. Mientras no está listo responde
+ * siempre "puede estar". Un nodo puede ir atrasado (bits de otros nodos que aún no sincroniza,
+ * una réplica fallida), así que el índice solo se activa si existen las restricciones únicas de
+ * {@code db/001-usuario-unique-constraints.sql}: con ellas una inserción que el índice dejó pasar
+ * por error la rechaza la base de datos y el registro vuelve a las especificaciones de unicidad.
+ * Sin ellas el índice no se calienta y se consulta siempre la base de datos.
+ */
+public class UserUniquenessIndex {
+
+        private static final Logger LOGGER = LoggerFactory.getLogger(UserUniquenessIndex.class);
+        private static final String METRIC_PREFIX = "users.uniqueness.filter";
+
+        public enum KeyType {
+                EMAIL, MOBILE, IDENTIFICATION
+        }
+
+        private final BloomFilter filter;
+        private final SpringDataUserRepository repository;
+        private final TransactionTemplate readOnlyTransaction;
+        private final StringRedisTemplate redisTemplate;
+        private final BooleanSupplier constraintsPresent;
+        private final byte[] redisKey;
+        private final byte[] redisMergeKey;
+        private final AtomicBoolean ready = new AtomicBoolean(false);
+        private final Map<KeyType, Counter> absentLookups = new EnumMap<>(KeyType.class);
+        private final Map<KeyType, Counter> maybeLookups = new EnumMap<>(KeyType.class);
+        private final Map<KeyType, Counter> falsePositives = new EnumMap<>(KeyType.class);
+
+        public UserUniquenessIndex(final BloomFilter filter,
+                        final SpringDataUserRepository repository,
+                        final PlatformTransactionManager transactionManager,
+                        final StringRedisTemplate redisTemplate,
+                        final String redisKeyPrefix,
+                        final BooleanSupplier constraintsPresent,
+                        final MeterRegistry meterRegistry) {
+                this.filter = filter;
+                this.repository = repository;
+                this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+                this.readOnlyTransaction.setReadOnly(true);
+                this.redisTemplate = redisTemplate;
+                this.constraintsPresent = constraintsPresent;
+                // El dimensionamiento forma parte de la clave: cambiarlo invalida el bitmap anterior
+                final var key = redisKeyPrefix + ":m=" + filter.bitSize() + ":k=" + filter.hashFunctions();
+                this.redisKey = key.getBytes(StandardCharsets.UTF_8);
+                this.redisMergeKey = (key + ":merge").getBytes(StandardCharsets.UTF_8);
+                registerMeters(meterRegistry);
+        }
+
+        public boolean mightContain(final KeyType type, final String... parts) {
+                if (!ready.get()) {
+                        return true;
+                }
+                final boolean maybe = filter.mightContain(key(type, parts));
+                (maybe ? maybeLookups : absentLookups).get(type).increment();
+                return maybe;
+        }
+
+        /** Registra una consulta que el filtro dejó pasar y la base de datos no encontró. */
+        public void recordFalsePositive(final KeyType type) {
+                falsePositives.get(type).increment();
+        }
+
+        public void add(final UUID idType, final String idNumber, final String email, final String mobileNumber) {
+                final List<String> keys = keysOf(idType, idNumber, email, mobileNumber);
+                keys.forEach(filter::put);
+                replicate(keys);
+        }
+
+        /** Igual que {@link #add}, pero replica todas las claves en un solo pipeline. */
+        public void addAll(final Collection<RegisterUserDomain> users) {
+                final List<String> keys = new ArrayList<>(users.size() * 3);
+                for (final var user : users) {
+                        keys.addAll(keysOf(user.getIdType(), user.getIdNumber(), user.getEmail(), user.getMobileNumber()));
+                }
+                keys.forEach(filter::put);
+                replicate(keys);
+        }
+
+        /** Agrega las claves solo a este nodo, sin replicarlas en Redis. */
+        public void addLocally(final UUID idType, final String idNumber, final String email, final String mobileNumber) {
+                keysOf(idType, idNumber, email, mobileNumber).forEach(filter::put);
+        }
+
+        public boolean isReady() {
+                return ready.get();
+        }
+
+        @EventListener(ApplicationReadyEvent.class)
+        public void warmUpInBackground() {
+                Thread.ofPlatform().daemon().name("users-uniqueness-warmup").start(this::warmUp);
+        }
+
+        void warmUp() {
+                try {
+                        if (!constraintsPresent.getAsBoolean()) {
+                                LOGGER.warn("Faltan los índices únicos de db/001-usuario-unique-constraints.sql; "
+                                                + "el índice de unicidad queda desactivado y se consultará siempre la base de datos");
+                                return;
+                        }
+                        final var snapshot = loadSnapshot();
+                        if (snapshot != null) {
+                                filter.mergeRedisBitmap(snapshot);
+                                ready.set(true);
+                                LOGGER.info("Índice de unicidad cargado desde Redis ({} bytes)", snapshot.length);
+                                return;
+                        }
+
+                        final long rows = scanTable();
+                        ready.set(true);
+                        publishSnapshot();
+                        LOGGER.info("Índice de unicidad construido desde la tabla usuario ({} filas)", rows);
+                } catch (final RuntimeException exception) {
+                        LOGGER.warn("No fue posible calentar el índice de unicidad; se consultará siempre la base de datos",
+                                        exception);
+                }
+        }
+
+        /** Trae los bits que otros nodos agregaron desde la última sincronización. */
+        @Scheduled(fixedDelayString = "${uco.users.uniqueness-filter.sync-interval:PT5S}",
+                        initialDelayString = "${uco.users.uniqueness-filter.sync-interval:PT5S}")
+        public void syncFromRedis() {
+                if (!ready.get()) {
+                        return;
+                }
+                try {
+                        final var snapshot = loadSnapshot();
+                        if (snapshot != null) {
+                                filter.mergeRedisBitmap(snapshot);
+                        }
+                } catch (final RuntimeException exception) {
+                        LOGGER.debug("No fue posible sincronizar el índice de unicidad desde Redis", exception);
+                }
+        }
+
+        /** Recorre la tabla para incorporar filas escritas por fuera de la aplicación. */
+        @Scheduled(fixedDelayString = "${uco.users.uniqueness-filter.reconcile-interval:PT6H}",
+                        initialDelayString = "${uco.users.uniqueness-filter.reconcile-interval:PT6H}")
+        public void reconcile() {
+                if (!ready.get()) {
+                        return;
+                }
+                try {
+                        scanTable();
+                        publishSnapshot();
+                } catch (final RuntimeException exception) {
+                        LOGGER.warn("No fue posible reconciliar el índice de unicidad", exception);
+                }
+        }
+
+        static String key(final KeyType type, final String... parts) {
+                return switch (type) {
+                case EMAIL -> "e:" + TextHelper.getDefaultWithTrim(parts[0]).toLowerCase(Locale.ROOT);
+                case MOBILE -> "m:" + TextHelper.getDefaultWithTrim(parts[0]);
+                case IDENTIFICATION -> "i:" + parts[0] + ":" + TextHelper.getDefaultWithTrim(parts[1]);
+                };
+        }
+
+        private List<String> keysOf(final UUID idType, final String idNumber, final String email,
+                        final String mobileNumber) {
+                final List<String> keys = new ArrayList<>(3);
+                if (idType != null && !TextHelper.isEmpty(idNumber)) {
+                        keys.add(key(KeyType.IDENTIFICATION, idType.toString(), idNumber));
+                }
+                if (!TextHelper.isEmpty(email)) {
+                        keys.add(key(KeyType.EMAIL, email));
+                }
+                if (!TextHelper.isEmpty(mobileNumber)) {
+                        keys.add(key(KeyType.MOBILE, mobileNumber));
+                }
+                return keys;
+        }
+
+        private long scanTable() {
+                final var rows = new AtomicLong();
+                readOnlyTransaction.executeWithoutResult(status -> {
+                        try (var stream = repository.streamUniquenessKeys()) {
+                                stream.forEach(view -> {
+                                        addScanned(view);
+                                        rows.incrementAndGet();
+                                });
+                        }
+                });
+                return rows.get();
+        }
+
+        private void addScanned(final UserUniquenessKeysView view) {
+                keysOf(view.getIdType(), view.getIdNumber(), view.getEmail(), view.getMobileNumber())
+                                .forEach(filter::put);
+        }
+
+        private void replicate(final List<String> keys) {
+                if (keys.isEmpty()) {
+                        return;
+                }
+                try {
+                        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                                for (final String key : keys) {
+                                        for (final long offset : filter.bitOffsets(key)) {
+                                                connection.stringCommands().setBit(redisKey, offset, true);
+                                        }
+                                }
+                                return null;
+                        });
+                } catch (final RuntimeException exception) {
+                        // La siguiente reconciliación vuelve a publicar el filtro completo
+                        LOGGER.warn("No fue posible replicar el índice de unicidad en Redis", exception);
+                }
+        }
+
+        private byte[] loadSnapshot() {
+                return redisTemplate.execute((RedisCallback<byte[]>) connection -> connection.stringCommands().get(redisKey));
+        }
+
+        /** Publica con OR para no borrar bits que otros nodos hayan escrito mientras tanto. */
+        private void publishSnapshot() {
+                final var bitmap = filter.toRedisBitmap();
+                redisTemplate.execute((RedisCallback<Object>) connection -> {
+                        connection.stringCommands().set(redisMergeKey, bitmap);
+                        connection.stringCommands().bitOp(BitOperation.OR, redisKey, redisKey, redisMergeKey);
+                        connection.keyCommands().del(redisMergeKey);
+                        return null;
+                });
+        }
+
+        private void registerMeters(final MeterRegistry meterRegistry) {
+                for (final KeyType type : KeyType.values()) {
+                        final var tag = type.name().toLowerCase(Locale.ROOT);
+                        absentLookups.put(type, Counter.builder(METRIC_PREFIX + ".lookups")
+                                        .tag("key", tag).tag("result", "absent").register(meterRegistry));
+                        maybeLookups.put(type, Counter.builder(METRIC_PREFIX + ".lookups")
+                                        .tag("key", tag).tag("result", "maybe").register(meterRegistry));
+                        falsePositives.put(type, Counter.builder(METRIC_PREFIX + ".false.positives")
+                                        .description("Consultas que el filtro dejó pasar y la base de datos no encontró")
+                                        .tag("key", tag).register(meterRegistry));
+                }
+
+                Gauge.builder(METRIC_PREFIX + ".expected.false.positive.rate", filter, BloomFilter::expectedFalsePositiveRate)
+                                .description("Probabilidad de falso positivo estimada por ocupación de bits")
+                                .register(meterRegistry);
+                Gauge.builder(METRIC_PREFIX + ".memory", filter, BloomFilter::memoryBytes)
+                                .baseUnit("bytes")
+                                .register(meterRegistry);
+                Gauge.builder(METRIC_PREFIX + ".insertions", filter, BloomFilter::insertions)
+                                .register(meterRegistry);
+                Gauge.builder(METRIC_PREFIX + ".ready", ready, value -> value.get() ? 1 : 0)
+                                .register(meterRegistry);
+        }
+}
@@ -0,0 +1,141 @@
+package co.edu.uco.ucochallenge.infrastructure.secondary.cache.catalog;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import co.edu.uco.ucochallenge.infrastructure.secondary.cache.twolevel.LocalCacheSpec;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+/**
+ * Caché de catálogo sin bloqueos: cada clave guarda un {@link CompletableFuture} compartido, en
+ * curso o completado. Las lecturas concurrentes de una clave ausente se suman a la misma carga y
+ * el TTL de cada entrada cuenta desde que su carga termina. Si la recarga de una entrada vencida
+ * falla o viene vacía se sigue sirviendo el valor anterior hasta {@code staleGrace} después de su
+ * TTL; sin valor anterior no se guarda nada y la siguiente lectura vuelve a intentar. Nada aquí
+ * llama a {@code block()}: la carga es la llamada HTTP no bloqueante del cliente.
+ */
+public final class AsyncCatalogCache<V> {
+
+    private static final long LOADING = Long.MAX_VALUE;
+
+    private final String name;
+    private final Function<String, Mono<V>> loader;
+    private final LocalCacheSpec spec;
+    private final Duration staleGrace;
+    private final Clock clock;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentHashMap<String, Entry<V>> entries = new ConcurrentHashMap<>();
+
+    public AsyncCatalogCache(final String name, final Function<String, Mono<V>> loader, final LocalCacheSpec spec,
+            final Duration staleGrace, final Clock clock, final MeterRegistry meterRegistry) {
+        this.name = name;
+        this.loader = loader;
+        this.spec = spec;
+        this.staleGrace = staleGrace;
+        this.clock = clock;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public Mono<V> get(final String key) {
+        // suppressCancel: un suscriptor que cancela no cancela la carga compartida con los demás
+        return Mono.defer(() -> Mono.fromFuture(getFuture(key), true));
+    }
+
+    public CompletableFuture<V> getFuture(final String key) {
+        while (true) {
+            final Entry<V> existing = entries.get(key);
+            final long now = clock.millis();
+            if (existing != null && now < existing.expiresAt) {
+                count(existing.value.isDone() ? "hit" : "coalesced");
+                return existing.value;
+            }
+            if (existing == null && entries.size() >= spec.maximumSize() && !purgeExpired(now)) {
+                count("uncached");
+                return loader.apply(key).toFuture();
+            }
+            final Entry<V> created = existing == null ? new Entry<>(null, 0L) : existing.next();
+            final boolean won = existing == null
+                    ? entries.putIfAbsent(key, created) == null
+                    : entries.replace(key, existing, created);
+            if (won) {
+                count("miss");
+                load(key, created);
+                return created.value;
+            }
+        }
+    }
+
+    public void invalidate(final String key) {
+        entries.remove(key);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void load(final String key, final Entry<V> entry) {
+        CompletableFuture<V> loading;
+        try {
+            loading = loader.apply(key).toFuture();
+        } catch (final RuntimeException exception) {
+            loading = CompletableFuture.failedFuture(exception);
+        }
+        loading.whenComplete((value, error) -> {
+            final long now = clock.millis();
+            if (error == null && value != null) {
+                entry.loadedAt = now;
+                entry.expiresAt = now + spec.ttl().toMillis();
+                entry.value.complete(value);
+                return;
+            }
+            if (entry.previous != null
+                    && now - entry.previousLoadedAt < spec.ttl().plus(staleGrace).toMillis()) {
+                // Se reintenta tras otro TTL; la gracia sigue contando desde la carga original
+                entry.loadedAt = entry.previousLoadedAt;
+                entry.expiresAt = now + spec.ttl().toMillis();
+                count("stale");
+                entry.value.complete(entry.previous);
+                return;
+            }
+            entries.remove(key, entry);
+            if (error != null) {
+                entry.value.completeExceptionally(error);
+            } else {
+                entry.value.complete(null);
+            }
+        });
+    }
+
+    private boolean purgeExpired(final long now) {
+        entries.values().removeIf(entry -> now >= entry.expiresAt);
+        return entries.size() < spec.maximumSize();
+    }
+
+    private void count(final String result) {
+        meterRegistry.counter("cache.async.gets", "cache", name, "result", result).increment();
+    }
+
+    private static final class Entry<V> {
+
+        private final CompletableFuture<V> value = new CompletableFuture<>();
+        private final V previous;
+        private final long previousLoadedAt;
+        private volatile long loadedAt;
+        private volatile long expiresAt = LOADING;
+
+        private Entry(final V previous, final long previousLoadedAt) {
+            this.previous = previous;
+            this.previousLoadedAt = previousLoadedAt;
+        }
+
+        /** Entrada que reemplaza a esta vencida y conserva su valor por si la recarga falla. */
+        private Entry<V> next() {
+            final V current = value.isCompletedExceptionally() ? null : value.getNow(null);
+            return current == null ? new Entry<>(null, 0L) : new Entry<>(current, loadedAt);
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package co.edu.uco.ucochallenge.infrastructure.secondary.cache.catalog;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import co.edu.uco.ucochallenge.crosscutting.dto.MessageDTO;
+import co.edu.uco.ucochallenge.infrastructure.secondary.http.port.MessageServicePort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Catálogo completo de mensajes en memoria para las respuestas de error: código -> mensaje para
+ * el usuario ya resuelto. Se carga al arrancar con {@code getAllMessages} y se refresca en segundo
+ * plano; cada refresco compara con el snapshot vigente y solo publica uno nuevo si algo cambió.
+ * Resolver un código es una consulta al mapa, sin red ni asignaciones, así que una ráfaga de
+ * errores no se convierte en llamadas a messages-service. Si un refresco falla se conserva el
+ * snapshot anterior; los cambios aplicados en este nodo mientras se descarga un refresco se
+ * vuelven a aplicar encima de lo descargado.
+ */
+@Component
+public class LocalMessageCatalog {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LocalMessageCatalog.class);
+
+    private final MessageServicePort client;
+    private final Clock clock;
+    private final Duration loadTimeout;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(new Snapshot(Map.of(), null));
+    private final Counter hits;
+    private final Counter misses;
+    private final MeterRegistry meterRegistry;
+    // Protegidos por this: cambios locales aún no confirmados por un refresco (null = borrado)
+    private final Map<String, LocalWrite> localWrites = new HashMap<>();
+    private long writeSequence;
+    private long publishedSequence;
+
+    public LocalMessageCatalog(final MessageServicePort client, final Clock clock, final MeterRegistry meterRegistry,
+            @Value("${uco.messages.catalog.load-timeout:PT10S}") final Duration loadTimeout) {
+        this.client = client;
+        this.clock = clock;
+        this.loadTimeout = loadTimeout;
+        this.meterRegistry = meterRegistry;
+        this.hits = lookups(meterRegistry, "hit");
+        this.misses = lookups(meterRegistry, "miss");
+        Gauge.builder("messages.catalog.entries", snapshot, ref -> ref.get().messages().size())
+                .description("Mensajes cargados en el catálogo local")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        refresh();
+    }
+
+    @Scheduled(initialDelayString = "${uco.messages.catalog.refresh-interval:PT5M}",
+            fixedDelayString = "${uco.messages.catalog.refresh-interval:PT5M}")
+    public void refresh() {
+        final long fetchedAfter;
+        synchronized (this) {
+            fetchedAfter = writeSequence;
+        }
+        final Map<String, MessageDTO> remote;
+        try {
+            remote = client.getAllMessages().block(loadTimeout);
+        } catch (final RuntimeException exception) {
+            record("failed");
+            LOGGER.warn("Message catalog refresh failed; keeping snapshot loaded at {}: {}",
+                    snapshot.get().loadedAt(), exception.getMessage());
+            return;
+        }
+        if (remote == null) {
+            record("failed");
+            return;
+        }
+
+        publish(remote, fetchedAfter);
+    }
+
+    private synchronized void publish(final Map<String, MessageDTO> remote, final long fetchedAfter) {
+        if (fetchedAfter < publishedSequence) {
+            // Un refresco que empezó después ya publicó datos más nuevos
+            record("superseded");
+            return;
+        }
+        final Map<String, String> downloaded = new HashMap<>(remote.size() * 2);
+        remote.forEach((key, message) -> {
+            final String code = message == null || message.getCode() == null ? key : message.getCode();
+            downloaded.put(code, resolved(message, code));
+        });
+        // La respuesta puede ser anterior a los cambios aplicados después de pedirla
+        localWrites.values().removeIf(write -> write.sequence() <= fetchedAfter);
+        localWrites.forEach((code, write) -> {
+            if (write.message() == null) {
+                downloaded.remove(code);
+            } else {
+                downloaded.put(code, write.message());
+            }
+        });
+        publishedSequence = fetchedAfter;
+
+        final Snapshot current = snapshot.get();
+        final Map<String, String> next = new HashMap<>(downloaded.size() * 2);
+        int changed = 0;
+        for (final Map.Entry<String, String> entry : downloaded.entrySet()) {
+            final String previous = current.messages().get(entry.getKey());
+            // Se reutiliza la instancia vigente cuando el texto no cambió
+            next.put(entry.getKey(), entry.getValue().equals(previous) ? previous : entry.getValue());
+            if (!entry.getValue().equals(previous)) {
+                changed++;
+            }
+        }
+        final int removed = (int) current.messages().keySet().stream().filter(code -> !next.containsKey(code)).count();
+        if (changed == 0 && removed == 0 && current.loadedAt() != null) {
+            record("unchanged");
+            return;
+        }
+        snapshot.set(new Snapshot(Map.copyOf(next), clock.instant()));
+        record("changed");
+        LOGGER.info("Message catalog loaded: {} messages ({} new or changed, {} removed)", next.size(), changed,
+                removed);
+    }
+
+    /** Mensaje para el usuario del código, o el propio código si no está en el catálogo. */
+    public String resolve(final String code) {
+        final String message = snapshot.get().messages().get(code);
+        if (message == null) {
+            misses.increment();
+            return code;
+        }
+        hits.increment();
+        return message;
+    }
+
+    /** Aplica en este nodo un cambio hecho a través del backend sin esperar al siguiente refresco. */
+    public synchronized void apply(final String code, final MessageDTO message) {
+        final String resolved = message == null ? null : resolved(message, code);
+        localWrites.put(code, new LocalWrite(resolved, ++writeSequence));
+        final Snapshot current = snapshot.get();
+        final Map<String, String> next = new HashMap<>(current.messages());
+        if (resolved == null) {
+            next.remove(code);
+        } else {
+            next.put(code, resolved);
+        }
+        snapshot.set(new Snapshot(Map.copyOf(next), current.loadedAt()));
+    }
+
+    public int size() {
+        return snapshot.get().messages().size();
+    }
+
+    private static String resolved(final MessageDTO message, final String code) {
+        if (message == null) {
+            return code;
+        }
+        // Sin código en el cuerpo, getUserMessageResolved cae en "Error" en lugar de la clave
+        final String resolved = message.getUserMessageResolved();
+        return message.getCode() == null && "Error".equals(resolved) ? code : resolved;
+    }
+
+    private void record(final String outcome) {
+        meterRegistry.counter("messages.catalog.refresh", "outcome", outcome).increment();
+    }
+
+    private static Counter lookups(final MeterRegistry meterRegistry, final String result) {
+        return Counter.builder("messages.catalog.lookups")
+                .description("Resoluciones de mensajes de error desde el catálogo local")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record Snapshot(Map<String, String> messages, Instant loadedAt) {
+    }
+
+    private record LocalWrite(String message, long sequence) {
+    }
+}
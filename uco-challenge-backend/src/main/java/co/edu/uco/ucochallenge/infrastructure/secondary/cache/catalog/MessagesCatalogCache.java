@@ -1,43 +1,72 @@
 package co.edu.uco.ucochallenge.infrastructure.secondary.cache.catalog;
 
+import java.time.Clock;
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Component;
 
 import co.edu.uco.ucochallenge.crosscutting.dto.MessageDTO;
+import co.edu.uco.ucochallenge.infrastructure.secondary.cache.twolevel.LocalCacheSpec;
 import co.edu.uco.ucochallenge.infrastructure.secondary.http.port.MessageServicePort;
+import io.micrometer.core.instrument.MeterRegistry;
 import reactor.core.publisher.Mono;
 
 @Component
 public class MessagesCatalogCache {
 
     private final MessageServicePort client;
+    private final AsyncCatalogCache<MessageDTO> asyncCache;
+    private final LocalMessageCatalog localCatalog;
 
-    public MessagesCatalogCache(MessageServicePort client) {
+    public MessagesCatalogCache(MessageServicePort client, LocalMessageCatalog localCatalog, Clock clock,
+            MeterRegistry meterRegistry,
+            @Value("${uco.cache.messages.local-max-size:5000}") int maxSize,
+            @Value("${uco.cache.messages.local-ttl:PT30S}") Duration ttl,
+            @Value("${uco.cache.messages.stale-grace:PT30M}") Duration staleGrace) {
         this.client = client;
+        this.localCatalog = localCatalog;
+        this.asyncCache = new AsyncCatalogCache<>("messagesCatalog", client::getMessage,
+                new LocalCacheSpec(maxSize, ttl), staleGrace, clock, meterRegistry);
     }
 
-    /** Cachea el DTO (no el Mono) */
-    @Cacheable(cacheNames = "messagesCatalog", key = "#code")
+    /**
+     * Fachada síncrona para llamadores bloqueantes (hilos de trabajo); cachea el DTO en Redis.
+     * No usar desde hilos de Reactor o Netty.
+     */
+    @Cacheable(cacheNames = "messagesCatalog", key = "#code", sync = true)
     public MessageDTO getMessageSync(String code) {
         return client.getMessage(code).block();
     }
 
-    /** Facilidad para capas reactivas que esperan Mono */
+    /** Para capas reactivas: no bloquea el hilo que se suscribe, ni siquiera en un fallo de caché. */
     public Mono<MessageDTO> getMessage(String code) {
-        return Mono.fromCallable(() -> getMessageSync(code));
+        return asyncCache.get(code);
     }
 
-    /** Invalida un ítem tras upsert */
+    /**
+     * Invalida un ítem tras upsert. También se invalida al terminar la escritura: una lectura
+     * hecha mientras tanto habría dejado en caché el valor anterior durante todo el TTL local.
+     */
     @CacheEvict(cacheNames = "messagesCatalog", key = "#code")
     public MessageDTO upsertMessageSync(String code, MessageDTO body) {
-        return client.upsertMessage(code, body).block();
+        asyncCache.invalidate(code);
+        final MessageDTO stored = client.upsertMessage(code, body).block();
+        asyncCache.invalidate(code);
+        localCatalog.apply(code, stored != null ? stored : body);
+        return stored;
     }
 
-    /** Invalida un ítem tras delete */
+    /** Invalida un ítem tras delete, antes y después de la escritura como en el upsert */
     @CacheEvict(cacheNames = "messagesCatalog", key = "#code")
     public MessageDTO deleteMessageSync(String code) {
-        return client.deleteMessage(code).block();
+        asyncCache.invalidate(code);
+        final MessageDTO deleted = client.deleteMessage(code).block();
+        asyncCache.invalidate(code);
+        localCatalog.apply(code, null);
+        return deleted;
     }
 
     /** (Opcional) Invalidación masiva si se requiere:
@@ -0,0 +1,206 @@
+package co.edu.uco.ucochallenge.infrastructure.secondary.cache.catalog;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import co.edu.uco.ucochallenge.crosscutting.dto.ParameterDTO;
+import co.edu.uco.ucochallenge.infrastructure.secondary.http.port.ParameterServicePort;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Parámetros de parameters-service cargados en bloque con {@code getAllParameters} y ya
+ * convertidos: cada valor se interpreta una vez por refresco como entero, {@link Duration}
+ * ISO-8601, correo y fecha ISO. Leer un parámetro es una lectura volátil del snapshot y una
+ * consulta al mapa, sin bloqueos ni red; los accesores devuelven el valor por defecto cuando el
+ * parámetro falta o no es válido para ese tipo. Si un refresco falla se conserva el snapshot
+ * anterior. Los cambios aplicados en este nodo mientras se descarga un refresco se vuelven a
+ * aplicar encima de lo descargado, porque la respuesta remota puede ser anterior a ellos.
+ */
+@Component
+public class ParameterRegistry {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ParameterRegistry.class);
+    private static final Pattern EMAIL = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+
+    private final ParameterServicePort client;
+    private final Clock clock;
+    private final Duration loadTimeout;
+    private final MeterRegistry meterRegistry;
+    private volatile Snapshot snapshot = new Snapshot(Map.of(), null);
+    // Protegidos por this: cambios locales aún no confirmados por un refresco
+    private final Map<String, LocalWrite> localWrites = new HashMap<>();
+    private long writeSequence;
+    private long publishedSequence;
+
+    public ParameterRegistry(final ParameterServicePort client, final Clock clock, final MeterRegistry meterRegistry,
+            @Value("${uco.parameters.registry.load-timeout:PT10S}") final Duration loadTimeout) {
+        this.client = client;
+        this.clock = clock;
+        this.loadTimeout = loadTimeout;
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("parameters.registry.entries", this, ParameterRegistry::size)
+                .description("Parámetros cargados en el registro local")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        refresh();
+    }
+
+    @Scheduled(initialDelayString = "${uco.parameters.registry.refresh-interval:PT1M}",
+            fixedDelayString = "${uco.parameters.registry.refresh-interval:PT1M}")
+    public void refresh() {
+        final long fetchedAfter;
+        synchronized (this) {
+            fetchedAfter = writeSequence;
+        }
+        final Map<String, ParameterDTO> remote;
+        try {
+            remote = client.getAllParameters().block(loadTimeout);
+        } catch (final RuntimeException exception) {
+            record("failed");
+            LOGGER.warn("Parameter refresh failed; keeping snapshot loaded at {}: {}", snapshot.loadedAt(),
+                    exception.getMessage());
+            return;
+        }
+        if (remote == null) {
+            record("failed");
+            return;
+        }
+
+        synchronized (this) {
+            if (fetchedAfter < publishedSequence) {
+                // Un refresco que empezó después ya publicó datos más nuevos
+                record("superseded");
+                return;
+            }
+            final Map<String, ParsedParameter> current = snapshot.values();
+            final Map<String, ParsedParameter> next = new HashMap<>(remote.size() * 2);
+            remote.forEach((key, parameter) -> {
+                final String name = parameter == null || parameter.key() == null ? key : parameter.key();
+                final String raw = parameter == null ? null : parameter.value();
+                final ParsedParameter previous = current.get(name);
+                // Un valor que no cambió no se vuelve a interpretar
+                next.put(name, previous != null && previous.sameRaw(raw) ? previous : ParsedParameter.parse(raw));
+            });
+            localWrites.values().removeIf(write -> write.sequence() <= fetchedAfter);
+            localWrites.forEach((key, write) -> next.put(key, write.parameter()));
+            publishedSequence = fetchedAfter;
+            snapshot = new Snapshot(Map.copyOf(next), clock.instant());
+        }
+        record("loaded");
+        LOGGER.info("Parameters loaded: {}", remote.size());
+    }
+
+    /** Entero mayor que cero; p. ej. minutos de vigencia o número de reintentos. */
+    public int positiveInt(final String key, final int defaultValue) {
+        final ParsedParameter parameter = snapshot.values().get(key);
+        return parameter == null || parameter.number() == null || parameter.number() <= 0
+                ? defaultValue
+                : parameter.number();
+    }
+
+    /** Duración ISO-8601 positiva, p. ej. {@code PT15M}. */
+    public Duration duration(final String key, final Duration defaultValue) {
+        final ParsedParameter parameter = snapshot.values().get(key);
+        return parameter == null || parameter.duration() == null ? defaultValue : parameter.duration();
+    }
+
+    public String email(final String key, final String defaultValue) {
+        final ParsedParameter parameter = snapshot.values().get(key);
+        return parameter == null || parameter.email() == null ? defaultValue : parameter.email();
+    }
+
+    /** Fecha ISO-8601, p. ej. {@code 2026-01-31}. */
+    public LocalDate date(final String key, final LocalDate defaultValue) {
+        final ParsedParameter parameter = snapshot.values().get(key);
+        return parameter == null || parameter.date() == null ? defaultValue : parameter.date();
+    }
+
+    /** Texto sin espacios alrededor; vacío cuenta como ausente. */
+    public String text(final String key, final String defaultValue) {
+        final ParsedParameter parameter = snapshot.values().get(key);
+        return parameter == null || parameter.text() == null ? defaultValue : parameter.text();
+    }
+
+    /** Aplica en este nodo un cambio hecho a través del backend sin esperar al siguiente refresco. */
+    public synchronized void apply(final String key, final String value) {
+        final ParsedParameter parameter = ParsedParameter.parse(value);
+        localWrites.put(key, new LocalWrite(parameter, ++writeSequence));
+        final Map<String, ParsedParameter> next = new HashMap<>(snapshot.values());
+        next.put(key, parameter);
+        snapshot = new Snapshot(Map.copyOf(next), snapshot.loadedAt());
+    }
+
+    public int size() {
+        return snapshot.values().size();
+    }
+
+    private void record(final String outcome) {
+        meterRegistry.counter("parameters.registry.refresh", "outcome", outcome).increment();
+    }
+
+    private record Snapshot(Map<String, ParsedParameter> values, Instant loadedAt) {
+    }
+
+    private record LocalWrite(ParsedParameter parameter, long sequence) {
+    }
+
+    /** Valor crudo y sus interpretaciones válidas; las que no aplican quedan en {@code null}. */
+    record ParsedParameter(String raw, String text, Integer number, Duration duration, String email, LocalDate date) {
+
+        static ParsedParameter parse(final String raw) {
+            final String text = raw == null || raw.isBlank() ? null : raw.trim();
+            if (text == null) {
+                return new ParsedParameter(raw, null, null, null, null, null);
+            }
+            return new ParsedParameter(raw, text, number(text), duration(text),
+                    EMAIL.matcher(text).matches() ? text : null, date(text));
+        }
+
+        boolean sameRaw(final String other) {
+            return raw == null ? other == null : raw.equals(other);
+        }
+
+        private static Integer number(final String text) {
+            try {
+                return Integer.valueOf(text);
+            } catch (final NumberFormatException exception) {
+                return null;
+            }
+        }
+
+        private static Duration duration(final String text) {
+            try {
+                final Duration duration = Duration.parse(text);
+                return duration.isNegative() || duration.isZero() ? null : duration;
+            } catch (final DateTimeParseException exception) {
+                return null;
+            }
+        }
+
+        private static LocalDate date(final String text) {
+            try {
+                return LocalDate.parse(text);
+            } catch (final DateTimeParseException exception) {
+                return null;
+            }
+        }
+    }
+}
@@ -1,34 +1,58 @@
 package co.edu.uco.ucochallenge.infrastructure.secondary.cache.catalog;
 
+import java.time.Clock;
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Component;
 
 import co.edu.uco.ucochallenge.crosscutting.dto.ParameterDTO;
+import co.edu.uco.ucochallenge.infrastructure.secondary.cache.twolevel.LocalCacheSpec;
 import co.edu.uco.ucochallenge.infrastructure.secondary.http.port.ParameterServicePort;
+import io.micrometer.core.instrument.MeterRegistry;
 import reactor.core.publisher.Mono;
 
 @Component
 public class ParametersCatalogCache {
 
     private final ParameterServicePort client;
-
-    public ParametersCatalogCache(ParameterServicePort client) {
+    private final AsyncCatalogCache<ParameterDTO> asyncCache;
+    private final ParameterRegistry registry;
+
+    public ParametersCatalogCache(ParameterServicePort client, ParameterRegistry registry, Clock clock,
+            MeterRegistry meterRegistry,
+            @Value("${uco.cache.parameters.local-max-size:500}") int maxSize,
+            @Value("${uco.cache.parameters.local-ttl:PT30S}") Duration ttl,
+            @Value("${uco.cache.parameters.stale-grace:PT30M}") Duration staleGrace) {
         this.client = client;
+        this.registry = registry;
+        this.asyncCache = new AsyncCatalogCache<>("parametersCatalog", client::getParameter,
+                new LocalCacheSpec(maxSize, ttl), staleGrace, clock, meterRegistry);
     }
 
-    @Cacheable(cacheNames = "parametersCatalog", key = "#key")
+    /** Fachada síncrona para llamadores bloqueantes; no usar desde hilos de Reactor o Netty. */
+    @Cacheable(cacheNames = "parametersCatalog", key = "#key", sync = true)
     public ParameterDTO getParameterSync(String key) {
         return client.getParameter(key).block();
     }
 
     public Mono<ParameterDTO> getParameter(String key) {
-        return Mono.fromCallable(() -> getParameterSync(key));
+        return asyncCache.get(key);
     }
 
+    /**
+     * Invalida antes y después de la escritura: una lectura hecha mientras tanto habría dejado en
+     * caché el valor anterior durante todo el TTL local.
+     */
     @CacheEvict(cacheNames = "parametersCatalog", key = "#key")
     public ParameterDTO updateParameterSync(String key, String value) {
-        return client.updateParameter(key, value).block();
+        asyncCache.invalidate(key);
+        final ParameterDTO updated = client.updateParameter(key, value).block();
+        asyncCache.invalidate(key);
+        registry.apply(key, updated != null ? updated.value() : value);
+        return updated;
     }
 
     /** (Opcional)
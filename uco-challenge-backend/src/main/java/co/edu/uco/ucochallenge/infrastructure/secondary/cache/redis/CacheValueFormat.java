@@ -0,0 +1,34 @@
+package co.edu.uco.ucochallenge.infrastructure.secondary.cache.redis;
+
+import java.util.Arrays;
+
+/**
+ * Serialización de los valores de un caché en Redis:
+ * <ul>
+ * <li>{@code generic}: JSON con el nombre de la clase en cada nodo; admite cualquier valor;</li>
+ * <li>{@code typed}: JSON de la clase exacta del caché, sin información de tipo.</li>
+ * </ul>
+ */
+public enum CacheValueFormat {
+
+        GENERIC("generic"),
+        TYPED("typed");
+
+        private final String value;
+
+        CacheValueFormat(final String value) {
+                this.value = value;
+        }
+
+        public String getValue() {
+                return value;
+        }
+
+        public static CacheValueFormat from(final String rawFormat) {
+                final String normalized = rawFormat == null ? null : rawFormat.trim();
+                return Arrays.stream(values())
+                                .filter(format -> format.value.equalsIgnoreCase(normalized))
+                                .findFirst()
+                                .orElseThrow(() -> new IllegalArgumentException("Unknown cache value format: " + rawFormat));
+        }
+}
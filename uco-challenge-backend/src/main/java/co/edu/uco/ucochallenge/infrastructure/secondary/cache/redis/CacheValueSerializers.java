@@ -0,0 +1,74 @@
+package co.edu.uco.ucochallenge.infrastructure.secondary.cache.redis;
+
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+/** Serializadores de valores para Redis según {@link CacheValueFormat}. */
+public final class CacheValueSerializers {
+
+        private CacheValueSerializers() {
+        }
+
+        /**
+         * @param compressionThreshold tamaño en bytes desde el que se comprime; 0 o menos no comprime
+         */
+        public static RedisSerializer<?> forCache(final CacheValueFormat format, final Class<?> valueType,
+                        final int compressionThreshold) {
+                return forCache(format, TypeFactory.defaultInstance().constructType(valueType), compressionThreshold);
+        }
+
+        /** Variante para valores genéricos, p. ej. {@code RefreshableValue<MessageDTO>}. */
+        public static RedisSerializer<?> forCache(final CacheValueFormat format, final JavaType valueType,
+                        final int compressionThreshold) {
+                final RedisSerializer<?> serializer = switch (format) {
+                case GENERIC -> generic();
+                case TYPED -> typed(valueType);
+                };
+                return compressionThreshold > 0 ? compressed(serializer, compressionThreshold) : serializer;
+        }
+
+        /** Prefijo de claves que identifica el formato: cambiar el serializador no lee bytes de otro formato. */
+        public static String keyPrefix(final String cacheName, final CacheValueFormat format,
+                        final int compressionThreshold) {
+                if (format == CacheValueFormat.GENERIC && compressionThreshold <= 0) {
+                        return cacheName + "::";
+                }
+                return cacheName + ":" + format.getValue() + (compressionThreshold > 0 ? "+deflate" : "") + "::";
+        }
+
+        public static GenericJackson2JsonRedisSerializer generic() {
+                final ObjectMapper mapper = new ObjectMapper();
+                mapper.registerModule(new Jdk8Module());
+                mapper.registerModule(new JavaTimeModule());
+                mapper.activateDefaultTyping(LaissezFaireSubTypeValidator.instance, ObjectMapper.DefaultTyping.EVERYTHING);
+                return new GenericJackson2JsonRedisSerializer(mapper);
+        }
+
+        public static <T> Jackson2JsonRedisSerializer<T> typed(final Class<T> valueType) {
+                return typed(TypeFactory.defaultInstance().constructType(valueType));
+        }
+
+        public static <T> Jackson2JsonRedisSerializer<T> typed(final JavaType valueType) {
+                final ObjectMapper mapper = new ObjectMapper();
+                mapper.registerModule(new Jdk8Module());
+                mapper.registerModule(new JavaTimeModule());
+                mapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+                // Tolera campos nuevos de otra versión desplegada mientras conviven entradas de ambas
+                mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+                return new Jackson2JsonRedisSerializer<>(mapper, valueType);
+        }
+
+        private static <T> RedisSerializer<T> compressed(final RedisSerializer<T> serializer, final int threshold) {
+                return new DeflatingRedisSerializer<>(serializer, threshold);
+        }
+}
@@ -0,0 +1,96 @@
+package co.edu.uco.ucochallenge.infrastructure.secondary.cache.redis;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * Comprime con Deflate los valores cuyo JSON llega a {@code threshold} bytes. El primer byte indica
+ * el formato (0 sin comprimir, 1 comprimido), así que valores de ambos tipos conviven en el mismo
+ * caché. Con nivel {@link Deflater#BEST_SPEED}: el objetivo es ahorrar red y memoria de Redis sin
+ * que la compresión domine el tiempo de escritura.
+ */
+public final class DeflatingRedisSerializer<T> implements RedisSerializer<T> {
+
+        private static final byte PLAIN = 0;
+        private static final byte DEFLATED = 1;
+
+        private final RedisSerializer<T> delegate;
+        private final int threshold;
+
+        public DeflatingRedisSerializer(final RedisSerializer<T> delegate, final int threshold) {
+                this.delegate = delegate;
+                this.threshold = threshold;
+        }
+
+        @Override
+        public byte[] serialize(final T value) {
+                final byte[] raw = delegate.serialize(value);
+                if (raw == null) {
+                        return null;
+                }
+                return raw.length < threshold ? withHeader(PLAIN, raw, raw.length) : deflate(raw);
+        }
+
+        @Override
+        public T deserialize(final byte[] bytes) {
+                if (bytes == null || bytes.length == 0) {
+                        return null;
+                }
+                final byte[] payload = Arrays.copyOfRange(bytes, 1, bytes.length);
+                return delegate.deserialize(bytes[0] == DEFLATED ? inflate(payload) : payload);
+        }
+
+        private static byte[] deflate(final byte[] raw) {
+                final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+                try {
+                        deflater.setInput(raw);
+                        deflater.finish();
+                        final byte[] buffer = new byte[raw.length + 64];
+                        int length = 0;
+                        while (!deflater.finished()) {
+                                if (length == buffer.length) {
+                                        // Datos incompresibles: se guardan tal cual
+                                        return withHeader(PLAIN, raw, raw.length);
+                                }
+                                length += deflater.deflate(buffer, length, buffer.length - length);
+                        }
+                        return withHeader(DEFLATED, buffer, length);
+                } finally {
+                        deflater.end();
+                }
+        }
+
+        private static byte[] inflate(final byte[] compressed) {
+                final Inflater inflater = new Inflater();
+                try {
+                        inflater.setInput(compressed);
+                        final var output = new ByteArrayOutputStream(compressed.length * 4);
+                        final byte[] buffer = new byte[8192];
+                        while (!inflater.finished()) {
+                                final int read = inflater.inflate(buffer);
+                                if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                                        throw new SerializationException("Truncated deflated cache value");
+                                }
+                                output.write(buffer, 0, read);
+                        }
+                        return output.toByteArray();
+                } catch (final DataFormatException exception) {
+                        throw new SerializationException("Corrupt deflated cache value", exception);
+                } finally {
+                        inflater.end();
+                }
+        }
+
+        private static byte[] withHeader(final byte header, final byte[] body, final int length) {
+                final byte[] framed = new byte[length + 1];
+                framed[0] = header;
+                System.arraycopy(body, 0, framed, 1, length);
+                return framed;
+        }
+}
@@ -0,0 +1,29 @@
+package co.edu.uco.ucochallenge.infrastructure.secondary.cache.redis;
+
+/**
+ * Estado de una clave de idempotencia: reservada mientras la petición original se ejecuta y con
+ * la respuesta serializada una vez termina. Un rechazo de negocio o de validación se guarda como
+ * {@code errorType} y {@code errorCode} para repetirlo sin volver a ejecutar la operación.
+ */
+public record IdempotencyRecord(String fingerprint, boolean completed, int status, String body, String errorType,
+                String errorCode) {
+
+        public static final String BUSINESS_ERROR = "business";
+        public static final String VALIDATION_ERROR = "validation";
+
+        public static IdempotencyRecord inProgress(final String fingerprint) {
+                return new IdempotencyRecord(fingerprint, false, 0, null, null, null);
+        }
+
+        public static IdempotencyRecord completed(final String fingerprint, final int status, final String body) {
+                return new IdempotencyRecord(fingerprint, true, status, body, null, null);
+        }
+
+        public static IdempotencyRecord rejected(final String fingerprint, final String errorType, final String errorCode) {
+                return new IdempotencyRecord(fingerprint, true, 0, null, errorType, errorCode);
+        }
+
+        public boolean isRejection() {
+                return errorType != null;
+        }
+}
@@ -0,0 +1,62 @@
+package co.edu.uco.ucochallenge.infrastructure.secondary.cache.redis;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Claves de idempotencia en Redis. La reserva es un {@code SET NX PX}: solo una réplica gana la
+ * clave y, si el proceso muere a mitad de la petición, la reserva expira sola tras el TTL del
+ * bloqueo.
+ */
+@Component
+public class RedisIdempotencyStore {
+
+        private static final int RESERVE_ATTEMPTS = 2;
+
+        private final RedisTemplate<String, Object> redisTemplate;
+        private final String keyPrefix;
+
+        public RedisIdempotencyStore(final RedisTemplate<String, Object> redisTemplate,
+                        @Value("${uco.idempotency.key-prefix:idempotency}") final String keyPrefix) {
+                this.redisTemplate = redisTemplate;
+                this.keyPrefix = keyPrefix;
+        }
+
+        /**
+         * @return vacío si la clave quedó reservada para esta petición; en otro caso el registro
+         *         existente (en curso o completado)
+         */
+        public Optional<IdempotencyRecord> reserve(final String key, final String fingerprint, final Duration lockTtl) {
+                for (int attempt = 0; attempt < RESERVE_ATTEMPTS; attempt++) {
+                        final Boolean reserved = redisTemplate.opsForValue()
+                                        .setIfAbsent(redisKey(key), IdempotencyRecord.inProgress(fingerprint), lockTtl);
+                        if (Boolean.TRUE.equals(reserved)) {
+                                return Optional.empty();
+                        }
+
+                        // Si expiró entre el SET NX y el GET se vuelve a intentar la reserva
+                        final Object existing = redisTemplate.opsForValue().get(redisKey(key));
+                        if (existing instanceof IdempotencyRecord record) {
+                                return Optional.of(record);
+                        }
+                }
+
+                return Optional.of(IdempotencyRecord.inProgress(fingerprint));
+        }
+
+        public void complete(final String key, final IdempotencyRecord record, final Duration replayWindow) {
+                redisTemplate.opsForValue().set(redisKey(key), record, replayWindow);
+        }
+
+        public void release(final String key) {
+                redisTemplate.delete(redisKey(key));
+        }
+
+        private String redisKey(final String key) {
+                return keyPrefix + ":" + key;
+        }
+}
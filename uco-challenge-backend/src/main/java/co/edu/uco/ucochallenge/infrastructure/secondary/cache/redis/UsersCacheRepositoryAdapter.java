@@ -1,11 +1,15 @@
 package co.edu.uco.ucochallenge.infrastructure.secondary.cache.redis;
 
+import java.util.UUID;
+
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Repository;
 import co.edu.uco.ucochallenge.domain.user.port.FindUsersByFilterRepositoryPort;
 import co.edu.uco.ucochallenge.domain.user.find.model.FindUsersByFilterResponseDomain;
+import co.edu.uco.ucochallenge.domain.user.find.model.UserCountStrategy;
+import co.edu.uco.ucochallenge.domain.user.find.specification.UserSearchSpecification;
 
-/** Decorator que agrega caché a findAll(page,size) */
+/** Decorator que agrega caché a findAll(filter,page,size,count) */
 @Repository
 public class UsersCacheRepositoryAdapter implements FindUsersByFilterRepositoryPort {
 
@@ -16,8 +20,16 @@ public class UsersCacheRepositoryAdapter implements FindUsersByFilterRepositoryP
     }
 
     @Override
-    @Cacheable(cacheNames = "usersByPage", keyGenerator = "usersPageKeyGenerator")
-    public FindUsersByFilterResponseDomain findAll(int page, int size) {
-        return delegate.findAll(page, size);
+    @Cacheable(cacheNames = "usersByPage", keyGenerator = "usersPageKeyGenerator", sync = true)
+    public FindUsersByFilterResponseDomain findAll(UserSearchSpecification filter, int page, int size,
+            UserCountStrategy countStrategy) {
+        return delegate.findAll(filter, page, size, countStrategy);
+    }
+
+    /** Sin caché: la página por clave ya es una búsqueda en el índice y los cursores no se repiten. */
+    @Override
+    public FindUsersByFilterResponseDomain findAfter(UserSearchSpecification filter, UUID after, int size,
+            UserCountStrategy countStrategy) {
+        return delegate.findAfter(filter, after, size, countStrategy);
     }
 }
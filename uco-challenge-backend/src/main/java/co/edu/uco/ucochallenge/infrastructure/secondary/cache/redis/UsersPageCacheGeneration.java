@@ -0,0 +1,86 @@
+package co.edu.uco.ucochallenge.infrastructure.secondary.cache.redis;
+
+import java.time.Clock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Generación del caché {@code usersByPage}. Forma parte de la clave, así que una escritura invalida
+ * todas las páginas con un solo {@code INCR} en lugar de recorrer y borrar las entradas; las de
+ * generaciones anteriores dejan de consultarse y expiran por TTL. También es la versión del ETag
+ * de {@code GET /users}.
+ */
+@Component
+public class UsersPageCacheGeneration {
+
+        private static final Logger LOGGER = LoggerFactory.getLogger(UsersPageCacheGeneration.class);
+
+        private final StringRedisTemplate redisTemplate;
+        private final String generationKey;
+        private final Clock clock;
+        private final Counter bumps;
+
+        public UsersPageCacheGeneration(final StringRedisTemplate redisTemplate, final MeterRegistry meterRegistry,
+                        final Clock clock,
+                        @Value("${uco.cache.users.generation-key:users:page-generation}") final String generationKey) {
+                this.redisTemplate = redisTemplate;
+                this.clock = clock;
+                this.generationKey = generationKey;
+                this.bumps = Counter.builder("users.cache.generation.bumps")
+                                .description("Invalidaciones del caché usersByPage")
+                                .register(meterRegistry);
+        }
+
+        public long current() {
+                final String generation = redisTemplate.opsForValue().get(generationKey);
+                return generation == null ? seed() : Long.parseLong(generation);
+        }
+
+        /**
+         * Avanza la generación cuando la transacción en curso confirma: si se hiciera antes, una
+         * lectura concurrente podría guardar datos viejos bajo la generación nueva.
+         */
+        public void bump() {
+                if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+                        increment();
+                        return;
+                }
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                                increment();
+                        }
+                });
+        }
+
+        private void increment() {
+                try {
+                        redisTemplate.opsForValue().increment(generationKey);
+                        bumps.increment();
+                } catch (final DataAccessException exception) {
+                        // Los datos ya se confirmaron: las páginas viejas duran como máximo el TTL del caché
+                        LOGGER.warn("No fue posible invalidar el caché de usuarios: {}", exception.getMessage());
+                }
+        }
+
+        /**
+         * Si la clave se perdió (Redis reiniciado sin persistencia) se reinicia en el instante actual
+         * y no en 0: un cliente con un ETag de antes no debe coincidir con una generación repetida.
+         */
+        private long seed() {
+                final var operations = redisTemplate.opsForValue();
+                operations.setIfAbsent(generationKey, Long.toString(clock.millis()));
+                final String generation = operations.get(generationKey);
+                return generation == null ? 0L : Long.parseLong(generation);
+        }
+}
@@ -0,0 +1,6 @@
+package co.edu.uco.ucochallenge.infrastructure.secondary.cache.reference;
+
+import java.util.UUID;
+
+public record ReferenceDataItem(UUID id, String name) {
+}
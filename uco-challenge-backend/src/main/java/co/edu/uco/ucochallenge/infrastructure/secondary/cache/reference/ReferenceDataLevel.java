@@ -0,0 +1,132 @@
+package co.edu.uco.ucochallenge.infrastructure.secondary.cache.reference;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+import co.edu.uco.ucochallenge.crosscutting.helper.TextHelper;
+import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.repository.ReferenceRowView;
+
+/**
+ * Un nivel del catálogo (tipos de documento, países, departamentos o ciudades) en arreglos
+ * paralelos. {@code parents[i]} es la posición del padre en el nivel superior y los hijos de cada
+ * padre quedan contiguos en {@code children}, con sus rangos en {@code childOffsets}.
+ */
+final class ReferenceDataLevel {
+
+        private static final int ROOT = -1;
+
+        private final UUID[] ids;
+        private final String[] names;
+        private final int[] parents;
+        private final UuidIndex index;
+        private final Map<String, Integer> byName;
+        private final int[] childOffsets;
+        private final int[] children;
+
+        private ReferenceDataLevel(final UUID[] ids, final String[] names, final int[] parents, final int parentCount) {
+                this.ids = ids;
+                this.names = names;
+                this.parents = parents;
+                this.index = new UuidIndex(ids);
+
+                final Map<String, Integer> nameIndex = new HashMap<>(ids.length * 2);
+                for (int i = 0; i < ids.length; i++) {
+                        nameIndex.putIfAbsent(nameKey(parents[i], names[i]), i);
+                }
+                this.byName = Map.copyOf(nameIndex);
+
+                this.childOffsets = new int[parentCount + 1];
+                for (final int parent : parents) {
+                        if (parent != ROOT) {
+                                childOffsets[parent + 1]++;
+                        }
+                }
+                for (int i = 0; i < parentCount; i++) {
+                        childOffsets[i + 1] += childOffsets[i];
+                }
+                this.children = new int[childOffsets[parentCount]];
+                final int[] cursor = childOffsets.clone();
+                for (int i = 0; i < parents.length; i++) {
+                        if (parents[i] != ROOT) {
+                                children[cursor[parents[i]]++] = i;
+                        }
+                }
+        }
+
+        static ReferenceDataLevel root(final List<ReferenceRowView> rows) {
+                return of(rows, null);
+        }
+
+        /** Las filas cuyo padre no existe en {@code parentLevel} se descartan. */
+        static ReferenceDataLevel of(final List<ReferenceRowView> rows, final ReferenceDataLevel parentLevel) {
+                final List<UUID> ids = new ArrayList<>(rows.size());
+                final List<String> names = new ArrayList<>(rows.size());
+                final List<Integer> parents = new ArrayList<>(rows.size());
+                for (final var row : rows) {
+                        final int parent = parentLevel == null ? ROOT : parentLevel.positionOf(row.getParentId());
+                        if (row.getId() == null || (parentLevel != null && parent == ROOT)) {
+                                continue;
+                        }
+                        ids.add(row.getId());
+                        names.add(TextHelper.getDefaultWithTrim(row.getName()));
+                        parents.add(parent);
+                }
+                return new ReferenceDataLevel(ids.toArray(UUID[]::new), names.toArray(String[]::new),
+                                parents.stream().mapToInt(Integer::intValue).toArray(),
+                                parentLevel == null ? 0 : parentLevel.size());
+        }
+
+        int positionOf(final UUID id) {
+                return index.positionOf(id);
+        }
+
+        boolean contains(final UUID id) {
+                return index.positionOf(id) != ROOT;
+        }
+
+        /** @return posición del padre o -1 si el id no existe o es un nivel raíz */
+        int parentOf(final UUID id) {
+                final int position = index.positionOf(id);
+                return position == ROOT ? ROOT : parents[position];
+        }
+
+        UUID idByName(final int parent, final String name) {
+                if (TextHelper.isEmpty(name)) {
+                        return null;
+                }
+                final Integer position = byName.get(nameKey(parent, name));
+                return position == null ? null : ids[position];
+        }
+
+        List<ReferenceDataItem> items() {
+                final List<ReferenceDataItem> items = new ArrayList<>(ids.length);
+                for (int i = 0; i < ids.length; i++) {
+                        items.add(new ReferenceDataItem(ids[i], names[i]));
+                }
+                return Collections.unmodifiableList(items);
+        }
+
+        List<ReferenceDataItem> childrenOf(final int parent) {
+                if (parent < 0 || parent >= childOffsets.length - 1) {
+                        return List.of();
+                }
+                final List<ReferenceDataItem> items = new ArrayList<>(childOffsets[parent + 1] - childOffsets[parent]);
+                for (int i = childOffsets[parent]; i < childOffsets[parent + 1]; i++) {
+                        items.add(new ReferenceDataItem(ids[children[i]], names[children[i]]));
+                }
+                return Collections.unmodifiableList(items);
+        }
+
+        int size() {
+                return ids.length;
+        }
+
+        private static String nameKey(final int parent, final String name) {
+                return parent + ":" + TextHelper.getDefaultWithTrim(name).toLowerCase(Locale.ROOT);
+        }
+}
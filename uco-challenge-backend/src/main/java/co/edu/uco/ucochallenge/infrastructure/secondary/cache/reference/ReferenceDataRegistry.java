@@ -0,0 +1,228 @@
+package co.edu.uco.ucochallenge.infrastructure.secondary.cache.reference;
+
+import java.time.Clock;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.repository.CityRepository;
+import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.repository.CountryRepository;
+import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.repository.IdTypeRepository;
+import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.repository.StateRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Tipos de documento y jerarquía país / departamento / ciudad en memoria. Las consultas no tocan
+ * la base de datos; la recarga construye un snapshot nuevo y lo publica con un único cambio de
+ * referencia, así que un lector nunca ve catálogos mezclados. Si la recarga falla se conserva el
+ * snapshot anterior.
+ */
+@Component
+public class ReferenceDataRegistry {
+
+        private static final Logger LOGGER = LoggerFactory.getLogger(ReferenceDataRegistry.class);
+
+        private final IdTypeRepository idTypeRepository;
+        private final CountryRepository countryRepository;
+        private final StateRepository stateRepository;
+        private final CityRepository cityRepository;
+        private final Clock clock;
+        private final AtomicReference<ReferenceDataSnapshot> snapshot = new AtomicReference<>();
+
+        public ReferenceDataRegistry(final IdTypeRepository idTypeRepository,
+                        final CountryRepository countryRepository,
+                        final StateRepository stateRepository,
+                        final CityRepository cityRepository,
+                        final Clock clock,
+                        final MeterRegistry meterRegistry) {
+                this.idTypeRepository = idTypeRepository;
+                this.countryRepository = countryRepository;
+                this.stateRepository = stateRepository;
+                this.cityRepository = cityRepository;
+                this.clock = clock;
+                registerGauge(meterRegistry, "idType", ReferenceDataSnapshot::idTypes);
+                registerGauge(meterRegistry, "country", ReferenceDataSnapshot::countries);
+                registerGauge(meterRegistry, "department", ReferenceDataSnapshot::departments);
+                registerGauge(meterRegistry, "city", ReferenceDataSnapshot::cities);
+        }
+
+        @Scheduled(initialDelayString = "${uco.reference-data.refresh-interval:PT10M}",
+                        fixedDelayString = "${uco.reference-data.refresh-interval:PT10M}")
+        public void reload() {
+                try {
+                        final var loaded = load();
+                        snapshot.set(loaded);
+                        LOGGER.info("Reference data loaded: {} id types, {} countries, {} departments, {} cities",
+                                        loaded.idTypes().size(), loaded.countries().size(),
+                                        loaded.departments().size(), loaded.cities().size());
+                } catch (final RuntimeException exception) {
+                        if (snapshot.get() == null) {
+                                throw exception;
+                        }
+                        LOGGER.warn("Reference data reload failed; keeping snapshot loaded at {}",
+                                        snapshot.get().loadedAt(), exception);
+                }
+        }
+
+        /**
+         * Carga al arrancar para que ninguna petición pague la primera consulta. Si falla, la carga
+         * perezosa de la primera lectura lo vuelve a intentar.
+         */
+        @EventListener(ApplicationReadyEvent.class)
+        public void preload() {
+                if (snapshot.get() != null) {
+                        return;
+                }
+                try {
+                        reload();
+                } catch (final RuntimeException exception) {
+                        LOGGER.warn("Reference data preload failed; it will be retried on first use", exception);
+                }
+        }
+
+        public boolean idTypeExists(final UUID id) {
+                return current().idTypes().contains(id);
+        }
+
+        public Optional<UUID> findIdTypeByName(final String name) {
+                return Optional.ofNullable(current().idTypes().idByName(-1, name));
+        }
+
+        public boolean countryExists(final UUID id) {
+                return current().countries().contains(id);
+        }
+
+        public boolean departmentExists(final UUID id) {
+                return current().departments().contains(id);
+        }
+
+        public boolean cityExists(final UUID id) {
+                return current().cities().contains(id);
+        }
+
+        /** La ciudad pertenece al departamento y el departamento al país. */
+        public boolean isValidHierarchy(final UUID countryId, final UUID departmentId, final UUID cityId) {
+                return current().isValidHierarchy(countryId, departmentId, cityId);
+        }
+
+        public Set<UUID> existingIdTypes(final Collection<UUID> ids) {
+                return existing(ids, current().idTypes());
+        }
+
+        public Set<UUID> existingCountries(final Collection<UUID> ids) {
+                return existing(ids, current().countries());
+        }
+
+        public Set<UUID> existingDepartments(final Collection<UUID> ids) {
+                return existing(ids, current().departments());
+        }
+
+        public Set<UUID> existingCities(final Collection<UUID> ids) {
+                return existing(ids, current().cities());
+        }
+
+        /** Nombre tal como se consultó -> id, sin distinguir mayúsculas. */
+        public Map<String, UUID> idTypesByNames(final Collection<String> names) {
+                final var idTypes = current().idTypes();
+                final Map<String, UUID> result = new LinkedHashMap<>();
+                for (final String name : names) {
+                        final UUID id = idTypes.idByName(-1, name);
+                        if (id != null) {
+                                result.put(name, id);
+                        }
+                }
+                return result;
+        }
+
+        public List<ReferenceDataItem> idTypes() {
+                return current().idTypes().items();
+        }
+
+        public List<ReferenceDataItem> countries() {
+                return current().countries().items();
+        }
+
+        public List<ReferenceDataItem> departmentsOf(final UUID countryId) {
+                final var current = current();
+                return current.departments().childrenOf(current.countries().positionOf(countryId));
+        }
+
+        public List<ReferenceDataItem> citiesOf(final UUID departmentId) {
+                final var current = current();
+                return current.cities().childrenOf(current.departments().positionOf(departmentId));
+        }
+
+        /** Cambia solo cuando una recarga trae datos distintos; sirve de ETag de los catálogos. */
+        public String version() {
+                return current().version();
+        }
+
+        public Map<String, Object> summary() {
+                final var current = current();
+                return Map.of(
+                                "loadedAt", current.loadedAt().toString(),
+                                "version", current.version(),
+                                "idTypes", current.idTypes().size(),
+                                "countries", current.countries().size(),
+                                "departments", current.departments().size(),
+                                "cities", current.cities().size());
+        }
+
+        private ReferenceDataSnapshot current() {
+                final var loaded = snapshot.get();
+                if (loaded != null) {
+                        return loaded;
+                }
+                synchronized (snapshot) {
+                        if (snapshot.get() == null) {
+                                reload();
+                        }
+                        return snapshot.get();
+                }
+        }
+
+        private ReferenceDataSnapshot load() {
+                return ReferenceDataSnapshot.of(
+                                idTypeRepository.findReferenceRows(),
+                                countryRepository.findReferenceRows(),
+                                stateRepository.findReferenceRows(),
+                                cityRepository.findReferenceRows(),
+                                clock.instant());
+        }
+
+        private static Set<UUID> existing(final Collection<UUID> ids, final ReferenceDataLevel level) {
+                final Set<UUID> result = new LinkedHashSet<>();
+                for (final UUID id : ids) {
+                        if (level.contains(id)) {
+                                result.add(id);
+                        }
+                }
+                return result;
+        }
+
+        private void registerGauge(final MeterRegistry meterRegistry, final String type,
+                        final Function<ReferenceDataSnapshot, ReferenceDataLevel> level) {
+                Gauge.builder("reference.data.entries", snapshot, ref -> {
+                        final var loaded = ref.get();
+                        return loaded == null ? 0 : level.apply(loaded).size();
+                })
+                                .description("Entradas cargadas en el registro de datos de referencia")
+                                .tag("type", type)
+                                .register(meterRegistry);
+        }
+}
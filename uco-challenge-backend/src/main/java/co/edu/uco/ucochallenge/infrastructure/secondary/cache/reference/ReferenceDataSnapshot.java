@@ -0,0 +1,96 @@
+package co.edu.uco.ucochallenge.infrastructure.secondary.cache.reference;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+
+import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.repository.ReferenceRowView;
+
+/** Copia inmutable de los catálogos; se reemplaza completa en cada recarga. */
+final class ReferenceDataSnapshot {
+
+        private static final int ROOT = -1;
+
+        private final ReferenceDataLevel idTypes;
+        private final ReferenceDataLevel countries;
+        private final ReferenceDataLevel departments;
+        private final ReferenceDataLevel cities;
+        private final Instant loadedAt;
+        private final String version;
+
+        private ReferenceDataSnapshot(final ReferenceDataLevel idTypes, final ReferenceDataLevel countries,
+                        final ReferenceDataLevel departments, final ReferenceDataLevel cities, final Instant loadedAt,
+                        final String version) {
+                this.idTypes = idTypes;
+                this.countries = countries;
+                this.departments = departments;
+                this.cities = cities;
+                this.loadedAt = loadedAt;
+                this.version = version;
+        }
+
+        static ReferenceDataSnapshot of(final List<ReferenceRowView> idTypeRows, final List<ReferenceRowView> countryRows,
+                        final List<ReferenceRowView> departmentRows, final List<ReferenceRowView> cityRows,
+                        final Instant loadedAt) {
+                final var countries = ReferenceDataLevel.root(countryRows);
+                final var departments = ReferenceDataLevel.of(departmentRows, countries);
+                return new ReferenceDataSnapshot(ReferenceDataLevel.root(idTypeRows), countries, departments,
+                                ReferenceDataLevel.of(cityRows, departments), loadedAt,
+                                version(idTypeRows, countryRows, departmentRows, cityRows));
+        }
+
+        ReferenceDataLevel idTypes() {
+                return idTypes;
+        }
+
+        ReferenceDataLevel countries() {
+                return countries;
+        }
+
+        ReferenceDataLevel departments() {
+                return departments;
+        }
+
+        ReferenceDataLevel cities() {
+                return cities;
+        }
+
+        Instant loadedAt() {
+                return loadedAt;
+        }
+
+        /** Huella del contenido: no cambia si una recarga trae los mismos datos, en este u otro nodo. */
+        String version() {
+                return version;
+        }
+
+        boolean isValidHierarchy(final UUID countryId, final UUID departmentId, final UUID cityId) {
+                final int country = countries.positionOf(countryId);
+                final int department = departments.positionOf(departmentId);
+                return country != ROOT && department != ROOT
+                                && departments.parentOf(departmentId) == country
+                                && cities.parentOf(cityId) == department;
+        }
+
+        @SafeVarargs
+        private static String version(final List<ReferenceRowView>... levels) {
+                final MessageDigest digest;
+                try {
+                        digest = MessageDigest.getInstance("SHA-256");
+                } catch (final NoSuchAlgorithmException exception) {
+                        throw new IllegalStateException("SHA-256 not available", exception);
+                }
+                for (final List<ReferenceRowView> rows : levels) {
+                        for (final ReferenceRowView row : rows) {
+                                digest.update((row.getId() + "|" + row.getName() + "|" + row.getParentId() + "\n")
+                                                .getBytes(StandardCharsets.UTF_8));
+                        }
+                        digest.update((byte) 0);
+                }
+                return HexFormat.of().formatHex(digest.digest(), 0, 8);
+        }
+}
@@ -0,0 +1,61 @@
+package co.edu.uco.ucochallenge.infrastructure.secondary.cache.reference;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Tabla hash inmutable UUID -> posición con direccionamiento abierto sobre arreglos de long, sin
+ * objetos por entrada. Se construye una sola vez por snapshot.
+ */
+final class UuidIndex {
+
+        private static final int ABSENT = -1;
+
+        private final long[] mostSignificant;
+        private final long[] leastSignificant;
+        private final int[] positions;
+        private final int mask;
+
+        UuidIndex(final UUID[] ids) {
+                final int capacity = Integer.highestOneBit(Math.max(4, ids.length * 2 - 1)) << 1;
+                this.mostSignificant = new long[capacity];
+                this.leastSignificant = new long[capacity];
+                this.positions = new int[capacity];
+                this.mask = capacity - 1;
+                Arrays.fill(positions, ABSENT);
+
+                for (int position = 0; position < ids.length; position++) {
+                        final UUID id = ids[position];
+                        int slot = slot(id.getMostSignificantBits(), id.getLeastSignificantBits());
+                        while (positions[slot] != ABSENT) {
+                                slot = (slot + 1) & mask;
+                        }
+                        mostSignificant[slot] = id.getMostSignificantBits();
+                        leastSignificant[slot] = id.getLeastSignificantBits();
+                        positions[slot] = position;
+                }
+        }
+
+        /** @return la posición del id o -1 si no existe */
+        int positionOf(final UUID id) {
+                if (id == null) {
+                        return ABSENT;
+                }
+                final long msb = id.getMostSignificantBits();
+                final long lsb = id.getLeastSignificantBits();
+                int slot = slot(msb, lsb);
+                while (positions[slot] != ABSENT) {
+                        if (mostSignificant[slot] == msb && leastSignificant[slot] == lsb) {
+                                return positions[slot];
+                        }
+                        slot = (slot + 1) & mask;
+                }
+                return ABSENT;
+        }
+
+        private int slot(final long msb, final long lsb) {
+                long hash = msb ^ (lsb * 0x9E3779B97F4A7C15L);
+                hash ^= hash >>> 32;
+                return (int) hash & mask;
+        }
+}
@@ -0,0 +1,250 @@
+package co.edu.uco.ucochallenge.infrastructure.secondary.cache.refresh;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Recarga anticipada sobre un caché cuyos valores se guardan como {@link RefreshableValue}. Las
+ * lecturas de una entrada próxima a vencer la recargan en segundo plano (una vez por clave en el
+ * clúster gracias a un {@code SET NX}); una entrada vencida se recarga en la petición, también una
+ * vez por clave, y si el servicio remoto falla se sirve la versión vieja mientras dure la gracia.
+ * La edad de cada valor servido se publica en {@code cache.served.age}.
+ */
+public final class RefreshAheadCache implements Cache {
+
+        private static final Logger LOGGER = LoggerFactory.getLogger(RefreshAheadCache.class);
+
+        private final Cache delegate;
+        private final RefreshAheadSpec spec;
+        private final Executor executor;
+        private final StringRedisTemplate redisTemplate;
+        private final Clock clock;
+        private final MeterRegistry meterRegistry;
+        private final Timer servedAge;
+        private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+        private final Map<String, CompletableFuture<Object>> reloading = new ConcurrentHashMap<>();
+
+        public RefreshAheadCache(final Cache delegate, final RefreshAheadSpec spec, final Executor executor,
+                        final StringRedisTemplate redisTemplate, final Clock clock, final MeterRegistry meterRegistry) {
+                this.delegate = delegate;
+                this.spec = spec;
+                this.executor = executor;
+                this.redisTemplate = redisTemplate;
+                this.clock = clock;
+                this.meterRegistry = meterRegistry;
+                this.servedAge = Timer.builder("cache.served.age")
+                                .description("Tiempo desde la carga del valor servido por el caché")
+                                .tag("cache", delegate.getName())
+                                .register(meterRegistry);
+        }
+
+        @Override
+        public String getName() {
+                return delegate.getName();
+        }
+
+        @Override
+        public Object getNativeCache() {
+                return delegate.getNativeCache();
+        }
+
+        @Override
+        public ValueWrapper get(final Object key) {
+                final RefreshableValue<?> entry = entry(delegate.get(key));
+                if (entry == null || age(entry) >= spec.ttl().toMillis()) {
+                        return null;
+                }
+                return new SimpleValueWrapper(served(entry));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T get(final Object key, final Class<T> type) {
+                final ValueWrapper wrapper = get(key);
+                final Object value = wrapper == null ? null : wrapper.get();
+                if (value != null && type != null && !type.isInstance(value)) {
+                        throw new IllegalStateException(
+                                        "Cached value is not of required type [" + type.getName() + "]: " + value);
+                }
+                return (T) value;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T get(final Object key, final Callable<T> valueLoader) {
+                final RefreshableValue<?> entry = entry(delegate.get(key));
+                if (entry == null) {
+                        final RefreshableValue<T> loaded = delegate.get(key, () -> wrap(valueLoader.call()));
+                        return loaded == null ? null : loaded.value();
+                }
+
+                final long age = age(entry);
+                if (age < spec.ttl().toMillis()) {
+                        if (age >= spec.ttl().minus(spec.refreshAhead()).toMillis()) {
+                                refreshInBackground(key, valueLoader);
+                        }
+                        return (T) served(entry);
+                }
+
+                return (T) reload(key, valueLoader, entry, age);
+        }
+
+        @Override
+        public void put(final Object key, final Object value) {
+                delegate.put(key, wrap(value));
+        }
+
+        @Override
+        public void evict(final Object key) {
+                delegate.evict(key);
+        }
+
+        @Override
+        public void clear() {
+                delegate.clear();
+        }
+
+        /**
+         * Recarga en la petición una entrada vencida. Los lectores concurrentes de este nodo esperan
+         * la misma recarga y, si otro nodo ya la tiene reclamada, se sirve el valor viejo: el
+         * servicio remoto recibe una llamada por clave aunque el caché de abajo ya tenga la entrada.
+         */
+        private <T> Object reload(final Object key, final Callable<T> valueLoader, final RefreshableValue<?> entry,
+                        final long age) {
+                final String reloadKey = String.valueOf(key);
+                final var mine = new CompletableFuture<Object>();
+                final CompletableFuture<Object> running = reloading.putIfAbsent(reloadKey, mine);
+                if (running != null) {
+                        record("coalesced");
+                        return running.join();
+                }
+                try {
+                        final Object value = reloadOnce(key, reloadKey, valueLoader, entry, age);
+                        mine.complete(value);
+                        return value;
+                } catch (final RuntimeException exception) {
+                        mine.completeExceptionally(exception);
+                        throw exception;
+                } finally {
+                        reloading.remove(reloadKey, mine);
+                }
+        }
+
+        private <T> Object reloadOnce(final Object key, final String reloadKey, final Callable<T> valueLoader,
+                        final RefreshableValue<?> entry, final long age) {
+                final String claimKey = "cache-refresh:" + getName() + ":" + reloadKey;
+                if (!claim(claimKey)) {
+                        record("stale");
+                        return served(entry);
+                }
+                try {
+                        final T value = valueLoader.call();
+                        if (value != null) {
+                                delegate.put(key, wrap(value));
+                                record("reloaded");
+                                return value;
+                        }
+                        // Los clientes de catálogo devuelven vacío cuando el servicio no responde
+                } catch (final Exception exception) {
+                        LOGGER.warn("Recarga de {}:{} fallida, se sirve el valor de hace {} s: {}", getName(), key,
+                                        age / 1_000, exception.getMessage());
+                }
+                release(claimKey);
+                record("stale");
+                return served(entry);
+        }
+
+        private <T> void refreshInBackground(final Object key, final Callable<T> valueLoader) {
+                final String refreshKey = String.valueOf(key);
+                if (!refreshing.add(refreshKey)) {
+                        return;
+                }
+                try {
+                        executor.execute(() -> refresh(key, refreshKey, valueLoader));
+                } catch (final RejectedExecutionException exception) {
+                        refreshing.remove(refreshKey);
+                }
+        }
+
+        private <T> void refresh(final Object key, final String refreshKey, final Callable<T> valueLoader) {
+                final String claimKey = "cache-refresh:" + getName() + ":" + refreshKey;
+                try {
+                        if (!claim(claimKey)) {
+                                return;
+                        }
+                        final T value = valueLoader.call();
+                        if (value == null) {
+                                // Los clientes de catálogo devuelven vacío cuando el servicio no responde
+                                release(claimKey);
+                                record("failed");
+                                return;
+                        }
+                        delegate.put(key, wrap(value));
+                        record("refreshed");
+                } catch (final Exception exception) {
+                        // Se libera el turno para que la siguiente lectura, aquí o en otro nodo, lo intente
+                        release(claimKey);
+                        record("failed");
+                        LOGGER.debug("Recarga anticipada de {}:{} fallida", getName(), key, exception);
+                } finally {
+                        refreshing.remove(refreshKey);
+                }
+        }
+
+        private boolean claim(final String claimKey) {
+                try {
+                        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(claimKey, "1",
+                                        spec.refreshAhead()));
+                } catch (final DataAccessException exception) {
+                        return true;
+                }
+        }
+
+        private void release(final String claimKey) {
+                try {
+                        redisTemplate.delete(claimKey);
+                } catch (final DataAccessException exception) {
+                        LOGGER.debug("No fue posible liberar {}; expira solo", claimKey, exception);
+                }
+        }
+
+        private Object served(final RefreshableValue<?> entry) {
+                servedAge.record(Math.max(0, age(entry)), TimeUnit.MILLISECONDS);
+                return entry.value();
+        }
+
+        private long age(final RefreshableValue<?> entry) {
+                return clock.millis() - entry.loadedAt();
+        }
+
+        private <T> RefreshableValue<T> wrap(final T value) {
+                return value == null ? null : new RefreshableValue<>(value, clock.millis());
+        }
+
+        private static RefreshableValue<?> entry(final ValueWrapper wrapper) {
+                return wrapper != null && wrapper.get() instanceof RefreshableValue<?> entry && entry.value() != null
+                                ? entry
+                                : null;
+        }
+
+        private void record(final String outcome) {
+                meterRegistry.counter("cache.refresh-ahead", "cache", getName(), "outcome", outcome).increment();
+        }
+}
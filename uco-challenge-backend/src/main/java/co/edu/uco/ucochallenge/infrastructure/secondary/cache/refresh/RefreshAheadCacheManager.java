@@ -0,0 +1,62 @@
+package co.edu.uco.ucochallenge.infrastructure.secondary.cache.refresh;
+
+import java.time.Clock;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Envuelve en {@link RefreshAheadCache} los cachés con {@link RefreshAheadSpec}; el resto se
+ * entrega sin cambios. Las recargas en segundo plano comparten un grupo pequeño de hilos para no
+ * saturar los servicios remotos; son daemon y terminan con la aplicación.
+ */
+public class RefreshAheadCacheManager implements CacheManager {
+
+        private final CacheManager delegate;
+        private final Map<String, RefreshAheadSpec> specs;
+        private final StringRedisTemplate redisTemplate;
+        private final Clock clock;
+        private final MeterRegistry meterRegistry;
+        private final Executor executor;
+        private final ConcurrentMap<String, Cache> caches = new ConcurrentHashMap<>();
+
+        public RefreshAheadCacheManager(final CacheManager delegate, final Map<String, RefreshAheadSpec> specs,
+                        final StringRedisTemplate redisTemplate, final Clock clock, final MeterRegistry meterRegistry,
+                        final int refreshThreads) {
+                this.delegate = delegate;
+                this.specs = Map.copyOf(specs);
+                this.redisTemplate = redisTemplate;
+                this.clock = clock;
+                this.meterRegistry = meterRegistry;
+                this.executor = Executors.newFixedThreadPool(refreshThreads, Thread.ofPlatform()
+                                .name("cache-refresh-", 0).daemon().factory());
+        }
+
+        @Override
+        public Cache getCache(final String name) {
+                return caches.computeIfAbsent(name, this::decorate);
+        }
+
+        @Override
+        public Collection<String> getCacheNames() {
+                return delegate.getCacheNames();
+        }
+
+        private Cache decorate(final String name) {
+                final Cache cache = delegate.getCache(name);
+                final RefreshAheadSpec spec = specs.get(name);
+                if (cache == null || spec == null) {
+                        return cache;
+                }
+                return new RefreshAheadCache(cache, spec, executor, redisTemplate, clock, meterRegistry);
+        }
+}
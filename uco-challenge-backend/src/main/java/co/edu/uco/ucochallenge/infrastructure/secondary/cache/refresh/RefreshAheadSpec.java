@@ -0,0 +1,25 @@
+package co.edu.uco.ucochallenge.infrastructure.secondary.cache.refresh;
+
+import java.time.Duration;
+
+/**
+ * Ciclo de vida de una entrada con recarga anticipada: vigente durante {@code ttl}; en los
+ * últimos {@code refreshAhead} de ese tiempo una lectura dispara la recarga en segundo plano; tras
+ * el {@code ttl} se recarga en la petición y, si la recarga falla, se sirve el valor viejo hasta
+ * {@code staleGrace}. En Redis la entrada vive {@code ttl + staleGrace}.
+ */
+public record RefreshAheadSpec(Duration ttl, Duration refreshAhead, Duration staleGrace) {
+
+        public RefreshAheadSpec {
+                if (refreshAhead.isNegative() || refreshAhead.compareTo(ttl) >= 0) {
+                        throw new IllegalArgumentException("refreshAhead must be shorter than ttl");
+                }
+                if (staleGrace.isNegative()) {
+                        throw new IllegalArgumentException("staleGrace must not be negative");
+                }
+        }
+
+        public Duration storedTtl() {
+                return ttl.plus(staleGrace);
+        }
+}
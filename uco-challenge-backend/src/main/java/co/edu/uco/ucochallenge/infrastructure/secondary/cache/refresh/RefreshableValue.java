@@ -0,0 +1,5 @@
+package co.edu.uco.ucochallenge.infrastructure.secondary.cache.refresh;
+
+/** Valor guardado en Redis junto con el instante (epoch en milisegundos) en que se cargó. */
+public record RefreshableValue<T>(T value, long loadedAt) {
+}
@@ -0,0 +1,198 @@
+package co.edu.uco.ucochallenge.infrastructure.secondary.cache.singleflight;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Evita la estampida de cargas cuando una entrada falta en Redis. Dentro del nodo, las peticiones
+ * concurrentes por la misma clave esperan la carga de la primera; entre nodos, la carga requiere
+ * un candado {@code SET NX PX} de vida corta y los demás nodos sondean Redis hasta que aparece el
+ * valor. Si el dueño del candado falla o su carga devuelve nulo, el candado se libera y el
+ * siguiente en intentarlo carga. Solo actúa en {@link #get(Object, Callable)}, es decir, en los
+ * {@code @Cacheable(sync = true)}.
+ */
+public final class SingleFlightCache implements Cache {
+
+        private static final Logger LOGGER = LoggerFactory.getLogger(SingleFlightCache.class);
+
+        // Borra el candado solo si sigue siendo de quien lo tomó
+        private static final RedisScript<Long> RELEASE = new DefaultRedisScript<>("""
+                        if redis.call('GET', KEYS[1]) == ARGV[1] then
+                                return redis.call('DEL', KEYS[1])
+                        end
+                        return 0
+                        """, Long.class);
+
+        private final Cache delegate;
+        private final StringRedisTemplate redisTemplate;
+        private final Duration lockTtl;
+        private final Duration pollInterval;
+        private final MeterRegistry meterRegistry;
+        private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+        public SingleFlightCache(final Cache delegate, final StringRedisTemplate redisTemplate, final Duration lockTtl,
+                        final Duration pollInterval, final MeterRegistry meterRegistry) {
+                this.delegate = delegate;
+                this.redisTemplate = redisTemplate;
+                this.lockTtl = lockTtl;
+                this.pollInterval = pollInterval;
+                this.meterRegistry = meterRegistry;
+        }
+
+        @Override
+        public String getName() {
+                return delegate.getName();
+        }
+
+        @Override
+        public Object getNativeCache() {
+                return delegate.getNativeCache();
+        }
+
+        @Override
+        public ValueWrapper get(final Object key) {
+                return delegate.get(key);
+        }
+
+        @Override
+        public <T> T get(final Object key, final Class<T> type) {
+                return delegate.get(key, type);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T get(final Object key, final Callable<T> valueLoader) {
+                final ValueWrapper cached = delegate.get(key);
+                if (cached != null) {
+                        return (T) cached.get();
+                }
+
+                final String flightKey = String.valueOf(key);
+                final var flight = new CompletableFuture<Object>();
+                final CompletableFuture<Object> leader = inFlight.putIfAbsent(flightKey, flight);
+                if (leader != null) {
+                        record("coalesced");
+                        return (T) await(leader);
+                }
+                try {
+                        final T value = loadAcrossNodes(key, flightKey, valueLoader);
+                        flight.complete(value);
+                        return value;
+                } catch (final RuntimeException exception) {
+                        flight.completeExceptionally(exception);
+                        throw exception;
+                } finally {
+                        inFlight.remove(flightKey, flight);
+                }
+        }
+
+        @Override
+        public void put(final Object key, final Object value) {
+                delegate.put(key, value);
+        }
+
+        @Override
+        public void evict(final Object key) {
+                delegate.evict(key);
+        }
+
+        @Override
+        public void clear() {
+                delegate.clear();
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T> T loadAcrossNodes(final Object key, final String flightKey, final Callable<T> valueLoader) {
+                final String lockKey = "cache-lock:" + getName() + ":" + flightKey;
+                final String token = UUID.randomUUID().toString();
+                boolean locked = tryLock(lockKey, token);
+
+                final long deadline = System.nanoTime() + lockTtl.toNanos();
+                while (!locked && System.nanoTime() - deadline < 0) {
+                        if (!pause()) {
+                                break;
+                        }
+                        final ValueWrapper loaded = delegate.get(key);
+                        if (loaded != null) {
+                                record("waited");
+                                return (T) loaded.get();
+                        }
+                        locked = tryLock(lockKey, token);
+                }
+
+                // Sin candado tras el TTL el dueño quedó colgado: se carga de todas formas
+                record("loaded");
+                try {
+                        final T value = valueLoader.call();
+                        if (value != null) {
+                                delegate.put(key, value);
+                        }
+                        return value;
+                } catch (final Exception exception) {
+                        throw new ValueRetrievalException(key, valueLoader, exception);
+                } finally {
+                        if (locked) {
+                                release(lockKey, token);
+                        }
+                }
+        }
+
+        private boolean tryLock(final String lockKey, final String token) {
+                try {
+                        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(lockKey, token, lockTtl));
+                } catch (final DataAccessException exception) {
+                        // Sin Redis no hay coordinación entre nodos; cada uno carga por su cuenta
+                        LOGGER.debug("No fue posible tomar el candado {}", lockKey, exception);
+                        return true;
+                }
+        }
+
+        private void release(final String lockKey, final String token) {
+                try {
+                        redisTemplate.execute(RELEASE, List.of(lockKey), token);
+                } catch (final DataAccessException exception) {
+                        LOGGER.debug("No fue posible liberar el candado {}; expira solo", lockKey, exception);
+                }
+        }
+
+        private boolean pause() {
+                try {
+                        Thread.sleep(pollInterval);
+                        return true;
+                } catch (final InterruptedException exception) {
+                        Thread.currentThread().interrupt();
+                        return false;
+                }
+        }
+
+        private static Object await(final CompletableFuture<Object> leader) {
+                try {
+                        return leader.join();
+                } catch (final CompletionException exception) {
+                        if (exception.getCause() instanceof RuntimeException cause) {
+                                throw cause;
+                        }
+                        throw exception;
+                }
+        }
+
+        private void record(final String outcome) {
+                meterRegistry.counter("cache.single-flight", "cache", getName(), "outcome", outcome).increment();
+        }
+}
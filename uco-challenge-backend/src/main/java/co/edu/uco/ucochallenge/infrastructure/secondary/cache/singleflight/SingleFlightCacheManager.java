@@ -0,0 +1,54 @@
+package co.edu.uco.ucochallenge.infrastructure.secondary.cache.singleflight;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/** Envuelve en {@link SingleFlightCache} los cachés indicados; el resto se entrega sin cambios. */
+public class SingleFlightCacheManager implements CacheManager {
+
+        private final CacheManager delegate;
+        private final Set<String> cacheNames;
+        private final StringRedisTemplate redisTemplate;
+        private final Duration lockTtl;
+        private final Duration pollInterval;
+        private final MeterRegistry meterRegistry;
+        private final ConcurrentMap<String, Cache> caches = new ConcurrentHashMap<>();
+
+        public SingleFlightCacheManager(final CacheManager delegate, final Set<String> cacheNames,
+                        final StringRedisTemplate redisTemplate, final Duration lockTtl, final Duration pollInterval,
+                        final MeterRegistry meterRegistry) {
+                this.delegate = delegate;
+                this.cacheNames = Set.copyOf(cacheNames);
+                this.redisTemplate = redisTemplate;
+                this.lockTtl = lockTtl;
+                this.pollInterval = pollInterval;
+                this.meterRegistry = meterRegistry;
+        }
+
+        @Override
+        public Cache getCache(final String name) {
+                return caches.computeIfAbsent(name, this::decorate);
+        }
+
+        @Override
+        public Collection<String> getCacheNames() {
+                return delegate.getCacheNames();
+        }
+
+        private Cache decorate(final String name) {
+                final Cache cache = delegate.getCache(name);
+                if (cache == null || !cacheNames.contains(name)) {
+                        return cache;
+                }
+                return new SingleFlightCache(cache, redisTemplate, lockTtl, pollInterval, meterRegistry);
+        }
+}
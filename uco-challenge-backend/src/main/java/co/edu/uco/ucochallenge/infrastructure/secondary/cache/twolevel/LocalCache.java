@@ -0,0 +1,63 @@
+package co.edu.uco.ucochallenge.infrastructure.secondary.cache.twolevel;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+import org.springframework.cache.Cache.ValueWrapper;
+
+/**
+ * Mapa LRU acotado con expiración por escritura. Guarda el {@link ValueWrapper} para distinguir
+ * un valor nulo cacheado de una ausencia. Un único candado basta: cada operación es una consulta
+ * al mapa, órdenes de magnitud por debajo del viaje a Redis que evita.
+ */
+final class LocalCache {
+
+        private final long ttlNanos;
+        private final LongSupplier ticker;
+        private final LinkedHashMap<String, Entry> entries;
+
+        LocalCache(final LocalCacheSpec spec, final LongSupplier ticker) {
+                this.ttlNanos = spec.ttl().toNanos();
+                this.ticker = ticker;
+                this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                        private static final long serialVersionUID = 1L;
+
+                        @Override
+                        protected boolean removeEldestEntry(final Map.Entry<String, Entry> eldest) {
+                                return size() > spec.maximumSize();
+                        }
+                };
+        }
+
+        synchronized ValueWrapper get(final String key) {
+                final Entry entry = entries.get(key);
+                if (entry == null) {
+                        return null;
+                }
+                if (ticker.getAsLong() - entry.expiresAt() >= 0) {
+                        entries.remove(key);
+                        return null;
+                }
+                return entry.value();
+        }
+
+        synchronized void put(final String key, final ValueWrapper value) {
+                entries.put(key, new Entry(value, ticker.getAsLong() + ttlNanos));
+        }
+
+        synchronized void evict(final String key) {
+                entries.remove(key);
+        }
+
+        synchronized void clear() {
+                entries.clear();
+        }
+
+        synchronized int size() {
+                return entries.size();
+        }
+
+        private record Entry(ValueWrapper value, long expiresAt) {
+        }
+}
@@ -0,0 +1,19 @@
+package co.edu.uco.ucochallenge.infrastructure.secondary.cache.twolevel;
+
+import java.time.Duration;
+
+/**
+ * Límite del nivel en memoria de un caché. El TTL no debe superar el de Redis: una entrada local
+ * no puede sobrevivir a la remota de la que salió.
+ */
+public record LocalCacheSpec(int maximumSize, Duration ttl) {
+
+        public LocalCacheSpec {
+                if (maximumSize <= 0) {
+                        throw new IllegalArgumentException("maximumSize must be positive");
+                }
+                if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+                        throw new IllegalArgumentException("ttl must be positive");
+                }
+        }
+}
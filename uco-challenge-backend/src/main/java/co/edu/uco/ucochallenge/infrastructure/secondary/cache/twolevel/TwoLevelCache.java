@@ -0,0 +1,132 @@
+package co.edu.uco.ucochallenge.infrastructure.secondary.cache.twolevel;
+
+import java.util.concurrent.Callable;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Caché en memoria (L1) delante del caché de Redis (L2). Las lecturas que fallan en L1 consultan
+ * L2 y copian el resultado; los {@code evict} y {@code clear} se aplican en ambos niveles y se
+ * anuncian al resto de nodos para que descarten su L1. Los {@code put} no se anuncian: solo
+ * ocurren tras un fallo de lectura y guardan lo mismo que ya está en L2.
+ */
+public final class TwoLevelCache implements Cache {
+
+        /** Avisa al resto de nodos; {@code key} nulo significa vaciar el caché completo. */
+        @FunctionalInterface
+        interface InvalidationPublisher {
+                void publish(String cacheName, String key);
+        }
+
+        private final Cache remote;
+        private final LocalCache local;
+        private final InvalidationPublisher publisher;
+        private final Counter localHits;
+        private final Counter localMisses;
+
+        TwoLevelCache(final Cache remote, final LocalCache local, final InvalidationPublisher publisher,
+                        final MeterRegistry meterRegistry) {
+                this.remote = remote;
+                this.local = local;
+                this.publisher = publisher;
+                this.localHits = Counter.builder("cache.local.gets").tag("cache", remote.getName()).tag("result", "hit")
+                                .register(meterRegistry);
+                this.localMisses = Counter.builder("cache.local.gets").tag("cache", remote.getName()).tag("result", "miss")
+                                .register(meterRegistry);
+                Gauge.builder("cache.local.size", local, LocalCache::size).tag("cache", remote.getName())
+                                .register(meterRegistry);
+        }
+
+        @Override
+        public String getName() {
+                return remote.getName();
+        }
+
+        @Override
+        public Object getNativeCache() {
+                return remote.getNativeCache();
+        }
+
+        @Override
+        public ValueWrapper get(final Object key) {
+                final String localKey = localKey(key);
+                final ValueWrapper cached = local.get(localKey);
+                if (cached != null) {
+                        localHits.increment();
+                        return cached;
+                }
+                localMisses.increment();
+                final ValueWrapper loaded = remote.get(key);
+                if (loaded != null) {
+                        local.put(localKey, loaded);
+                }
+                return loaded;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T get(final Object key, final Class<T> type) {
+                final ValueWrapper wrapper = get(key);
+                final Object value = wrapper == null ? null : wrapper.get();
+                if (value != null && type != null && !type.isInstance(value)) {
+                        throw new IllegalStateException(
+                                        "Cached value is not of required type [" + type.getName() + "]: " + value);
+                }
+                return (T) value;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T get(final Object key, final Callable<T> valueLoader) {
+                final String localKey = localKey(key);
+                final ValueWrapper cached = local.get(localKey);
+                if (cached != null) {
+                        localHits.increment();
+                        return (T) cached.get();
+                }
+                localMisses.increment();
+                final T value = remote.get(key, valueLoader);
+                if (value != null) {
+                        local.put(localKey, new SimpleValueWrapper(value));
+                }
+                return value;
+        }
+
+        @Override
+        public void put(final Object key, final Object value) {
+                remote.put(key, value);
+                local.put(localKey(key), new SimpleValueWrapper(value));
+        }
+
+        @Override
+        public void evict(final Object key) {
+                final String localKey = localKey(key);
+                remote.evict(key);
+                local.evict(localKey);
+                publisher.publish(getName(), localKey);
+        }
+
+        @Override
+        public void clear() {
+                remote.clear();
+                local.clear();
+                publisher.publish(getName(), null);
+        }
+
+        void evictLocal(final String key) {
+                local.evict(key);
+        }
+
+        void clearLocal() {
+                local.clear();
+        }
+
+        private static String localKey(final Object key) {
+                return String.valueOf(key);
+        }
+}
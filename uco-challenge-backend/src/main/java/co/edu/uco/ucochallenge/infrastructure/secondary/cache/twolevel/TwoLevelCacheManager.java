@@ -0,0 +1,100 @@
+package co.edu.uco.ucochallenge.infrastructure.secondary.cache.twolevel;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * {@link CacheManager} que antepone un {@link TwoLevelCache} a los cachés de Redis que tengan un
+ * {@link LocalCacheSpec}; el resto se entrega sin cambios. Las invalidaciones viajan por un canal
+ * pub/sub de Redis con el formato {@code nodo|E|caché|clave} o {@code nodo|C|caché|}; cada nodo
+ * ignora sus propios mensajes. Un mensaje perdido deja la entrada local vieja como máximo el TTL
+ * de su {@link LocalCacheSpec}.
+ */
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+
+        private static final Logger LOGGER = LoggerFactory.getLogger(TwoLevelCacheManager.class);
+
+        private static final String EVICT = "E";
+        private static final String CLEAR = "C";
+
+        private final CacheManager remote;
+        private final Map<String, LocalCacheSpec> specs;
+        private final StringRedisTemplate redisTemplate;
+        private final String channel;
+        private final MeterRegistry meterRegistry;
+        private final String nodeId = UUID.randomUUID().toString();
+        private final ConcurrentMap<String, Cache> caches = new ConcurrentHashMap<>();
+
+        public TwoLevelCacheManager(final CacheManager remote, final Map<String, LocalCacheSpec> specs,
+                        final StringRedisTemplate redisTemplate, final String channel, final MeterRegistry meterRegistry) {
+                this.remote = remote;
+                this.specs = Map.copyOf(specs);
+                this.redisTemplate = redisTemplate;
+                this.channel = channel;
+                this.meterRegistry = meterRegistry;
+        }
+
+        @Override
+        public Cache getCache(final String name) {
+                return caches.computeIfAbsent(name, this::decorate);
+        }
+
+        @Override
+        public Collection<String> getCacheNames() {
+                return remote.getCacheNames();
+        }
+
+        public String getChannel() {
+                return channel;
+        }
+
+        @Override
+        public void onMessage(final Message message, final byte[] pattern) {
+                final String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 4);
+                if (parts.length < 4 || nodeId.equals(parts[0])) {
+                        return;
+                }
+                if (caches.get(parts[2]) instanceof TwoLevelCache cache) {
+                        if (CLEAR.equals(parts[1])) {
+                                cache.clearLocal();
+                        } else {
+                                cache.evictLocal(parts[3]);
+                        }
+                        meterRegistry.counter("cache.local.invalidations", "cache", parts[2]).increment();
+                }
+        }
+
+        private Cache decorate(final String name) {
+                final Cache remoteCache = remote.getCache(name);
+                final LocalCacheSpec spec = specs.get(name);
+                if (remoteCache == null || spec == null) {
+                        return remoteCache;
+                }
+                return new TwoLevelCache(remoteCache, new LocalCache(spec, System::nanoTime), this::publish, meterRegistry);
+        }
+
+        private void publish(final String cacheName, final String key) {
+                final String operation = key == null ? CLEAR : EVICT;
+                try {
+                        redisTemplate.convertAndSend(channel,
+                                        nodeId + "|" + operation + "|" + cacheName + "|" + (key == null ? "" : key));
+                } catch (final DataAccessException exception) {
+                        LOGGER.warn("No fue posible anunciar la invalidación de {}: {}", cacheName, exception.getMessage());
+                }
+        }
+}
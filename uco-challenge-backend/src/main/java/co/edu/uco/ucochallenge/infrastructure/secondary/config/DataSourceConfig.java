@@ -26,6 +26,10 @@ public class DataSourceConfig {
   @Value("${spring.datasource.driver-class-name}")
   private String driverClassName;
 
+  // También fija cuántas lecturas JDBC corren a la vez (BlockingExecution#callJdbc)
+  @Value("${uco.datasource.maximum-pool-size:10}")
+  private int maximumPoolSize;
+
   // nombres de los secretos en el Key Vault
   private static final String SECRET_DB_USERNAME = "db-username";
   private static final String SECRET_DB_PASSWORD = "db-password";
@@ -41,7 +45,7 @@ public class DataSourceConfig {
     cfg.setUsername(username);
     cfg.setPassword(password);
     cfg.setDriverClassName(driverClassName);
-    cfg.setMaximumPoolSize(10);
+    cfg.setMaximumPoolSize(maximumPoolSize);
     cfg.setMinimumIdle(1);
     cfg.setPoolName("UcoHikariPool");
 
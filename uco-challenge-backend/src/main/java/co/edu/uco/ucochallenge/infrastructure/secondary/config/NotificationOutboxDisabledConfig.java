@@ -0,0 +1,23 @@
+package co.edu.uco.ucochallenge.infrastructure.secondary.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.persistenceunit.ManagedClassNameFilter;
+
+import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.entity.NotificationOutboxEntity;
+
+/**
+ * Con uco.notifications.outbox.enabled=false la entidad del outbox queda fuera de la unidad de
+ * persistencia: ddl-auto=validate no exige notification_outbox y el flag sirve para volver atrás
+ * sin haber aplicado db/002-notification-outbox.sql.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "uco.notifications.outbox", name = "enabled", havingValue = "false")
+public class NotificationOutboxDisabledConfig {
+
+    @Bean
+    public ManagedClassNameFilter outboxExcludedFromPersistenceUnit() {
+        return className -> !NotificationOutboxEntity.class.getName().equals(className);
+    }
+}
@@ -1,11 +1,13 @@
 package co.edu.uco.ucochallenge.infrastructure.secondary.config;
 
+import java.time.Clock;
 import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
 
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
-import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.databind.type.TypeFactory;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
@@ -19,15 +21,34 @@ import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 
+import co.edu.uco.ucochallenge.crosscutting.dto.MessageDTO;
+import co.edu.uco.ucochallenge.crosscutting.dto.ParameterDTO;
+import co.edu.uco.ucochallenge.domain.user.find.model.FindUsersByFilterResponseDomain;
+import co.edu.uco.ucochallenge.infrastructure.secondary.cache.redis.CacheValueFormat;
+import co.edu.uco.ucochallenge.infrastructure.secondary.cache.redis.CacheValueSerializers;
+import co.edu.uco.ucochallenge.infrastructure.secondary.cache.redis.UsersPageCacheGeneration;
+import co.edu.uco.ucochallenge.infrastructure.secondary.cache.refresh.RefreshAheadCacheManager;
+import co.edu.uco.ucochallenge.infrastructure.secondary.cache.refresh.RefreshAheadSpec;
+import co.edu.uco.ucochallenge.infrastructure.secondary.cache.refresh.RefreshableValue;
+import co.edu.uco.ucochallenge.infrastructure.secondary.cache.singleflight.SingleFlightCacheManager;
+import co.edu.uco.ucochallenge.infrastructure.secondary.cache.twolevel.LocalCacheSpec;
+import co.edu.uco.ucochallenge.infrastructure.secondary.cache.twolevel.TwoLevelCacheManager;
+import io.micrometer.core.instrument.MeterRegistry;
+
 @Configuration
 @EnableCaching
 public class RedisConfig {
 
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+
     @Value("${uco.cache.users.ttl-seconds:300}")
     private long usersTtlSeconds;
 
@@ -37,6 +58,69 @@ public class RedisConfig {
     @Value("${uco.cache.parameters.ttl-seconds:900}")
     private long parametersTtlSeconds;
 
+    @Value("${uco.cache.users.format:typed}")
+    private String usersFormat;
+
+    @Value("${uco.cache.users.compress-above-bytes:2048}")
+    private int usersCompressionThreshold;
+
+    @Value("${uco.cache.messages.format:typed}")
+    private String messagesFormat;
+
+    @Value("${uco.cache.messages.compress-above-bytes:0}")
+    private int messagesCompressionThreshold;
+
+    @Value("${uco.cache.parameters.format:typed}")
+    private String parametersFormat;
+
+    @Value("${uco.cache.parameters.compress-above-bytes:0}")
+    private int parametersCompressionThreshold;
+
+    @Value("${uco.cache.messages.refresh-ahead:PT1M}")
+    private Duration messagesRefreshAhead;
+
+    @Value("${uco.cache.messages.stale-grace:PT30M}")
+    private Duration messagesStaleGrace;
+
+    @Value("${uco.cache.parameters.refresh-ahead:PT1M}")
+    private Duration parametersRefreshAhead;
+
+    @Value("${uco.cache.parameters.stale-grace:PT30M}")
+    private Duration parametersStaleGrace;
+
+    @Value("${uco.cache.refresh-ahead.threads:2}")
+    private int refreshThreads;
+
+    @Value("${uco.cache.single-flight.lock-ttl:PT5S}")
+    private Duration singleFlightLockTtl;
+
+    @Value("${uco.cache.single-flight.poll-interval:PT0.05S}")
+    private Duration singleFlightPollInterval;
+
+    @Value("${uco.cache.local.enabled:true}")
+    private boolean localCacheEnabled;
+
+    @Value("${uco.cache.local.invalidation-channel:cache:invalidations}")
+    private String invalidationChannel;
+
+    @Value("${uco.cache.messages.local-max-size:5000}")
+    private int messagesLocalMaxSize;
+
+    @Value("${uco.cache.messages.local-ttl:PT30S}")
+    private Duration messagesLocalTtl;
+
+    @Value("${uco.cache.parameters.local-max-size:500}")
+    private int parametersLocalMaxSize;
+
+    @Value("${uco.cache.parameters.local-ttl:PT30S}")
+    private Duration parametersLocalTtl;
+
+    @Value("${uco.cache.users.local-max-size:200}")
+    private int usersLocalMaxSize;
+
+    @Value("${uco.cache.users.local-ttl:PT10S}")
+    private Duration usersLocalTtl;
+
     @Bean
     public RedisConnectionFactory redisConnectionFactory() {
         // Host/port vienen de spring.data.redis.*
@@ -57,36 +141,94 @@ public class RedisConfig {
     }
 
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory cf) {
-        GenericJackson2JsonRedisSerializer serializer = redisSerializer();
+    public RedisCacheManager redisCacheManager(RedisConnectionFactory cf) {
         RedisCacheConfiguration base = RedisCacheConfiguration.defaultCacheConfig()
-            .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
-            .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(serializer));
-
-        RedisCacheConfiguration usersCfg    = base.entryTtl(Duration.ofSeconds(usersTtlSeconds));
-        RedisCacheConfiguration messagesCfg = base.entryTtl(Duration.ofSeconds(messagesTtlSeconds));
-        RedisCacheConfiguration paramsCfg   = base.entryTtl(Duration.ofSeconds(parametersTtlSeconds));
+            .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()));
 
+        // Estadísticas para cache.gets{result=hit|miss}
         return RedisCacheManager.builder(cf)
-                .withCacheConfiguration("usersByPage", usersCfg)
-                .withCacheConfiguration("messagesCatalog", messagesCfg)
-                .withCacheConfiguration("parametersCatalog", paramsCfg)
+                .enableStatistics()
+                .withCacheConfiguration("usersByPage", cacheConfiguration(base, "usersByPage",
+                        Duration.ofSeconds(usersTtlSeconds), TYPES.constructType(FindUsersByFilterResponseDomain.class),
+                        usersFormat, usersCompressionThreshold))
+                // Los catálogos guardan la hora de carga para la recarga anticipada y viven además la gracia
+                .withCacheConfiguration("messagesCatalog", cacheConfiguration(base, "messagesCatalog:refreshable",
+                        messagesRefreshSpec().storedTtl(), refreshable(MessageDTO.class), messagesFormat,
+                        messagesCompressionThreshold))
+                .withCacheConfiguration("parametersCatalog", cacheConfiguration(base, "parametersCatalog:refreshable",
+                        parametersRefreshSpec().storedTtl(), refreshable(ParameterDTO.class), parametersFormat,
+                        parametersCompressionThreshold))
                 .build();
     }
 
-    private GenericJackson2JsonRedisSerializer redisSerializer() {
-        return new GenericJackson2JsonRedisSerializer(redisObjectMapper());
+    private static RedisCacheConfiguration cacheConfiguration(RedisCacheConfiguration base, String keyspace,
+            Duration ttl, JavaType valueType, String rawFormat, int compressionThreshold) {
+        CacheValueFormat format = CacheValueFormat.from(rawFormat);
+        String prefix = CacheValueSerializers.keyPrefix(keyspace, format, compressionThreshold);
+        RedisCacheConfiguration config = base
+            .entryTtl(ttl)
+            .computePrefixWith(name -> prefix)
+            .serializeValuesWith(RedisSerializationContext.SerializationPair
+                    .fromSerializer(CacheValueSerializers.forCache(format, valueType, compressionThreshold)));
+        // El formato tipado no sabe representar NullValue: los métodos cacheados no guardan nulos
+        return format == CacheValueFormat.TYPED ? config.disableCachingNullValues() : config;
+    }
+
+    private static JavaType refreshable(Class<?> valueType) {
+        return TYPES.constructParametricType(RefreshableValue.class, valueType);
+    }
+
+    private RefreshAheadSpec messagesRefreshSpec() {
+        return new RefreshAheadSpec(Duration.ofSeconds(messagesTtlSeconds), messagesRefreshAhead, messagesStaleGrace);
+    }
+
+    private RefreshAheadSpec parametersRefreshSpec() {
+        return new RefreshAheadSpec(Duration.ofSeconds(parametersTtlSeconds), parametersRefreshAhead,
+                parametersStaleGrace);
     }
 
-    private ObjectMapper redisObjectMapper() {
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.registerModule(new Jdk8Module());
-        mapper.registerModule(new JavaTimeModule());
-        mapper.activateDefaultTyping(
-            LaissezFaireSubTypeValidator.instance,
-            ObjectMapper.DefaultTyping.EVERYTHING
-        );
-        return mapper;
+    /**
+     * L1 en memoria delante de Redis para los cachés con límites configurados; los fallos de los
+     * {@code @Cacheable(sync = true)} se cargan una sola vez por clave y los catálogos se recargan
+     * antes de vencer.
+     */
+    @Bean
+    @Primary
+    public TwoLevelCacheManager cacheManager(RedisCacheManager redisCacheManager, StringRedisTemplate stringRedisTemplate,
+            Clock clock, MeterRegistry meterRegistry) {
+        Map<String, LocalCacheSpec> specs = localCacheEnabled
+                ? Map.of(
+                        "messagesCatalog", new LocalCacheSpec(messagesLocalMaxSize, messagesLocalTtl),
+                        "parametersCatalog", new LocalCacheSpec(parametersLocalMaxSize, parametersLocalTtl),
+                        "usersByPage", new LocalCacheSpec(usersLocalMaxSize, usersLocalTtl))
+                : Map.of();
+        // Entre L1 y Redis: recarga anticipada de catálogos y una sola carga por clave ausente en el clúster
+        SingleFlightCacheManager singleFlight = new SingleFlightCacheManager(redisCacheManager,
+                Set.of("messagesCatalog", "parametersCatalog", "usersByPage"), stringRedisTemplate, singleFlightLockTtl,
+                singleFlightPollInterval, meterRegistry);
+        return new TwoLevelCacheManager(refreshAheadCacheManager(singleFlight, stringRedisTemplate, clock,
+                meterRegistry), specs, stringRedisTemplate, invalidationChannel, meterRegistry);
+    }
+
+    private RefreshAheadCacheManager refreshAheadCacheManager(CacheManager delegate,
+            StringRedisTemplate stringRedisTemplate, Clock clock, MeterRegistry meterRegistry) {
+        return new RefreshAheadCacheManager(delegate, Map.of(
+                "messagesCatalog", messagesRefreshSpec(),
+                "parametersCatalog", parametersRefreshSpec()), stringRedisTemplate, clock, meterRegistry,
+                refreshThreads);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory cf,
+            TwoLevelCacheManager cacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(cf);
+        container.addMessageListener(cacheManager, new ChannelTopic(cacheManager.getChannel()));
+        return container;
+    }
+
+    private GenericJackson2JsonRedisSerializer redisSerializer() {
+        return CacheValueSerializers.generic();
     }
 
     @Bean
@@ -95,9 +237,13 @@ public class RedisConfig {
         return builder.createXmlMapper(false).build().findAndRegisterModules();
     }
 
-    /** Clave: users:page={page}:size={size} */
+    /**
+     * Clave: users:gen={generación}:page={page}:size={size}:count={estrategia}:filter={predicado}.
+     * Las escrituras avanzan la generación en lugar de vaciar el caché.
+     */
     @Bean(name = "usersPageKeyGenerator")
-    public KeyGenerator usersPageKeyGenerator() {
-        return (target, method, params) -> "users:page=" + params[0] + ":size=" + params[1];
+    public KeyGenerator usersPageKeyGenerator(UsersPageCacheGeneration generation) {
+        return (target, method, params) -> "users:gen=" + generation.current() + ":page=" + params[1] + ":size="
+                + params[2] + ":count=" + params[3] + ":filter=" + params[0];
     }
 }
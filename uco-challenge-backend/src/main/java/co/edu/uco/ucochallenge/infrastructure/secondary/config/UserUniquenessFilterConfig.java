@@ -0,0 +1,61 @@
+package co.edu.uco.ucochallenge.infrastructure.secondary.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import co.edu.uco.ucochallenge.infrastructure.secondary.cache.bloom.BloomFilter;
+import co.edu.uco.ucochallenge.infrastructure.secondary.cache.bloom.BloomFilteredRegisterUserRepositoryAdapter;
+import co.edu.uco.ucochallenge.infrastructure.secondary.cache.bloom.BloomFilteredUserImportRepositoryAdapter;
+import co.edu.uco.ucochallenge.infrastructure.secondary.cache.bloom.UserUniquenessIndex;
+import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.adapter.UserImportRepositoryAdapter;
+import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.adapter.UserRepositoryAdapter;
+import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.adapter.UserUniqueConstraints;
+import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.repository.SpringDataUserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Expone RegisterUserRepositoryPort, BatchRegisterUserRepositoryPort y UserImportRepositoryPort
+ * como decorators con el índice de unicidad en memoria.
+ * Con uco.users.uniqueness-filter.enabled=false se usa directamente el adaptador JPA; sin los
+ * índices de db/001-usuario-unique-constraints.sql el índice nunca se activa.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "uco.users.uniqueness-filter", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class UserUniquenessFilterConfig {
+
+    /** Cada usuario aporta hasta tres claves: identificación, email y móvil. */
+    private static final int KEYS_PER_USER = 3;
+
+    @Bean
+    public UserUniquenessIndex userUniquenessIndex(SpringDataUserRepository repository,
+            PlatformTransactionManager transactionManager,
+            StringRedisTemplate redisTemplate,
+            UserUniqueConstraints uniqueConstraints,
+            MeterRegistry meterRegistry,
+            @Value("${uco.users.uniqueness-filter.expected-users:200000}") long expectedUsers,
+            @Value("${uco.users.uniqueness-filter.false-positive-rate:0.01}") double falsePositiveRate,
+            @Value("${uco.users.uniqueness-filter.redis-key:users:uniqueness-filter}") String redisKey) {
+        final BloomFilter filter = BloomFilter.create(expectedUsers * KEYS_PER_USER, falsePositiveRate);
+        return new UserUniquenessIndex(filter, repository, transactionManager, redisTemplate, redisKey,
+                uniqueConstraints::present, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public BloomFilteredRegisterUserRepositoryAdapter registerUserRepositoryPortFiltered(UserRepositoryAdapter jpaAdapter,
+            UserUniquenessIndex index) {
+        return new BloomFilteredRegisterUserRepositoryAdapter(jpaAdapter, jpaAdapter, index);
+    }
+
+    @Bean
+    @Primary
+    public BloomFilteredUserImportRepositoryAdapter userImportRepositoryPortFiltered(UserImportRepositoryAdapter importAdapter,
+            UserUniquenessIndex index) {
+        return new BloomFilteredUserImportRepositoryAdapter(importAdapter, index);
+    }
+}
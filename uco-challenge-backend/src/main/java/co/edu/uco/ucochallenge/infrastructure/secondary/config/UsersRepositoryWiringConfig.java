@@ -6,10 +6,10 @@ import org.springframework.context.annotation.Primary;
 
 import co.edu.uco.ucochallenge.domain.user.port.FindUsersByFilterRepositoryPort;
 import co.edu.uco.ucochallenge.infrastructure.secondary.cache.redis.UsersCacheRepositoryAdapter;
-import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.adapter.UserRepositoryAdapter;
+import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.adapter.UserSummaryReadAdapter;
 
 /**
- * Expone el puerto como decorator de caché envolviendo al adaptador JPA real.
+ * Expone el puerto como decorator de caché envolviendo al adaptador de lectura JDBC.
  * No se cambia el interactor ni el use case.
  */
 @Configuration
@@ -17,8 +17,8 @@ public class UsersRepositoryWiringConfig {
 
     @Bean
     @Primary
-    public FindUsersByFilterRepositoryPort usersRepositoryPortCached(UserRepositoryAdapter jpaAdapter) {
-        // Inyectamos la clase concreta JPA para evitar qualifiers/nombres
-        return new UsersCacheRepositoryAdapter(jpaAdapter);
+    public FindUsersByFilterRepositoryPort usersRepositoryPortCached(UserSummaryReadAdapter readAdapter) {
+        // Inyectamos la clase concreta para evitar qualifiers/nombres
+        return new UsersCacheRepositoryAdapter(readAdapter);
     }
 }
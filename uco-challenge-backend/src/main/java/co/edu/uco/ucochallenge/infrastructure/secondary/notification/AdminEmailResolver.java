@@ -0,0 +1,25 @@
+package co.edu.uco.ucochallenge.infrastructure.secondary.notification;
+
+import org.springframework.stereotype.Component;
+
+import co.edu.uco.ucochallenge.crosscutting.ParamKeys;
+import co.edu.uco.ucochallenge.infrastructure.secondary.cache.catalog.ParameterRegistry;
+
+/** Resuelve el correo del administrador desde el registro de parámetros precargado. */
+@Component
+public class AdminEmailResolver {
+
+    // Fallback si no está configurado en parámetros
+    static final String DEFAULT_ADMIN_EMAIL = "juanjosenarvaezmarin13092005@gmail.com";
+
+    private final ParameterRegistry parameterRegistry;
+
+    public AdminEmailResolver(final ParameterRegistry parameterRegistry) {
+        this.parameterRegistry = parameterRegistry;
+    }
+
+    public String resolve() {
+        // Como antes, cualquier valor no vacío se usa tal cual; el formato lo valida quien lo configura
+        return parameterRegistry.text(ParamKeys.ADMIN_EMAIL, DEFAULT_ADMIN_EMAIL);
+    }
+}
@@ -0,0 +1,88 @@
+package co.edu.uco.ucochallenge.infrastructure.secondary.notification;
+
+import java.time.Year;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.notificationapi.model.NotificationRequest;
+import com.notificationapi.model.SmsOptions;
+import com.notificationapi.model.User;
+
+/**
+ * Construye las solicitudes de NotificationAPI para avisos de registro duplicado.
+ * Lo comparten el envío directo y el despachador del outbox.
+ */
+@Component
+public class DuplicateNotificationRequests {
+
+    public static final String EXECUTOR_SUBJECT = "UCO Challenge - Registro duplicado";
+    public static final String EMAIL_OWNER_SUBJECT = "UCO Challenge - Intento con correo ya registrado";
+    public static final String UNKNOWN_CHANNEL = "desconocido";
+
+    // Notificación para avisos al usuario (correo)
+    private static final String DUP_NOTIFICATION_ID = "duplicate_alert";
+    private static final String DUP_TEMPLATE_ID     = "template_one";
+
+    // Notificación para avisos al usuario (SMS)
+    private static final String DUP_SMS_NOTIFICATION_ID = "duplicado_sms";
+
+    // Notificación exclusiva para el administrador
+    private static final String DUP_ADMIN_NOTIFICATION_ID = "duplicado_aviso_admin";
+    private static final String ADMIN_TEMPLATE_ID          = "template_one";
+
+    public NotificationRequest duplicateEmail(final String toEmail, final String subject, final String message) {
+        final User user = new User(toEmail).setEmail(toEmail); // NO setNumber
+        return new NotificationRequest(DUP_NOTIFICATION_ID, user)
+                .setTemplateId(DUP_TEMPLATE_ID)
+                .setParameters(duplicateParams(subject, message));
+    }
+
+    public NotificationRequest duplicateSms(final String toMobile, final String message) {
+        final String e164 = normalizeToE164(toMobile);
+        final User user = new User(e164).setNumber(e164);
+        return new NotificationRequest(DUP_SMS_NOTIFICATION_ID, user)
+                .setTemplateId(DUP_TEMPLATE_ID)
+                .setSms(new SmsOptions().setMessage(message));
+    }
+
+    /** Correo del ADMIN con solo duplicatedValue y channel. */
+    public NotificationRequest adminDuplicateAlert(final String adminEmail, final String duplicatedValue,
+                                                   final String channel) {
+        final User user = new User(adminEmail).setEmail(adminEmail);
+        Map<String, Object> params = new HashMap<>();
+        params.put("duplicatedValue", duplicatedValue); // {{duplicatedValue}}
+        params.put("channel", channel);                 // {{channel}} -> "email" | "sms"
+        return new NotificationRequest(DUP_ADMIN_NOTIFICATION_ID, user)
+                .setTemplateId(ADMIN_TEMPLATE_ID)
+                .setParameters(params);
+    }
+
+    public String normalizeToE164(String raw) {
+        if (raw == null) return null;
+        String digits = raw.replaceAll("\\D", ""); // deja solo números
+
+        // +57XXXXXXXXXX (12 dígitos) -> OK
+        if (digits.startsWith("57") && digits.length() == 12) {
+            return "+" + digits;
+        }
+        // 3XXXXXXXXX (10 dígitos móviles en CO) -> anteponer +57
+        if (digits.length() == 10 && digits.startsWith("3")) {
+            return "+57" + digits;
+        }
+        // si ya viene con + al inicio, regrésalo tal cual
+        if (raw.startsWith("+")) return raw;
+
+        // fallback: agrega + al inicio
+        return "+" + digits;
+    }
+
+    private static Map<String, Object> duplicateParams(String subject, String message) {
+        Map<String, Object> p = new HashMap<>();
+        p.put("subject", subject);
+        p.put("message", message);
+        p.put("currentYear", String.valueOf(Year.now().getValue()));
+        return p;
+    }
+}
@@ -0,0 +1,52 @@
+package co.edu.uco.ucochallenge.infrastructure.secondary.notification;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.notificationapi.model.NotificationRequest;
+
+import co.edu.uco.ucochallenge.crosscutting.exception.NotificationDeliveryException;
+
+/**
+ * Sustituto local de NotificationAPI (uco.notifications.sender=local): no sale a la red,
+ * guarda las solicitudes y permite simular fallos para probar reintentos.
+ */
+@Component
+@ConditionalOnProperty(prefix = "uco.notifications", name = "sender", havingValue = "local")
+public class LocalNotificationSender implements NotificationSender {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LocalNotificationSender.class);
+
+    private final List<NotificationRequest> sent = new CopyOnWriteArrayList<>();
+    private final AtomicInteger pendingFailures = new AtomicInteger();
+
+    @Override
+    public String send(final NotificationRequest request) {
+        if (pendingFailures.getAndUpdate(value -> Math.max(0, value - 1)) > 0) {
+            throw new NotificationDeliveryException("Fallo simulado del envío local");
+        }
+        sent.add(request);
+        LOGGER.info("[LocalNotificationSender] Notificación registrada localmente: {}", request);
+        return "local-" + sent.size();
+    }
+
+    /** Hace fallar los próximos {@code count} envíos. */
+    public void failNext(final int count) {
+        pendingFailures.set(count);
+    }
+
+    public List<NotificationRequest> sentRequests() {
+        return List.copyOf(sent);
+    }
+
+    public void clear() {
+        sent.clear();
+        pendingFailures.set(0);
+    }
+}
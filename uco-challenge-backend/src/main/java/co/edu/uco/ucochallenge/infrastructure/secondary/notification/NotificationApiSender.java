@@ -0,0 +1,23 @@
+package co.edu.uco.ucochallenge.infrastructure.secondary.notification;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.notificationapi.NotificationApi;
+import com.notificationapi.model.NotificationRequest;
+
+@Component
+@ConditionalOnProperty(prefix = "uco.notifications", name = "sender", havingValue = "api", matchIfMissing = true)
+public class NotificationApiSender implements NotificationSender {
+
+    private final NotificationApi notificationApi;
+
+    public NotificationApiSender(final NotificationApi notificationApi) {
+        this.notificationApi = notificationApi;
+    }
+
+    @Override
+    public String send(final NotificationRequest request) {
+        return notificationApi.send(request);
+    }
+}
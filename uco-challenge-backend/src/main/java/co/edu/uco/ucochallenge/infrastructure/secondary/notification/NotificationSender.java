@@ -0,0 +1,9 @@
+package co.edu.uco.ucochallenge.infrastructure.secondary.notification;
+
+import com.notificationapi.model.NotificationRequest;
+
+/** Punto único de salida hacia el proveedor de notificaciones. */
+public interface NotificationSender {
+
+    String send(NotificationRequest request);
+}
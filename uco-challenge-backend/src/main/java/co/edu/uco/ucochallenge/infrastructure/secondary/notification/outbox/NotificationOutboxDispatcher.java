@@ -0,0 +1,212 @@
+package co.edu.uco.ucochallenge.infrastructure.secondary.notification.outbox;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.notificationapi.model.NotificationRequest;
+
+import co.edu.uco.ucochallenge.infrastructure.secondary.notification.AdminEmailResolver;
+import co.edu.uco.ucochallenge.infrastructure.secondary.notification.DuplicateNotificationRequests;
+import co.edu.uco.ucochallenge.infrastructure.secondary.notification.NotificationSender;
+import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.entity.NotificationOutboxEntity;
+import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.entity.NotificationOutboxEntity.Status;
+import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.entity.NotificationOutboxEntity.Type;
+import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.repository.NotificationOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Drena el outbox por lotes. Cada ciclo reclama filas con FOR UPDATE SKIP LOCKED y un lease,
+ * libera la conexión, envía en paralelo y registra el resultado en una transacción corta.
+ * Los fallos se reintentan con backoff exponencial hasta {@code max-attempts}.
+ */
+@Component
+@ConditionalOnProperty(prefix = "uco.notifications.outbox", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class NotificationOutboxDispatcher {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(NotificationOutboxDispatcher.class);
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final NotificationOutboxRepository repository;
+    private final NotificationSender sender;
+    private final DuplicateNotificationRequests requests;
+    private final AdminEmailResolver adminEmailResolver;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final ExecutorService executor;
+    private final int batchSize;
+    private final Duration lease;
+    private final int maxAttempts;
+    private final Duration baseBackoff;
+    private final Duration maxBackoff;
+
+    private final AtomicLong queueDepth = new AtomicLong();
+    private final Timer dispatchLag;
+    private final Counter sentCounter;
+    private final Counter retriedCounter;
+    private final Counter failedCounter;
+
+    public NotificationOutboxDispatcher(final NotificationOutboxRepository repository,
+            final NotificationSender sender,
+            final DuplicateNotificationRequests requests,
+            final AdminEmailResolver adminEmailResolver,
+            final PlatformTransactionManager transactionManager,
+            final Clock clock,
+            final MeterRegistry meterRegistry,
+            @Value("${uco.notifications.outbox.batch-size:50}") final int batchSize,
+            @Value("${uco.notifications.outbox.parallelism:4}") final int parallelism,
+            @Value("${uco.notifications.outbox.lease:PT1M}") final Duration lease,
+            @Value("${uco.notifications.outbox.max-attempts:8}") final int maxAttempts,
+            @Value("${uco.notifications.outbox.base-backoff:PT5S}") final Duration baseBackoff,
+            @Value("${uco.notifications.outbox.max-backoff:PT10M}") final Duration maxBackoff) {
+        this.repository = repository;
+        this.sender = sender;
+        this.requests = requests;
+        this.adminEmailResolver = adminEmailResolver;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+        this.executor = Executors.newFixedThreadPool(parallelism, Thread.ofPlatform()
+                .name("outbox-sender-", 0).daemon().factory());
+        this.batchSize = batchSize;
+        this.lease = lease;
+        this.maxAttempts = maxAttempts;
+        this.baseBackoff = baseBackoff;
+        this.maxBackoff = maxBackoff;
+
+        Gauge.builder("notifications.outbox.depth", queueDepth, AtomicLong::get)
+                .description("Notificaciones pendientes en el outbox")
+                .register(meterRegistry);
+        this.dispatchLag = Timer.builder("notifications.outbox.dispatch.lag")
+                .description("Tiempo entre el registro de la intención y su envío exitoso")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.sentCounter = dispatchedCounter(meterRegistry, "sent");
+        this.retriedCounter = dispatchedCounter(meterRegistry, "retry");
+        this.failedCounter = dispatchedCounter(meterRegistry, "failed");
+    }
+
+    @Scheduled(fixedDelayString = "${uco.notifications.outbox.poll-interval:PT2S}")
+    public void poll() {
+        try {
+            int dispatched;
+            do {
+                dispatched = dispatchBatch();
+            } while (dispatched == batchSize);
+        } catch (final RuntimeException exception) {
+            LOGGER.warn("Outbox dispatch cycle failed", exception);
+        }
+    }
+
+    /** Procesa un lote y devuelve cuántas filas reclamó. */
+    public int dispatchBatch() {
+        final Instant now = clock.instant();
+        final List<NotificationOutboxEntity> batch = transactionTemplate.execute(status -> {
+            final var rows = repository.findDispatchableForUpdate(now, batchSize);
+            if (!rows.isEmpty()) {
+                repository.lease(rows.stream().map(NotificationOutboxEntity::getId).toList(), now.plus(lease));
+            }
+            queueDepth.set(repository.countByStatus(Status.PENDING));
+            return rows;
+        });
+
+        if (batch == null || batch.isEmpty()) {
+            return 0;
+        }
+
+        final String adminEmail = batch.stream().anyMatch(entry -> entry.getType() == Type.ADMIN_ALERT)
+                ? adminEmailResolver.resolve()
+                : null;
+
+        final List<CompletableFuture<Outcome>> futures = batch.stream()
+                .map(entry -> CompletableFuture.supplyAsync(() -> send(entry, adminEmail), executor))
+                .toList();
+        final List<Outcome> outcomes = futures.stream().map(CompletableFuture::join).toList();
+
+        transactionTemplate.executeWithoutResult(status -> outcomes.forEach(this::record));
+        return batch.size();
+    }
+
+    private Outcome send(final NotificationOutboxEntity entry, final String adminEmail) {
+        try {
+            sender.send(toRequest(entry, adminEmail));
+            return new Outcome(entry, null);
+        } catch (final RuntimeException exception) {
+            return new Outcome(entry, exception);
+        }
+    }
+
+    private NotificationRequest toRequest(final NotificationOutboxEntity entry, final String adminEmail) {
+        return switch (entry.getType()) {
+        case OWNER_EMAIL -> requests.duplicateEmail(entry.getRecipient(), entry.getSubject(), entry.getMessage());
+        case OWNER_SMS -> requests.duplicateSms(entry.getRecipient(), entry.getMessage());
+        case ADMIN_ALERT -> requests.adminDuplicateAlert(adminEmail, entry.getDuplicatedValue(), entry.getChannel());
+        };
+    }
+
+    private void record(final Outcome outcome) {
+        final var entry = outcome.entry();
+        final Instant now = clock.instant();
+
+        if (outcome.error() == null) {
+            repository.markSent(entry.getId(), Status.SENT, now);
+            dispatchLag.record(Duration.between(entry.getCreatedAt(), now));
+            sentCounter.increment();
+            return;
+        }
+
+        final int attempts = entry.getAttempts() + 1;
+        final String error = truncate(outcome.error().toString());
+        if (attempts >= maxAttempts) {
+            repository.markAttemptFailed(entry.getId(), Status.FAILED, attempts, now, error);
+            failedCounter.increment();
+            LOGGER.warn("Outbox notification {} ({}) discarded after {} attempts. Cause={}",
+                    entry.getId(), entry.getType(), attempts, error);
+            return;
+        }
+
+        repository.markAttemptFailed(entry.getId(), Status.PENDING, attempts, now.plus(backoff(attempts)), error);
+        retriedCounter.increment();
+    }
+
+    Duration backoff(final int attempts) {
+        final long factor = 1L << Math.min(attempts - 1, 30);
+        final Duration delay = baseBackoff.multipliedBy(factor);
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private static String truncate(final String value) {
+        return value.length() <= MAX_ERROR_LENGTH ? value : value.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    private static Counter dispatchedCounter(final MeterRegistry meterRegistry, final String result) {
+        return Counter.builder("notifications.outbox.dispatched")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private record Outcome(NotificationOutboxEntity entry, RuntimeException error) {
+    }
+}
@@ -0,0 +1,76 @@
+package co.edu.uco.ucochallenge.infrastructure.secondary.notification.outbox;
+
+import static co.edu.uco.ucochallenge.infrastructure.secondary.notification.DuplicateNotificationRequests.EMAIL_OWNER_SUBJECT;
+import static co.edu.uco.ucochallenge.infrastructure.secondary.notification.DuplicateNotificationRequests.EXECUTOR_SUBJECT;
+import static co.edu.uco.ucochallenge.infrastructure.secondary.notification.DuplicateNotificationRequests.UNKNOWN_CHANNEL;
+
+import java.time.Clock;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import co.edu.uco.ucochallenge.domain.user.port.NotificationPort;
+import co.edu.uco.ucochallenge.infrastructure.secondary.notification.DuplicateNotificationRequests;
+import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.entity.NotificationOutboxEntity;
+import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.repository.NotificationOutboxRepository;
+
+/**
+ * Registra las notificaciones como filas del outbox dentro de la transacción del registro.
+ * No hace llamadas HTTP ni resuelve parámetros: eso lo hace {@link NotificationOutboxDispatcher}.
+ */
+@Component
+@Primary
+@ConditionalOnProperty(prefix = "uco.notifications.outbox", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Transactional
+public class OutboxNotificationPort implements NotificationPort {
+
+    private final NotificationOutboxRepository repository;
+    private final DuplicateNotificationRequests requests;
+    private final Supplier<UUID> idGenerator;
+    private final Clock clock;
+
+    public OutboxNotificationPort(final NotificationOutboxRepository repository,
+                                  final DuplicateNotificationRequests requests,
+                                  final Supplier<UUID> idGenerator,
+                                  final Clock clock) {
+        this.repository = repository;
+        this.requests = requests;
+        this.idGenerator = idGenerator;
+        this.clock = clock;
+    }
+
+    @Override
+    public void notifyAdministrator(final String message) {
+        repository.save(NotificationOutboxEntity.adminAlert(idGenerator.get(), message, UNKNOWN_CHANNEL, clock.instant()));
+    }
+
+    @Override
+    public void notifyExecutor(final String executorIdentifier, final String message) {
+        if (executorIdentifier == null || !executorIdentifier.contains("@")) {
+            repository.save(NotificationOutboxEntity.adminAlert(idGenerator.get(),
+                    String.valueOf(executorIdentifier), UNKNOWN_CHANNEL, clock.instant()));
+            return;
+        }
+        repository.save(NotificationOutboxEntity.ownerEmail(idGenerator.get(), executorIdentifier, EXECUTOR_SUBJECT,
+                message, clock.instant()));
+    }
+
+    @Override
+    public void notifyEmailOwner(final String email, final String message) {
+        final var now = clock.instant();
+        repository.save(NotificationOutboxEntity.ownerEmail(idGenerator.get(), email, EMAIL_OWNER_SUBJECT, message, now));
+        repository.save(NotificationOutboxEntity.adminAlert(idGenerator.get(), email, "email", now));
+    }
+
+    @Override
+    public void notifyMobileOwner(final String mobileNumber, final String message) {
+        final var now = clock.instant();
+        repository.save(NotificationOutboxEntity.ownerSms(idGenerator.get(), mobileNumber, message, now));
+        repository.save(NotificationOutboxEntity.adminAlert(idGenerator.get(), requests.normalizeToE164(mobileNumber),
+                "sms", now));
+    }
+}
@@ -1,27 +1,29 @@
 package co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.adapter;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import org.springframework.stereotype.Repository;
 
 import co.edu.uco.ucochallenge.crosscutting.helper.TextHelper;
-import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.entity.IdTypeEntity;
-import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.repository.IdTypeRepository;
+import co.edu.uco.ucochallenge.infrastructure.secondary.cache.reference.ReferenceDataRegistry;
 import co.edu.uco.ucochallenge.domain.user.port.IdTypeQueryPort;
 
 @Repository
 public class IdTypeRepositoryAdapter implements IdTypeQueryPort {
 
-        private final IdTypeRepository repository;
+        private final ReferenceDataRegistry registry;
 
-        public IdTypeRepositoryAdapter(final IdTypeRepository repository) {
-                this.repository = repository;
+        public IdTypeRepositoryAdapter(final ReferenceDataRegistry registry) {
+                this.registry = registry;
         }
 
         @Override
         public boolean existsById(final UUID id) {
-                return repository.existsById(id);
+                return registry.idTypeExists(id);
         }
 
         @Override
@@ -30,7 +32,16 @@ public class IdTypeRepositoryAdapter implements IdTypeQueryPort {
                         return Optional.empty();
                 }
 
-                return repository.findByName(name)
-                                .map(IdTypeEntity::getId);
+                return registry.findIdTypeByName(name);
+        }
+
+        @Override
+        public Set<UUID> findExistingIds(final Collection<UUID> ids) {
+                return registry.existingIdTypes(ids);
+        }
+
+        @Override
+        public Map<String, UUID> findIdsByNames(final Collection<String> names) {
+                return registry.idTypesByNames(names);
         }
 }
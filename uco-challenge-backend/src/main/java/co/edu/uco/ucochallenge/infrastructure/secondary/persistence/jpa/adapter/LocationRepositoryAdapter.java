@@ -1,41 +1,55 @@
 package co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.adapter;
 
+import java.util.Collection;
+import java.util.Set;
 import java.util.UUID;
 
 import org.springframework.stereotype.Repository;
 
-import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.repository.CityRepository;
-import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.repository.CountryRepository;
-import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.repository.StateRepository;
+import co.edu.uco.ucochallenge.infrastructure.secondary.cache.reference.ReferenceDataRegistry;
 import co.edu.uco.ucochallenge.domain.user.port.LocationQueryPort;
 
 @Repository
 public class LocationRepositoryAdapter implements LocationQueryPort {
 
-        private final CountryRepository countryRepository;
-        private final StateRepository stateRepository;
-        private final CityRepository cityRepository;
+        private final ReferenceDataRegistry registry;
 
-        public LocationRepositoryAdapter(final CountryRepository countryRepository,
-                        final StateRepository stateRepository,
-                        final CityRepository cityRepository) {
-                this.countryRepository = countryRepository;
-                this.stateRepository = stateRepository;
-                this.cityRepository = cityRepository;
+        public LocationRepositoryAdapter(final ReferenceDataRegistry registry) {
+                this.registry = registry;
         }
 
         @Override
         public boolean countryExists(final UUID countryId) {
-                return countryRepository.existsById(countryId);
+                return registry.countryExists(countryId);
         }
 
         @Override
         public boolean departmentExists(final UUID departmentId) {
-                return stateRepository.existsById(departmentId);
+                return registry.departmentExists(departmentId);
         }
 
         @Override
         public boolean cityExists(final UUID cityId) {
-                return cityRepository.existsById(cityId);
+                return registry.cityExists(cityId);
+        }
+
+        @Override
+        public boolean isValidHierarchy(final UUID countryId, final UUID departmentId, final UUID cityId) {
+                return registry.isValidHierarchy(countryId, departmentId, cityId);
+        }
+
+        @Override
+        public Set<UUID> findExistingCountries(final Collection<UUID> countryIds) {
+                return registry.existingCountries(countryIds);
+        }
+
+        @Override
+        public Set<UUID> findExistingDepartments(final Collection<UUID> departmentIds) {
+                return registry.existingDepartments(departmentIds);
+        }
+
+        @Override
+        public Set<UUID> findExistingCities(final Collection<UUID> cityIds) {
+                return registry.existingCities(cityIds);
         }
 }
@@ -0,0 +1,148 @@
+package co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.adapter;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import co.edu.uco.ucochallenge.domain.user.find.model.UserCountDomain;
+import co.edu.uco.ucochallenge.domain.user.find.model.UserCountStrategy;
+import co.edu.uco.ucochallenge.domain.user.port.UserCountPort;
+import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.repository.SpringDataUserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Total de {@code usuario} según la estrategia pedida. El contador vive en Redis, se inicializa con
+ * un conteo exacto la primera vez y se corrige cada {@code uco.users.count.reconcile-interval};
+ * entre reconciliaciones puede desviarse por inserciones hechas fuera de la aplicación. Si Redis no
+ * responde se cae a la estimación del planificador.
+ */
+@Repository
+public class UserCountAdapter implements UserCountPort {
+
+        private static final Logger LOGGER = LoggerFactory.getLogger(UserCountAdapter.class);
+
+        static final String ESTIMATE_SQL = "SELECT reltuples::bigint FROM pg_class WHERE oid = 'usuario'::regclass";
+
+        // Solo incrementa si la clave existe: sin ella el siguiente conteo exacto la inicializa
+        private static final RedisScript<Long> INCREMENT_IF_PRESENT = new DefaultRedisScript<>("""
+                        if redis.call('EXISTS', KEYS[1]) == 1 then
+                                return redis.call('INCRBY', KEYS[1], ARGV[1])
+                        end
+                        return -1
+                        """, Long.class);
+
+        private final SpringDataUserRepository repository;
+        private final JdbcTemplate jdbcTemplate;
+        private final StringRedisTemplate redisTemplate;
+        private final MeterRegistry meterRegistry;
+        private final String counterKey;
+
+        public UserCountAdapter(final SpringDataUserRepository repository,
+                        final JdbcTemplate jdbcTemplate,
+                        final StringRedisTemplate redisTemplate,
+                        final MeterRegistry meterRegistry,
+                        @Value("${uco.users.count.counter-key:users:count}") final String counterKey) {
+                this.repository = repository;
+                this.jdbcTemplate = jdbcTemplate;
+                this.redisTemplate = redisTemplate;
+                this.meterRegistry = meterRegistry;
+                this.counterKey = counterKey;
+        }
+
+        @Override
+        public UserCountDomain count(final UserCountStrategy strategy) {
+                return switch (strategy) {
+                case EXACT -> timed(strategy, this::exact);
+                case ESTIMATE -> timed(strategy, this::estimate);
+                case COUNTER -> timed(strategy, this::counter);
+                case NONE -> UserCountDomain.none();
+                };
+        }
+
+        @Override
+        public void recordInserted(final long inserted) {
+                if (inserted <= 0) {
+                        return;
+                }
+                if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+                        increment(inserted);
+                        return;
+                }
+                // Un rollback no debe mover el contador
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                                increment(inserted);
+                        }
+                });
+        }
+
+        /** Reemplaza el contador por el conteo exacto para corregir la deriva acumulada. */
+        @Scheduled(fixedDelayString = "${uco.users.count.reconcile-interval:PT15M}",
+                        initialDelayString = "${uco.users.count.reconcile-interval:PT15M}")
+        public void reconcile() {
+                try {
+                        redisTemplate.opsForValue().set(counterKey, Long.toString(repository.count()));
+                } catch (final DataAccessException exception) {
+                        LOGGER.warn("No fue posible reconciliar el contador de usuarios: {}", exception.getMessage());
+                }
+        }
+
+        private UserCountDomain exact() {
+                return new UserCountDomain(UserCountStrategy.EXACT, repository.count());
+        }
+
+        private UserCountDomain estimate() {
+                final Long estimate = jdbcTemplate.queryForObject(ESTIMATE_SQL, Long.class);
+                // -1 mientras la tabla no se haya analizado nunca
+                if (estimate == null || estimate < 0) {
+                        return exact();
+                }
+                return new UserCountDomain(UserCountStrategy.ESTIMATE, estimate);
+        }
+
+        private UserCountDomain counter() {
+                try {
+                        final String cached = redisTemplate.opsForValue().get(counterKey);
+                        if (cached != null) {
+                                return new UserCountDomain(UserCountStrategy.COUNTER, Long.parseLong(cached));
+                        }
+                        final long total = repository.count();
+                        // Si otro nodo lo inicializó primero se conserva el suyo
+                        redisTemplate.opsForValue().setIfAbsent(counterKey, Long.toString(total));
+                        return new UserCountDomain(UserCountStrategy.COUNTER, total);
+                } catch (final DataAccessException exception) {
+                        LOGGER.warn("Contador de usuarios no disponible, se usa la estimación: {}", exception.getMessage());
+                        return estimate();
+                }
+        }
+
+        private void increment(final long inserted) {
+                try {
+                        redisTemplate.execute(INCREMENT_IF_PRESENT, List.of(counterKey), Long.toString(inserted));
+                } catch (final DataAccessException exception) {
+                        LOGGER.debug("No fue posible incrementar el contador de usuarios", exception);
+                }
+        }
+
+        private UserCountDomain timed(final UserCountStrategy requested, final Supplier<UserCountDomain> counter) {
+                final Timer.Sample sample = Timer.start(meterRegistry);
+                final UserCountDomain result = counter.get();
+                sample.stop(meterRegistry.timer("users.count", "strategy", requested.getValue(),
+                                "effective", result.strategy().getValue()));
+                return result;
+        }
+}
@@ -0,0 +1,55 @@
+package co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.adapter;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import co.edu.uco.ucochallenge.domain.user.find.model.UserSummaryDomain;
+import co.edu.uco.ucochallenge.domain.user.find.specification.UserSearchSpecification;
+import co.edu.uco.ucochallenge.domain.user.port.UserExportRepositoryPort;
+
+/**
+ * Recorre {@code usuario} con un cursor del servidor: con autocommit apagado y un fetch size
+ * positivo el driver de Postgres trae {@code uco.users.export.fetch-size} filas por viaje en lugar
+ * de materializar el resultado completo. No pasa por el caché {@code usersByPage}.
+ */
+@Repository
+public class UserExportRepositoryAdapter implements UserExportRepositoryPort {
+
+        private static final String EXPORT_SUFFIX = " ORDER BY id";
+
+        private final NamedParameterJdbcTemplate jdbcTemplate;
+
+        public UserExportRepositoryAdapter(final DataSource dataSource,
+                        @Value("${uco.users.export.fetch-size:1000}") final int fetchSize) {
+                final var template = new JdbcTemplate(dataSource);
+                template.setFetchSize(fetchSize);
+                this.jdbcTemplate = new NamedParameterJdbcTemplate(template);
+        }
+
+        @Override
+        public long streamAll(final UserSearchSpecification filter, final Consumer<UserSummaryDomain> consumer) {
+                if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+                        // Sin transacción el driver ignora el fetch size y carga todo en memoria
+                        throw new IllegalStateException("streamAll requires an active transaction");
+                }
+
+                final var parameters = new MapSqlParameterSource();
+                final String sql = UserSummaryReadAdapter.SUMMARY_SELECT
+                                + UserSearchSqlCompiler.compile(filter, parameters) + EXPORT_SUFFIX;
+                final var rows = new AtomicLong();
+                jdbcTemplate.query(sql, parameters, resultSet -> {
+                        consumer.accept(UserSummaryReadAdapter.mapRow(resultSet, (int) rows.get()));
+                        rows.incrementAndGet();
+                });
+                return rows.get();
+        }
+}
@@ -0,0 +1,296 @@
+package co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.adapter;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import co.edu.uco.ucochallenge.domain.user.importer.model.UserImportFormat;
+import co.edu.uco.ucochallenge.domain.user.importer.model.UserImportJobDomain;
+import co.edu.uco.ucochallenge.domain.user.importer.model.UserImportRejectionDomain;
+import co.edu.uco.ucochallenge.domain.user.importer.model.UserImportRowDomain;
+import co.edu.uco.ucochallenge.domain.user.importer.model.UserImportStatus;
+import co.edu.uco.ucochallenge.domain.user.port.UserCountPort;
+import co.edu.uco.ucochallenge.domain.user.port.UserImportRepositoryPort;
+import co.edu.uco.ucochallenge.domain.user.register.model.RegisterUserDomain;
+import co.edu.uco.ucochallenge.infrastructure.secondary.cache.redis.UsersPageCacheGeneration;
+
+/**
+ * Importación con COPY ... FROM STDIN sobre una tabla temporal y un único INSERT ... SELECT
+ * hacia {@code usuario} que descarta los duplicados por conjunto, con o sin los índices únicos de
+ * db/001. Debe ejecutarse dentro de una transacción: la tabla temporal se vacía en cada commit y
+ * la conexión del COPY es la misma de la transacción.
+ */
+@Repository
+public class UserImportRepositoryAdapter implements UserImportRepositoryPort {
+
+        static final String DUPLICATED_CODE = "register.user.duplicated";
+
+        private static final String CREATE_STAGING_SQL = """
+                        CREATE TEMP TABLE IF NOT EXISTS usuario_import_staging (
+                                numero_registro BIGINT NOT NULL,
+                                id UUID NOT NULL,
+                                tipo_identificacion UUID NOT NULL,
+                                numero_identificacion TEXT,
+                                primer_nombre TEXT,
+                                segundo_nombre TEXT,
+                                primer_apellido TEXT,
+                                segundo_apellido TEXT,
+                                ciudad_residencia UUID NOT NULL,
+                                email TEXT,
+                                telefono_movil TEXT
+                        ) ON COMMIT DELETE ROWS
+                        """;
+
+        private static final String COPY_SQL = """
+                        COPY usuario_import_staging (numero_registro, id, tipo_identificacion, numero_identificacion,
+                                primer_nombre, segundo_nombre, primer_apellido, segundo_apellido, ciudad_residencia,
+                                email, telefono_movil)
+                        FROM STDIN (FORMAT csv)
+                        """;
+
+        // Los duplicados se buscan por conjunto, igual que en POST /users:batch: contra usuario con
+        // anti-joins por identificación, email y móvil, y dentro del bloque solo pasa la primera fila
+        // de cada clave. El ON CONFLICT cubre, con los índices de db/001, lo que otra transacción
+        // inserte a la vez. Las filas que no aparecen en RETURNING se registran como error del job
+        // en la misma sentencia
+        private static final String MERGE_SQL = """
+                        WITH ranked AS (
+                                SELECT s.*,
+                                        row_number() OVER (PARTITION BY tipo_identificacion, numero_identificacion
+                                                ORDER BY numero_registro) AS rn_identificacion,
+                                        row_number() OVER (PARTITION BY email ORDER BY numero_registro) AS rn_email,
+                                        row_number() OVER (PARTITION BY telefono_movil ORDER BY numero_registro) AS rn_movil
+                                FROM usuario_import_staging s
+                        ), candidates AS (
+                                SELECT r.*
+                                FROM ranked r
+                                WHERE r.rn_identificacion = 1
+                                        AND (r.email = '' OR r.rn_email = 1)
+                                        AND (r.telefono_movil = '' OR r.rn_movil = 1)
+                                        AND NOT EXISTS (SELECT 1 FROM usuario u
+                                                WHERE u.tipo_identificacion = r.tipo_identificacion
+                                                        AND u.numero_identificacion = r.numero_identificacion)
+                                        AND (r.email = '' OR NOT EXISTS (SELECT 1 FROM usuario u WHERE u.email = r.email))
+                                        AND (r.telefono_movil = ''
+                                                OR NOT EXISTS (SELECT 1 FROM usuario u WHERE u.telefono_movil = r.telefono_movil))
+                        ), inserted AS (
+                                INSERT INTO usuario (id, tipo_identificacion, numero_identificacion, primer_nombre, segundo_nombre,
+                                        primer_apellido, segundo_apellido, ciudad_residencia, email, telefono_movil,
+                                        email_confirmado, telefono_movil_confirmado,
+                                        email_confirmed_is_default_value, mobile_number_confirmed_is_default_value)
+                                SELECT id, tipo_identificacion, numero_identificacion, primer_nombre, segundo_nombre,
+                                        primer_apellido, segundo_apellido, ciudad_residencia, email, telefono_movil,
+                                        false, false, false, false
+                                FROM candidates
+                                ORDER BY numero_registro
+                                ON CONFLICT DO NOTHING
+                                RETURNING id
+                        ), conflicts AS (
+                                INSERT INTO usuario_importacion_error (importacion_id, numero_registro, codigo)
+                                SELECT :jobId, s.numero_registro, :duplicatedCode
+                                FROM usuario_import_staging s
+                                WHERE NOT EXISTS (SELECT 1 FROM inserted i WHERE i.id = s.id)
+                                ON CONFLICT DO NOTHING
+                                RETURNING numero_registro
+                        )
+                        SELECT numero_registro FROM conflicts
+                        """;
+
+        private static final String INSERT_REJECTION_SQL = """
+                        INSERT INTO usuario_importacion_error (importacion_id, numero_registro, codigo)
+                        VALUES (:jobId, :recordNumber, :code)
+                        ON CONFLICT DO NOTHING
+                        """;
+
+        private static final String UPSERT_JOB_SQL = """
+                        INSERT INTO usuario_importacion (id, formato, estado, registros_procesados, insertados, conflictos,
+                                rechazados, iniciado_en, actualizado_en, finalizado_en, ultimo_error)
+                        VALUES (:id, :format, :status, :processed, :inserted, :conflicts, :rejected,
+                                :startedAt, :updatedAt, :finishedAt, :lastError)
+                        ON CONFLICT (id) DO UPDATE SET
+                                estado = EXCLUDED.estado,
+                                registros_procesados = EXCLUDED.registros_procesados,
+                                insertados = EXCLUDED.insertados,
+                                conflictos = EXCLUDED.conflictos,
+                                rechazados = EXCLUDED.rechazados,
+                                actualizado_en = EXCLUDED.actualizado_en,
+                                finalizado_en = EXCLUDED.finalizado_en,
+                                ultimo_error = EXCLUDED.ultimo_error
+                        """;
+
+        private static final String FIND_JOB_SQL = """
+                        SELECT id, formato, estado, registros_procesados, insertados, conflictos, rechazados,
+                                iniciado_en, actualizado_en, finalizado_en, ultimo_error
+                        FROM usuario_importacion
+                        WHERE id = :id
+                        """;
+
+        private final NamedParameterJdbcTemplate jdbcTemplate;
+        private final DataSource dataSource;
+        private final UserCountPort userCountPort;
+        private final UsersPageCacheGeneration pageCacheGeneration;
+
+        public UserImportRepositoryAdapter(final NamedParameterJdbcTemplate jdbcTemplate, final DataSource dataSource,
+                        final UserCountPort userCountPort, final UsersPageCacheGeneration pageCacheGeneration) {
+                this.jdbcTemplate = jdbcTemplate;
+                this.dataSource = dataSource;
+                this.userCountPort = userCountPort;
+                this.pageCacheGeneration = pageCacheGeneration;
+        }
+
+        @Override
+        public Optional<UserImportJobDomain> findJob(final UUID jobId) {
+                return jdbcTemplate.query(FIND_JOB_SQL, new MapSqlParameterSource("id", jobId), (rs, rowNum) ->
+                                UserImportJobDomain.builder()
+                                                .id(rs.getObject("id", UUID.class))
+                                                .format(UserImportFormat.valueOf(rs.getString("formato")))
+                                                .status(UserImportStatus.valueOf(rs.getString("estado")))
+                                                .processedRecords(rs.getLong("registros_procesados"))
+                                                .inserted(rs.getLong("insertados"))
+                                                .conflicts(rs.getLong("conflictos"))
+                                                .rejected(rs.getLong("rechazados"))
+                                                .startedAt(toInstant(rs.getTimestamp("iniciado_en")))
+                                                .updatedAt(toInstant(rs.getTimestamp("actualizado_en")))
+                                                .finishedAt(toInstant(rs.getTimestamp("finalizado_en")))
+                                                .lastError(rs.getString("ultimo_error"))
+                                                .build())
+                                .stream()
+                                .findFirst();
+        }
+
+        @Override
+        public void saveJob(final UserImportJobDomain job) {
+                jdbcTemplate.update(UPSERT_JOB_SQL, new MapSqlParameterSource()
+                                .addValue("id", job.getId())
+                                .addValue("format", job.getFormat().name())
+                                .addValue("status", job.getStatus().name())
+                                .addValue("processed", job.getProcessedRecords())
+                                .addValue("inserted", job.getInserted())
+                                .addValue("conflicts", job.getConflicts())
+                                .addValue("rejected", job.getRejected())
+                                .addValue("startedAt", toTimestamp(job.getStartedAt()))
+                                .addValue("updatedAt", toTimestamp(job.getUpdatedAt()))
+                                .addValue("finishedAt", toTimestamp(job.getFinishedAt()))
+                                .addValue("lastError", job.getLastError()));
+        }
+
+        @Override
+        public void saveRejections(final UUID jobId, final List<UserImportRejectionDomain> rejections) {
+                if (rejections.isEmpty()) {
+                        return;
+                }
+                final SqlParameterSource[] batch = rejections.stream()
+                                .map(rejection -> new MapSqlParameterSource()
+                                                .addValue("jobId", jobId)
+                                                .addValue("recordNumber", rejection.recordNumber())
+                                                .addValue("code", rejection.errorCode()))
+                                .toArray(SqlParameterSource[]::new);
+                jdbcTemplate.batchUpdate(INSERT_REJECTION_SQL, batch);
+        }
+
+        @Override
+        public Set<Long> stageAndMerge(final UUID jobId, final List<UserImportRowDomain> rows) {
+                if (rows.isEmpty()) {
+                        return Set.of();
+                }
+                if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+                        throw new IllegalStateException("stageAndMerge requires an active transaction");
+                }
+
+                jdbcTemplate.getJdbcTemplate().execute(CREATE_STAGING_SQL);
+                copyToStaging(rows);
+
+                final Set<Long> conflicts = new HashSet<>();
+                jdbcTemplate.query(MERGE_SQL, new MapSqlParameterSource()
+                                .addValue("jobId", jobId)
+                                .addValue("duplicatedCode", DUPLICATED_CODE),
+                                rs -> {
+                                        conflicts.add(rs.getLong(1));
+                                });
+                final int inserted = rows.size() - conflicts.size();
+                userCountPort.recordInserted(inserted);
+                if (inserted > 0) {
+                        pageCacheGeneration.bump();
+                }
+                return conflicts;
+        }
+
+        private void copyToStaging(final List<UserImportRowDomain> rows) {
+                // Conexión de la transacción en curso: no se libera aquí
+                final Connection connection = DataSourceUtils.getConnection(dataSource);
+                try {
+                        final CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL);
+                        try {
+                                final StringBuilder line = new StringBuilder(256);
+                                for (final var row : rows) {
+                                        line.setLength(0);
+                                        appendCsvLine(line, row.recordNumber(), row.user());
+                                        final byte[] bytes = line.toString().getBytes(StandardCharsets.UTF_8);
+                                        copyIn.writeToCopy(bytes, 0, bytes.length);
+                                }
+                                copyIn.endCopy();
+                        } finally {
+                                if (copyIn.isActive()) {
+                                        copyIn.cancelCopy();
+                                }
+                        }
+                } catch (final SQLException exception) {
+                        throw new IllegalStateException("COPY into usuario_import_staging failed", exception);
+                }
+        }
+
+        static void appendCsvLine(final StringBuilder line, final long recordNumber, final RegisterUserDomain user) {
+                line.append(recordNumber).append(',')
+                                .append(user.getId()).append(',')
+                                .append(user.getIdType()).append(',');
+                appendQuoted(line, user.getIdNumber()).append(',');
+                appendQuoted(line, user.getFirstName()).append(',');
+                appendQuoted(line, user.getSecondName()).append(',');
+                appendQuoted(line, user.getFirstSurname()).append(',');
+                appendQuoted(line, user.getSecondSurname()).append(',');
+                line.append(user.getHomeCity()).append(',');
+                appendQuoted(line, user.getEmail()).append(',');
+                appendQuoted(line, user.getMobileNumber()).append('\n');
+        }
+
+        /** Siempre entre comillas: en COPY CSV un campo vacío sin comillas es NULL y el esquema guarda "". */
+        private static StringBuilder appendQuoted(final StringBuilder line, final String value) {
+                line.append('"');
+                if (value != null) {
+                        for (int i = 0; i < value.length(); i++) {
+                                final char c = value.charAt(i);
+                                if (c == '"') {
+                                        line.append('"');
+                                }
+                                line.append(c);
+                        }
+                }
+                return line.append('"');
+        }
+
+        private static Timestamp toTimestamp(final Instant instant) {
+                return instant == null ? null : Timestamp.from(instant);
+        }
+
+        private static Instant toInstant(final Timestamp timestamp) {
+                return timestamp == null ? null : timestamp.toInstant();
+        }
+}
@@ -1,44 +1,69 @@
 package co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.adapter;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.stereotype.Repository;
 
 import co.edu.uco.ucochallenge.crosscutting.helper.UUIDHelper;
+import co.edu.uco.ucochallenge.infrastructure.secondary.cache.redis.UsersPageCacheGeneration;
 import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.entity.CityEntity;
 import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.entity.IdTypeEntity;
 import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.entity.UserEntity;
 import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.repository.SpringDataUserRepository;
+import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.repository.UserSnapshotView;
+import co.edu.uco.ucochallenge.domain.user.port.BatchRegisterUserRepositoryPort;
 import co.edu.uco.ucochallenge.domain.user.port.ConfirmUserContactRepositoryPort;
-import co.edu.uco.ucochallenge.domain.user.port.FindUsersByFilterRepositoryPort;
-import co.edu.uco.ucochallenge.domain.user.find.model.FindUsersByFilterResponseDomain;
-import co.edu.uco.ucochallenge.domain.user.find.model.UserSummaryDomain;
 import co.edu.uco.ucochallenge.domain.user.port.RegisterUserRepositoryPort;
+import co.edu.uco.ucochallenge.domain.user.port.UserCountPort;
 import co.edu.uco.ucochallenge.domain.user.register.model.ExistingUserSnapshotDomain;
+import co.edu.uco.ucochallenge.domain.user.register.model.IdentificationKey;
 import co.edu.uco.ucochallenge.domain.user.register.model.RegisterUserDomain;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.persistence.PersistenceContext;
 
 @Repository
-public class UserRepositoryAdapter implements RegisterUserRepositoryPort, FindUsersByFilterRepositoryPort,
-                ConfirmUserContactRepositoryPort {
+public class UserRepositoryAdapter implements RegisterUserRepositoryPort, ConfirmUserContactRepositoryPort,
+                BatchRegisterUserRepositoryPort {
+
+        private static final String INSERT_IF_ABSENT_SQL = """
+                        INSERT INTO usuario (id, tipo_identificacion, numero_identificacion, primer_nombre, segundo_nombre,
+                                primer_apellido, segundo_apellido, ciudad_residencia, email, telefono_movil,
+                                email_confirmado, telefono_movil_confirmado,
+                                email_confirmed_is_default_value, mobile_number_confirmed_is_default_value)
+                        VALUES (:id, :idType, :idNumber, :firstName, :secondName, :firstSurname, :secondSurname,
+                                :homeCity, :email, :mobileNumber, :emailConfirmed, :mobileNumberConfirmed, false, false)
+                        ON CONFLICT DO NOTHING
+                        """;
 
         private final SpringDataUserRepository repository;
+        private final NamedParameterJdbcTemplate jdbcTemplate;
+        private final UserCountPort userCountPort;
+        private final UsersPageCacheGeneration pageCacheGeneration;
+        private final UserUniqueConstraints uniqueConstraints;
 
         @PersistenceContext
         private EntityManager entityManager;
 
-        public UserRepositoryAdapter(final SpringDataUserRepository repository) {
+        public UserRepositoryAdapter(final SpringDataUserRepository repository,
+                        final NamedParameterJdbcTemplate jdbcTemplate,
+                        final UserCountPort userCountPort,
+                        final UsersPageCacheGeneration pageCacheGeneration,
+                        final UserUniqueConstraints uniqueConstraints) {
                 this.repository = repository;
-        }
-
-        @Override
-        public boolean existsById(final UUID id) {
-                return repository.existsById(id);
+                this.jdbcTemplate = jdbcTemplate;
+                this.userCountPort = userCountPort;
+                this.pageCacheGeneration = pageCacheGeneration;
+                this.uniqueConstraints = uniqueConstraints;
         }
 
         @Override
@@ -60,63 +85,115 @@ public class UserRepositoryAdapter implements RegisterUserRepositoryPort, FindUs
         }
 
         @Override
-        @CacheEvict(cacheNames = "usersByPage", allEntries = true, beforeInvocation = true)
         public void save(final RegisterUserDomain domain) {
-                repository.save(mapToEntity(domain));
+                // El id siempre es nuevo (UUIDv7): persist evita el SELECT por id que haría merge
+                entityManager.persist(mapToEntity(domain));
+                userCountPort.recordInserted(1);
+                pageCacheGeneration.bump();
         }
 
         @Override
-        public FindUsersByFilterResponseDomain findAll(final int page, final int size) {
-                final var pageResult = repository.findAll(PageRequest.of(page, size));
-
-                final var users = pageResult.getContent().stream()
-                                .map(this::mapToUserSummary)
-                                .toList();
-
-                return FindUsersByFilterResponseDomain.builder()
-                                .users(users)
-                                .page(pageResult.getNumber())
-                                .size(pageResult.getSize())
-                                .totalElements(pageResult.getTotalElements())
-                                .totalPages(pageResult.getTotalPages())
-                                .build();
+        public boolean saveIfAbsent(final RegisterUserDomain domain) {
+                // ON CONFLICT evita abortar la transacción: el caso de duplicado se resuelve después con los finders
+                final int inserted = jdbcTemplate.update(INSERT_IF_ABSENT_SQL, toInsertParameters(mapToEntity(domain)));
+
+                userCountPort.recordInserted(inserted);
+                if (inserted == 1) {
+                        pageCacheGeneration.bump();
+                }
+                return inserted == 1;
+        }
+
+        @Override
+        public boolean hasUniqueConstraints() {
+                return uniqueConstraints.present();
+        }
+
+        @Override
+        public Map<IdentificationKey, ExistingUserSnapshotDomain> findByIdentifications(
+                        final Collection<IdentificationKey> keys) {
+                if (keys.isEmpty()) {
+                        return Map.of();
+                }
+
+                final var idNumbers = keys.stream().map(IdentificationKey::idNumber).collect(Collectors.toSet());
+                return repository.findSnapshotsByIdNumberIn(idNumbers).stream()
+                                .filter(view -> keys.contains(new IdentificationKey(view.getIdType(), view.getIdNumber())))
+                                .collect(Collectors.toMap(view -> new IdentificationKey(view.getIdType(), view.getIdNumber()),
+                                                this::mapToSnapshot, (first, second) -> first));
+        }
+
+        @Override
+        public Map<String, ExistingUserSnapshotDomain> findByEmails(final Collection<String> emails) {
+                return emails.isEmpty() ? Map.of()
+                                : indexBy(repository.findSnapshotsByEmailIn(emails), UserSnapshotView::getEmail);
+        }
+
+        @Override
+        public Map<String, ExistingUserSnapshotDomain> findByMobileNumbers(final Collection<String> mobileNumbers) {
+                return mobileNumbers.isEmpty() ? Map.of()
+                                : indexBy(repository.findSnapshotsByMobileNumberIn(mobileNumbers), UserSnapshotView::getMobileNumber);
+        }
+
+        @Override
+        public boolean[] saveAllIfAbsent(final List<RegisterUserDomain> domains) {
+                final SqlParameterSource[] batch = domains.stream()
+                                .map(this::mapToEntity)
+                                .map(this::toInsertParameters)
+                                .toArray(SqlParameterSource[]::new);
+
+                // Un solo batch JDBC; ON CONFLICT deja en 0 el conteo de las filas duplicadas
+                final int[] counts = jdbcTemplate.batchUpdate(INSERT_IF_ABSENT_SQL, batch);
+
+                final boolean[] inserted = new boolean[counts.length];
+                long insertedCount = 0;
+                for (int i = 0; i < counts.length; i++) {
+                        inserted[i] = counts[i] == 1;
+                        insertedCount += inserted[i] ? 1 : 0;
+                }
+                userCountPort.recordInserted(insertedCount);
+                if (insertedCount > 0) {
+                        pageCacheGeneration.bump();
+                }
+                return inserted;
         }
 
         @Override
-        @CacheEvict(cacheNames = "usersByPage", allEntries = true, beforeInvocation = true)
         public boolean confirmEmail(final UUID id) {
                 return repository.findById(id)
                                 .map(entity -> {
                                         entity.confirmEmail();
                                         repository.save(entity);
+                                        pageCacheGeneration.bump();
                                         return true;
                                 })
                                 .orElse(false);
         }
 
         @Override
-        @CacheEvict(cacheNames = "usersByPage", allEntries = true, beforeInvocation = true)
         public boolean confirmMobileNumber(final UUID id) {
                 return repository.findById(id)
                                 .map(entity -> {
                                         entity.confirmMobileNumber();
                                         repository.save(entity);
+                                        pageCacheGeneration.bump();
                                         return true;
                                 })
                                 .orElse(false);
         }
 
         @Override
-        @CacheEvict(cacheNames = "usersByPage", allEntries = true, beforeInvocation = true)
         public void confirmEmailOrMobile(String contact) {
                 repository.findByEmail(contact).ifPresent(entity -> {
                         entity.confirmEmail();
                         repository.save(entity);
+                        pageCacheGeneration.bump();
                 });
 
                 repository.findByMobileNumber(contact).ifPresent(entity -> {
                         entity.confirmMobileNumber();
                         repository.save(entity);
+                        pageCacheGeneration.bump();
                 });
         }
 
@@ -130,26 +207,37 @@ public class UserRepositoryAdapter implements RegisterUserRepositoryPort, FindUs
                                 .build();
         }
 
-        private UserSummaryDomain mapToUserSummary(final UserEntity entity) {
-                final IdTypeEntity idTypeEntity = entity.getIdType();
-                final CityEntity cityEntity = entity.getHomeCity();
+        private Map<String, ExistingUserSnapshotDomain> indexBy(final List<UserSnapshotView> views,
+                        final Function<UserSnapshotView, String> key) {
+                return views.stream().collect(Collectors.toMap(key, this::mapToSnapshot, (first, second) -> first));
+        }
 
-                return UserSummaryDomain.builder()
-                                .id(entity.getId())
-                                .idType(idTypeEntity != null ? idTypeEntity.getId() : UUIDHelper.getDefault())
-                                .idNumber(entity.getIdNumber())
-                                .firstName(entity.getFirstName())
-                                .secondName(entity.getSecondName())
-                                .firstSurname(entity.getFirstSurname())
-                                .secondSurname(entity.getSecondSurname())
-                                .homeCity(cityEntity != null ? cityEntity.getId() : UUIDHelper.getDefault())
-                                .email(entity.getEmail())
-                                .mobileNumber(entity.getMobileNumber())
-                                .emailConfirmed(entity.isEmailConfirmed())
-                                .mobileNumberConfirmed(entity.isMobileNumberConfirmed())
+        private ExistingUserSnapshotDomain mapToSnapshot(final UserSnapshotView view) {
+                return ExistingUserSnapshotDomain.builder()
+                                .id(view.getId())
+                                .firstName(view.getFirstName())
+                                .firstSurname(view.getFirstSurname())
+                                .email(view.getEmail())
+                                .mobileNumber(view.getMobileNumber())
                                 .build();
         }
 
+        private SqlParameterSource toInsertParameters(final UserEntity entity) {
+                return new MapSqlParameterSource()
+                                .addValue("id", entity.getId())
+                                .addValue("idType", entity.getIdType().getId())
+                                .addValue("idNumber", entity.getIdNumber())
+                                .addValue("firstName", entity.getFirstName())
+                                .addValue("secondName", entity.getSecondName())
+                                .addValue("firstSurname", entity.getFirstSurname())
+                                .addValue("secondSurname", entity.getSecondSurname())
+                                .addValue("homeCity", entity.getHomeCity().getId())
+                                .addValue("email", entity.getEmail())
+                                .addValue("mobileNumber", entity.getMobileNumber())
+                                .addValue("emailConfirmed", entity.isEmailConfirmed())
+                                .addValue("mobileNumberConfirmed", entity.isMobileNumberConfirmed());
+        }
+
         private UserEntity mapToEntity(final RegisterUserDomain domain) {
                 final var idTypeId = domain.getIdType();
                 final var cityId = domain.getHomeCity();
@@ -0,0 +1,76 @@
+package co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.adapter;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+
+import co.edu.uco.ucochallenge.domain.user.find.specification.UserSearchSpecification;
+import co.edu.uco.ucochallenge.domain.user.find.specification.UserSearchSpecification.All;
+import co.edu.uco.ucochallenge.domain.user.find.specification.UserSearchSpecification.And;
+import co.edu.uco.ucochallenge.domain.user.find.specification.UserSearchSpecification.EmailConfirmedIs;
+import co.edu.uco.ucochallenge.domain.user.find.specification.UserSearchSpecification.FirstNameStartsWith;
+import co.edu.uco.ucochallenge.domain.user.find.specification.UserSearchSpecification.FirstSurnameStartsWith;
+import co.edu.uco.ucochallenge.domain.user.find.specification.UserSearchSpecification.HomeCityIs;
+import co.edu.uco.ucochallenge.domain.user.find.specification.UserSearchSpecification.HomeCountryIs;
+import co.edu.uco.ucochallenge.domain.user.find.specification.UserSearchSpecification.HomeStateIs;
+import co.edu.uco.ucochallenge.domain.user.find.specification.UserSearchSpecification.IdNumberStartsWith;
+import co.edu.uco.ucochallenge.domain.user.find.specification.UserSearchSpecification.IdTypeIs;
+import co.edu.uco.ucochallenge.domain.user.find.specification.UserSearchSpecification.MobileNumberConfirmedIs;
+import co.edu.uco.ucochallenge.domain.user.find.specification.UserSearchSpecification.Not;
+import co.edu.uco.ucochallenge.domain.user.find.specification.UserSearchSpecification.Or;
+
+/**
+ * Traduce un {@link UserSearchSpecification} a una condición SQL sobre {@code usuario}. Cada
+ * expresión repite exactamente la del índice que la resuelve (db/004-usuario-search-indexes.sql):
+ * los prefijos de texto usan índices GIN de trigramas, que a diferencia de un btree con LIKE
+ * siguen siendo utilizables cuando el plan preparado es genérico.
+ */
+final class UserSearchSqlCompiler {
+
+        private final MapSqlParameterSource parameters;
+        private int nextParameter;
+
+        private UserSearchSqlCompiler(final MapSqlParameterSource parameters) {
+                this.parameters = parameters;
+        }
+
+        /** Agrega los valores a {@code parameters} y devuelve la condición para el WHERE. */
+        static String compile(final UserSearchSpecification specification, final MapSqlParameterSource parameters) {
+                return new UserSearchSqlCompiler(parameters).visit(specification);
+        }
+
+        private String visit(final UserSearchSpecification specification) {
+                return switch (specification) {
+                case All all -> "TRUE";
+                case And and -> "(" + visit(and.left()) + " AND " + visit(and.right()) + ")";
+                case Or or -> "(" + visit(or.left()) + " OR " + visit(or.right()) + ")";
+                case Not not -> "NOT " + visit(not.operand());
+                case IdTypeIs idType -> "tipo_identificacion = " + bind(idType.idType());
+                case IdNumberStartsWith idNumber -> "numero_identificacion LIKE " + bind(likePrefix(idNumber.prefix()))
+                                + " ESCAPE '\\'";
+                case FirstNameStartsWith name -> accentInsensitivePrefix("primer_nombre", name.prefix());
+                case FirstSurnameStartsWith surname -> accentInsensitivePrefix("primer_apellido", surname.prefix());
+                case HomeCityIs city -> "ciudad_residencia = " + bind(city.city());
+                case HomeStateIs state -> "ciudad_residencia IN (SELECT c.id FROM ciudad c WHERE c.departamento = "
+                                + bind(state.state()) + ")";
+                case HomeCountryIs country -> "ciudad_residencia IN (SELECT c.id FROM ciudad c "
+                                + "JOIN departamento d ON d.id = c.departamento WHERE d.pais = " + bind(country.country()) + ")";
+                // Literales y no parámetros: así el planificador empareja los índices parciales de pendientes
+                case EmailConfirmedIs email -> (email.confirmed() ? "" : "NOT ") + "email_confirmado";
+                case MobileNumberConfirmedIs mobile -> (mobile.confirmed() ? "" : "NOT ") + "telefono_movil_confirmado";
+                };
+        }
+
+        private String accentInsensitivePrefix(final String column, final String prefix) {
+                return "f_unaccent(lower(" + column + ")) LIKE f_unaccent(lower(" + bind(likePrefix(prefix)) + "))"
+                                + " ESCAPE '\\'";
+        }
+
+        private String bind(final Object value) {
+                final String name = "f" + nextParameter++;
+                parameters.addValue(name, value);
+                return ":" + name;
+        }
+
+        static String likePrefix(final String prefix) {
+                return prefix.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+        }
+}
@@ -0,0 +1,141 @@
+package co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.adapter;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import co.edu.uco.ucochallenge.crosscutting.helper.ObjectHelper;
+import co.edu.uco.ucochallenge.crosscutting.helper.UUIDHelper;
+import co.edu.uco.ucochallenge.domain.user.find.model.FindUsersByFilterResponseDomain;
+import co.edu.uco.ucochallenge.domain.user.find.model.UserCountDomain;
+import co.edu.uco.ucochallenge.domain.user.find.model.UserCountStrategy;
+import co.edu.uco.ucochallenge.domain.user.find.model.UserSummaryDomain;
+import co.edu.uco.ucochallenge.domain.user.find.specification.UserSearchSpecification;
+import co.edu.uco.ucochallenge.domain.user.port.FindUsersByFilterRepositoryPort;
+import co.edu.uco.ucochallenge.domain.user.port.UserCountPort;
+
+/**
+ * Lectura del listado de usuarios con JDBC: una sola sentencia por página que trae únicamente
+ * las columnas de {@link UserSummaryDomain}. No crea entidades administradas, así que el tipo de
+ * identificación y la ciudad llegan como llaves foráneas sin cargar sus relaciones. Los filtros
+ * se compilan con {@link UserSearchSqlCompiler}.
+ */
+@Repository
+public class UserSummaryReadAdapter implements FindUsersByFilterRepositoryPort {
+
+        static final String SUMMARY_SELECT = """
+                        SELECT id, tipo_identificacion, numero_identificacion, primer_nombre, segundo_nombre,
+                                primer_apellido, segundo_apellido, ciudad_residencia, email, telefono_movil,
+                                email_confirmado, telefono_movil_confirmado
+                        FROM usuario
+                        WHERE\s""";
+        private static final String COUNT_SQL = "SELECT count(*) FROM usuario WHERE ";
+
+        // Se pide una fila de más para saber si existe página siguiente sin contar
+        private static final String PAGE_SUFFIX = " ORDER BY id LIMIT :limit OFFSET :offset";
+        private static final String KEYSET_SUFFIX = " ORDER BY id LIMIT :limit";
+
+        private static final RowMapper<UserSummaryDomain> SUMMARY_MAPPER = UserSummaryReadAdapter::mapRow;
+
+        private final NamedParameterJdbcTemplate jdbcTemplate;
+        private final UserCountPort userCountPort;
+
+        public UserSummaryReadAdapter(final NamedParameterJdbcTemplate jdbcTemplate, final UserCountPort userCountPort) {
+                this.jdbcTemplate = jdbcTemplate;
+                this.userCountPort = userCountPort;
+        }
+
+        @Override
+        public FindUsersByFilterResponseDomain findAll(final UserSearchSpecification filter, final int page,
+                        final int size, final UserCountStrategy countStrategy) {
+                final var parameters = new MapSqlParameterSource();
+                final String where = UserSearchSqlCompiler.compile(filter, parameters);
+                final var rows = jdbcTemplate.query(SUMMARY_SELECT + where + PAGE_SUFFIX, parameters
+                                .addValue("limit", size + 1)
+                                .addValue("offset", (long) page * size), SUMMARY_MAPPER);
+
+                final boolean hasNext = rows.size() > size;
+                final var count = count(filter, where, parameters, countStrategy);
+
+                return FindUsersByFilterResponseDomain.builder()
+                                .users(firstPage(rows, size))
+                                .page(page)
+                                .size(size)
+                                .totalElements(count.total())
+                                .totalPages(totalPages(count, size))
+                                .hasNext(hasNext)
+                                .countStrategy(count.strategy())
+                                .build();
+        }
+
+        @Override
+        public FindUsersByFilterResponseDomain findAfter(final UserSearchSpecification filter, final UUID after,
+                        final int size, final UserCountStrategy countStrategy) {
+                final var parameters = new MapSqlParameterSource();
+                final String where = UserSearchSqlCompiler.compile(filter, parameters);
+                final String keyset = after == null ? "" : " AND id > :after";
+                final var rows = jdbcTemplate.query(SUMMARY_SELECT + where + keyset + KEYSET_SUFFIX, parameters
+                                .addValue("limit", size + 1)
+                                .addValue("after", after), SUMMARY_MAPPER);
+
+                final boolean hasNext = rows.size() > size;
+                final var users = firstPage(rows, size);
+                final var count = count(filter, where, parameters, countStrategy);
+
+                return FindUsersByFilterResponseDomain.builder()
+                                .users(users)
+                                .size(size)
+                                .totalElements(count.total())
+                                .totalPages(totalPages(count, size))
+                                .nextAfter(hasNext ? users.get(users.size() - 1).getId() : null)
+                                .hasNext(hasNext)
+                                .countStrategy(count.strategy())
+                                .build();
+        }
+
+        /** Sin filtros delega en la estrategia pedida; con filtros solo hay conteo exacto del subconjunto. */
+        private UserCountDomain count(final UserSearchSpecification filter, final String where,
+                        final MapSqlParameterSource parameters, final UserCountStrategy countStrategy) {
+                if (filter.isAll() || countStrategy == UserCountStrategy.NONE) {
+                        return userCountPort.count(countStrategy);
+                }
+                final Long total = jdbcTemplate.queryForObject(COUNT_SQL + where, parameters, Long.class);
+                return new UserCountDomain(UserCountStrategy.EXACT, total == null ? 0L : total);
+        }
+
+        private static List<UserSummaryDomain> firstPage(final List<UserSummaryDomain> rows, final int size) {
+                return rows.size() > size ? rows.subList(0, size) : rows;
+        }
+
+        private static int totalPages(final UserCountDomain count, final int size) {
+                if (count.total() == FindUsersByFilterResponseDomain.UNKNOWN_TOTAL || size <= 0) {
+                        return 0;
+                }
+                return (int) Math.ceil((double) count.total() / size);
+        }
+
+        static UserSummaryDomain mapRow(final ResultSet rs, final int rowNum) throws SQLException {
+                return UserSummaryDomain.builder()
+                                .id(rs.getObject("id", UUID.class))
+                                .idType(ObjectHelper.getDefault(rs.getObject("tipo_identificacion", UUID.class),
+                                                UUIDHelper.getDefault()))
+                                .idNumber(rs.getString("numero_identificacion"))
+                                .firstName(rs.getString("primer_nombre"))
+                                .secondName(rs.getString("segundo_nombre"))
+                                .firstSurname(rs.getString("primer_apellido"))
+                                .secondSurname(rs.getString("segundo_apellido"))
+                                .homeCity(ObjectHelper.getDefault(rs.getObject("ciudad_residencia", UUID.class),
+                                                UUIDHelper.getDefault()))
+                                .email(rs.getString("email"))
+                                .mobileNumber(rs.getString("telefono_movil"))
+                                .emailConfirmed(rs.getBoolean("email_confirmado"))
+                                .mobileNumberConfirmed(rs.getBoolean("telefono_movil_confirmado"))
+                                .build();
+        }
+}
@@ -0,0 +1,46 @@
+package co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.adapter;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Comprueba que existan los índices únicos de {@code db/001-usuario-unique-constraints.sql}. Sin
+ * ellos el {@code ON CONFLICT DO NOTHING} de las inserciones solo detecta choques de id, así que
+ * nada que dependa de que la base de datos rechace duplicados debe activarse.
+ */
+@Component
+public class UserUniqueConstraints {
+
+        private static final Logger LOGGER = LoggerFactory.getLogger(UserUniqueConstraints.class);
+
+        static final List<String> INDEXES = List.of("ux_usuario_identificacion", "ux_usuario_email",
+                        "ux_usuario_telefono_movil");
+
+        private static final String COUNT_SQL = """
+                        SELECT count(*) FROM pg_indexes
+                        WHERE tablename = 'usuario' AND indexname IN (:indexes)
+                        """;
+
+        private final NamedParameterJdbcTemplate jdbcTemplate;
+
+        public UserUniqueConstraints(final NamedParameterJdbcTemplate jdbcTemplate) {
+                this.jdbcTemplate = jdbcTemplate;
+        }
+
+        public boolean present() {
+                try {
+                        final Long found = jdbcTemplate.queryForObject(COUNT_SQL,
+                                        new MapSqlParameterSource("indexes", INDEXES), Long.class);
+                        return found != null && found == INDEXES.size();
+                } catch (final DataAccessException exception) {
+                        LOGGER.warn("Unable to check the unique indexes of usuario: {}", exception.getMessage());
+                        return false;
+                }
+        }
+}
@@ -0,0 +1,152 @@
+package co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.entity;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/** Intención de notificación registrada en la misma transacción que la operación que la origina. */
+@Entity
+@Table(name = "notification_outbox")
+public class NotificationOutboxEntity {
+
+    public enum Type {
+        OWNER_EMAIL, OWNER_SMS, ADMIN_ALERT
+    }
+
+    public enum Status {
+        PENDING, SENT, FAILED
+    }
+
+    @Id
+    private UUID id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Type type;
+
+    /** Nulo para ADMIN_ALERT: el correo del administrador se resuelve al despachar. */
+    private String recipient;
+
+    private String subject;
+
+    private String message;
+
+    private String duplicatedValue;
+
+    private String channel;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Status status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    @Column(nullable = false)
+    private Instant nextAttemptAt;
+
+    private Instant lockedUntil;
+
+    private String lastError;
+
+    private Instant sentAt;
+
+    protected NotificationOutboxEntity() {
+        // JPA requirement
+    }
+
+    private NotificationOutboxEntity(final UUID id, final Type type, final String recipient, final String subject,
+            final String message, final String duplicatedValue, final String channel, final Instant createdAt) {
+        this.id = id;
+        this.type = type;
+        this.recipient = recipient;
+        this.subject = subject;
+        this.message = message;
+        this.duplicatedValue = duplicatedValue;
+        this.channel = channel;
+        this.status = Status.PENDING;
+        this.attempts = 0;
+        this.createdAt = createdAt;
+        this.nextAttemptAt = createdAt;
+    }
+
+    public static NotificationOutboxEntity ownerEmail(final UUID id, final String email, final String subject,
+            final String message, final Instant createdAt) {
+        return new NotificationOutboxEntity(id, Type.OWNER_EMAIL, email, subject, message, null, null, createdAt);
+    }
+
+    public static NotificationOutboxEntity ownerSms(final UUID id, final String mobileNumber, final String message,
+            final Instant createdAt) {
+        return new NotificationOutboxEntity(id, Type.OWNER_SMS, mobileNumber, null, message, null, null, createdAt);
+    }
+
+    public static NotificationOutboxEntity adminAlert(final UUID id, final String duplicatedValue, final String channel,
+            final Instant createdAt) {
+        return new NotificationOutboxEntity(id, Type.ADMIN_ALERT, null, null, null, duplicatedValue, channel, createdAt);
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public String getRecipient() {
+        return recipient;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public String getDuplicatedValue() {
+        return duplicatedValue;
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public Instant getLockedUntil() {
+        return lockedUntil;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public Instant getSentAt() {
+        return sentAt;
+    }
+}
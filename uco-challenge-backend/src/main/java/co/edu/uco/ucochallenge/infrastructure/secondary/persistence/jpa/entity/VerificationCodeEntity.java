@@ -5,17 +5,17 @@ import java.util.UUID;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 
+import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.id.TimeOrderedUuid;
+
 @Entity
 @Table(name = "verification_tokens")
 public class VerificationCodeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @TimeOrderedUuid
     private UUID id;
 
     @Column(nullable = false, unique = true)
@@ -0,0 +1,19 @@
+package co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.id;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * Marca un identificador UUID que Hibernate debe asignar con el generador UUIDv7 de la aplicación.
+ */
+@IdGeneratorType(TimeOrderedUuidIdGenerator.class)
+@Retention(RUNTIME)
+@Target({ FIELD, METHOD })
+public @interface TimeOrderedUuid {
+}
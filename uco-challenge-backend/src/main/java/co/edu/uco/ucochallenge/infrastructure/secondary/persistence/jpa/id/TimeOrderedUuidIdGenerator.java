@@ -0,0 +1,33 @@
+package co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.id;
+
+import java.lang.reflect.Member;
+import java.util.EnumSet;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.generator.GeneratorCreationContext;
+
+import co.edu.uco.ucochallenge.crosscutting.id.TimeOrderedUuidGenerator;
+
+public class TimeOrderedUuidIdGenerator implements BeforeExecutionGenerator {
+
+        private final TimeOrderedUuidGenerator generator = TimeOrderedUuidGenerator.system();
+
+        public TimeOrderedUuidIdGenerator(final TimeOrderedUuid config, final Member member,
+                        final GeneratorCreationContext context) {
+                // Sin configuración: todas las entidades comparten la secuencia del proceso
+        }
+
+        @Override
+        public Object generate(final SharedSessionContractImplementor session, final Object owner,
+                        final Object currentValue, final EventType eventType) {
+                return generator.get();
+        }
+
+        @Override
+        public EnumSet<EventType> getEventTypes() {
+                return EventTypeSets.INSERT_ONLY;
+        }
+}
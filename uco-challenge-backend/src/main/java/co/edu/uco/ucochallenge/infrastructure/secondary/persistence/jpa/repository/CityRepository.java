@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.entity.CityEntity;
@@ -12,4 +13,7 @@ import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.entity.C
 public interface CityRepository extends JpaRepository<CityEntity, UUID> {
 
         List<CityEntity> findByStateId(UUID stateId);
+
+        @Query("select e.id as id, e.name as name, e.state.id as parentId from CityEntity e order by e.name")
+        List<ReferenceRowView> findReferenceRows();
 }
@@ -1,12 +1,17 @@
 package co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.repository;
 
+import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.entity.CountryEntity;
 
 @Repository
 public interface CountryRepository extends JpaRepository<CountryEntity, UUID> {
+
+        @Query("select e.id as id, e.name as name from CountryEntity e order by e.name")
+        List<ReferenceRowView> findReferenceRows();
 }
@@ -1,9 +1,11 @@
 package co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.entity.IdTypeEntity;
@@ -14,4 +16,7 @@ public interface IdTypeRepository extends JpaRepository<IdTypeEntity, UUID> {
         Optional<IdTypeEntity> findByName(String name);
 
         boolean existsByNameIgnoreCase(String name);
+
+        @Query("select t.id as id, t.name as name from IdTypeEntity t order by t.name")
+        List<ReferenceRowView> findReferenceRows();
 }
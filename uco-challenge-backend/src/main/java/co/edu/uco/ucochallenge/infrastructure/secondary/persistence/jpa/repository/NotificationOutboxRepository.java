@@ -0,0 +1,51 @@
+package co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.entity.NotificationOutboxEntity;
+import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.entity.NotificationOutboxEntity.Status;
+
+// Sin outbox la entidad no está en la unidad de persistencia (NotificationOutboxDisabledConfig)
+@Repository
+@ConditionalOnProperty(prefix = "uco.notifications.outbox", name = "enabled", havingValue = "true", matchIfMissing = true)
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutboxEntity, UUID> {
+
+    /** SKIP LOCKED permite varios despachadores (uno por nodo) sin bloquearse entre sí. */
+    @Query(value = """
+            SELECT * FROM notification_outbox
+            WHERE status = 'PENDING'
+              AND next_attempt_at <= :now
+              AND (locked_until IS NULL OR locked_until < :now)
+            ORDER BY next_attempt_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<NotificationOutboxEntity> findDispatchableForUpdate(@Param("now") Instant now, @Param("limit") int limit);
+
+    @Modifying
+    @Query("update NotificationOutboxEntity o set o.lockedUntil = :lockedUntil where o.id in :ids")
+    int lease(@Param("ids") Collection<UUID> ids, @Param("lockedUntil") Instant lockedUntil);
+
+    @Modifying
+    @Query("update NotificationOutboxEntity o set o.status = :status, o.sentAt = :sentAt, o.lockedUntil = null, "
+            + "o.attempts = o.attempts + 1 where o.id = :id")
+    int markSent(@Param("id") UUID id, @Param("status") Status status, @Param("sentAt") Instant sentAt);
+
+    @Modifying
+    @Query("update NotificationOutboxEntity o set o.status = :status, o.attempts = :attempts, "
+            + "o.nextAttemptAt = :nextAttemptAt, o.lastError = :lastError, o.lockedUntil = null where o.id = :id")
+    int markAttemptFailed(@Param("id") UUID id, @Param("status") Status status, @Param("attempts") int attempts,
+            @Param("nextAttemptAt") Instant nextAttemptAt, @Param("lastError") String lastError);
+
+    long countByStatus(Status status);
+}
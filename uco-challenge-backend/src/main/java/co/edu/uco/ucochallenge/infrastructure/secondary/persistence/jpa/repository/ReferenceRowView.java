@@ -0,0 +1,13 @@
+package co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.repository;
+
+import java.util.UUID;
+
+/** Fila de catálogo para el registro de datos de referencia; {@code parentId} es null en los niveles raíz. */
+public interface ReferenceRowView {
+
+        UUID getId();
+
+        String getName();
+
+        UUID getParentId();
+}
@@ -1,11 +1,19 @@
 package co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.entity.UserEntity;
+import jakarta.persistence.QueryHint;
 
 public interface SpringDataUserRepository extends JpaRepository<UserEntity, UUID> {
 
@@ -14,4 +22,22 @@ public interface SpringDataUserRepository extends JpaRepository<UserEntity, UUID
         Optional<UserEntity> findByEmail(String email);
 
         Optional<UserEntity> findByMobileNumber(String mobileNumber);
+
+        @Query("select u.idType.id as idType, u.idNumber as idNumber, u.email as email, u.mobileNumber as mobileNumber "
+                        + "from UserEntity u")
+        @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+        Stream<UserUniquenessKeysView> streamUniquenessKeys();
+
+        @Query(SNAPSHOT_SELECT + "where u.email in :emails")
+        List<UserSnapshotView> findSnapshotsByEmailIn(@Param("emails") Collection<String> emails);
+
+        @Query(SNAPSHOT_SELECT + "where u.mobileNumber in :mobileNumbers")
+        List<UserSnapshotView> findSnapshotsByMobileNumberIn(@Param("mobileNumbers") Collection<String> mobileNumbers);
+
+        @Query(SNAPSHOT_SELECT + "where u.idNumber in :idNumbers")
+        List<UserSnapshotView> findSnapshotsByIdNumberIn(@Param("idNumbers") Collection<String> idNumbers);
+
+        String SNAPSHOT_SELECT = "select u.id as id, u.firstName as firstName, u.firstSurname as firstSurname, "
+                        + "u.email as email, u.mobileNumber as mobileNumber, u.idType.id as idType, "
+                        + "u.idNumber as idNumber from UserEntity u ";
 }
@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.entity.StateEntity;
@@ -12,4 +13,7 @@ import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.entity.S
 public interface StateRepository extends JpaRepository<StateEntity, UUID> {
 
         List<StateEntity> findByCountryId(UUID countryId);
+
+        @Query("select e.id as id, e.name as name, e.country.id as parentId from StateEntity e order by e.name")
+        List<ReferenceRowView> findReferenceRows();
 }
@@ -0,0 +1,21 @@
+package co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.repository;
+
+import java.util.UUID;
+
+/** Datos mínimos de un usuario existente para las reglas de unicidad, sin hidratar relaciones. */
+public interface UserSnapshotView {
+
+        UUID getId();
+
+        String getFirstName();
+
+        String getFirstSurname();
+
+        String getEmail();
+
+        String getMobileNumber();
+
+        UUID getIdType();
+
+        String getIdNumber();
+}
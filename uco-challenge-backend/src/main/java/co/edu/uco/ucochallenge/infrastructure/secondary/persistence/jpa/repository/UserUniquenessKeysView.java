@@ -0,0 +1,15 @@
+package co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.repository;
+
+import java.util.UUID;
+
+/** Proyección con las columnas únicas de {@code usuario}, sin hidratar la entidad. */
+public interface UserUniquenessKeysView {
+
+        UUID getIdType();
+
+        String getIdNumber();
+
+        String getEmail();
+
+        String getMobileNumber();
+}
@@ -0,0 +1,14 @@
+-- Restricciones de unicidad requeridas por uco.users.registration.write-mode=optimistic y por el índice de
+-- unicidad (uco.users.uniqueness-filter); sin ellas el modo optimista pasa a checked y el índice no se activa. En modo checked hacen que un duplicado
+-- que las consultas no vieron termine en register.user.duplicated en lugar de una fila repetida.
+-- email y telefono_movil se guardan como '' cuando no se informan, por eso sus índices son parciales.
+CREATE UNIQUE INDEX IF NOT EXISTS ux_usuario_identificacion
+    ON usuario (tipo_identificacion, numero_identificacion);
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_usuario_email
+    ON usuario (email)
+    WHERE email <> '';
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_usuario_telefono_movil
+    ON usuario (telefono_movil)
+    WHERE telefono_movil <> '';
@@ -0,0 +1,23 @@
+-- Outbox de notificaciones. Obligatoria antes de desplegar con uco.notifications.outbox.enabled=true (valor por
+-- defecto); con enabled=false la entidad no se mapea y la tabla puede no existir.
+CREATE TABLE IF NOT EXISTS notification_outbox (
+    id               UUID PRIMARY KEY,
+    type             VARCHAR(20)  NOT NULL,
+    recipient        VARCHAR(320),
+    subject          VARCHAR(255),
+    message          TEXT,
+    duplicated_value VARCHAR(320),
+    channel          VARCHAR(20),
+    status           VARCHAR(20)  NOT NULL,
+    attempts         INTEGER      NOT NULL DEFAULT 0,
+    created_at       TIMESTAMPTZ  NOT NULL,
+    next_attempt_at  TIMESTAMPTZ  NOT NULL,
+    locked_until     TIMESTAMPTZ,
+    last_error       VARCHAR(1000),
+    sent_at          TIMESTAMPTZ
+);
+
+-- Solo las filas pendientes participan en el reclamo de lotes
+CREATE INDEX IF NOT EXISTS ix_notification_outbox_pending
+    ON notification_outbox (next_attempt_at)
+    WHERE status = 'PENDING';
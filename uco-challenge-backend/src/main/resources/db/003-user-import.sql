@@ -0,0 +1,22 @@
+-- Importación masiva de usuarios (POST /users:import).
+CREATE TABLE IF NOT EXISTS usuario_importacion (
+    id                UUID PRIMARY KEY,
+    formato           VARCHAR(10)  NOT NULL,
+    estado            VARCHAR(20)  NOT NULL,
+    registros_procesados BIGINT    NOT NULL DEFAULT 0,
+    insertados        BIGINT       NOT NULL DEFAULT 0,
+    conflictos        BIGINT       NOT NULL DEFAULT 0,
+    rechazados        BIGINT       NOT NULL DEFAULT 0,
+    iniciado_en       TIMESTAMPTZ  NOT NULL,
+    actualizado_en    TIMESTAMPTZ  NOT NULL,
+    finalizado_en     TIMESTAMPTZ,
+    ultimo_error      VARCHAR(1000)
+);
+
+-- Un registro puede acumular varios códigos de validación
+CREATE TABLE IF NOT EXISTS usuario_importacion_error (
+    importacion_id    UUID         NOT NULL REFERENCES usuario_importacion (id) ON DELETE CASCADE,
+    numero_registro   BIGINT       NOT NULL,
+    codigo            VARCHAR(120) NOT NULL,
+    PRIMARY KEY (importacion_id, numero_registro, codigo)
+);
@@ -0,0 +1,33 @@
+-- Índices del listado filtrado (GET /users?idNumber=&name=&surname=&city=&state=&country=...).
+-- Son CONCURRENTLY para no bloquear usuario: ejecutar fuera de una transacción.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS unaccent;
+
+-- unaccent() es STABLE y no puede indexarse; este envoltorio fija el diccionario y es IMMUTABLE.
+CREATE OR REPLACE FUNCTION f_unaccent(text) RETURNS text
+    LANGUAGE sql IMMUTABLE PARALLEL SAFE STRICT
+    AS $$ SELECT public.unaccent('public.unaccent'::regdictionary, $1) $$;
+
+-- Prefijos sin mayúsculas ni tildes: la expresión debe coincidir con UserSearchSqlCompiler.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_usuario_primer_nombre_trgm
+    ON usuario USING gin (f_unaccent(lower(primer_nombre)) gin_trgm_ops);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_usuario_primer_apellido_trgm
+    ON usuario USING gin (f_unaccent(lower(primer_apellido)) gin_trgm_ops);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_usuario_numero_identificacion_trgm
+    ON usuario USING gin (numero_identificacion gin_trgm_ops);
+
+-- tipo_identificacion ya es la primera columna de ux_usuario_identificacion.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_usuario_ciudad_residencia
+    ON usuario (ciudad_residencia, id);
+
+CREATE INDEX IF NOT EXISTS ix_ciudad_departamento ON ciudad (departamento);
+CREATE INDEX IF NOT EXISTS ix_departamento_pais ON departamento (pais);
+
+-- Los pendientes de confirmación son minoría y se recorren en orden de id.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_usuario_email_pendiente
+    ON usuario (id) WHERE NOT email_confirmado;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_usuario_telefono_movil_pendiente
+    ON usuario (id) WHERE NOT telefono_movil_confirmado;
@@ -16,14 +16,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import co.edu.uco.ucochallenge.application.idtype.dto.IdTypeDTO;
 import co.edu.uco.ucochallenge.application.idtype.service.IdTypeMapper;
-import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.entity.IdTypeEntity;
-import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.repository.IdTypeRepository;
+import co.edu.uco.ucochallenge.infrastructure.secondary.cache.reference.ReferenceDataItem;
+import co.edu.uco.ucochallenge.infrastructure.secondary.cache.reference.ReferenceDataRegistry;
 
 @ExtendWith(MockitoExtension.class)
 class IdTypeQueryServiceImplTest {
 
     @Mock
-    private IdTypeRepository repository;
+    private ReferenceDataRegistry registry;
 
     @Mock
     private IdTypeMapper mapper;
@@ -35,36 +35,30 @@ class IdTypeQueryServiceImplTest {
     void findAllShouldMapEntitiesToDtos() {
         UUID firstId = UUID.randomUUID();
         UUID secondId = UUID.randomUUID();
-        IdTypeEntity firstEntity = new IdTypeEntity.Builder()
-                .id(firstId)
-                .name("Cédula")
-                .build();
-        IdTypeEntity secondEntity = new IdTypeEntity.Builder()
-                .id(secondId)
-                .name("Pasaporte")
-                .build();
-
-        when(repository.findAll()).thenReturn(List.of(firstEntity, secondEntity));
-        when(mapper.toDTO(firstEntity)).thenReturn(new IdTypeDTO(firstId, "Cédula"));
-        when(mapper.toDTO(secondEntity)).thenReturn(new IdTypeDTO(secondId, "Pasaporte"));
+        ReferenceDataItem firstItem = new ReferenceDataItem(firstId, "Cédula");
+        ReferenceDataItem secondItem = new ReferenceDataItem(secondId, "Pasaporte");
+
+        when(registry.idTypes()).thenReturn(List.of(firstItem, secondItem));
+        when(mapper.toDTO(firstItem)).thenReturn(new IdTypeDTO(firstId, "Cédula"));
+        when(mapper.toDTO(secondItem)).thenReturn(new IdTypeDTO(secondId, "Pasaporte"));
 
         List<IdTypeDTO> result = service.findAll();
 
         assertEquals(2, result.size());
         assertEquals("Cédula", result.get(0).name());
         assertEquals("Pasaporte", result.get(1).name());
-        verify(mapper).toDTO(firstEntity);
-        verify(mapper).toDTO(secondEntity);
+        verify(mapper).toDTO(firstItem);
+        verify(mapper).toDTO(secondItem);
     }
 
     @Test
-    void findAllShouldReturnEmptyListWhenRepositoryIsEmpty() {
-        when(repository.findAll()).thenReturn(List.of());
+    void findAllShouldReturnEmptyListWhenRegistryIsEmpty() {
+        when(registry.idTypes()).thenReturn(List.of());
 
         List<IdTypeDTO> result = service.findAll();
 
         assertTrue(result.isEmpty());
-        verify(repository).findAll();
+        verify(registry).idTypes();
     }
 }
 
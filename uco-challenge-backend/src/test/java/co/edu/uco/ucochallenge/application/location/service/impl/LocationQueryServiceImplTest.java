@@ -17,24 +17,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import co.edu.uco.ucochallenge.application.location.dto.CityDTO;
 import co.edu.uco.ucochallenge.application.location.dto.CountryDTO;
 import co.edu.uco.ucochallenge.application.location.dto.DepartmentDTO;
-import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.entity.CityEntity;
-import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.entity.CountryEntity;
-import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.entity.StateEntity;
-import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.repository.SpringDataCityRepository;
-import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.repository.SpringDataCountryRepository;
-import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.repository.SpringDataStateRepository;
+import co.edu.uco.ucochallenge.infrastructure.secondary.cache.reference.ReferenceDataItem;
+import co.edu.uco.ucochallenge.infrastructure.secondary.cache.reference.ReferenceDataRegistry;
 
 @ExtendWith(MockitoExtension.class)
 class LocationQueryServiceImplTest {
 
     @Mock
-    private SpringDataCountryRepository countryRepository;
-
-    @Mock
-    private SpringDataStateRepository stateRepository;
-
-    @Mock
-    private SpringDataCityRepository cityRepository;
+    private ReferenceDataRegistry registry;
 
     @InjectMocks
     private LocationQueryServiceImpl service;
@@ -42,11 +32,8 @@ class LocationQueryServiceImplTest {
     @Test
     void getCountriesShouldReturnMappedDtos() {
         UUID countryId = UUID.randomUUID();
-        CountryEntity colombia = new CountryEntity.Builder()
-                .id(countryId)
-                .name(" Colombia ")
-                .build();
-        when(countryRepository.findAll()).thenReturn(List.of(colombia));
+        ReferenceDataItem colombia = new ReferenceDataItem(countryId, " Colombia ");
+        when(registry.countries()).thenReturn(List.of(colombia));
 
         List<CountryDTO> result = service.getCountries();
 
@@ -54,18 +41,15 @@ class LocationQueryServiceImplTest {
         CountryDTO dto = result.get(0);
         assertEquals(countryId, dto.getId());
         assertEquals("Colombia", dto.getName());
-        verify(countryRepository).findAll();
+        verify(registry).countries();
     }
 
     @Test
-    void getDepartmentsByCountryShouldUseRepositoryResult() {
+    void getDepartmentsByCountryShouldUseRegistryResult() {
         UUID countryId = UUID.randomUUID();
         UUID departmentId = UUID.randomUUID();
-        StateEntity antioquia = new StateEntity.Builder()
-                .id(departmentId)
-                .name(" Antioquia ")
-                .build();
-        when(stateRepository.findByCountryId(countryId)).thenReturn(List.of(antioquia));
+        ReferenceDataItem antioquia = new ReferenceDataItem(departmentId, " Antioquia ");
+        when(registry.departmentsOf(countryId)).thenReturn(List.of(antioquia));
 
         List<DepartmentDTO> result = service.getDepartmentsByCountry(countryId);
 
@@ -73,29 +57,26 @@ class LocationQueryServiceImplTest {
         DepartmentDTO dto = result.get(0);
         assertEquals(departmentId, dto.getId());
         assertEquals("Antioquia", dto.getName());
-        verify(stateRepository).findByCountryId(countryId);
+        verify(registry).departmentsOf(countryId);
     }
 
     @Test
-    void getCitiesByDepartmentShouldReturnEmptyWhenRepositoryReturnsEmptyList() {
+    void getCitiesByDepartmentShouldReturnEmptyWhenRegistryReturnsEmptyList() {
         UUID departmentId = UUID.randomUUID();
-        when(cityRepository.findByStateId(departmentId)).thenReturn(List.of());
+        when(registry.citiesOf(departmentId)).thenReturn(List.of());
 
         List<CityDTO> result = service.getCitiesByDepartment(departmentId);
 
         assertTrue(result.isEmpty());
-        verify(cityRepository).findByStateId(departmentId);
+        verify(registry).citiesOf(departmentId);
     }
 
     @Test
     void getCitiesByDepartmentShouldMapEntitiesToDtos() {
         UUID departmentId = UUID.randomUUID();
         UUID cityId = UUID.randomUUID();
-        CityEntity medellin = new CityEntity.Builder()
-                .id(cityId)
-                .name(" Medellín ")
-                .build();
-        when(cityRepository.findByStateId(departmentId)).thenReturn(List.of(medellin));
+        ReferenceDataItem medellin = new ReferenceDataItem(cityId, " Medellín ");
+        when(registry.citiesOf(departmentId)).thenReturn(List.of(medellin));
 
         List<CityDTO> result = service.getCitiesByDepartment(departmentId);
 
@@ -24,17 +24,15 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import co.edu.uco.ucochallenge.application.user.confirm.service.SendVerificationCodeService;
 import co.edu.uco.ucochallenge.application.user.confirm.service.VerificationCodeService;
 import co.edu.uco.ucochallenge.crosscutting.ParamKeys;
-import co.edu.uco.ucochallenge.crosscutting.dto.ParameterDTO;
 import co.edu.uco.ucochallenge.crosscutting.exception.BusinessException;
 import co.edu.uco.ucochallenge.crosscutting.exception.NotificationDeliveryException;
 import co.edu.uco.ucochallenge.crosscutting.exception.NotFoundException;
 import co.edu.uco.ucochallenge.domain.user.confirm.VerificationChannel;
-import co.edu.uco.ucochallenge.infrastructure.secondary.cache.catalog.ParametersCatalogCache;
+import co.edu.uco.ucochallenge.infrastructure.secondary.cache.catalog.ParameterRegistry;
 import co.edu.uco.ucochallenge.infrastructure.secondary.notification.NotificationContactConfirmationAdapter;
 import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.entity.UserEntity;
 import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.entity.VerificationCodeEntity;
 import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.repository.SpringDataUserRepository;
-import reactor.core.publisher.Mono;
 
 @ExtendWith(MockitoExtension.class)
 class SendVerificationCodeServiceTest {
@@ -49,7 +47,7 @@ class SendVerificationCodeServiceTest {
     private NotificationContactConfirmationAdapter notifier;
 
     @Mock
-    private ParametersCatalogCache parametersCatalogCache;
+    private ParameterRegistry parameterRegistry;
 
     @InjectMocks
     private SendVerificationCodeService service;
@@ -65,8 +63,7 @@ class SendVerificationCodeServiceTest {
 
         when(userRepository.findById(userId)).thenReturn(Optional.of(user));
         when(verificationCodeService.generateCode()).thenReturn("987654");
-        when(parametersCatalogCache.getParameter(ParamKeys.TOKEN_DURATION_MINUTES))
-                .thenReturn(Mono.just(new ParameterDTO(ParamKeys.TOKEN_DURATION_MINUTES, " 10 ")));
+        when(parameterRegistry.positiveInt(ParamKeys.TOKEN_DURATION_MINUTES, 15)).thenReturn(10);
         when(verificationCodeService.save(anyString(), anyString(), any(LocalDateTime.class)))
                 .thenAnswer(invocation -> new VerificationCodeEntity(
                         invocation.getArgument(0),
@@ -106,8 +103,7 @@ class SendVerificationCodeServiceTest {
 
         when(userRepository.findById(userId)).thenReturn(Optional.of(user));
         when(verificationCodeService.generateCode()).thenReturn("123456");
-        when(parametersCatalogCache.getParameter(ParamKeys.TOKEN_DURATION_MINUTES))
-                .thenReturn(Mono.just(new ParameterDTO(ParamKeys.TOKEN_DURATION_MINUTES, "invalido")));
+        when(parameterRegistry.positiveInt(ParamKeys.TOKEN_DURATION_MINUTES, 15)).thenReturn(15);
         when(verificationCodeService.save(anyString(), anyString(), any(LocalDateTime.class)))
                 .thenAnswer(invocation -> new VerificationCodeEntity(
                         invocation.getArgument(0),
@@ -162,8 +158,7 @@ class SendVerificationCodeServiceTest {
 
         when(userRepository.findById(userId)).thenReturn(Optional.of(user));
         when(verificationCodeService.generateCode()).thenReturn("123456");
-        when(parametersCatalogCache.getParameter(ParamKeys.TOKEN_DURATION_MINUTES))
-                .thenReturn(Mono.empty());
+        when(parameterRegistry.positiveInt(ParamKeys.TOKEN_DURATION_MINUTES, 15)).thenReturn(15);
         when(verificationCodeService.save(anyString(), anyString(), any(LocalDateTime.class)))
                 .thenAnswer(invocation -> new VerificationCodeEntity(
                         invocation.getArgument(0),
@@ -187,8 +182,7 @@ class SendVerificationCodeServiceTest {
 
         when(userRepository.findById(userId)).thenReturn(Optional.of(user));
         when(verificationCodeService.generateCode()).thenReturn("123456");
-        when(parametersCatalogCache.getParameter(ParamKeys.TOKEN_DURATION_MINUTES))
-                .thenReturn(Mono.empty());
+        when(parameterRegistry.positiveInt(ParamKeys.TOKEN_DURATION_MINUTES, 15)).thenReturn(15);
         when(verificationCodeService.save(anyString(), anyString(), any(LocalDateTime.class)))
                 .thenAnswer(invocation -> new VerificationCodeEntity(
                         invocation.getArgument(0),
@@ -0,0 +1,120 @@
+package co.edu.uco.ucochallenge.application.user.export.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import co.edu.uco.ucochallenge.application.user.find.dto.UserSearchFilterDTO;
+import co.edu.uco.ucochallenge.application.user.find.interactor.mapper.impl.UserSearchFilterMapper;
+import co.edu.uco.ucochallenge.domain.user.export.model.UserExportFormat;
+import co.edu.uco.ucochallenge.domain.user.find.model.UserSummaryDomain;
+import co.edu.uco.ucochallenge.domain.user.find.specification.UserSearchSpecification;
+import co.edu.uco.ucochallenge.domain.user.port.UserExportRepositoryPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class UserExportServiceImplTest {
+
+        @Mock
+        private UserExportRepositoryPort repositoryPort;
+
+        @Mock
+        private PlatformTransactionManager transactionManager;
+
+        private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        private UserExportServiceImpl service;
+
+        @BeforeEach
+        void setUp() {
+                service = new UserExportServiceImpl(repositoryPort, transactionManager, new UserSearchFilterMapper(),
+                                meterRegistry);
+        }
+
+        @Test
+        void shouldWriteQuotedCsvRowsAndRecordVolume() {
+                givenUsers(user("Ana", "Pérez, \"la Mona\""), user("Luis", "Gómez"));
+                final var output = new ByteArrayOutputStream();
+
+                final long rows = service.export(UserExportFormat.CSV, UserSearchFilterDTO.empty(), output);
+
+                final String[] lines = output.toString(StandardCharsets.UTF_8).split("\r\n");
+                assertEquals(2, rows);
+                assertEquals(3, lines.length);
+                assertTrue(lines[1].contains(",Ana,,\"Pérez, \"\"la Mona\"\"\",,"));
+                assertEquals(2, meterRegistry.get("users.export.rows").counter().count());
+                assertEquals(output.size(), meterRegistry.get("users.export.bytes").counter().count());
+                assertEquals(1, meterRegistry.get("users.export").tag("outcome", "completed").timer().count());
+        }
+
+        @Test
+        void shouldWriteOneJsonObjectPerLine() {
+                givenUsers(user("Ana", "Pérez"), user("Luis", "Gómez"));
+                final var output = new ByteArrayOutputStream();
+
+                service.export(UserExportFormat.NDJSON, new UserSearchFilterDTO(null, null, "an", null, null, null, null,
+                                false, null), output);
+
+                final String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+                assertEquals(2, lines.length);
+                assertTrue(lines[0].startsWith("{\"id\":\""));
+                assertTrue(lines[1].contains("\"firstName\":\"Luis\""));
+                verify(repositoryPort).streamAll(any(UserSearchSpecification.And.class), any());
+        }
+
+        @Test
+        void shouldStopReadingWhenClientDisconnects() {
+                givenUsers(user("Ana", "Pérez"), user("Luis", "Gómez"));
+                final OutputStream disconnected = new OutputStream() {
+                        @Override
+                        public void write(final int value) throws IOException {
+                                throw new IOException("Broken pipe");
+                        }
+                };
+
+                assertThrows(UncheckedIOException.class,
+                                () -> service.export(UserExportFormat.NDJSON, UserSearchFilterDTO.empty(), disconnected));
+
+                assertEquals(0, meterRegistry.get("users.export.bytes").counter().count());
+                assertEquals(1, meterRegistry.get("users.export").tag("outcome", "cancelled").timer().count());
+        }
+
+        @SuppressWarnings("unchecked")
+        private void givenUsers(final UserSummaryDomain... users) {
+                when(repositoryPort.streamAll(any(), any())).thenAnswer(invocation -> {
+                        final Consumer<UserSummaryDomain> consumer = invocation.getArgument(1);
+                        for (final var user : users) {
+                                consumer.accept(user);
+                        }
+                        return (long) users.length;
+                });
+        }
+
+        private static UserSummaryDomain user(final String firstName, final String firstSurname) {
+                return UserSummaryDomain.builder()
+                                .id(UUID.randomUUID())
+                                .idType(UUID.randomUUID())
+                                .idNumber("1001")
+                                .firstName(firstName)
+                                .firstSurname(firstSurname)
+                                .homeCity(UUID.randomUUID())
+                                .build();
+        }
+}
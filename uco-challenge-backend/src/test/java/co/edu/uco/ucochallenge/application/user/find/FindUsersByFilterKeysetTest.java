@@ -0,0 +1,87 @@
+package co.edu.uco.ucochallenge.application.user.find;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import co.edu.uco.ucochallenge.application.user.find.cursor.UserListCursor;
+import co.edu.uco.ucochallenge.application.user.find.dto.FindUsersByFilterInputDTO;
+import co.edu.uco.ucochallenge.application.user.find.interactor.impl.FindUsersByFilterInteractorImpl;
+import co.edu.uco.ucochallenge.application.user.find.interactor.mapper.impl.FindUsersByFilterInputMapper;
+import co.edu.uco.ucochallenge.application.user.find.interactor.mapper.impl.FindUsersByFilterOutputMapper;
+import co.edu.uco.ucochallenge.application.user.find.usecase.impl.FindUsersByFilterUseCaseImpl;
+import co.edu.uco.ucochallenge.crosscutting.exception.DomainValidationException;
+import co.edu.uco.ucochallenge.domain.user.find.model.FindUsersByFilterResponseDomain;
+import co.edu.uco.ucochallenge.domain.user.find.model.UserCountStrategy;
+import co.edu.uco.ucochallenge.domain.user.find.model.UserSummaryDomain;
+import co.edu.uco.ucochallenge.domain.user.find.specification.UserSearchSpecification;
+import co.edu.uco.ucochallenge.domain.user.port.FindUsersByFilterRepositoryPort;
+
+@ExtendWith(MockitoExtension.class)
+class FindUsersByFilterKeysetTest {
+
+        @Mock
+        private FindUsersByFilterRepositoryPort repositoryPort;
+
+        private FindUsersByFilterInteractorImpl interactor;
+
+        @BeforeEach
+        void setUp() {
+                interactor = new FindUsersByFilterInteractorImpl(new FindUsersByFilterUseCaseImpl(repositoryPort),
+                                new FindUsersByFilterInputMapper(), new FindUsersByFilterOutputMapper());
+        }
+
+        @Test
+        void shouldContinueAfterCursorWithoutCountingByDefault() {
+                final var after = UUID.randomUUID();
+                final var last = UUID.randomUUID();
+                when(repositoryPort.findAfter(UserSearchSpecification.all(), after, 2, UserCountStrategy.NONE)).thenReturn(FindUsersByFilterResponseDomain.builder()
+                                .users(List.of(UserSummaryDomain.builder().id(UUID.randomUUID()).build(),
+                                                UserSummaryDomain.builder().id(last).build()))
+                                .size(2)
+                                .totalElements(FindUsersByFilterResponseDomain.UNKNOWN_TOTAL)
+                                .nextAfter(last)
+                                .build());
+
+                final var response = interactor.execute(
+                                FindUsersByFilterInputDTO.normalize(null, 2, UserListCursor.encode(after), null));
+
+                assertEquals(2, response.getUsers().size());
+                assertNull(response.getTotalElements());
+                assertEquals(last, UserListCursor.decode(response.getNextCursor()));
+                verify(repositoryPort, never()).findAll(any(), anyInt(), anyInt(), any());
+        }
+
+        @Test
+        void shouldStartFromTheBeginningWithEmptyCursor() {
+                when(repositoryPort.findAfter(UserSearchSpecification.all(), null, 10, UserCountStrategy.EXACT)).thenReturn(FindUsersByFilterResponseDomain.builder()
+                                .size(10)
+                                .totalElements(0)
+                                .build());
+
+                final var response = interactor.execute(FindUsersByFilterInputDTO.normalize(3, null, "", "exact"));
+
+                assertEquals(0L, response.getTotalElements());
+                assertNull(response.getNextCursor());
+        }
+
+        @Test
+        void shouldRejectTamperedCursor() {
+                assertThrows(DomainValidationException.class,
+                                () -> interactor.execute(FindUsersByFilterInputDTO.normalize(null, null, "not-a-cursor", null)));
+        }
+}
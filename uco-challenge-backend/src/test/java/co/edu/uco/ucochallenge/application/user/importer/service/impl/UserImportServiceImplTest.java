@@ -0,0 +1,171 @@
+package co.edu.uco.ucochallenge.application.user.importer.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import co.edu.uco.ucochallenge.application.user.register.interactor.mapper.impl.RegisterUserInputMapper;
+import co.edu.uco.ucochallenge.application.user.registerbatch.usecase.impl.RegisterUserRowsValidator;
+import co.edu.uco.ucochallenge.domain.user.importer.model.UserImportFormat;
+import co.edu.uco.ucochallenge.domain.user.importer.model.UserImportJobDomain;
+import co.edu.uco.ucochallenge.domain.user.importer.model.UserImportRejectionDomain;
+import co.edu.uco.ucochallenge.domain.user.importer.model.UserImportRowDomain;
+import co.edu.uco.ucochallenge.domain.user.importer.model.UserImportStatus;
+import co.edu.uco.ucochallenge.domain.user.port.IdTypeQueryPort;
+import co.edu.uco.ucochallenge.domain.user.port.LocationQueryPort;
+import co.edu.uco.ucochallenge.domain.user.port.UserImportRepositoryPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+
+@ExtendWith(MockitoExtension.class)
+class UserImportServiceImplTest {
+
+        private static final UUID ID_TYPE = UUID.randomUUID();
+        private static final UUID COUNTRY = UUID.randomUUID();
+        private static final UUID DEPARTMENT = UUID.randomUUID();
+        private static final UUID CITY = UUID.randomUUID();
+        private static final String HEADER = "idTypeId,idNumber,firstName,lastName,email,mobile,countryId,departmentId,cityId\n";
+
+        @Mock
+        private UserImportRepositoryPort repositoryPort;
+        @Mock
+        private IdTypeQueryPort idTypeQueryPort;
+        @Mock
+        private LocationQueryPort locationQueryPort;
+        @Mock
+        private PlatformTransactionManager transactionManager;
+
+        private final Clock clock = Clock.fixed(Instant.parse("2026-01-01T00:00:00Z"), ZoneOffset.UTC);
+        private UserImportServiceImpl service;
+
+        @BeforeEach
+        void setUp() {
+                service = new UserImportServiceImpl(repositoryPort,
+                                new RegisterUserRowsValidator(idTypeQueryPort, locationQueryPort),
+                                new RegisterUserInputMapper(UUID::randomUUID),
+                                Validation.buildDefaultValidatorFactory().getValidator(),
+                                new ObjectMapper(),
+                                transactionManager,
+                                clock,
+                                UUID::randomUUID,
+                                new SimpleMeterRegistry(),
+                                2,
+                                Duration.ofMinutes(2));
+
+                final Answer<Object> echo = invocation -> new HashSet<>((Collection<?>) invocation.getArgument(0));
+                when(idTypeQueryPort.findExistingIds(anyCollection())).thenAnswer(echo);
+                when(idTypeQueryPort.findIdsByNames(anyCollection())).thenReturn(Map.of());
+                when(locationQueryPort.findExistingCountries(anyCollection())).thenAnswer(echo);
+                when(locationQueryPort.findExistingDepartments(anyCollection())).thenAnswer(echo);
+                when(locationQueryPort.findExistingCities(anyCollection())).thenAnswer(echo);
+                when(locationQueryPort.isValidHierarchy(any(), any(), any())).thenReturn(true);
+        }
+
+        @Test
+        void shouldStageValidRowsInChunksAndReportRejectionsAndConflicts() {
+                final var jobId = UUID.randomUUID();
+                when(repositoryPort.findJob(jobId)).thenReturn(Optional.empty());
+                when(repositoryPort.stageAndMerge(eq(jobId), anyList())).thenReturn(Set.of(2L)).thenReturn(Set.of());
+                final var csv = HEADER
+                                + row("1001", "a@uco.edu.co")
+                                + row("1002", "b@uco.edu.co")
+                                + row("", "c@uco.edu.co")
+                                + "not-a-uuid,1004,Ana,Gomez,d@uco.edu.co,,x,y,z\n";
+
+                final var result = service.importUsers(jobId, "csv", stream(csv));
+
+                assertEquals(UserImportStatus.COMPLETED.name(), result.status());
+                assertEquals(4, result.processedRecords());
+                assertEquals(1, result.inserted());
+                assertEquals(1, result.conflicts());
+                assertEquals(2, result.rejected());
+
+                @SuppressWarnings("unchecked")
+                final ArgumentCaptor<List<UserImportRowDomain>> rows = ArgumentCaptor.forClass(List.class);
+                verify(repositoryPort, times(2)).stageAndMerge(eq(jobId), rows.capture());
+                assertEquals(List.of(1L, 2L), rows.getAllValues().get(0).stream().map(UserImportRowDomain::recordNumber).toList());
+                assertEquals(List.of(), rows.getAllValues().get(1));
+
+                @SuppressWarnings("unchecked")
+                final ArgumentCaptor<List<UserImportRejectionDomain>> rejections = ArgumentCaptor.forClass(List.class);
+                verify(repositoryPort, times(2)).saveRejections(eq(jobId), rejections.capture());
+                assertEquals(List.of(
+                                new UserImportRejectionDomain(3, "register.user.validation.idnumber.required"),
+                                new UserImportRejectionDomain(4, "users.import.record.malformed")),
+                                rejections.getAllValues().get(1));
+        }
+
+        @Test
+        void shouldResumeAfterLastCheckpoint() {
+                final var jobId = UUID.randomUUID();
+                final var interrupted = UserImportJobDomain.builder()
+                                .id(jobId)
+                                .format(UserImportFormat.NDJSON)
+                                .status(UserImportStatus.FAILED)
+                                .processedRecords(2)
+                                .inserted(2)
+                                .startedAt(clock.instant().minusSeconds(600))
+                                .updatedAt(clock.instant().minusSeconds(300))
+                                .build();
+                when(repositoryPort.findJob(jobId)).thenReturn(Optional.of(interrupted));
+                when(repositoryPort.stageAndMerge(eq(jobId), anyList())).thenReturn(Set.of());
+                final var ndjson = json("1001", "a@uco.edu.co") + json("1002", "b@uco.edu.co") + "\n"
+                                + json("1003", "c@uco.edu.co");
+
+                final var result = service.importUsers(jobId, "ndjson", stream(ndjson));
+
+                @SuppressWarnings("unchecked")
+                final ArgumentCaptor<List<UserImportRowDomain>> rows = ArgumentCaptor.forClass(List.class);
+                verify(repositoryPort).stageAndMerge(eq(jobId), rows.capture());
+                assertEquals(List.of(4L), rows.getValue().stream().map(UserImportRowDomain::recordNumber).toList());
+                assertEquals(3, result.inserted());
+                assertEquals(4, result.processedRecords());
+                verify(repositoryPort, times(3)).saveJob(any());
+        }
+
+        private static String row(final String idNumber, final String email) {
+                return String.join(",", ID_TYPE.toString(), idNumber, "Juan", "Perez", email, "",
+                                COUNTRY.toString(), DEPARTMENT.toString(), CITY.toString()) + "\n";
+        }
+
+        private static String json(final String idNumber, final String email) {
+                return """
+                                {"idTypeId":"%s","idNumber":"%s","firstName":"Juan","lastName":"Perez","email":"%s",\
+                                "countryId":"%s","departmentId":"%s","cityId":"%s"}
+                                """.formatted(ID_TYPE, idNumber, email, COUNTRY, DEPARTMENT, CITY);
+        }
+
+        private static ByteArrayInputStream stream(final String content) {
+                return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+        }
+}
@@ -0,0 +1,63 @@
+package co.edu.uco.ucochallenge.application.user.register.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import co.edu.uco.ucochallenge.crosscutting.exception.BusinessException;
+import co.edu.uco.ucochallenge.domain.common.specification.Specification;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RegistrationStageTraceTest {
+
+        private SimpleMeterRegistry registry;
+        private RegistrationStageMetrics metrics;
+
+        @BeforeEach
+        void setUp() {
+                registry = new SimpleMeterRegistry();
+                metrics = new RegistrationStageMetrics(registry, Duration.ZERO);
+        }
+
+        @Test
+        void shouldTagStagesAndTotalByOutcome() {
+                final var trace = metrics.begin("checked");
+
+                trace.stage("contact", () -> {
+                });
+                final var exception = new BusinessException("register.user.duplicated");
+                assertThrows(BusinessException.class, () -> trace.stage("uniqueness", () -> {
+                        throw exception;
+                }));
+                trace.fail(exception);
+                trace.finish();
+
+                assertEquals(1, registry.get("users.registration.stage").tags("stage", "contact", "outcome", "success")
+                                .timer().count());
+                assertEquals(1, registry.get("users.registration.stage").tags("stage", "uniqueness", "outcome", "rejected")
+                                .timer().count());
+                assertEquals(1, registry.get("users.registration").tags("mode", "checked", "outcome", "rejected")
+                                .timer().count());
+                assertEquals(0, registry.get("users.registration.stage.active").tag("stage", "uniqueness")
+                                .longTaskTimer().activeTasks());
+        }
+
+        @Test
+        void shouldTimeEachSpecificationEvaluation() {
+                final var trace = metrics.begin("optimistic");
+                final Specification<String> notEmpty = trace.specification("not-empty", candidate -> !candidate.isEmpty());
+
+                assertFalse(notEmpty.isSatisfiedBy(""));
+                notEmpty.isSatisfiedBy("x");
+
+                assertEquals(1, registry.get("users.registration.specification")
+                                .tags("specification", "not-empty", "outcome", "unsatisfied").timer().count());
+                assertEquals(1, registry.get("users.registration.specification")
+                                .tags("specification", "not-empty", "outcome", "satisfied").timer().count());
+        }
+}
@@ -0,0 +1,108 @@
+package co.edu.uco.ucochallenge.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.UUID;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import co.edu.uco.ucochallenge.crosscutting.dto.MessageDTO;
+import co.edu.uco.ucochallenge.crosscutting.dto.ParameterDTO;
+import co.edu.uco.ucochallenge.domain.user.find.model.FindUsersByFilterResponseDomain;
+import co.edu.uco.ucochallenge.domain.user.find.model.UserCountStrategy;
+import co.edu.uco.ucochallenge.domain.user.find.model.UserSummaryDomain;
+import co.edu.uco.ucochallenge.infrastructure.secondary.cache.redis.CacheValueFormat;
+import co.edu.uco.ucochallenge.infrastructure.secondary.cache.redis.CacheValueSerializers;
+
+/**
+ * Tamaño en bytes y tiempo de serialización/deserialización de los valores de {@code usersByPage},
+ * {@code messagesCatalog} y {@code parametersCatalog} con cada formato de
+ * {@link CacheValueSerializers}. No necesita Redis ni base de datos; no lo ejecuta surefire:
+ *
+ * <pre>
+ * mvn -q test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=co.edu.uco.ucochallenge.benchmark.CacheSerializationBenchmark \
+ *     -Dbenchmark.page-size=20 -Dbenchmark.iterations=20000
+ * </pre>
+ */
+public final class CacheSerializationBenchmark {
+
+        private static final int COMPRESSION_THRESHOLD = 2048;
+
+        private CacheSerializationBenchmark() {
+        }
+
+        public static void main(final String[] args) {
+                final int iterations = Integer.getInteger("benchmark.iterations", 20_000);
+                final int pageSize = Integer.getInteger("benchmark.page-size", 20);
+
+                run("usersByPage", FindUsersByFilterResponseDomain.class, page(pageSize), iterations);
+                run("messagesCatalog", MessageDTO.class, new MessageDTO("users.register.duplicated.email",
+                                "Ya existe un usuario con el correo informado",
+                                "El correo electrónico ya está registrado", "Email already registered"), iterations);
+                run("parametersCatalog", ParameterDTO.class, new ParameterDTO("token.duration.minutes", "15"), iterations);
+        }
+
+        private static <T> void run(final String cacheName, final Class<T> type, final T value, final int iterations) {
+                System.out.println(cacheName);
+                measure("generic", CacheValueSerializers.forCache(CacheValueFormat.GENERIC, type, 0), value, iterations);
+                measure("typed", CacheValueSerializers.forCache(CacheValueFormat.TYPED, type, 0), value, iterations);
+                measure("typed+deflate", CacheValueSerializers.forCache(CacheValueFormat.TYPED, type,
+                                COMPRESSION_THRESHOLD), value, iterations);
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> void measure(final String label, final RedisSerializer<?> rawSerializer, final T value,
+                        final int iterations) {
+                final var serializer = (RedisSerializer<T>) rawSerializer;
+                final byte[] bytes = serializer.serialize(value);
+                // Calentamiento del JIT
+                for (int i = 0; i < Math.min(iterations, 5_000); i++) {
+                        serializer.deserialize(serializer.serialize(value));
+                }
+
+                final long[] write = new long[iterations];
+                final long[] read = new long[iterations];
+                for (int i = 0; i < iterations; i++) {
+                        long start = System.nanoTime();
+                        serializer.serialize(value);
+                        write[i] = System.nanoTime() - start;
+                        start = System.nanoTime();
+                        serializer.deserialize(bytes);
+                        read[i] = System.nanoTime() - start;
+                }
+                Arrays.sort(write);
+                Arrays.sort(read);
+                System.out.printf("  %-14s %,8d bytes  serialize p50 %8.2f µs  deserialize p50 %8.2f µs%n", label,
+                                bytes.length, write[iterations / 2] / 1_000.0, read[iterations / 2] / 1_000.0);
+        }
+
+        private static FindUsersByFilterResponseDomain page(final int size) {
+                final var users = new ArrayList<UserSummaryDomain>(size);
+                for (int i = 0; i < size; i++) {
+                        users.add(UserSummaryDomain.builder()
+                                        .id(UUID.randomUUID())
+                                        .idType(UUID.randomUUID())
+                                        .idNumber(Long.toString(1_000_000_000L + i))
+                                        .firstName("María")
+                                        .secondName(i % 3 == 0 ? "José" : null)
+                                        .firstSurname("Gómez")
+                                        .secondSurname("Restrepo")
+                                        .homeCity(UUID.randomUUID())
+                                        .email("usuario" + i + "@uco.edu.co")
+                                        .mobileNumber(Long.toString(3_000_000_000L + i))
+                                        .emailConfirmed(i % 2 == 0)
+                                        .mobileNumberConfirmed(i % 4 == 0)
+                                        .build());
+                }
+                return FindUsersByFilterResponseDomain.builder()
+                                .users(users)
+                                .page(0)
+                                .size(size)
+                                .totalElements(50_000)
+                                .totalPages(50_000 / size)
+                                .hasNext(true)
+                                .countStrategy(UserCountStrategy.EXACT)
+                                .build();
+        }
+}
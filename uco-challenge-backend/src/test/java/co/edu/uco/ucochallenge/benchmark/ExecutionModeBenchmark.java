@@ -0,0 +1,132 @@
+package co.edu.uco.ucochallenge.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import co.edu.uco.ucochallenge.infrastructure.primary.execution.BlockingExecution;
+import co.edu.uco.ucochallenge.infrastructure.primary.execution.ExecutionMode;
+
+/**
+ * Carga cerrada sobre el recorrido de una petición en cada {@link ExecutionMode}: el hilo de
+ * Tomcat (200 de plataforma o uno virtual por petición) se suscribe a
+ * {@link BlockingExecution#call}, el trabajo bloquea {@code benchmark.work} (un viaje a la base de
+ * datos) y la respuesta se escribe en un nuevo despacho de Tomcat, como hace Spring MVC con un
+ * {@code Mono}. {@code benchmark.db-pool} limita las consultas simultáneas como Hikari; 0 no
+ * limita. Informa rendimiento, p50/p99 y el máximo de hilos de plataforma. No lo ejecuta surefire:
+ *
+ * <pre>
+ * mvn -q test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=co.edu.uco.ucochallenge.benchmark.ExecutionModeBenchmark \
+ *     -Dbenchmark.clients=2000 -Dbenchmark.work=PT0.02S -Dbenchmark.duration=PT20S -Dbenchmark.db-pool=0
+ * </pre>
+ */
+public final class ExecutionModeBenchmark {
+
+        private static final int TOMCAT_MAX_THREADS = 200;
+
+        private ExecutionModeBenchmark() {
+        }
+
+        public static void main(final String[] args) throws Exception {
+                final int clients = Integer.getInteger("benchmark.clients", 2_000);
+                final Duration work = Duration.parse(System.getProperty("benchmark.work", "PT0.02S"));
+                final Duration duration = Duration.parse(System.getProperty("benchmark.duration", "PT20S"));
+                final int dbPool = Integer.getInteger("benchmark.db-pool", 0);
+
+                System.out.printf("clients=%d work=%d ms duration=%d s db-pool=%s cores=%d%n", clients, work.toMillis(),
+                                duration.toSeconds(), dbPool == 0 ? "unbounded" : dbPool,
+                                Runtime.getRuntime().availableProcessors());
+                // Virtual primero: los hilos de boundedElastic siguen vivos un minuto y contarían en el otro
+                run(ExecutionMode.VIRTUAL_THREADS, clients, work, duration, dbPool);
+                run(ExecutionMode.BOUNDED_ELASTIC, clients, work, duration, dbPool);
+        }
+
+        private static void run(final ExecutionMode mode, final int clients, final Duration work, final Duration duration,
+                        final int dbPool) throws Exception {
+                final BlockingExecution execution = new BlockingExecution(mode, 10);
+                final ExecutorService tomcat = mode == ExecutionMode.VIRTUAL_THREADS
+                                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("tomcat-vt-", 0).factory())
+                                : Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+                final Semaphore connections = dbPool > 0 ? new Semaphore(dbPool, true) : null;
+                final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+                final AtomicBoolean running = new AtomicBoolean(true);
+                final AtomicBoolean measuring = new AtomicBoolean(false);
+                final List<long[]> perClient = new ArrayList<>();
+                final List<Thread> clientThreads = new ArrayList<>();
+                final int[] counts = new int[clients];
+                for (int i = 0; i < clients; i++) {
+                        final long[] latencies = new long[1 << 16];
+                        perClient.add(latencies);
+                        final int client = i;
+                        clientThreads.add(Thread.ofVirtual().start(() -> {
+                                while (running.get()) {
+                                        final long start = System.nanoTime();
+                                        request(tomcat, execution, connections, work).join();
+                                        if (measuring.get() && counts[client] < latencies.length) {
+                                                latencies[counts[client]++] = System.nanoTime() - start;
+                                        }
+                                }
+                        }));
+                }
+
+                // Calentamiento: JIT y creación de los hilos de los pools
+                Thread.sleep(Math.min(5_000, duration.toMillis() / 4));
+                threads.resetPeakThreadCount();
+                measuring.set(true);
+                final long start = System.nanoTime();
+                Thread.sleep(duration.toMillis());
+                measuring.set(false);
+                final double seconds = (System.nanoTime() - start) / 1e9;
+                final int peakThreads = threads.getPeakThreadCount();
+                running.set(false);
+                for (final Thread thread : clientThreads) {
+                        thread.join();
+                }
+                tomcat.shutdown();
+                execution.destroy();
+
+                final int total = Arrays.stream(counts).sum();
+                final long[] all = new long[total];
+                int offset = 0;
+                for (int i = 0; i < clients; i++) {
+                        System.arraycopy(perClient.get(i), 0, all, offset, counts[i]);
+                        offset += counts[i];
+                }
+                Arrays.sort(all);
+                System.out.printf("%-16s %9.0f req/s  p50 %7.2f ms  p99 %7.2f ms  peak platform threads %4d%n",
+                                mode, total / seconds, all[total / 2] / 1e6, all[(int) (total * 0.99)] / 1e6, peakThreads);
+        }
+
+        private static CompletableFuture<Void> request(final ExecutorService tomcat, final BlockingExecution execution,
+                        final Semaphore connections, final Duration work) {
+                final CompletableFuture<Void> response = new CompletableFuture<>();
+                tomcat.execute(() -> execution.call(() -> query(connections, work))
+                                .subscribe(result -> tomcat.execute(() -> response.complete(null)),
+                                                response::completeExceptionally));
+                return response;
+        }
+
+        private static Boolean query(final Semaphore connections, final Duration work) throws InterruptedException {
+                if (connections != null) {
+                        connections.acquire();
+                }
+                try {
+                        Thread.sleep(work);
+                        return Boolean.TRUE;
+                } finally {
+                        if (connections != null) {
+                                connections.release();
+                        }
+                }
+        }
+}
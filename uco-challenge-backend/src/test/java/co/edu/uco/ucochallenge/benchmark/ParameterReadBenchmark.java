@@ -0,0 +1,126 @@
+package co.edu.uco.ucochallenge.benchmark;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.IntSupplier;
+
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import co.edu.uco.ucochallenge.crosscutting.ParamKeys;
+import co.edu.uco.ucochallenge.crosscutting.dto.ParameterDTO;
+import co.edu.uco.ucochallenge.infrastructure.secondary.cache.catalog.ParameterRegistry;
+import co.edu.uco.ucochallenge.infrastructure.secondary.cache.catalog.ParametersCatalogCache;
+import co.edu.uco.ucochallenge.infrastructure.secondary.http.port.ParameterServicePort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+/**
+ * Compara la lectura de {@code duracionTokenMinutos} en el camino caliente de
+ * {@code SendVerificationCodeService}:
+ * <ul>
+ * <li>{@code redis}: un GET a Redis y {@code Integer.parseInt} por lectura (fallo del L1);</li>
+ * <li>{@code async-l1}: el camino anterior con el L1 caliente,
+ * {@code getParameter(...).map(...).block()};</li>
+ * <li>{@code registry}: {@link ParameterRegistry#positiveInt}, una lectura volátil del snapshot.</li>
+ * </ul>
+ * El caso {@code redis} se omite si no hay un Redis local. No lo ejecuta surefire; se lanza a mano:
+ *
+ * <pre>
+ * mvn -q test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=co.edu.uco.ucochallenge.benchmark.ParameterReadBenchmark \
+ *     -Dbenchmark.redis.host=localhost -Dbenchmark.redis.port=6379 -Dbenchmark.reads=200000
+ * </pre>
+ */
+public final class ParameterReadBenchmark {
+
+        private static final String KEY = ParamKeys.TOKEN_DURATION_MINUTES;
+
+        private static int sink;
+
+        private ParameterReadBenchmark() {
+        }
+
+        public static void main(final String[] args) {
+                final int reads = Integer.getInteger("benchmark.reads", 200_000);
+                final ParameterServicePort service = new InMemoryParameterService(Map.of(KEY, new ParameterDTO(KEY, "15")));
+                final var meterRegistry = new SimpleMeterRegistry();
+
+                final var registry = new ParameterRegistry(service, Clock.systemUTC(), meterRegistry, Duration.ofSeconds(5));
+                registry.refresh();
+                final var catalog = new ParametersCatalogCache(service, registry, Clock.systemUTC(), meterRegistry, 500,
+                                Duration.ofMinutes(5), Duration.ofMinutes(30));
+
+                redis(reads);
+                report("async-l1", measure(() -> catalog.getParameter(KEY)
+                                .map(ParameterDTO::value)
+                                .map(String::trim)
+                                .map(Integer::parseInt)
+                                .onErrorReturn(15)
+                                .defaultIfEmpty(15)
+                                .block(), reads));
+                report("registry", measure(() -> registry.positiveInt(KEY, 15), reads));
+        }
+
+        private static void redis(final int reads) {
+                final var connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(
+                                System.getProperty("benchmark.redis.host", "localhost"),
+                                Integer.getInteger("benchmark.redis.port", 6379)));
+                connectionFactory.afterPropertiesSet();
+                final String redisKey = "benchmark:parameters:" + KEY;
+                try {
+                        connectionFactory.start();
+                        final var template = new StringRedisTemplate(connectionFactory);
+                        template.opsForValue().set(redisKey, "15");
+                        report("redis", measure(() -> Integer.parseInt(template.opsForValue().get(redisKey).trim()),
+                                        Math.min(reads, 20_000)));
+                        template.delete(redisKey);
+                } catch (final RuntimeException exception) {
+                        System.out.printf("%-10s omitido: %s%n", "redis", exception.getMessage());
+                } finally {
+                        connectionFactory.destroy();
+                }
+        }
+
+        private static long[] measure(final IntSupplier read, final int reads) {
+                for (int i = 0; i < Math.min(reads, 20_000); i++) {
+                        sink += read.getAsInt();
+                }
+                final long[] latencies = new long[reads];
+                for (int i = 0; i < reads; i++) {
+                        final long start = System.nanoTime();
+                        sink += read.getAsInt();
+                        latencies[i] = System.nanoTime() - start;
+                }
+                Arrays.sort(latencies);
+                return latencies;
+        }
+
+        private static void report(final String label, final long[] latencies) {
+                System.out.printf("%-10s p50 %8.3f µs  p99 %8.3f µs  max %8.2f µs%n", label,
+                                latencies[latencies.length / 2] / 1_000.0,
+                                latencies[(int) (latencies.length * 0.99)] / 1_000.0,
+                                latencies[latencies.length - 1] / 1_000.0);
+        }
+
+        private record InMemoryParameterService(Map<String, ParameterDTO> parameters) implements ParameterServicePort {
+
+                @Override
+                public Mono<ParameterDTO> getParameter(final String key) {
+                        return Mono.justOrEmpty(parameters.get(key));
+                }
+
+                @Override
+                public Mono<Map<String, ParameterDTO>> getAllParameters() {
+                        return Mono.just(parameters);
+                }
+
+                @Override
+                public Mono<ParameterDTO> updateParameter(final String key, final String value) {
+                        return Mono.just(new ParameterDTO(key, value));
+                }
+        }
+}
@@ -0,0 +1,156 @@
+package co.edu.uco.ucochallenge.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import co.edu.uco.ucochallenge.infrastructure.primary.execution.BlockingExecution;
+import co.edu.uco.ucochallenge.infrastructure.primary.execution.ExecutionMode;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Carga mixta de catálogos (en memoria) y {@code GET /users} (una consulta de
+ * {@code benchmark.work} con un pool de {@code benchmark.db-pool} conexiones) sobre 200 hilos de
+ * Tomcat, antes y después de separar los caminos de lectura:
+ * <ul>
+ * <li>antes: todo en {@code boundedElastic}; los catálogos hacen cola detrás de las consultas y
+ * los hilos de más esperan conexión;</li>
+ * <li>después: catálogos en el hilo de la petición y consultas en
+ * {@link BlockingExecution#callJdbc}, con un hilo por conexión.</li>
+ * </ul>
+ * Para simular otra cantidad de núcleos se fija {@code -Dreactor.schedulers.defaultBoundedElasticSize}
+ * (por defecto 10 por núcleo). No lo ejecuta surefire:
+ *
+ * <pre>
+ * mvn -q test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=co.edu.uco.ucochallenge.benchmark.ReadPathBenchmark \
+ *     -Dbenchmark.clients=1000 -Dbenchmark.work=PT0.02S -Dbenchmark.db-pool=10 -Dbenchmark.duration=PT15S
+ * </pre>
+ */
+public final class ReadPathBenchmark {
+
+        private static final int TOMCAT_MAX_THREADS = 200;
+        private static final List<String> CATALOG = IntStream.range(0, 50).mapToObj(i -> "Ciudad " + i).toList();
+
+        private ReadPathBenchmark() {
+        }
+
+        public static void main(final String[] args) throws Exception {
+                final int clients = Integer.getInteger("benchmark.clients", 1_000);
+                final Duration work = Duration.parse(System.getProperty("benchmark.work", "PT0.02S"));
+                final Duration duration = Duration.parse(System.getProperty("benchmark.duration", "PT15S"));
+                final int dbPool = Integer.getInteger("benchmark.db-pool", 10);
+                System.out.printf("clients=%d per endpoint, work=%d ms, db-pool=%d, boundedElastic cap=%d%n", clients,
+                                work.toMillis(), dbPool, Schedulers.DEFAULT_BOUNDED_ELASTIC_SIZE);
+
+                final Semaphore connections = new Semaphore(dbPool, true);
+                final Callable<Boolean> query = () -> {
+                        connections.acquire();
+                        try {
+                                Thread.sleep(work);
+                                return Boolean.TRUE;
+                        } finally {
+                                connections.release();
+                        }
+                };
+                final Callable<List<String>> catalog = () -> List.copyOf(CATALOG);
+
+                // "after" primero: los hilos de boundedElastic siguen vivos un minuto y contarían en el otro
+                final BlockingExecution execution = new BlockingExecution(ExecutionMode.BOUNDED_ELASTIC, dbPool);
+                try {
+                        run("after", clients, duration, connections,
+                                        endpoint -> endpoint == 0 ? Mono.fromCallable(catalog) : execution.callJdbc(query));
+                } finally {
+                        execution.destroy();
+                }
+
+                run("before", clients, duration, connections,
+                                endpoint -> endpoint == 0
+                                                ? Mono.fromCallable(catalog).subscribeOn(Schedulers.boundedElastic())
+                                                : Mono.fromCallable(query).subscribeOn(Schedulers.boundedElastic()));
+        }
+
+        private static void run(final String label, final int clients, final Duration duration,
+                        final Semaphore connections, final Function<Integer, Mono<?>> handler) throws Exception {
+                final ExecutorService tomcat = Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+                final AtomicBoolean running = new AtomicBoolean(true);
+                final AtomicBoolean measuring = new AtomicBoolean(false);
+                final AtomicInteger maxWaitingForConnection = new AtomicInteger();
+                final long[][] latencies = new long[2 * clients][1 << 14];
+                final int[] counts = new int[2 * clients];
+                final List<Thread> clientThreads = new ArrayList<>();
+                for (int i = 0; i < 2 * clients; i++) {
+                        final int client = i;
+                        final int endpoint = i % 2;
+                        clientThreads.add(Thread.ofVirtual().start(() -> {
+                                while (running.get()) {
+                                        final long start = System.nanoTime();
+                                        request(tomcat, handler.apply(endpoint)).join();
+                                        if (measuring.get() && counts[client] < latencies[client].length) {
+                                                latencies[client][counts[client]++] = System.nanoTime() - start;
+                                        }
+                                }
+                        }));
+                }
+
+                Thread.sleep(Math.min(5_000, duration.toMillis() / 3));
+                final var threads = ManagementFactory.getThreadMXBean();
+                threads.resetPeakThreadCount();
+                measuring.set(true);
+                final long start = System.nanoTime();
+                final long end = start + duration.toNanos();
+                while (System.nanoTime() < end) {
+                        maxWaitingForConnection.accumulateAndGet(connections.getQueueLength(), Math::max);
+                        Thread.sleep(10);
+                }
+                measuring.set(false);
+                final double seconds = (System.nanoTime() - start) / 1e9;
+                final int peakThreads = threads.getPeakThreadCount();
+                running.set(false);
+                for (final Thread thread : clientThreads) {
+                        thread.join();
+                }
+                tomcat.shutdown();
+
+                System.out.printf("%-6s peak platform threads %4d, max threads waiting for a connection %4d%n", label,
+                                peakThreads, maxWaitingForConnection.get());
+                report(label + " catalog", latencies, counts, 0, seconds);
+                report(label + " users", latencies, counts, 1, seconds);
+        }
+
+        private static CompletableFuture<Void> request(final ExecutorService tomcat, final Mono<?> handler) {
+                final CompletableFuture<Void> response = new CompletableFuture<>();
+                tomcat.execute(() -> handler.subscribe(result -> tomcat.execute(() -> response.complete(null)),
+                                response::completeExceptionally));
+                return response;
+        }
+
+        private static void report(final String label, final long[][] latencies, final int[] counts, final int endpoint,
+                        final double seconds) {
+                int total = 0;
+                for (int i = endpoint; i < counts.length; i += 2) {
+                        total += counts[i];
+                }
+                final long[] all = new long[total];
+                int offset = 0;
+                for (int i = endpoint; i < counts.length; i += 2) {
+                        System.arraycopy(latencies[i], 0, all, offset, counts[i]);
+                        offset += counts[i];
+                }
+                Arrays.sort(all);
+                System.out.printf("  %-16s %9.0f req/s  p50 %8.2f ms  p99 %8.2f ms%n", label, total / seconds,
+                                all[total / 2] / 1e6, all[(int) (total * 0.99)] / 1e6);
+        }
+}
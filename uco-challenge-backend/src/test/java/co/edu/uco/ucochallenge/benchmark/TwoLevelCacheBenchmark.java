@@ -0,0 +1,86 @@
+package co.edu.uco.ucochallenge.benchmark;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import co.edu.uco.ucochallenge.crosscutting.dto.MessageDTO;
+import co.edu.uco.ucochallenge.infrastructure.secondary.cache.twolevel.LocalCacheSpec;
+import co.edu.uco.ucochallenge.infrastructure.secondary.cache.twolevel.TwoLevelCacheManager;
+import co.edu.uco.ucochallenge.infrastructure.secondary.config.RedisConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Compara la lectura de {@code messagesCatalog} solo con Redis (viaje de red más deserialización
+ * JSON) contra un acierto en el L1 de {@link TwoLevelCacheManager}. Usa la misma configuración de
+ * serialización que la aplicación. No lo ejecuta surefire; se lanza a mano contra un Redis local:
+ *
+ * <pre>
+ * mvn -q test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=co.edu.uco.ucochallenge.benchmark.TwoLevelCacheBenchmark \
+ *     -Dbenchmark.redis.host=localhost -Dbenchmark.redis.port=6379 -Dbenchmark.reads=20000
+ * </pre>
+ */
+public final class TwoLevelCacheBenchmark {
+
+        private static final String CACHE = "messagesCatalog";
+        private static final String KEY = "BENCH-M-001";
+
+        private TwoLevelCacheBenchmark() {
+        }
+
+        public static void main(final String[] args) {
+                final int reads = Integer.getInteger("benchmark.reads", 20_000);
+                final var connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(
+                                System.getProperty("benchmark.redis.host", "localhost"),
+                                Integer.getInteger("benchmark.redis.port", 6379)));
+                connectionFactory.afterPropertiesSet();
+                connectionFactory.start();
+
+                final RedisCacheManager redisOnly = new RedisConfig().redisCacheManager(connectionFactory);
+                redisOnly.afterPropertiesSet();
+                final var twoLevel = new TwoLevelCacheManager(redisOnly,
+                                Map.of(CACHE, new LocalCacheSpec(5_000, Duration.ofMinutes(5))),
+                                new StringRedisTemplate(connectionFactory), "benchmark:cache:invalidations",
+                                new SimpleMeterRegistry());
+
+                final Cache remote = redisOnly.getCache(CACHE);
+                remote.put(KEY, new MessageDTO(KEY, "Mensaje técnico de prueba", "Mensaje para el usuario",
+                                "Mensaje general"));
+                try {
+                        report("redis", measure(remote, reads));
+                        report("l1+redis", measure(twoLevel.getCache(CACHE), reads));
+                } finally {
+                        remote.evict(KEY);
+                        connectionFactory.destroy();
+                }
+        }
+
+        private static long[] measure(final Cache cache, final int reads) {
+                // Calentamiento: JIT y, en el caso de dos niveles, la primera copia a L1
+                for (int i = 0; i < Math.min(reads, 2_000); i++) {
+                        cache.get(KEY, MessageDTO.class);
+                }
+                final long[] latencies = new long[reads];
+                for (int i = 0; i < reads; i++) {
+                        final long start = System.nanoTime();
+                        cache.get(KEY, MessageDTO.class);
+                        latencies[i] = System.nanoTime() - start;
+                }
+                Arrays.sort(latencies);
+                return latencies;
+        }
+
+        private static void report(final String label, final long[] latencies) {
+                System.out.printf("%-10s p50 %8.2f µs  p99 %8.2f µs  max %8.2f µs%n", label,
+                                latencies[latencies.length / 2] / 1_000.0,
+                                latencies[(int) (latencies.length * 0.99)] / 1_000.0,
+                                latencies[latencies.length - 1] / 1_000.0);
+        }
+}
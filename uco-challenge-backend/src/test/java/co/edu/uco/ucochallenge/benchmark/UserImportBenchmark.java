@@ -0,0 +1,185 @@
+package co.edu.uco.ucochallenge.benchmark;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.mockito.Mockito;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import co.edu.uco.ucochallenge.domain.user.find.model.UserCountDomain;
+import co.edu.uco.ucochallenge.domain.user.find.model.UserCountStrategy;
+import co.edu.uco.ucochallenge.domain.user.importer.model.UserImportFormat;
+import co.edu.uco.ucochallenge.domain.user.importer.model.UserImportJobDomain;
+import co.edu.uco.ucochallenge.domain.user.importer.model.UserImportRowDomain;
+import co.edu.uco.ucochallenge.domain.user.port.UserCountPort;
+import co.edu.uco.ucochallenge.domain.user.register.model.RegisterUserDomain;
+import co.edu.uco.ucochallenge.infrastructure.secondary.cache.redis.UsersPageCacheGeneration;
+import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.adapter.UserImportRepositoryAdapter;
+
+/**
+ * Compara la importación COPY + merge contra el camino por fila actual. No lo ejecuta surefire;
+ * se lanza a mano contra una base de datos desechable con el esquema aplicado:
+ *
+ * <pre>
+ * mvn -q test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=co.edu.uco.ucochallenge.benchmark.UserImportBenchmark \
+ *     -Dbenchmark.jdbc.url=jdbc:postgresql://localhost:5432/uco -Dbenchmark.jdbc.user=... \
+ *     -Dbenchmark.jdbc.password=... -Dbenchmark.rows=50000
+ * </pre>
+ *
+ * El camino por fila reproduce las sentencias que emite el registro individual en modo checked:
+ * existsById, las tres consultas de unicidad, el SELECT del merge de Hibernate y el INSERT, con
+ * un commit por usuario. Las filas generadas se marcan con el prefijo BENCH- y se borran al final.
+ */
+public final class UserImportBenchmark {
+
+        private static final String MARKER = "BENCH-";
+        private static final int CHUNK_SIZE = 5000;
+
+        private UserImportBenchmark() {
+        }
+
+        public static void main(final String[] args) throws SQLException {
+                final int rows = Integer.getInteger("benchmark.rows", 50_000);
+                final var dataSource = new DriverManagerDataSource(
+                                System.getProperty("benchmark.jdbc.url", "jdbc:postgresql://localhost:5432/uco"),
+                                System.getProperty("benchmark.jdbc.user", "postgres"),
+                                System.getProperty("benchmark.jdbc.password", "postgres"));
+                final var jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+                final UUID idType = jdbcTemplate.getJdbcTemplate()
+                                .queryForObject("SELECT id FROM tipo_identificacion LIMIT 1", UUID.class);
+                final UUID city = jdbcTemplate.getJdbcTemplate().queryForObject("SELECT id FROM ciudad LIMIT 1", UUID.class);
+
+                cleanUp(jdbcTemplate);
+                try {
+                        final long perRowNanos = runPerRow(dataSource, generate(rows, idType, city, "R"));
+                        report("per-row", rows, perRowNanos);
+
+                        final long copyNanos = runCopy(dataSource, jdbcTemplate, generate(rows, idType, city, "C"));
+                        report("copy+merge", rows, copyNanos);
+
+                        System.out.printf("speed-up: %.1fx%n", (double) perRowNanos / copyNanos);
+                } finally {
+                        cleanUp(jdbcTemplate);
+                }
+        }
+
+        private static long runPerRow(final DriverManagerDataSource dataSource, final List<RegisterUserDomain> users)
+                        throws SQLException {
+                final long start = System.nanoTime();
+                try (Connection connection = dataSource.getConnection()) {
+                        connection.setAutoCommit(false);
+                        try (PreparedStatement existsById = connection.prepareStatement("SELECT 1 FROM usuario WHERE id = ?");
+                                        PreparedStatement byIdentification = connection.prepareStatement(
+                                                        "SELECT id FROM usuario WHERE tipo_identificacion = ? AND numero_identificacion = ?");
+                                        PreparedStatement byEmail = connection.prepareStatement("SELECT id FROM usuario WHERE email = ?");
+                                        PreparedStatement byMobile = connection.prepareStatement(
+                                                        "SELECT id FROM usuario WHERE telefono_movil = ?");
+                                        PreparedStatement insert = connection.prepareStatement("""
+                                                        INSERT INTO usuario (id, tipo_identificacion, numero_identificacion, primer_nombre,
+                                                                segundo_nombre, primer_apellido, segundo_apellido, ciudad_residencia, email,
+                                                                telefono_movil, email_confirmado, telefono_movil_confirmado,
+                                                                email_confirmed_is_default_value, mobile_number_confirmed_is_default_value)
+                                                        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, false, false, false, false)
+                                                        """)) {
+                                for (final var user : users) {
+                                        query(existsById, user.getId());
+                                        query(byIdentification, user.getIdType(), user.getIdNumber());
+                                        query(byEmail, user.getEmail());
+                                        query(byMobile, user.getMobileNumber());
+                                        query(existsById, user.getId());
+                                        insert.setObject(1, user.getId());
+                                        insert.setObject(2, user.getIdType());
+                                        insert.setString(3, user.getIdNumber());
+                                        insert.setString(4, user.getFirstName());
+                                        insert.setString(5, user.getSecondName());
+                                        insert.setString(6, user.getFirstSurname());
+                                        insert.setString(7, user.getSecondSurname());
+                                        insert.setObject(8, user.getHomeCity());
+                                        insert.setString(9, user.getEmail());
+                                        insert.setString(10, user.getMobileNumber());
+                                        insert.executeUpdate();
+                                        connection.commit();
+                                }
+                        }
+                }
+                return System.nanoTime() - start;
+        }
+
+        private static long runCopy(final DriverManagerDataSource dataSource, final NamedParameterJdbcTemplate jdbcTemplate,
+                        final List<RegisterUserDomain> users) {
+                final var adapter = new UserImportRepositoryAdapter(jdbcTemplate, dataSource, new UserCountPort() {
+                        @Override
+                        public UserCountDomain count(final UserCountStrategy strategy) {
+                                return UserCountDomain.none();
+                        }
+
+                        @Override
+                        public void recordInserted(final long inserted) {
+                                // El benchmark no mantiene contador
+                        }
+                }, Mockito.mock(UsersPageCacheGeneration.class));
+                final var transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+                final var job = UserImportJobDomain.start(UUID.randomUUID(), UserImportFormat.CSV, Clock.systemUTC().instant());
+                adapter.saveJob(job);
+
+                final long start = System.nanoTime();
+                for (int from = 0; from < users.size(); from += CHUNK_SIZE) {
+                        final List<UserImportRowDomain> chunk = new ArrayList<>(CHUNK_SIZE);
+                        for (int i = from; i < Math.min(from + CHUNK_SIZE, users.size()); i++) {
+                                chunk.add(new UserImportRowDomain(i + 1L, users.get(i)));
+                        }
+                        transactionTemplate.executeWithoutResult(status -> adapter.stageAndMerge(job.getId(), chunk));
+                }
+                final long elapsed = System.nanoTime() - start;
+
+                jdbcTemplate.getJdbcTemplate().update("DELETE FROM usuario_importacion WHERE id = ?", job.getId());
+                return elapsed;
+        }
+
+        private static void query(final PreparedStatement statement, final Object... parameters) throws SQLException {
+                for (int i = 0; i < parameters.length; i++) {
+                        statement.setObject(i + 1, parameters[i]);
+                }
+                try (ResultSet resultSet = statement.executeQuery()) {
+                        resultSet.next();
+                }
+        }
+
+        private static List<RegisterUserDomain> generate(final int rows, final UUID idType, final UUID city,
+                        final String series) {
+                final List<RegisterUserDomain> users = new ArrayList<>(rows);
+                for (int i = 0; i < rows; i++) {
+                        final String suffix = series + i;
+                        users.add(RegisterUserDomain.builder()
+                                        .id(UUID.randomUUID())
+                                        .idType(idType)
+                                        .idNumber(MARKER + suffix)
+                                        .firstName("Bench")
+                                        .firstSurname("User")
+                                        .homeCity(city)
+                                        .email("bench-" + suffix.toLowerCase() + "@example.invalid")
+                                        .mobileNumber(MARKER + suffix)
+                                        .build());
+                }
+                return users;
+        }
+
+        private static void cleanUp(final NamedParameterJdbcTemplate jdbcTemplate) {
+                jdbcTemplate.getJdbcTemplate().update("DELETE FROM usuario WHERE numero_identificacion LIKE ?", MARKER + "%");
+        }
+
+        private static void report(final String label, final int rows, final long nanos) {
+                final double seconds = nanos / 1_000_000_000D;
+                System.out.printf("%-12s %,d rows in %.2f s (%,.0f rows/s)%n", label, rows, seconds, rows / seconds);
+        }
+}
@@ -0,0 +1,143 @@
+package co.edu.uco.ucochallenge.benchmark;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Clock;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import co.edu.uco.ucochallenge.crosscutting.id.TimeOrderedUuidGenerator;
+
+/**
+ * Compara llaves UUIDv4 y UUIDv7 en una tabla con la forma de {@code usuario} (llave primaria
+ * uuid más una fila de ~200 bytes). Cada variante precarga {@code benchmark.preload} filas,
+ * mide {@code benchmark.inserts} inserciones de una fila con commit propio, como el registro
+ * individual, y reporta la latencia (p50/p99/máx), el tamaño del índice de la llave primaria y los
+ * bloques del índice leídos desde disco. No lo ejecuta surefire; se lanza a mano contra una base
+ * de datos desechable:
+ *
+ * <pre>
+ * mvn -q test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=co.edu.uco.ucochallenge.benchmark.UuidInsertBenchmark \
+ *     -Dbenchmark.jdbc.url=jdbc:postgresql://localhost:5432/uco -Dbenchmark.jdbc.user=... \
+ *     -Dbenchmark.jdbc.password=... -Dbenchmark.preload=5000000 -Dbenchmark.inserts=100000
+ * </pre>
+ *
+ * Para que la diferencia sea visible el índice v4 debe superar {@code shared_buffers}; con la
+ * precarga por defecto eso ocurre a partir de unos 128 MB. Las tablas se crean y se borran aquí.
+ */
+public final class UuidInsertBenchmark {
+
+        private static final int PRELOAD_BATCH = 10_000;
+
+        private UuidInsertBenchmark() {
+        }
+
+        public static void main(final String[] args) throws SQLException {
+                final int preload = Integer.getInteger("benchmark.preload", 5_000_000);
+                final int inserts = Integer.getInteger("benchmark.inserts", 100_000);
+                final var dataSource = new DriverManagerDataSource(
+                                System.getProperty("benchmark.jdbc.url", "jdbc:postgresql://localhost:5432/uco"),
+                                System.getProperty("benchmark.jdbc.user", "postgres"),
+                                System.getProperty("benchmark.jdbc.password", "postgres"));
+
+                try (Connection connection = dataSource.getConnection()) {
+                        run(connection, "bench_uuid_v4", UUID::randomUUID, preload, inserts);
+                        run(connection, "bench_uuid_v7", new TimeOrderedUuidGenerator(Clock.systemUTC()), preload, inserts);
+                }
+        }
+
+        private static void run(final Connection connection, final String table, final Supplier<UUID> ids,
+                        final int preload, final int inserts) throws SQLException {
+                execute(connection, "DROP TABLE IF EXISTS " + table);
+                execute(connection, "CREATE TABLE " + table + " (id uuid PRIMARY KEY, payload varchar(200) NOT NULL)");
+                try {
+                        final String insertSql = "INSERT INTO " + table + " (id, payload) VALUES (?, ?)";
+                        preload(connection, insertSql, ids, preload);
+                        execute(connection, "VACUUM ANALYZE " + table);
+                        final long indexReadsBefore = indexBlocksRead(connection, table);
+
+                        final long[] latencies = new long[inserts];
+                        connection.setAutoCommit(true);
+                        try (PreparedStatement statement = connection.prepareStatement(insertSql)) {
+                                for (int i = 0; i < inserts; i++) {
+                                        final long start = System.nanoTime();
+                                        bind(statement, ids.get(), i);
+                                        statement.executeUpdate();
+                                        latencies[i] = System.nanoTime() - start;
+                                }
+                        }
+
+                        report(table, latencies, indexSize(connection, table),
+                                        indexBlocksRead(connection, table) - indexReadsBefore);
+                } finally {
+                        connection.setAutoCommit(true);
+                        execute(connection, "DROP TABLE IF EXISTS " + table);
+                }
+        }
+
+        private static void preload(final Connection connection, final String insertSql, final Supplier<UUID> ids,
+                        final int rows) throws SQLException {
+                connection.setAutoCommit(false);
+                try (PreparedStatement statement = connection.prepareStatement(insertSql)) {
+                        for (int i = 0; i < rows; i++) {
+                                bind(statement, ids.get(), i);
+                                statement.addBatch();
+                                if ((i + 1) % PRELOAD_BATCH == 0) {
+                                        statement.executeBatch();
+                                        connection.commit();
+                                }
+                        }
+                        statement.executeBatch();
+                        connection.commit();
+                }
+                connection.setAutoCommit(true);
+        }
+
+        private static void bind(final PreparedStatement statement, final UUID id, final int sequence)
+                        throws SQLException {
+                statement.setObject(1, id);
+                statement.setString(2, "bench-" + sequence + "-" + "x".repeat(180));
+        }
+
+        private static long indexSize(final Connection connection, final String table) throws SQLException {
+                return queryLong(connection, "SELECT pg_relation_size('" + table + "_pkey')");
+        }
+
+        private static long indexBlocksRead(final Connection connection, final String table) throws SQLException {
+                execute(connection, "SELECT pg_stat_force_next_flush()");
+                return queryLong(connection,
+                                "SELECT coalesce(idx_blks_read, 0) FROM pg_statio_user_indexes WHERE indexrelname = '"
+                                                + table + "_pkey'");
+        }
+
+        private static long queryLong(final Connection connection, final String sql) throws SQLException {
+                try (Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery(sql)) {
+                        return resultSet.next() ? resultSet.getLong(1) : 0L;
+                }
+        }
+
+        private static void execute(final Connection connection, final String sql) throws SQLException {
+                try (Statement statement = connection.createStatement()) {
+                        statement.execute(sql);
+                }
+        }
+
+        private static void report(final String label, final long[] latencies, final long indexBytes,
+                        final long indexBlocksRead) {
+                Arrays.sort(latencies);
+                System.out.printf("%-14s p50 %.3f ms  p99 %.3f ms  max %.3f ms  pkey %,d MB  pkey blocks read %,d%n",
+                                label,
+                                latencies[latencies.length / 2] / 1_000_000D,
+                                latencies[(int) (latencies.length * 0.99)] / 1_000_000D,
+                                latencies[latencies.length - 1] / 1_000_000D,
+                                indexBytes / (1024 * 1024),
+                                indexBlocksRead);
+        }
+}
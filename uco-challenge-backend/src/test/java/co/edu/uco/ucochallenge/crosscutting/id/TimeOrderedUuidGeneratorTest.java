@@ -0,0 +1,74 @@
+package co.edu.uco.ucochallenge.crosscutting.id;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class TimeOrderedUuidGeneratorTest {
+
+        private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+        @Test
+        void shouldEncodeVersionVariantAndTimestamp() {
+                final var generator = new TimeOrderedUuidGenerator(Clock.fixed(NOW, ZoneOffset.UTC));
+
+                final UUID id = generator.get();
+
+                assertEquals(7, id.version());
+                assertEquals(2, id.variant());
+                assertEquals(NOW.toEpochMilli(), id.getMostSignificantBits() >>> 16);
+        }
+
+        @Test
+        void shouldStayMonotonicWithinSameMillisecondAndWhenClockGoesBack() {
+                final var millis = new AtomicLong(NOW.toEpochMilli());
+                final var clock = new Clock() {
+                        @Override
+                        public ZoneOffset getZone() {
+                                return ZoneOffset.UTC;
+                        }
+
+                        @Override
+                        public Clock withZone(final ZoneId zone) {
+                                return this;
+                        }
+
+                        @Override
+                        public Instant instant() {
+                                return Instant.ofEpochMilli(millis.get());
+                        }
+                };
+                final var generator = new TimeOrderedUuidGenerator(clock);
+
+                UUID previous = generator.get();
+                for (int i = 0; i < 10_000; i++) {
+                        if (i == 5_000) {
+                                millis.addAndGet(-1_000);
+                        }
+                        final UUID next = generator.get();
+                        assertTrue(Long.compareUnsigned(previous.getMostSignificantBits(), next.getMostSignificantBits()) < 0);
+                        previous = next;
+                }
+        }
+
+        @Test
+        void shouldNotRepeatIdsAcrossThreads() {
+                final var generator = new TimeOrderedUuidGenerator(Clock.systemUTC());
+                final Set<UUID> ids = ConcurrentHashMap.newKeySet();
+
+                IntStream.range(0, 200_000).parallel().forEach(i -> ids.add(generator.get()));
+
+                assertEquals(200_000, ids.size());
+        }
+}
@@ -0,0 +1,80 @@
+package co.edu.uco.ucochallenge.infrastructure.primary.execution;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import reactor.core.publisher.Flux;
+
+class BlockingExecutionTest {
+
+        private BlockingExecution execution;
+
+        @AfterEach
+        void tearDown() {
+                execution.destroy();
+        }
+
+        @Test
+        void shouldRunOnBoundedElasticByDefault() {
+                execution = new BlockingExecution(null, 10);
+
+                final Thread worker = execution.call(Thread::currentThread).block();
+
+                assertEquals(ExecutionMode.BOUNDED_ELASTIC, execution.mode());
+                assertTrue(worker.getName().startsWith("boundedElastic-"));
+                assertFalse(worker.isVirtual());
+        }
+
+        @Test
+        void shouldStayOnTheCallerWhenAlreadyOnAVirtualThread() throws InterruptedException {
+                execution = new BlockingExecution(ExecutionMode.VIRTUAL_THREADS, 10);
+                final AtomicReference<Thread> caller = new AtomicReference<>();
+                final AtomicReference<Thread> worker = new AtomicReference<>();
+
+                Thread.ofVirtual().start(() -> {
+                        caller.set(Thread.currentThread());
+                        worker.set(execution.call(Thread::currentThread).block());
+                }).join();
+
+                assertTrue(worker.get().isVirtual());
+                assertEquals(caller.get(), worker.get());
+        }
+
+        @Test
+        void shouldHopToVirtualThreadsFromPlatformThreads() {
+                execution = new BlockingExecution(ExecutionMode.VIRTUAL_THREADS, 10);
+
+                final Thread worker = execution.call(Thread::currentThread).block();
+
+                assertTrue(worker.isVirtual());
+                assertTrue(worker.getName().startsWith("blocking-vt-"));
+        }
+
+        @Test
+        void shouldRunJdbcReadsWithAtMostOneThreadPerConnection() {
+                execution = new BlockingExecution(ExecutionMode.BOUNDED_ELASTIC, 2);
+                final AtomicInteger running = new AtomicInteger();
+                final AtomicInteger peak = new AtomicInteger();
+
+                final var workers = Flux.range(0, 8)
+                                .flatMap(i -> execution.callJdbc(() -> {
+                                        peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                                        Thread.sleep(20);
+                                        running.decrementAndGet();
+                                        return Thread.currentThread().getName();
+                                }))
+                                .collectList()
+                                .block();
+
+                assertEquals(8, workers.size());
+                assertTrue(workers.stream().allMatch(name -> name.startsWith("jdbc-read-")));
+                assertEquals(2, peak.get());
+        }
+}
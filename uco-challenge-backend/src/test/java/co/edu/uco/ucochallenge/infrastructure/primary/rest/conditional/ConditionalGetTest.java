@@ -0,0 +1,79 @@
+package co.edu.uco.ucochallenge.infrastructure.primary.rest.conditional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.http.HttpStatus;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ConditionalGetTest {
+
+        private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        private final ConditionalGet conditionalGet = new ConditionalGet(meterRegistry);
+        private final AtomicInteger queries = new AtomicInteger();
+
+        @Test
+        void shouldAnswerNotModifiedWithoutRunningTheQueryWhenVersionMatches() throws Exception {
+                final var first = conditionalGet.execute("idtypes", null, "public, max-age=60", () -> "a1b2", this::query);
+                final String etag = first.getHeaders().getETag();
+
+                final var second = conditionalGet.execute("idtypes", etag, "public, max-age=60", () -> "a1b2", this::query);
+
+                assertEquals("\"idtypes-a1b2\"", etag);
+                assertEquals(HttpStatus.NOT_MODIFIED, second.getStatusCode());
+                assertNull(second.getBody());
+                assertEquals(etag, second.getHeaders().getETag());
+                assertEquals("public, max-age=60", second.getHeaders().getCacheControl());
+                assertEquals(1, queries.get());
+                assertEquals(1, count("idtypes", "not_modified"));
+        }
+
+        @Test
+        void shouldServeBodyWithNewEtagWhenVersionChanged() throws Exception {
+                final var response = conditionalGet.execute("users", "\"users-41\"", "private, no-cache", () -> "42",
+                                this::query);
+
+                assertEquals(HttpStatus.OK, response.getStatusCode());
+                assertEquals(List.of("row"), response.getBody());
+                assertEquals("\"users-42\"", response.getHeaders().getETag());
+                assertEquals(1, count("users", "modified"));
+        }
+
+        @Test
+        void shouldRespondWithoutEtagWhenVersionIsUnavailable() throws Exception {
+                final var response = conditionalGet.execute("users", "*", "", () -> {
+                        throw new RedisConnectionFailureException("down");
+                }, this::query);
+
+                assertEquals(HttpStatus.OK, response.getStatusCode());
+                assertNull(response.getHeaders().getETag());
+                assertNull(response.getHeaders().getCacheControl());
+                assertEquals(1, count("users", "untagged"));
+        }
+
+        @Test
+        void shouldMatchListsWildcardAndWeakTags() {
+                assertTrue(ConditionalGet.matches("\"x-1\", \"x-2\"", "\"x-2\""));
+                assertTrue(ConditionalGet.matches("W/\"x-2\"", "\"x-2\""));
+                assertTrue(ConditionalGet.matches("*", "\"x-2\""));
+                assertFalse(ConditionalGet.matches("\"x-1\"", "\"x-2\""));
+                assertFalse(ConditionalGet.matches(" ", "\"x-2\""));
+        }
+
+        private List<String> query() {
+                queries.incrementAndGet();
+                return List.of("row");
+        }
+
+        private double count(final String endpoint, final String outcome) {
+                return meterRegistry.counter("http.conditional", "endpoint", endpoint, "outcome", outcome).count();
+        }
+}
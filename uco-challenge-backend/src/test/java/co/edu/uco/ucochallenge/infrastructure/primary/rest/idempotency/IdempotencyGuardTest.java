@@ -0,0 +1,139 @@
+package co.edu.uco.ucochallenge.infrastructure.primary.rest.idempotency;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import co.edu.uco.ucochallenge.crosscutting.exception.BusinessException;
+import co.edu.uco.ucochallenge.crosscutting.exception.NotificationDeliveryException;
+import co.edu.uco.ucochallenge.infrastructure.secondary.cache.redis.IdempotencyRecord;
+import co.edu.uco.ucochallenge.infrastructure.secondary.cache.redis.RedisIdempotencyStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyGuardTest {
+
+        private record Payload(String email) {
+        }
+
+        private record Body(String id) {
+        }
+
+        @Mock
+        private RedisIdempotencyStore store;
+
+        private IdempotencyGuard guard;
+        private final AtomicInteger executions = new AtomicInteger();
+
+        @BeforeEach
+        void setUp() {
+                guard = new IdempotencyGuard(store, new ObjectMapper(), new SimpleMeterRegistry(),
+                                Duration.ofHours(24), Duration.ofSeconds(30));
+        }
+
+        @Test
+        void shouldStoreResponseOnFirstAttemptAndReplayItOnRetry() throws Exception {
+                when(store.reserve(anyString(), anyString(), any())).thenReturn(Optional.empty());
+
+                final var first = guard.execute("key-1", null, "register-user", new Payload("ana@uco.edu.co"), Body.class,
+                                this::createdResponse);
+
+                final var stored = ArgumentCaptor.forClass(IdempotencyRecord.class);
+                verify(store).complete(eq("anonymous:register-user:key-1"), stored.capture(), eq(Duration.ofHours(24)));
+                when(store.reserve(anyString(), anyString(), any())).thenReturn(Optional.of(stored.getValue()));
+
+                final var replay = guard.execute("key-1", null, "register-user", new Payload("ana@uco.edu.co"), Body.class,
+                                this::createdResponse);
+
+                assertEquals(1, executions.get());
+                assertEquals(HttpStatus.CREATED, replay.getStatusCode());
+                assertEquals(first.getBody(), replay.getBody());
+                assertEquals("true", replay.getHeaders().getFirst(IdempotencyGuard.REPLAYED_HEADER));
+        }
+
+        @Test
+        void shouldRejectSameKeyWithDifferentPayload() {
+                when(store.reserve(anyString(), anyString(), any()))
+                                .thenReturn(Optional.of(IdempotencyRecord.completed("other", 201, "{\"id\":\"1\"}")));
+
+                final var exception = assertThrows(IdempotencyException.class, () -> guard.execute("key-1", null,
+                                "register-user", new Payload("ana@uco.edu.co"), Body.class, this::createdResponse));
+
+                assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, exception.getStatus());
+                assertEquals(0, executions.get());
+        }
+
+        @Test
+        void shouldStoreBusinessRejectionAndReplayItWithoutExecutingAgain() throws Exception {
+                when(store.reserve(anyString(), anyString(), any())).thenReturn(Optional.empty());
+                final Callable<ResponseEntity<Body>> duplicated = () -> {
+                        executions.incrementAndGet();
+                        throw new BusinessException("register.user.duplicated");
+                };
+
+                assertThrows(BusinessException.class, () -> guard.execute("key-1", null, "register-user",
+                                new Payload("ana@uco.edu.co"), Body.class, duplicated));
+
+                final var stored = ArgumentCaptor.forClass(IdempotencyRecord.class);
+                verify(store).complete(eq("anonymous:register-user:key-1"), stored.capture(), eq(Duration.ofHours(24)));
+                verify(store, never()).release(anyString());
+                when(store.reserve(anyString(), anyString(), any())).thenReturn(Optional.of(stored.getValue()));
+
+                final var replayed = assertThrows(BusinessException.class, () -> guard.execute("key-1", null,
+                                "register-user", new Payload("ana@uco.edu.co"), Body.class, duplicated));
+
+                assertEquals("register.user.duplicated", replayed.getMessage());
+                assertEquals(1, executions.get());
+        }
+
+        @Test
+        void shouldReleaseKeyWhenOperationFailsTechnically() {
+                when(store.reserve(anyString(), anyString(), any())).thenReturn(Optional.empty());
+
+                assertThrows(NotificationDeliveryException.class, () -> guard.execute("key-1", null, "send-code",
+                                new Payload("ana@uco.edu.co"), Body.class, () -> {
+                                        throw new NotificationDeliveryException("notification.error");
+                                }));
+
+                verify(store).release("anonymous:send-code:key-1");
+                verify(store, never()).complete(anyString(), any(), any());
+        }
+
+        @Test
+        void shouldExecuteWithoutProtectionWhenRedisIsDown() throws Exception {
+                when(store.reserve(anyString(), anyString(), any()))
+                                .thenThrow(new RedisConnectionFailureException("down"));
+
+                final var response = guard.execute("key-1", null, "register-user", new Payload("ana@uco.edu.co"),
+                                Body.class, this::createdResponse);
+
+                assertEquals(HttpStatus.CREATED, response.getStatusCode());
+                assertEquals(1, executions.get());
+        }
+
+        private ResponseEntity<Body> createdResponse() {
+                return ResponseEntity.status(HttpStatus.CREATED).body(new Body("user-" + executions.incrementAndGet()));
+        }
+}
@@ -0,0 +1,54 @@
+package co.edu.uco.ucochallenge.infrastructure.secondary.cache.bloom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTest {
+
+        @Test
+        void shouldNeverReportInsertedValuesAsAbsent() {
+                final var filter = BloomFilter.create(10_000, 0.01);
+
+                for (int i = 0; i < 10_000; i++) {
+                        filter.put("e:user" + i + "@uco.edu.co");
+                }
+
+                for (int i = 0; i < 10_000; i++) {
+                        assertTrue(filter.mightContain("e:user" + i + "@uco.edu.co"));
+                }
+        }
+
+        @Test
+        void shouldKeepFalsePositiveRateCloseToConfiguredTarget() {
+                final var filter = BloomFilter.create(10_000, 0.01);
+                for (int i = 0; i < 10_000; i++) {
+                        filter.put("m:300" + i);
+                }
+
+                int falsePositives = 0;
+                for (int i = 0; i < 10_000; i++) {
+                        if (filter.mightContain("m:310" + i)) {
+                                falsePositives++;
+                        }
+                }
+
+                assertTrue(falsePositives < 300, "false positives: " + falsePositives);
+                assertTrue(filter.expectedFalsePositiveRate() < 0.03);
+        }
+
+        @Test
+        void shouldRoundTripThroughRedisBitmap() {
+                final var source = BloomFilter.create(1_000, 0.01);
+                source.put("i:type:1001");
+                source.put("e:ana@uco.edu.co");
+
+                final var restored = BloomFilter.create(1_000, 0.01);
+                restored.mergeRedisBitmap(source.toRedisBitmap());
+
+                assertTrue(restored.mightContain("i:type:1001"));
+                assertTrue(restored.mightContain("e:ana@uco.edu.co"));
+                assertArrayEquals(source.toRedisBitmap(), restored.toRedisBitmap());
+        }
+}
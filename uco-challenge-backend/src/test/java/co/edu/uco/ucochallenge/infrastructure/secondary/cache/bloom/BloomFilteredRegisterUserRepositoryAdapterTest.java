@@ -0,0 +1,86 @@
+package co.edu.uco.ucochallenge.infrastructure.secondary.cache.bloom;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import co.edu.uco.ucochallenge.domain.user.port.BatchRegisterUserRepositoryPort;
+import co.edu.uco.ucochallenge.domain.user.port.RegisterUserRepositoryPort;
+import co.edu.uco.ucochallenge.domain.user.register.model.RegisterUserDomain;
+import co.edu.uco.ucochallenge.infrastructure.secondary.cache.bloom.UserUniquenessIndex.KeyType;
+
+@ExtendWith(MockitoExtension.class)
+class BloomFilteredRegisterUserRepositoryAdapterTest {
+
+        @Mock
+        private RegisterUserRepositoryPort delegate;
+        @Mock
+        private BatchRegisterUserRepositoryPort batchDelegate;
+        @Mock
+        private UserUniquenessIndex index;
+
+        @InjectMocks
+        private BloomFilteredRegisterUserRepositoryAdapter adapter;
+
+        @Test
+        void shouldSkipFinderWhenIndexReportsAbsent() {
+                when(index.mightContain(KeyType.EMAIL, "ana@uco.edu.co")).thenReturn(false);
+
+                assertTrue(adapter.findByEmail("ana@uco.edu.co").isEmpty());
+
+                verify(delegate, never()).findByEmail(anyString());
+        }
+
+        @Test
+        void shouldQueryAndRecordFalsePositiveWhenIndexReportsMaybe() {
+                when(index.mightContain(KeyType.MOBILE, "3001234567")).thenReturn(true);
+                when(index.isReady()).thenReturn(true);
+                when(delegate.findByMobileNumber("3001234567")).thenReturn(Optional.empty());
+
+                adapter.findByMobileNumber("3001234567");
+
+                verify(delegate).findByMobileNumber("3001234567");
+                verify(index).recordFalsePositive(KeyType.MOBILE);
+        }
+
+        @Test
+        void shouldIndexUserOnlyWhenInsertSucceeds() {
+                final var domain = RegisterUserDomain.builder()
+                                .id(UUID.randomUUID())
+                                .idType(UUID.randomUUID())
+                                .idNumber("1001")
+                                .email("ana@uco.edu.co")
+                                .mobileNumber("3001234567")
+                                .build();
+                when(delegate.saveIfAbsent(domain)).thenReturn(false);
+
+                adapter.saveIfAbsent(domain);
+
+                verify(index, never()).add(domain.getIdType(), "1001", "ana@uco.edu.co", "3001234567");
+                verify(index).addLocally(domain.getIdType(), "1001", "ana@uco.edu.co", "3001234567");
+        }
+
+        @Test
+        void shouldIndexOnlyInsertedRowsOfBatch() {
+                final var first = RegisterUserDomain.builder().idType(UUID.randomUUID()).idNumber("1").email("a@uco.edu.co").build();
+                final var second = RegisterUserDomain.builder().idType(UUID.randomUUID()).idNumber("2").email("b@uco.edu.co").build();
+                when(batchDelegate.saveAllIfAbsent(List.of(first, second))).thenReturn(new boolean[] { true, false });
+
+                adapter.saveAllIfAbsent(List.of(first, second));
+
+                verify(index).add(first.getIdType(), "1", "a@uco.edu.co", "");
+                verify(index, never()).add(second.getIdType(), "2", "b@uco.edu.co", "");
+        }
+}
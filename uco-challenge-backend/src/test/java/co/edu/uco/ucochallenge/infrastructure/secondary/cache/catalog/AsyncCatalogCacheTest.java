@@ -0,0 +1,117 @@
+package co.edu.uco.ucochallenge.infrastructure.secondary.cache.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import co.edu.uco.ucochallenge.crosscutting.dto.MessageDTO;
+import co.edu.uco.ucochallenge.infrastructure.secondary.cache.twolevel.LocalCacheSpec;
+import co.edu.uco.ucochallenge.infrastructure.secondary.http.port.MessageServicePort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncCatalogCacheTest {
+
+        private static final LocalCacheSpec SPEC = new LocalCacheSpec(100, Duration.ofSeconds(30));
+
+        @Mock
+        private MessageServicePort client;
+
+        private final AtomicLong now = new AtomicLong(1_000_000L);
+        private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        private final AtomicInteger loads = new AtomicInteger();
+
+        @Mock
+        private Clock clock;
+
+        @BeforeEach
+        void setUp() {
+                when(clock.millis()).thenAnswer(invocation -> now.get());
+        }
+
+        @Test
+        void shouldShareOneInFlightLoadAcrossConcurrentReaders() {
+                final Sinks.One<String> response = Sinks.one();
+                final var cache = cache(key -> {
+                        loads.incrementAndGet();
+                        return response.asMono();
+                });
+
+                final var first = cache.getFuture("M-1");
+                final var second = cache.getFuture("M-1");
+                response.tryEmitValue("Mensaje");
+
+                assertEquals("Mensaje", first.join());
+                assertEquals("Mensaje", second.join());
+                assertEquals(1, loads.get());
+                assertEquals(1, count("coalesced"));
+        }
+
+        @Test
+        void shouldReloadOnceTheEntryTtlElapsed() {
+                final var cache = cache(key -> Mono.just("v" + loads.incrementAndGet()));
+
+                assertEquals("v1", cache.get("M-1").block());
+                now.addAndGet(Duration.ofSeconds(29).toMillis());
+                assertEquals("v1", cache.get("M-1").block());
+                now.addAndGet(Duration.ofSeconds(2).toMillis());
+                assertEquals("v2", cache.get("M-1").block());
+        }
+
+        @Test
+        void shouldServeStaleValueWithinGraceAndNotCacheFailuresWithoutOne() {
+                final var cache = cache(key -> loads.incrementAndGet() == 1
+                                ? Mono.just("Mensaje")
+                                : Mono.error(new IllegalStateException("messages-service down")));
+
+                assertEquals("Mensaje", cache.get("M-1").block());
+                now.addAndGet(Duration.ofMinutes(5).toMillis());
+                assertEquals("Mensaje", cache.get("M-1").block());
+                assertEquals(1, count("stale"));
+
+                assertThrows(IllegalStateException.class, () -> cache.get("M-2").block());
+                assertThrows(IllegalStateException.class, () -> cache.get("M-2").block());
+                assertEquals(4, loads.get());
+        }
+
+        @Test
+        void shouldNeverBlockTheSubscribingNonBlockingThread() {
+                // Sustituto de BlockHound: Reactor rechaza block() en los hilos NonBlocking de parallel()
+                when(client.getMessage("M-1")).thenReturn(Mono.delay(Duration.ofMillis(20))
+                                .map(tick -> new MessageDTO("M-1", "técnico", "usuario", "general")));
+                final var catalog = new MessagesCatalogCache(client, null, clock, meterRegistry, 100, Duration.ofSeconds(30),
+                                Duration.ofMinutes(30));
+
+                final MessageDTO message = catalog.getMessage("M-1").subscribeOn(Schedulers.parallel()).block();
+                assertEquals("usuario", message.getUserMessage());
+
+                final var legacy = Mono.fromCallable(() -> catalog.getMessageSync("M-1")).subscribeOn(Schedulers.parallel());
+                final var rejected = assertThrows(IllegalStateException.class, legacy::block);
+                assertTrue(rejected.getMessage().contains("not supported in thread parallel"));
+        }
+
+        private AsyncCatalogCache<String> cache(final Function<String, Mono<String>> loader) {
+                return new AsyncCatalogCache<>("messagesCatalog", loader, SPEC, Duration.ofMinutes(30), clock,
+                                meterRegistry);
+        }
+
+        private double count(final String result) {
+                return meterRegistry.counter("cache.async.gets", "cache", "messagesCatalog", "result", result).count();
+        }
+}
@@ -0,0 +1,119 @@
+package co.edu.uco.ucochallenge.infrastructure.secondary.cache.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import co.edu.uco.ucochallenge.crosscutting.dto.MessageDTO;
+import co.edu.uco.ucochallenge.infrastructure.secondary.http.port.MessageServicePort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+class LocalMessageCatalogTest {
+
+        @Mock
+        private MessageServicePort client;
+
+        private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        private LocalMessageCatalog catalog;
+
+        @BeforeEach
+        void setUp() {
+                catalog = new LocalMessageCatalog(client, Clock.systemUTC(), meterRegistry, Duration.ofSeconds(1));
+        }
+
+        @Test
+        void shouldResolvePrecomputedUserMessagesWithoutCallingTheService() {
+                when(client.getAllMessages()).thenReturn(Mono.just(Map.of(
+                                "M-1", new MessageDTO("M-1", "técnico", "Usuario no encontrado", "general"),
+                                "M-2", new MessageDTO("M-2", "técnico", " ", "Mensaje general"))));
+
+                catalog.preload();
+
+                assertEquals("Usuario no encontrado", catalog.resolve("M-1"));
+                assertEquals("Mensaje general", catalog.resolve("M-2"));
+                assertEquals("M-3", catalog.resolve("M-3"));
+                verify(client, times(1)).getAllMessages();
+                assertEquals(2, meterRegistry.get("messages.catalog.lookups").tag("result", "hit").counter().count());
+                assertEquals(1, meterRegistry.get("messages.catalog.lookups").tag("result", "miss").counter().count());
+        }
+
+        @Test
+        void shouldApplyOnlyTheDifferencesAndKeepUnchangedEntries() {
+                when(client.getAllMessages())
+                                .thenReturn(Mono.just(Map.of(
+                                                "M-1", new MessageDTO("M-1", "t", "uno", "g"),
+                                                "M-2", new MessageDTO("M-2", "t", "dos", "g"))))
+                                .thenReturn(Mono.just(Map.of(
+                                                "M-1", new MessageDTO("M-1", "t", "uno", "g"),
+                                                "M-2", new MessageDTO("M-2", "t", "dos", "g"))))
+                                .thenReturn(Mono.just(Map.of(
+                                                "M-1", new MessageDTO("M-1", "t", "uno", "g"),
+                                                "M-3", new MessageDTO("M-3", "t", "tres", "g"))));
+
+                catalog.refresh();
+                final String first = catalog.resolve("M-1");
+                catalog.refresh();
+                catalog.refresh();
+
+                assertSame(first, catalog.resolve("M-1"));
+                assertEquals("M-2", catalog.resolve("M-2"));
+                assertEquals("tres", catalog.resolve("M-3"));
+                assertEquals(2, refreshes("changed"));
+                assertEquals(1, refreshes("unchanged"));
+        }
+
+        @Test
+        void shouldKeepSnapshotWhenRefreshFailsAndApplyLocalWrites() {
+                when(client.getAllMessages())
+                                .thenReturn(Mono.just(Map.of("M-1", new MessageDTO("M-1", "t", "uno", "g"))))
+                                .thenReturn(Mono.error(new IllegalStateException("messages-service down")));
+
+                catalog.refresh();
+                catalog.refresh();
+                catalog.apply("M-2", new MessageDTO(null, "t", "nuevo", "g"));
+                catalog.apply("M-1", null);
+
+                assertEquals("M-1", catalog.resolve("M-1"));
+                assertEquals("nuevo", catalog.resolve("M-2"));
+                assertEquals(1, catalog.size());
+                assertEquals(1, refreshes("failed"));
+        }
+
+        @Test
+        void shouldKeepLocalWritesMadeWhileARefreshIsDownloading() {
+                when(client.getAllMessages()).thenAnswer(invocation -> {
+                        // Los cambios llegan mientras la respuesta remota, anterior a ellos, está en camino
+                        catalog.apply("M-1", new MessageDTO("M-1", "t", "editado", "g"));
+                        catalog.apply("M-2", null);
+                        return Mono.just(Map.of(
+                                        "M-1", new MessageDTO("M-1", "t", "uno", "g"),
+                                        "M-2", new MessageDTO("M-2", "t", "dos", "g")));
+                }).thenReturn(Mono.just(Map.of("M-1", new MessageDTO("M-1", "t", "remoto", "g"))));
+
+                catalog.refresh();
+                assertEquals("editado", catalog.resolve("M-1"));
+                assertEquals("M-2", catalog.resolve("M-2"));
+
+                // El siguiente refresco empezó después de los cambios: manda el catálogo remoto
+                catalog.refresh();
+                assertEquals("remoto", catalog.resolve("M-1"));
+        }
+
+        private double refreshes(final String outcome) {
+                return meterRegistry.counter("messages.catalog.refresh", "outcome", outcome).count();
+        }
+}
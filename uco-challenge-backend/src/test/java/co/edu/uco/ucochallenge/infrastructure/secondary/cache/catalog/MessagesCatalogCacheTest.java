@@ -0,0 +1,69 @@
+package co.edu.uco.ucochallenge.infrastructure.secondary.cache.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import co.edu.uco.ucochallenge.crosscutting.dto.MessageDTO;
+import co.edu.uco.ucochallenge.infrastructure.secondary.http.port.MessageServicePort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+class MessagesCatalogCacheTest {
+
+        private static final MessageDTO PREVIOUS = new MessageDTO("M-1", "t", "anterior", "g");
+        private static final MessageDTO STORED = new MessageDTO("M-1", "t", "nuevo", "g");
+
+        @Mock
+        private MessageServicePort client;
+
+        @Mock
+        private LocalMessageCatalog localCatalog;
+
+        private MessagesCatalogCache cache;
+
+        @BeforeEach
+        void setUp() {
+                cache = new MessagesCatalogCache(client, localCatalog, Clock.systemUTC(), new SimpleMeterRegistry(), 100,
+                                Duration.ofSeconds(30), Duration.ofMinutes(30));
+        }
+
+        @Test
+        void shouldNotKeepAValueReadWhileTheUpsertIsInFlight() {
+                when(client.getMessage("M-1")).thenReturn(Mono.just(PREVIOUS), Mono.just(STORED));
+                when(client.upsertMessage("M-1", STORED)).thenReturn(Mono.fromSupplier(() -> {
+                        // Una lectura llega antes de que messages-service confirme la escritura
+                        assertSame(PREVIOUS, cache.getMessage("M-1").block());
+                        return STORED;
+                }));
+
+                cache.upsertMessageSync("M-1", STORED);
+
+                assertSame(STORED, cache.getMessage("M-1").block());
+                verify(localCatalog).apply("M-1", STORED);
+        }
+
+        @Test
+        void shouldNotKeepAValueReadWhileTheDeleteIsInFlight() {
+                when(client.getMessage("M-1")).thenReturn(Mono.just(PREVIOUS), Mono.empty());
+                when(client.deleteMessage("M-1")).thenReturn(Mono.fromSupplier(() -> {
+                        assertSame(PREVIOUS, cache.getMessage("M-1").block());
+                        return PREVIOUS;
+                }));
+
+                cache.deleteMessageSync("M-1");
+
+                assertNull(cache.getMessage("M-1").block());
+        }
+}
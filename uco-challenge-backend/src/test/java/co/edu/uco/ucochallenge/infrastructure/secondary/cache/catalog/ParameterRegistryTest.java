@@ -0,0 +1,105 @@
+package co.edu.uco.ucochallenge.infrastructure.secondary.cache.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import co.edu.uco.ucochallenge.crosscutting.ParamKeys;
+import co.edu.uco.ucochallenge.crosscutting.dto.ParameterDTO;
+import co.edu.uco.ucochallenge.infrastructure.secondary.http.port.ParameterServicePort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+class ParameterRegistryTest {
+
+        @Mock
+        private ParameterServicePort client;
+
+        private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        private ParameterRegistry registry;
+
+        @BeforeEach
+        void setUp() {
+                registry = new ParameterRegistry(client, Clock.systemUTC(), meterRegistry, Duration.ofSeconds(1));
+        }
+
+        @Test
+        void shouldExposeTypedValuesAndFallBackWhenInvalidOrMissing() {
+                when(client.getAllParameters()).thenReturn(Mono.just(Map.of(
+                                ParamKeys.TOKEN_DURATION_MINUTES, parameter(ParamKeys.TOKEN_DURATION_MINUTES, " 10 "),
+                                ParamKeys.MAX_CONFIRM_ATTEMPTS, parameter(ParamKeys.MAX_CONFIRM_ATTEMPTS, "invalido"),
+                                ParamKeys.ADMIN_EMAIL, parameter(ParamKeys.ADMIN_EMAIL, "admin@uco.edu.co"),
+                                "ventanaReintento", parameter("ventanaReintento", "PT90S"),
+                                "fechaCorte", parameter("fechaCorte", "2026-12-31"))));
+
+                registry.preload();
+
+                assertEquals(10, registry.positiveInt(ParamKeys.TOKEN_DURATION_MINUTES, 15));
+                assertEquals(3, registry.positiveInt(ParamKeys.MAX_CONFIRM_ATTEMPTS, 3));
+                assertEquals(7, registry.positiveInt("noExiste", 7));
+                assertEquals("admin@uco.edu.co", registry.email(ParamKeys.ADMIN_EMAIL, "x@y.co"));
+                assertEquals("x@y.co", registry.email(ParamKeys.MAX_CONFIRM_ATTEMPTS, "x@y.co"));
+                assertEquals(Duration.ofSeconds(90), registry.duration("ventanaReintento", Duration.ZERO));
+                assertEquals(LocalDate.of(2026, 12, 31), registry.date("fechaCorte", null));
+                assertEquals(Duration.ofMinutes(1), registry.duration("fechaCorte", Duration.ofMinutes(1)));
+        }
+
+        @Test
+        void shouldParseUnchangedValuesOnlyOnceAndKeepSnapshotWhenRefreshFails() {
+                when(client.getAllParameters())
+                                .thenReturn(Mono.just(Map.of("correo", parameter("correo", "a@uco.edu.co"))))
+                                .thenReturn(Mono.just(Map.of("correo", parameter("correo", "a@uco.edu.co"))))
+                                .thenReturn(Mono.error(new IllegalStateException("parameters-service down")));
+
+                registry.refresh();
+                final String first = registry.email("correo", null);
+                registry.refresh();
+                registry.refresh();
+
+                assertSame(first, registry.email("correo", null));
+                assertEquals(2, meterRegistry.counter("parameters.registry.refresh", "outcome", "loaded").count());
+                assertEquals(1, meterRegistry.counter("parameters.registry.refresh", "outcome", "failed").count());
+        }
+
+        @Test
+        void shouldApplyLocalUpdatesImmediately() {
+                registry.apply(ParamKeys.TOKEN_DURATION_MINUTES, "20");
+
+                assertEquals(20, registry.positiveInt(ParamKeys.TOKEN_DURATION_MINUTES, 15));
+                assertEquals(1, registry.size());
+        }
+
+        @Test
+        void shouldKeepLocalUpdatesMadeWhileARefreshIsDownloading() {
+                when(client.getAllParameters()).thenAnswer(invocation -> {
+                        // El cambio llega mientras la respuesta remota, anterior a él, está en camino
+                        registry.apply(ParamKeys.TOKEN_DURATION_MINUTES, "20");
+                        return Mono.just(Map.of(ParamKeys.TOKEN_DURATION_MINUTES,
+                                        parameter(ParamKeys.TOKEN_DURATION_MINUTES, "10")));
+                }).thenReturn(Mono.just(Map.of(ParamKeys.TOKEN_DURATION_MINUTES,
+                                parameter(ParamKeys.TOKEN_DURATION_MINUTES, "25"))));
+
+                registry.refresh();
+                assertEquals(20, registry.positiveInt(ParamKeys.TOKEN_DURATION_MINUTES, 15));
+
+                // El siguiente refresco empezó después del cambio: manda el valor remoto
+                registry.refresh();
+                assertEquals(25, registry.positiveInt(ParamKeys.TOKEN_DURATION_MINUTES, 15));
+        }
+
+        private static ParameterDTO parameter(final String key, final String value) {
+                return new ParameterDTO(key, value);
+        }
+}
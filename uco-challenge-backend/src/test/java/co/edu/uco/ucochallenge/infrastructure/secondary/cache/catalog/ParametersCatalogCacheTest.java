@@ -0,0 +1,47 @@
+package co.edu.uco.ucochallenge.infrastructure.secondary.cache.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import co.edu.uco.ucochallenge.crosscutting.dto.ParameterDTO;
+import co.edu.uco.ucochallenge.infrastructure.secondary.http.port.ParameterServicePort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+class ParametersCatalogCacheTest {
+
+        @Mock
+        private ParameterServicePort client;
+
+        @Mock
+        private ParameterRegistry registry;
+
+        @Test
+        void shouldNotKeepAValueReadWhileTheUpdateIsInFlight() {
+                final var previous = new ParameterDTO("tokenDurationMinutes", "15");
+                final var updated = new ParameterDTO("tokenDurationMinutes", "20");
+                final var cache = new ParametersCatalogCache(client, registry, Clock.systemUTC(),
+                                new SimpleMeterRegistry(), 100, Duration.ofSeconds(30), Duration.ofMinutes(30));
+                when(client.getParameter("tokenDurationMinutes")).thenReturn(Mono.just(previous), Mono.just(updated));
+                when(client.updateParameter("tokenDurationMinutes", "20")).thenReturn(Mono.fromSupplier(() -> {
+                        // Una lectura llega antes de que parameters-service confirme la escritura
+                        assertSame(previous, cache.getParameter("tokenDurationMinutes").block());
+                        return updated;
+                }));
+
+                cache.updateParameterSync("tokenDurationMinutes", "20");
+
+                assertSame(updated, cache.getParameter("tokenDurationMinutes").block());
+                verify(registry).apply("tokenDurationMinutes", "20");
+        }
+}
@@ -0,0 +1,86 @@
+package co.edu.uco.ucochallenge.infrastructure.secondary.cache.redis;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import co.edu.uco.ucochallenge.crosscutting.dto.MessageDTO;
+import co.edu.uco.ucochallenge.domain.user.find.model.FindUsersByFilterResponseDomain;
+import co.edu.uco.ucochallenge.domain.user.find.model.UserCountStrategy;
+import co.edu.uco.ucochallenge.domain.user.find.model.UserSummaryDomain;
+
+class CacheValueSerializersTest {
+
+        @Test
+        @SuppressWarnings("unchecked")
+        void shouldRoundTripCompressedTypedPageSmallerThanGenericJson() {
+                final var page = page(20);
+                final var typed = (RedisSerializer<FindUsersByFilterResponseDomain>) CacheValueSerializers
+                                .forCache(CacheValueFormat.TYPED, FindUsersByFilterResponseDomain.class, 2048);
+
+                final byte[] compact = typed.serialize(page);
+                final byte[] generic = CacheValueSerializers.generic().serialize(page);
+                final var restored = typed.deserialize(compact);
+
+                assertEquals(1, compact[0]);
+                assertTrue(compact.length * 3 < generic.length, compact.length + " vs " + generic.length);
+                assertEquals(20, restored.getUsers().size());
+                assertEquals(page.getUsers().get(7).getId(), restored.getUsers().get(7).getId());
+                assertEquals(page.getUsers().get(7).getFirstName(), restored.getUsers().get(7).getFirstName());
+                assertEquals(UserCountStrategy.ESTIMATE, restored.getCountStrategy());
+                assertEquals(page.getTotalElements(), restored.getTotalElements());
+                assertTrue(restored.isHasNext());
+        }
+
+        @Test
+        @SuppressWarnings("unchecked")
+        void shouldKeepSmallValuesUncompressed() {
+                final var serializer = (RedisSerializer<MessageDTO>) CacheValueSerializers
+                                .forCache(CacheValueFormat.TYPED, MessageDTO.class, 2048);
+
+                final byte[] bytes = serializer.serialize(new MessageDTO("M-1", "técnico", "usuario", null));
+                final var restored = serializer.deserialize(bytes);
+
+                assertEquals(0, bytes[0]);
+                assertEquals("usuario", restored.getUserMessage());
+        }
+
+        @Test
+        void shouldPrefixKeysWithSerializerButKeepLegacyPrefixForGenericJson() {
+                assertEquals("messagesCatalog::", CacheValueSerializers.keyPrefix("messagesCatalog",
+                                CacheValueFormat.GENERIC, 0));
+                assertEquals("usersByPage:typed+deflate::", CacheValueSerializers.keyPrefix("usersByPage",
+                                CacheValueFormat.TYPED, 2048));
+        }
+
+        static FindUsersByFilterResponseDomain page(final int size) {
+                final var users = new ArrayList<UserSummaryDomain>(size);
+                for (int i = 0; i < size; i++) {
+                        users.add(UserSummaryDomain.builder()
+                                        .id(UUID.randomUUID())
+                                        .idType(UUID.randomUUID())
+                                        .idNumber("10" + (1_000_000 + i))
+                                        .firstName("Nombre" + i)
+                                        .firstSurname("Apellido" + i)
+                                        .homeCity(UUID.randomUUID())
+                                        .email("usuario" + i + "@uco.edu.co")
+                                        .mobileNumber("300" + (1_000_000 + i))
+                                        .emailConfirmed(i % 2 == 0)
+                                        .build());
+                }
+                return FindUsersByFilterResponseDomain.builder()
+                                .users(users)
+                                .page(0)
+                                .size(size)
+                                .totalElements(1_000)
+                                .totalPages(1_000 / size)
+                                .hasNext(true)
+                                .countStrategy(UserCountStrategy.ESTIMATE)
+                                .build();
+        }
+}
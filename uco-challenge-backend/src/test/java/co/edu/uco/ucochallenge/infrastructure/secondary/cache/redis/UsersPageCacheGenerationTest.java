@@ -0,0 +1,97 @@
+package co.edu.uco.ucochallenge.infrastructure.secondary.cache.redis;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import co.edu.uco.ucochallenge.domain.user.find.model.UserCountStrategy;
+import co.edu.uco.ucochallenge.domain.user.find.specification.UserSearchSpecification;
+import co.edu.uco.ucochallenge.infrastructure.secondary.config.RedisConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class UsersPageCacheGenerationTest {
+
+        private static final String KEY = "users:page-generation";
+
+        @Mock
+        private StringRedisTemplate redisTemplate;
+
+        @Mock
+        private ValueOperations<String, String> valueOperations;
+
+        private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        private UsersPageCacheGeneration generation;
+
+        @BeforeEach
+        void setUp() {
+                when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+                generation = new UsersPageCacheGeneration(redisTemplate, meterRegistry,
+                                Clock.fixed(Instant.ofEpochMilli(1_000L), ZoneOffset.UTC), KEY);
+        }
+
+        @AfterEach
+        void tearDown() {
+                if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                        TransactionSynchronizationManager.clearSynchronization();
+                }
+        }
+
+        @Test
+        void shouldPrefixPageKeysWithCurrentGeneration() {
+                when(valueOperations.get(KEY)).thenReturn("6", "7");
+                final var keyGenerator = new RedisConfig().usersPageKeyGenerator(generation);
+                final Object[] params = { UserSearchSpecification.all(), 0, 20, UserCountStrategy.EXACT };
+
+                assertEquals("users:gen=6:page=0:size=20:count=EXACT:filter=All",
+                                keyGenerator.generate(null, null, params));
+                assertEquals("users:gen=7:page=0:size=20:count=EXACT:filter=All",
+                                keyGenerator.generate(null, null, params));
+        }
+
+        @Test
+        void shouldSeedMissingGenerationWithCurrentTimeInsteadOfZero() {
+                when(valueOperations.get(KEY)).thenReturn(null, "1000");
+
+                assertEquals(1_000L, generation.current());
+                verify(valueOperations).setIfAbsent(KEY, "1000");
+        }
+
+        @Test
+        void shouldBumpOnlyAfterCommit() {
+                TransactionSynchronizationManager.initSynchronization();
+
+                generation.bump();
+                verify(valueOperations, never()).increment(KEY);
+
+                TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+                verify(valueOperations).increment(KEY);
+                assertEquals(1, meterRegistry.get("users.cache.generation.bumps").counter().count());
+        }
+
+        @Test
+        void shouldIgnoreRedisFailureWhenBumping() {
+                when(valueOperations.increment(KEY)).thenThrow(new RedisConnectionFailureException("down"));
+
+                assertDoesNotThrow(generation::bump);
+                assertEquals(0, meterRegistry.get("users.cache.generation.bumps").counter().count());
+        }
+}
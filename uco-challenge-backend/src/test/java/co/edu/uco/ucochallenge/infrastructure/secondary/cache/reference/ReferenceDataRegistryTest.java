@@ -0,0 +1,150 @@
+package co.edu.uco.ucochallenge.infrastructure.secondary.cache.reference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.repository.CityRepository;
+import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.repository.CountryRepository;
+import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.repository.IdTypeRepository;
+import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.repository.ReferenceRowView;
+import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.repository.StateRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class ReferenceDataRegistryTest {
+
+        private static final UUID CC = UUID.randomUUID();
+        private static final UUID COLOMBIA = UUID.randomUUID();
+        private static final UUID PERU = UUID.randomUUID();
+        private static final UUID ANTIOQUIA = UUID.randomUUID();
+        private static final UUID LIMA_REGION = UUID.randomUUID();
+        private static final UUID MEDELLIN = UUID.randomUUID();
+        private static final UUID RIONEGRO = UUID.randomUUID();
+
+        @Mock
+        private IdTypeRepository idTypeRepository;
+        @Mock
+        private CountryRepository countryRepository;
+        @Mock
+        private StateRepository stateRepository;
+        @Mock
+        private CityRepository cityRepository;
+
+        private ReferenceDataRegistry registry;
+
+        @BeforeEach
+        void setUp() {
+                registry = new ReferenceDataRegistry(idTypeRepository, countryRepository, stateRepository, cityRepository,
+                                Clock.systemUTC(), new SimpleMeterRegistry());
+                when(idTypeRepository.findReferenceRows()).thenReturn(List.of(row(CC, "Cédula de ciudadanía", null)));
+                when(countryRepository.findReferenceRows()).thenReturn(List.of(row(COLOMBIA, "Colombia", null),
+                                row(PERU, "Perú", null)));
+                when(stateRepository.findReferenceRows()).thenReturn(List.of(row(ANTIOQUIA, "Antioquia", COLOMBIA),
+                                row(LIMA_REGION, "Lima", PERU)));
+                when(cityRepository.findReferenceRows()).thenReturn(List.of(row(MEDELLIN, " Medellín ", ANTIOQUIA),
+                                row(RIONEGRO, "Rionegro", ANTIOQUIA)));
+        }
+
+        @Test
+        void shouldLoadLazilyOnceAndServeLookupsFromMemory() {
+                assertTrue(registry.idTypeExists(CC));
+                assertTrue(registry.cityExists(MEDELLIN));
+                assertFalse(registry.countryExists(UUID.randomUUID()));
+                assertEquals(Set.of(COLOMBIA), registry.existingCountries(List.of(COLOMBIA, UUID.randomUUID())));
+
+                verify(cityRepository, times(1)).findReferenceRows();
+        }
+
+        @Test
+        void shouldResolveNamesIgnoringCase() {
+                assertEquals(Optional.of(CC), registry.findIdTypeByName("CÉDULA DE CIUDADANÍA"));
+                assertEquals(Map.of("cédula de ciudadanía", CC),
+                                registry.idTypesByNames(List.of("cédula de ciudadanía", "Pasaporte")));
+        }
+
+        @Test
+        void shouldValidateParentChildIntegrity() {
+                assertTrue(registry.isValidHierarchy(COLOMBIA, ANTIOQUIA, MEDELLIN));
+                assertFalse(registry.isValidHierarchy(PERU, ANTIOQUIA, MEDELLIN));
+                assertFalse(registry.isValidHierarchy(PERU, LIMA_REGION, MEDELLIN));
+                assertFalse(registry.isValidHierarchy(COLOMBIA, ANTIOQUIA, UUID.randomUUID()));
+        }
+
+        @Test
+        void shouldListChildrenInLoadOrder() {
+                assertEquals(List.of(new ReferenceDataItem(MEDELLIN, "Medellín"), new ReferenceDataItem(RIONEGRO, "Rionegro")),
+                                registry.citiesOf(ANTIOQUIA));
+                assertEquals(List.of(), registry.citiesOf(LIMA_REGION));
+                assertEquals(List.of(new ReferenceDataItem(LIMA_REGION, "Lima")), registry.departmentsOf(PERU));
+        }
+
+        @Test
+        void shouldKeepPreviousSnapshotWhenReloadFails() {
+                registry.reload();
+                when(cityRepository.findReferenceRows()).thenThrow(new IllegalStateException("db down"));
+
+                registry.reload();
+
+                assertTrue(registry.cityExists(RIONEGRO));
+        }
+
+        @Test
+        void shouldChangeVersionOnlyWhenReloadedDataChanges() {
+                final String initial = registry.version();
+                registry.reload();
+                assertEquals(initial, registry.version());
+
+                when(cityRepository.findReferenceRows()).thenReturn(List.of(row(MEDELLIN, "Medellín", ANTIOQUIA)));
+                registry.reload();
+
+                assertNotEquals(initial, registry.version());
+        }
+
+        @Test
+        void shouldRetryLazilyWhenPreloadFails() {
+                when(cityRepository.findReferenceRows()).thenThrow(new IllegalStateException("db down"))
+                                .thenReturn(List.of(row(MEDELLIN, "Medellín", ANTIOQUIA)));
+
+                registry.preload();
+
+                assertTrue(registry.cityExists(MEDELLIN));
+                verify(cityRepository, times(2)).findReferenceRows();
+        }
+
+        private static ReferenceRowView row(final UUID id, final String name, final UUID parentId) {
+                return new ReferenceRowView() {
+                        @Override
+                        public UUID getId() {
+                                return id;
+                        }
+
+                        @Override
+                        public String getName() {
+                                return name;
+                        }
+
+                        @Override
+                        public UUID getParentId() {
+                                return parentId;
+                        }
+                };
+        }
+}
@@ -0,0 +1,181 @@
+package co.edu.uco.ucochallenge.infrastructure.secondary.cache.refresh;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshAheadCacheTest {
+
+        private static final RefreshAheadSpec SPEC = new RefreshAheadSpec(Duration.ofMinutes(5), Duration.ofMinutes(1),
+                        Duration.ofMinutes(30));
+
+        @Mock
+        private StringRedisTemplate redisTemplate;
+
+        @Mock
+        private ValueOperations<String, String> valueOperations;
+
+        @Mock
+        private Clock clock;
+
+        private final AtomicLong now = new AtomicLong(1_000_000L);
+        private final ConcurrentMapCache remote = new ConcurrentMapCache("messagesCatalog");
+        private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        private RefreshAheadCache cache;
+
+        @BeforeEach
+        void setUp() {
+                when(clock.millis()).thenAnswer(invocation -> now.get());
+                lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+                // Ejecutor en el mismo hilo: la recarga "en segundo plano" termina antes de volver
+                cache = new RefreshAheadCache(remote, SPEC, Runnable::run, redisTemplate, clock, meterRegistry);
+        }
+
+        @Test
+        void shouldRefreshInBackgroundOnlyWithinTheLastPartOfTheTtl() {
+                when(valueOperations.setIfAbsent(eq("cache-refresh:messagesCatalog:M-1"), anyString(), any(Duration.class)))
+                                .thenReturn(true);
+                final var loads = new AtomicInteger();
+
+                assertEquals("v1", cache.get("M-1", () -> "v" + loads.incrementAndGet()));
+                now.addAndGet(Duration.ofMinutes(3).toMillis());
+                assertEquals("v1", cache.get("M-1", () -> "v" + loads.incrementAndGet()));
+                assertEquals(1, loads.get());
+
+                now.addAndGet(Duration.ofMinutes(1).plusSeconds(30).toMillis());
+                // Se sirve el valor vigente y la recarga deja el nuevo para la siguiente lectura
+                assertEquals("v1", cache.get("M-1", () -> "v" + loads.incrementAndGet()));
+                assertEquals("v2", cache.get("M-1", () -> "v" + loads.incrementAndGet()));
+
+                assertEquals(1, counter("refreshed"));
+                // La carga inicial no sale del caché: solo cuentan las tres lecturas siguientes
+                assertEquals(3, meterRegistry.get("cache.served.age").timer().count());
+        }
+
+        @Test
+        void shouldCountEmptyBackgroundRefreshAsFailedAndReleaseTheClaim() {
+                when(valueOperations.setIfAbsent(eq("cache-refresh:messagesCatalog:M-1"), anyString(), any(Duration.class)))
+                                .thenReturn(true);
+                cache.put("M-1", "v1");
+                now.addAndGet(Duration.ofMinutes(4).plusSeconds(30).toMillis());
+
+                assertEquals("v1", cache.get("M-1", () -> null));
+
+                assertEquals("v1", ((RefreshableValue<?>) remote.get("M-1").get()).value());
+                assertEquals(1, counter("failed"));
+                assertEquals(0, counter("refreshed"));
+                verify(redisTemplate).delete("cache-refresh:messagesCatalog:M-1");
+        }
+
+        @Test
+        void shouldServeStaleValueWithinGraceWhenRemoteServiceFails() {
+                claimReload();
+                cache.put("M-1", "Mensaje");
+                now.addAndGet(Duration.ofMinutes(12).toMillis());
+
+                final String served = cache.get("M-1", () -> {
+                        throw new IllegalStateException("messages-service down");
+                });
+
+                assertEquals("Mensaje", served);
+                assertEquals(1, counter("stale"));
+                assertEquals(Duration.ofMinutes(12).toMillis(),
+                                meterRegistry.get("cache.served.age").timer().max(TimeUnit.MILLISECONDS));
+        }
+
+        @Test
+        void shouldReloadOnRequestPathOnceExpired() {
+                claimReload();
+                cache.put("M-1", "viejo");
+                now.addAndGet(Duration.ofMinutes(6).toMillis());
+
+                assertEquals("nuevo", cache.get("M-1", () -> "nuevo"));
+                final var stored = (RefreshableValue<?>) remote.get("M-1").get();
+                assertEquals("nuevo", stored.value());
+                assertEquals(now.get(), stored.loadedAt());
+                assertEquals(1, counter("reloaded"));
+        }
+
+        @Test
+        void shouldCoalesceConcurrentReloadsOfAnExpiredEntry() throws Exception {
+                claimReload();
+                cache.put("M-1", "viejo");
+                now.addAndGet(Duration.ofMinutes(6).toMillis());
+                final var loads = new AtomicInteger();
+                final var loading = new CountDownLatch(1);
+                final var release = new CountDownLatch(1);
+                final Callable<String> loader = () -> {
+                        loads.incrementAndGet();
+                        loading.countDown();
+                        release.await(5, TimeUnit.SECONDS);
+                        return "nuevo";
+                };
+                final ExecutorService readers = Executors.newFixedThreadPool(2);
+                try {
+                        final Future<String> first = readers.submit(() -> cache.get("M-1", loader));
+                        assertTrue(loading.await(5, TimeUnit.SECONDS));
+                        final Future<String> second = readers.submit(() -> cache.get("M-1", loader));
+                        while (counter("coalesced") == 0) {
+                                Thread.onSpinWait();
+                        }
+                        release.countDown();
+
+                        assertEquals("nuevo", first.get(5, TimeUnit.SECONDS));
+                        assertEquals("nuevo", second.get(5, TimeUnit.SECONDS));
+                } finally {
+                        readers.shutdownNow();
+                }
+                assertEquals(1, loads.get());
+                assertEquals(1, counter("reloaded"));
+        }
+
+        @Test
+        void shouldServeStaleValueWhileAnotherNodeReloadsTheEntry() {
+                when(valueOperations.setIfAbsent(eq("cache-refresh:messagesCatalog:M-1"), anyString(), any(Duration.class)))
+                                .thenReturn(false);
+                cache.put("M-1", "viejo");
+                now.addAndGet(Duration.ofMinutes(6).toMillis());
+
+                assertEquals("viejo", cache.get("M-1", () -> {
+                        throw new AssertionError("otro nodo ya recarga la clave");
+                }));
+                assertEquals(1, counter("stale"));
+        }
+
+        private void claimReload() {
+                when(valueOperations.setIfAbsent(eq("cache-refresh:messagesCatalog:M-1"), anyString(), any(Duration.class)))
+                                .thenReturn(true);
+        }
+
+        private double counter(final String outcome) {
+                return meterRegistry.counter("cache.refresh-ahead", "cache", "messagesCatalog", "outcome", outcome).count();
+        }
+}
@@ -0,0 +1,104 @@
+package co.edu.uco.ucochallenge.infrastructure.secondary.cache.singleflight;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class SingleFlightCacheTest {
+
+        @Mock
+        private StringRedisTemplate redisTemplate;
+
+        @Mock
+        private ValueOperations<String, String> valueOperations;
+
+        private final ConcurrentMapCache remote = new ConcurrentMapCache("usersByPage");
+        private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        private SingleFlightCache cache;
+
+        @BeforeEach
+        void setUp() {
+                lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+                cache = new SingleFlightCache(remote, redisTemplate, Duration.ofSeconds(2), Duration.ofMillis(10),
+                                meterRegistry);
+        }
+
+        @Test
+        void shouldCoalesceConcurrentMissesIntoOneLoad() throws Exception {
+                when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+                final var loads = new AtomicInteger();
+                final var release = new CountDownLatch(1);
+                final int callers = 8;
+
+                try (var executor = Executors.newFixedThreadPool(callers)) {
+                        final var results = new ArrayList<Future<String>>();
+                        for (int i = 0; i < callers; i++) {
+                                results.add(executor.submit(() -> cache.get("page-0", () -> {
+                                        loads.incrementAndGet();
+                                        release.await(2, TimeUnit.SECONDS);
+                                        return "page";
+                                })));
+                        }
+                        // Deja que los demás se encolen tras el primero antes de terminar la carga
+                        Thread.sleep(200);
+                        release.countDown();
+                        for (final var result : results) {
+                                assertEquals("page", result.get(2, TimeUnit.SECONDS));
+                        }
+                }
+
+                assertEquals(1, loads.get());
+                assertEquals("page", remote.get("page-0", String.class));
+                assertEquals(callers - 1,
+                                meterRegistry.counter("cache.single-flight", "cache", "usersByPage", "outcome", "coalesced")
+                                                .count());
+        }
+
+        @Test
+        void shouldWaitForValueLoadedByTheNodeHoldingTheLock() {
+                when(valueOperations.setIfAbsent(eq("cache-lock:usersByPage:page-0"), anyString(), any(Duration.class)))
+                                .thenAnswer(invocation -> {
+                                        // Otro nodo tiene el candado y termina su carga mientras este espera
+                                        remote.put("page-0", "from-other-node");
+                                        return false;
+                                });
+
+                final String value = cache.get("page-0", () -> "local-load");
+
+                assertEquals("from-other-node", value);
+                assertEquals(1, meterRegistry.counter("cache.single-flight", "cache", "usersByPage", "outcome", "waited")
+                                .count());
+        }
+
+        @Test
+        void shouldNotStoreNullResults() {
+                when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+
+                assertNull(cache.get("missing", () -> null));
+                assertNull(remote.get("missing"));
+        }
+}
@@ -0,0 +1,97 @@
+package co.edu.uco.ucochallenge.infrastructure.secondary.cache.twolevel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class TwoLevelCacheManagerTest {
+
+        private static final String CHANNEL = "cache:invalidations";
+
+        @Mock
+        private StringRedisTemplate redisTemplate;
+
+        private final ConcurrentMapCacheManager remote = new ConcurrentMapCacheManager("messagesCatalog", "usersByPage");
+        private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        private TwoLevelCacheManager nodeA;
+        private TwoLevelCacheManager nodeB;
+
+        @BeforeEach
+        void setUp() {
+                final var specs = Map.of("messagesCatalog", new LocalCacheSpec(100, Duration.ofMinutes(5)));
+                nodeA = new TwoLevelCacheManager(remote, specs, redisTemplate, CHANNEL, meterRegistry);
+                nodeB = new TwoLevelCacheManager(remote, specs, redisTemplate, CHANNEL, new SimpleMeterRegistry());
+        }
+
+        @Test
+        void shouldServeRepeatedReadsFromLocalLevel() {
+                final var cache = nodeA.getCache("messagesCatalog");
+                remote.getCache("messagesCatalog").put("M-1", "Hola");
+
+                assertEquals("Hola", cache.get("M-1", String.class));
+                // Un cambio directo en Redis no se ve mientras la entrada local esté vigente
+                remote.getCache("messagesCatalog").put("M-1", "Adiós");
+                assertEquals("Hola", cache.get("M-1", String.class));
+
+                assertEquals(1, meterRegistry.get("cache.local.gets").tag("result", "miss").counter().count());
+                assertEquals(1, meterRegistry.get("cache.local.gets").tag("result", "hit").counter().count());
+                assertSame(remote.getCache("usersByPage"), nodeA.getCache("usersByPage"));
+        }
+
+        @Test
+        void shouldEvictOtherNodesButIgnoreOwnMessages() {
+                final var cacheA = nodeA.getCache("messagesCatalog");
+                final var cacheB = nodeB.getCache("messagesCatalog");
+                cacheA.put("M-1", "Hola");
+                assertEquals("Hola", cacheB.get("M-1", String.class));
+
+                cacheA.evict("M-1");
+                final var message = ArgumentCaptor.forClass(String.class);
+                verify(redisTemplate).convertAndSend(eq(CHANNEL), message.capture());
+                remote.getCache("messagesCatalog").put("M-1", "Adiós");
+
+                final byte[] body = message.getValue().getBytes(StandardCharsets.UTF_8);
+                nodeA.onMessage(new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8), body), null);
+                nodeB.onMessage(new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8), body), null);
+
+                assertEquals("Adiós", cacheB.get("M-1", String.class));
+                assertEquals(0, meterRegistry.counter("cache.local.invalidations", "cache", "messagesCatalog").count());
+        }
+
+        @Test
+        void shouldBoundLocalEntriesBySizeAndTtl() {
+                final var now = new AtomicLong();
+                final var local = new LocalCache(new LocalCacheSpec(2, Duration.ofSeconds(10)), now::get);
+                local.put("a", () -> "A");
+                local.put("b", () -> "B");
+                local.get("a");
+                local.put("c", () -> "C");
+
+                assertNull(local.get("b"));
+                assertEquals("A", local.get("a").get());
+
+                now.addAndGet(Duration.ofSeconds(10).toNanos());
+                assertNull(local.get("a"));
+                assertEquals(1, local.size());
+        }
+}
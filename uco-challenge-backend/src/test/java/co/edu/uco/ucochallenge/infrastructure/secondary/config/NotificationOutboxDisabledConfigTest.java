@@ -0,0 +1,37 @@
+package co.edu.uco.ucochallenge.infrastructure.secondary.config;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.orm.jpa.persistenceunit.ManagedClassNameFilter;
+import org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypesScanner;
+
+import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.entity.NotificationOutboxEntity;
+import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.entity.UserEntity;
+
+class NotificationOutboxDisabledConfigTest {
+
+        private final ApplicationContextRunner runner = new ApplicationContextRunner()
+                        .withUserConfiguration(NotificationOutboxDisabledConfig.class);
+
+        @Test
+        void shouldLeaveOutboxEntityOutOfThePersistenceUnitWhenDisabled() {
+                runner.withPropertyValues("uco.notifications.outbox.enabled=false").run(context -> {
+                        final var filter = context.getBean(ManagedClassNameFilter.class);
+                        final var managed = new PersistenceManagedTypesScanner(new DefaultResourceLoader(), filter)
+                                        .scan("co.edu.uco.ucochallenge")
+                                        .getManagedClassNames();
+
+                        assertFalse(managed.contains(NotificationOutboxEntity.class.getName()));
+                        assertTrue(managed.contains(UserEntity.class.getName()));
+                });
+        }
+
+        @Test
+        void shouldKeepDefaultScanWhenOutboxIsEnabled() {
+                runner.run(context -> assertTrue(context.getBeansOfType(ManagedClassNameFilter.class).isEmpty()));
+        }
+}
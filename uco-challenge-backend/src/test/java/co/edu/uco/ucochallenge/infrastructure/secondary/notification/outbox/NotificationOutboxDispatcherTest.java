@@ -0,0 +1,113 @@
+package co.edu.uco.ucochallenge.infrastructure.secondary.notification.outbox;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import co.edu.uco.ucochallenge.infrastructure.secondary.notification.AdminEmailResolver;
+import co.edu.uco.ucochallenge.infrastructure.secondary.notification.DuplicateNotificationRequests;
+import co.edu.uco.ucochallenge.infrastructure.secondary.notification.LocalNotificationSender;
+import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.entity.NotificationOutboxEntity;
+import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.entity.NotificationOutboxEntity.Status;
+import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.repository.NotificationOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationOutboxDispatcherTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T10:00:00Z");
+
+    @Mock
+    private NotificationOutboxRepository repository;
+    @Mock
+    private AdminEmailResolver adminEmailResolver;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final LocalNotificationSender sender = new LocalNotificationSender();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private NotificationOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new NotificationOutboxDispatcher(repository, sender, new DuplicateNotificationRequests(),
+                adminEmailResolver, transactionManager, Clock.fixed(NOW, ZoneOffset.UTC), meterRegistry,
+                50, 2, Duration.ofMinutes(1), 3, Duration.ofSeconds(5), Duration.ofMinutes(10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    void shouldSendClaimedBatchAndMarkRowsAsSent() {
+        final var ownerEmail = NotificationOutboxEntity.ownerEmail(UUID.randomUUID(), "ana@uco.edu.co", "asunto",
+                "mensaje", NOW.minusSeconds(3));
+        final var adminAlert = NotificationOutboxEntity.adminAlert(UUID.randomUUID(), "ana@uco.edu.co", "email",
+                NOW.minusSeconds(3));
+        when(repository.findDispatchableForUpdate(NOW, 50)).thenReturn(List.of(ownerEmail, adminAlert));
+        when(adminEmailResolver.resolve()).thenReturn("admin@uco.edu.co");
+
+        final int dispatched = dispatcher.dispatchBatch();
+
+        assertEquals(2, dispatched);
+        assertEquals(2, sender.sentRequests().size());
+        verify(repository).lease(List.of(ownerEmail.getId(), adminAlert.getId()), NOW.plus(Duration.ofMinutes(1)));
+        verify(repository).markSent(ownerEmail.getId(), Status.SENT, NOW);
+        verify(repository).markSent(adminAlert.getId(), Status.SENT, NOW);
+        assertEquals(2, meterRegistry.get("notifications.outbox.dispatch.lag").timer().count());
+    }
+
+    @Test
+    void shouldRescheduleWithBackoffWhenSendFails() {
+        final var ownerSms = NotificationOutboxEntity.ownerSms(UUID.randomUUID(), "3001234567", "mensaje", NOW);
+        when(repository.findDispatchableForUpdate(NOW, 50)).thenReturn(List.of(ownerSms));
+        sender.failNext(1);
+
+        dispatcher.dispatchBatch();
+
+        verify(repository).markAttemptFailed(eq(ownerSms.getId()), eq(Status.PENDING), eq(1),
+                eq(NOW.plusSeconds(5)), anyString());
+        verify(repository, never()).markSent(any(), any(), any());
+        verify(adminEmailResolver, never()).resolve();
+    }
+
+    @Test
+    void shouldDoNothingWhenOutboxIsEmpty() {
+        when(repository.findDispatchableForUpdate(NOW, 50)).thenReturn(List.of());
+        when(repository.countByStatus(Status.PENDING)).thenReturn(0L);
+
+        assertEquals(0, dispatcher.dispatchBatch());
+
+        verify(repository, never()).lease(any(), any());
+        verify(repository, never()).markAttemptFailed(any(), any(), anyInt(), any(), anyString());
+    }
+
+    @Test
+    void shouldCapExponentialBackoff() {
+        assertEquals(Duration.ofSeconds(5), dispatcher.backoff(1));
+        assertEquals(Duration.ofSeconds(20), dispatcher.backoff(3));
+        assertEquals(Duration.ofMinutes(10), dispatcher.backoff(12));
+    }
+}
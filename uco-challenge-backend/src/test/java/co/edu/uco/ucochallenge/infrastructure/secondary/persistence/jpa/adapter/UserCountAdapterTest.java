@@ -0,0 +1,110 @@
+package co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.adapter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import co.edu.uco.ucochallenge.domain.user.find.model.UserCountStrategy;
+import co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.repository.SpringDataUserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class UserCountAdapterTest {
+
+        @Mock
+        private SpringDataUserRepository repository;
+
+        @Mock
+        private JdbcTemplate jdbcTemplate;
+
+        @Mock
+        private StringRedisTemplate redisTemplate;
+
+        @Mock
+        private ValueOperations<String, String> valueOperations;
+
+        private UserCountAdapter adapter;
+
+        @BeforeEach
+        void setUp() {
+                adapter = new UserCountAdapter(repository, jdbcTemplate, redisTemplate, new SimpleMeterRegistry(),
+                                "users:count");
+        }
+
+        @AfterEach
+        void tearDown() {
+                if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                        TransactionSynchronizationManager.clearSynchronization();
+                }
+        }
+
+        @Test
+        void shouldUsePlannerEstimateAndFallBackToExactWhenTableWasNeverAnalyzed() {
+                when(jdbcTemplate.queryForObject(UserCountAdapter.ESTIMATE_SQL, Long.class)).thenReturn(1_200L, -1L);
+                when(repository.count()).thenReturn(1_180L);
+
+                final var estimated = adapter.count(UserCountStrategy.ESTIMATE);
+                final var fallback = adapter.count(UserCountStrategy.ESTIMATE);
+
+                assertEquals(UserCountStrategy.ESTIMATE, estimated.strategy());
+                assertEquals(1_200L, estimated.total());
+                assertEquals(UserCountStrategy.EXACT, fallback.strategy());
+                assertEquals(1_180L, fallback.total());
+        }
+
+        @Test
+        void shouldSeedCounterOnceAndFallBackToEstimateWhenRedisIsDown() {
+                when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+                when(valueOperations.get("users:count")).thenReturn(null, "43")
+                                .thenThrow(new RedisConnectionFailureException("down"));
+                when(repository.count()).thenReturn(42L);
+                when(jdbcTemplate.queryForObject(UserCountAdapter.ESTIMATE_SQL, Long.class)).thenReturn(40L);
+
+                assertEquals(42L, adapter.count(UserCountStrategy.COUNTER).total());
+                verify(valueOperations).setIfAbsent("users:count", "42");
+                assertEquals(43L, adapter.count(UserCountStrategy.COUNTER).total());
+                final var fallback = adapter.count(UserCountStrategy.COUNTER);
+
+                assertEquals(UserCountStrategy.ESTIMATE, fallback.strategy());
+                assertEquals(40L, fallback.total());
+        }
+
+        @Test
+        void shouldIncrementCounterOnlyAfterCommit() {
+                TransactionSynchronizationManager.initSynchronization();
+
+                adapter.recordInserted(3);
+                verify(redisTemplate, never()).execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(), anyString());
+
+                TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+                verify(redisTemplate).execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(), anyString());
+        }
+
+        @Test
+        void shouldNotTouchDatabaseWhenNoTotalIsRequested() {
+                final var count = adapter.count(UserCountStrategy.NONE);
+
+                assertEquals(UserCountStrategy.NONE, count.strategy());
+                verifyNoInteractions(repository, jdbcTemplate, redisTemplate);
+        }
+}
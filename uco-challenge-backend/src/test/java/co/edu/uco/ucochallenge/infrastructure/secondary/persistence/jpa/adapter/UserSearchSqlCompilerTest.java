@@ -0,0 +1,57 @@
+package co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.adapter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+
+import co.edu.uco.ucochallenge.domain.user.find.model.UserSearchFilter;
+import co.edu.uco.ucochallenge.domain.user.find.specification.UserSearchSpecification;
+
+class UserSearchSqlCompilerTest {
+
+        @Test
+        void shouldCompileFiltersToIndexedExpressionsInFixedOrder() {
+                final var idType = UUID.randomUUID();
+                final var country = UUID.randomUUID();
+                final var specification = UserSearchFilter.builder()
+                                .idType(idType)
+                                .name("  Ána ")
+                                .homeCountry(country)
+                                .emailConfirmed(false)
+                                .build()
+                                .toSpecification();
+                final var parameters = new MapSqlParameterSource();
+
+                final String where = UserSearchSqlCompiler.compile(specification, parameters);
+
+                assertEquals("(((tipo_identificacion = :f0 AND f_unaccent(lower(primer_nombre)) LIKE "
+                                + "f_unaccent(lower(:f1)) ESCAPE '\\') AND ciudad_residencia IN (SELECT c.id FROM ciudad c "
+                                + "JOIN departamento d ON d.id = c.departamento WHERE d.pais = :f2)) AND NOT email_confirmado)",
+                                where);
+                assertEquals(idType, parameters.getValue("f0"));
+                assertEquals("Ána%", parameters.getValue("f1"));
+                assertEquals(country, parameters.getValue("f2"));
+        }
+
+        @Test
+        void shouldEscapeLikeWildcardsInPrefixes() {
+                final var parameters = new MapSqlParameterSource();
+
+                UserSearchSqlCompiler.compile(new UserSearchSpecification.IdNumberStartsWith("10_%\\"), parameters);
+
+                assertEquals("10\\_\\%\\\\%", parameters.getValue("f0"));
+        }
+
+        @Test
+        void shouldMatchEverythingWithoutFilters() {
+                final var parameters = new MapSqlParameterSource();
+
+                final String where = UserSearchSqlCompiler.compile(UserSearchFilter.empty().toSpecification(), parameters);
+
+                assertEquals("TRUE", where);
+                assertEquals(0, parameters.getParameterNames().length);
+        }
+}
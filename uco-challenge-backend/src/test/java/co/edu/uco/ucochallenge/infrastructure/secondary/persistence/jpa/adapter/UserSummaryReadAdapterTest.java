@@ -0,0 +1,105 @@
+package co.edu.uco.ucochallenge.infrastructure.secondary.persistence.jpa.adapter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import co.edu.uco.ucochallenge.domain.user.find.model.UserCountDomain;
+import co.edu.uco.ucochallenge.domain.user.find.model.UserCountStrategy;
+import co.edu.uco.ucochallenge.domain.user.find.specification.UserSearchSpecification;
+import co.edu.uco.ucochallenge.domain.user.port.UserCountPort;
+
+/**
+ * Regresión de sentencias: cada página debe resolverse con una única sentencia SQL de datos, sin
+ * consultas adicionales por tipo de identificación, ciudad, departamento o país.
+ */
+@ExtendWith(MockitoExtension.class)
+class UserSummaryReadAdapterTest {
+
+        private static final UUID ID_TYPE = UUID.randomUUID();
+        private static final UUID CITY = UUID.randomUUID();
+
+        @Mock
+        private DataSource dataSource;
+
+        @Mock
+        private Connection connection;
+
+        @Mock
+        private PreparedStatement statement;
+
+        @Mock
+        private ResultSet resultSet;
+
+        @Mock
+        private UserCountPort userCountPort;
+
+        private UserSummaryReadAdapter adapter;
+
+        @BeforeEach
+        void setUp() throws SQLException {
+                when(dataSource.getConnection()).thenReturn(connection);
+                when(connection.prepareStatement(anyString())).thenReturn(statement);
+                when(statement.executeQuery()).thenReturn(resultSet);
+                adapter = new UserSummaryReadAdapter(new NamedParameterJdbcTemplate(dataSource), userCountPort);
+        }
+
+        @Test
+        void shouldReadOffsetPageWithSingleStatement() throws SQLException {
+                givenRows(3);
+                when(userCountPort.count(UserCountStrategy.NONE)).thenReturn(UserCountDomain.none());
+
+                final var response = adapter.findAll(UserSearchSpecification.all(), 4, 2, UserCountStrategy.NONE);
+
+                verify(connection, times(1)).prepareStatement(anyString());
+                verify(statement).setObject(1, 3);
+                verify(statement).setObject(2, 8L);
+                assertEquals(2, response.getUsers().size());
+                assertTrue(response.isHasNext());
+                assertEquals(ID_TYPE, response.getUsers().get(0).getIdType());
+                assertEquals(CITY, response.getUsers().get(0).getHomeCity());
+        }
+
+        @Test
+        void shouldReadKeysetPageWithSingleStatement() throws SQLException {
+                givenRows(1);
+                when(userCountPort.count(UserCountStrategy.NONE)).thenReturn(UserCountDomain.none());
+
+                final var response = adapter.findAfter(UserSearchSpecification.all(), UUID.randomUUID(), 2,
+                                UserCountStrategy.NONE);
+
+                verify(connection, times(1)).prepareStatement(anyString());
+                assertEquals(1, response.getUsers().size());
+                assertFalse(response.isHasNext());
+                assertNull(response.getNextAfter());
+        }
+
+        private void givenRows(final int rows) throws SQLException {
+                final var remaining = new AtomicInteger(rows);
+                when(resultSet.next()).thenAnswer(invocation -> remaining.getAndDecrement() > 0);
+                when(resultSet.getObject("id", UUID.class)).thenAnswer(invocation -> UUID.randomUUID());
+                when(resultSet.getObject("tipo_identificacion", UUID.class)).thenReturn(ID_TYPE);
+                when(resultSet.getObject("ciudad_residencia", UUID.class)).thenReturn(CITY);
+        }
+}
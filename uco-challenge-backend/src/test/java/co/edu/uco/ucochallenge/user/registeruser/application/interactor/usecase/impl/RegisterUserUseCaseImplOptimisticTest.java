@@ -0,0 +1,160 @@
+package co.edu.uco.ucochallenge.user.registeruser.application.interactor.usecase.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import co.edu.uco.ucochallenge.application.user.register.metrics.RegistrationStageMetrics;
+import co.edu.uco.ucochallenge.application.user.register.usecase.RegistrationWriteMode;
+import co.edu.uco.ucochallenge.application.user.register.usecase.impl.RegisterUserUseCaseImpl;
+import co.edu.uco.ucochallenge.crosscutting.exception.BusinessException;
+import co.edu.uco.ucochallenge.domain.user.port.ContactConfirmationPort;
+import co.edu.uco.ucochallenge.domain.user.port.IdTypeQueryPort;
+import co.edu.uco.ucochallenge.domain.user.port.LocationQueryPort;
+import co.edu.uco.ucochallenge.domain.user.port.NotificationPort;
+import co.edu.uco.ucochallenge.domain.user.port.RegisterUserRepositoryPort;
+import co.edu.uco.ucochallenge.domain.user.register.model.ExistingUserSnapshotDomain;
+import co.edu.uco.ucochallenge.domain.user.register.model.RegisterUserDomain;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class RegisterUserUseCaseImplOptimisticTest {
+
+        @Mock
+        private RegisterUserRepositoryPort repositoryPort;
+        @Mock
+        private NotificationPort notificationPort;
+        @Mock
+        private ContactConfirmationPort contactConfirmationPort;
+        @Mock
+        private IdTypeQueryPort idTypeQueryPort;
+        @Mock
+        private LocationQueryPort locationQueryPort;
+        @Mock
+        private Supplier<UUID> idGenerator;
+
+        private RegisterUserUseCaseImpl useCase;
+
+        @BeforeEach
+        void setUp() {
+                when(repositoryPort.hasUniqueConstraints()).thenReturn(true);
+                useCase = optimisticUseCase();
+
+                when(idTypeQueryPort.existsById(any())).thenReturn(true);
+                when(locationQueryPort.countryExists(any())).thenReturn(true);
+                when(locationQueryPort.departmentExists(any())).thenReturn(true);
+                when(locationQueryPort.cityExists(any())).thenReturn(true);
+                when(locationQueryPort.isValidHierarchy(any(), any(), any())).thenReturn(true);
+        }
+
+        @Test
+        void shouldInsertWithoutUniquenessLookupsWhenNoConstraintIsViolated() {
+                final var domain = validDomain();
+                when(repositoryPort.saveIfAbsent(domain)).thenReturn(true);
+
+                useCase.execute(domain);
+
+                verify(repositoryPort).saveIfAbsent(domain);
+                verify(repositoryPort, never()).findByEmail(anyString());
+                verify(repositoryPort, never()).findByMobileNumber(anyString());
+                verify(repositoryPort, never()).findByIdentification(any(), anyString());
+                verify(repositoryPort, never()).save(any());
+        }
+
+        @Test
+        void shouldReportDuplicatedEmailAndNotifyOwnerWhenInsertConflicts() {
+                final var domain = validDomain();
+                final var existing = ExistingUserSnapshotDomain.builder()
+                                .id(UUID.randomUUID())
+                                .firstName("Ana")
+                                .firstSurname("Gomez")
+                                .email(domain.getEmail())
+                                .build();
+                when(repositoryPort.saveIfAbsent(domain)).thenReturn(false);
+                when(repositoryPort.findByIdentification(any(), anyString())).thenReturn(Optional.empty());
+                when(repositoryPort.findByEmail(domain.getEmail())).thenReturn(Optional.of(existing));
+                when(repositoryPort.findByMobileNumber(anyString())).thenReturn(Optional.empty());
+
+                final var exception = assertThrows(BusinessException.class, () -> useCase.execute(domain));
+
+                assertEquals("register.user.duplicated", exception.getMessage());
+                verify(notificationPort).notifyEmailOwner(eq(domain.getEmail()), anyString());
+                verify(notificationPort).notifyExecutor(eq("register-api"), anyString());
+                verify(repositoryPort, times(1)).saveIfAbsent(domain);
+        }
+
+        @Test
+        void shouldRetryWithNewIdWhenOnlyPrimaryKeyCollides() {
+                final var domain = validDomain();
+                final var freshId = UUID.randomUUID();
+                when(repositoryPort.saveIfAbsent(domain)).thenReturn(false, true);
+                when(idGenerator.get()).thenReturn(freshId);
+                when(repositoryPort.findByIdentification(any(), anyString())).thenReturn(Optional.empty());
+                when(repositoryPort.findByEmail(anyString())).thenReturn(Optional.empty());
+                when(repositoryPort.findByMobileNumber(anyString())).thenReturn(Optional.empty());
+
+                useCase.execute(domain);
+
+                assertEquals(freshId, domain.getId());
+                verify(repositoryPort, times(2)).saveIfAbsent(domain);
+        }
+
+        @Test
+        void shouldFallBackToCheckedModeWhenUniqueIndexesAreMissing() {
+                when(repositoryPort.hasUniqueConstraints()).thenReturn(false);
+                final var checkedUseCase = optimisticUseCase();
+                final var domain = validDomain();
+                when(repositoryPort.findByIdentification(any(), anyString())).thenReturn(Optional.empty());
+                when(repositoryPort.findByEmail(anyString())).thenReturn(Optional.empty());
+                when(repositoryPort.findByMobileNumber(anyString())).thenReturn(Optional.empty());
+                when(repositoryPort.saveIfAbsent(domain)).thenReturn(true);
+
+                checkedUseCase.execute(domain);
+
+                // Sin índices únicos el ON CONFLICT no detectaría el duplicado: se consulta antes de insertar
+                final var order = inOrder(repositoryPort);
+                order.verify(repositoryPort).findByEmail(domain.getEmail());
+                order.verify(repositoryPort).saveIfAbsent(domain);
+                verify(repositoryPort).findByIdentification(any(), eq(domain.getIdNumber()));
+                verify(repositoryPort).findByMobileNumber(domain.getMobileNumber());
+        }
+
+        private RegisterUserUseCaseImpl optimisticUseCase() {
+                return new RegisterUserUseCaseImpl(repositoryPort, notificationPort, contactConfirmationPort,
+                                idTypeQueryPort, locationQueryPort, idGenerator, RegistrationWriteMode.OPTIMISTIC,
+                                new RegistrationStageMetrics(new SimpleMeterRegistry(), Duration.ofMillis(500)));
+        }
+
+        private RegisterUserDomain validDomain() {
+                return RegisterUserDomain.builder()
+                                .id(UUID.randomUUID())
+                                .idType(UUID.randomUUID())
+                                .idNumber("1001")
+                                .firstName("Juan")
+                                .firstSurname("Perez")
+                                .countryId(UUID.randomUUID())
+                                .departmentId(UUID.randomUUID())
+                                .homeCity(UUID.randomUUID())
+                                .email("juan@uco.edu.co")
+                                .mobileNumber("3001234567")
+                                .build();
+        }
+}
@@ -1,9 +1,16 @@
 package co.edu.uco.ucochallenge.user.registeruser.application.interactor.usecase.impl;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import java.time.Duration;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Supplier;
 
@@ -12,9 +19,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import co.edu.uco.ucochallenge.application.user.register.metrics.RegistrationStageMetrics;
 import co.edu.uco.ucochallenge.application.user.register.usecase.impl.RegisterUserUseCaseImpl;
+import co.edu.uco.ucochallenge.crosscutting.exception.BusinessException;
 import co.edu.uco.ucochallenge.crosscutting.exception.DomainValidationException;
 import co.edu.uco.ucochallenge.crosscutting.helper.UUIDHelper;
 import co.edu.uco.ucochallenge.domain.user.port.ContactConfirmationPort;
@@ -22,7 +32,9 @@ import co.edu.uco.ucochallenge.domain.user.port.IdTypeQueryPort;
 import co.edu.uco.ucochallenge.domain.user.port.LocationQueryPort;
 import co.edu.uco.ucochallenge.domain.user.port.NotificationPort;
 import co.edu.uco.ucochallenge.domain.user.port.RegisterUserRepositoryPort;
+import co.edu.uco.ucochallenge.domain.user.register.model.ExistingUserSnapshotDomain;
 import co.edu.uco.ucochallenge.domain.user.register.model.RegisterUserDomain;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @ExtendWith(MockitoExtension.class)
 class RegisterUserUseCaseImplTest {
@@ -40,6 +52,10 @@ class RegisterUserUseCaseImplTest {
         @Mock
         private Supplier<UUID> idGenerator;
 
+        @Spy
+        private RegistrationStageMetrics stageMetrics = new RegistrationStageMetrics(new SimpleMeterRegistry(),
+                        Duration.ofMillis(500));
+
         @InjectMocks
         private RegisterUserUseCaseImpl useCase;
 
@@ -61,4 +77,43 @@ class RegisterUserUseCaseImplTest {
                 verify(repositoryPort, never()).save(domain);
                 verify(contactConfirmationPort, never()).confirmEmail(ArgumentMatchers.anyString());
         }
+
+        @Test
+        void shouldReportDuplicatedWhenInsertConflictsAfterLookupsFoundNothing() {
+                final var domain = RegisterUserDomain.builder()
+                                .id(UUID.randomUUID())
+                                .idType(UUID.randomUUID())
+                                .idNumber("1001")
+                                .firstName("Juan")
+                                .firstSurname("Perez")
+                                .countryId(UUID.randomUUID())
+                                .departmentId(UUID.randomUUID())
+                                .homeCity(UUID.randomUUID())
+                                .email("juan@uco.edu.co")
+                                .mobileNumber("3001234567")
+                                .build();
+                final var existing = ExistingUserSnapshotDomain.builder()
+                                .id(UUID.randomUUID())
+                                .firstName("Ana")
+                                .firstSurname("Gomez")
+                                .email(domain.getEmail())
+                                .build();
+                when(idTypeQueryPort.existsById(any())).thenReturn(true);
+                when(locationQueryPort.countryExists(any())).thenReturn(true);
+                when(locationQueryPort.departmentExists(any())).thenReturn(true);
+                when(locationQueryPort.cityExists(any())).thenReturn(true);
+                when(locationQueryPort.isValidHierarchy(any(), any(), any())).thenReturn(true);
+                when(repositoryPort.findByIdentification(any(), anyString())).thenReturn(Optional.empty());
+                when(repositoryPort.findByMobileNumber(anyString())).thenReturn(Optional.empty());
+                // Otro nodo insertó el mismo correo entre la consulta y la inserción
+                when(repositoryPort.findByEmail(domain.getEmail())).thenReturn(Optional.empty())
+                                .thenReturn(Optional.of(existing));
+                when(repositoryPort.saveIfAbsent(domain)).thenReturn(false);
+
+                final var exception = assertThrows(BusinessException.class, () -> useCase.execute(domain));
+
+                assertEquals("register.user.duplicated", exception.getMessage());
+                verify(notificationPort).notifyEmailOwner(eq(domain.getEmail()), anyString());
+                verify(repositoryPort, never()).save(any());
+        }
 }
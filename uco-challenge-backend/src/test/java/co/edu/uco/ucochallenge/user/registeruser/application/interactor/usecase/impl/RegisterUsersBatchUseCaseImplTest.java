@@ -0,0 +1,156 @@
+package co.edu.uco.ucochallenge.user.registeruser.application.interactor.usecase.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+
+import co.edu.uco.ucochallenge.application.user.registerbatch.usecase.impl.RegisterUserRowsValidator;
+import co.edu.uco.ucochallenge.application.user.registerbatch.usecase.impl.RegisterUsersBatchUseCaseImpl;
+import co.edu.uco.ucochallenge.domain.user.port.BatchRegisterUserRepositoryPort;
+import co.edu.uco.ucochallenge.domain.user.port.IdTypeQueryPort;
+import co.edu.uco.ucochallenge.domain.user.port.LocationQueryPort;
+import co.edu.uco.ucochallenge.domain.user.port.NotificationPort;
+import co.edu.uco.ucochallenge.domain.user.register.model.ExistingUserSnapshotDomain;
+import co.edu.uco.ucochallenge.domain.user.register.model.RegisterUserDomain;
+
+@ExtendWith(MockitoExtension.class)
+class RegisterUsersBatchUseCaseImplTest {
+
+        private static final UUID ID_TYPE = UUID.randomUUID();
+        private static final UUID COUNTRY = UUID.randomUUID();
+        private static final UUID DEPARTMENT = UUID.randomUUID();
+        private static final UUID CITY = UUID.randomUUID();
+
+        @Mock
+        private BatchRegisterUserRepositoryPort repositoryPort;
+        @Mock
+        private NotificationPort notificationPort;
+        @Mock
+        private IdTypeQueryPort idTypeQueryPort;
+        @Mock
+        private LocationQueryPort locationQueryPort;
+
+        private RegisterUsersBatchUseCaseImpl useCase;
+
+        @BeforeEach
+        void setUp() {
+                useCase = new RegisterUsersBatchUseCaseImpl(repositoryPort, notificationPort,
+                                new RegisterUserRowsValidator(idTypeQueryPort, locationQueryPort));
+
+                final Answer<Object> echo = invocation -> new HashSet<>((Collection<?>) invocation.getArgument(0));
+                when(idTypeQueryPort.findExistingIds(anyCollection())).thenAnswer(echo);
+                when(idTypeQueryPort.findIdsByNames(anyCollection())).thenReturn(Map.of());
+                when(locationQueryPort.findExistingCountries(anyCollection())).thenAnswer(echo);
+                when(locationQueryPort.findExistingDepartments(anyCollection())).thenAnswer(echo);
+                when(locationQueryPort.findExistingCities(anyCollection())).thenAnswer(echo);
+                when(locationQueryPort.isValidHierarchy(any(), any(), any())).thenReturn(true);
+        }
+
+        @Test
+        void shouldResolveReferenceDataAndUniquenessOncePerBatch() {
+                final var first = domain("1001", "a@uco.edu.co", "3001000001");
+                final var second = domain("1002", "b@uco.edu.co", "3001000002");
+                final var third = domain("1003", "c@uco.edu.co", "3001000003");
+                stubNoExistingUsers();
+                when(repositoryPort.saveAllIfAbsent(anyList())).thenReturn(new boolean[] { true, true, true });
+
+                final var results = useCase.execute(List.of(first, second, third));
+
+                assertEquals(3, results.size());
+                assertTrue(results.stream().allMatch(result -> result.isCreated()));
+                assertEquals(second.getId(), results.get(1).getId());
+                verify(idTypeQueryPort, times(1)).findExistingIds(anyCollection());
+                verify(locationQueryPort, times(1)).findExistingCities(anyCollection());
+                verify(repositoryPort, times(1)).findByEmails(anyCollection());
+                verify(repositoryPort, times(1)).saveAllIfAbsent(List.of(first, second, third));
+        }
+
+        @Test
+        void shouldRejectRepeatedEmailWithinBatchKeepingFirstOccurrence() {
+                final var first = domain("1001", "a@uco.edu.co", "3001000001");
+                final var repeated = domain("1002", "a@uco.edu.co", "3001000002");
+                stubNoExistingUsers();
+                when(repositoryPort.saveAllIfAbsent(List.of(first))).thenReturn(new boolean[] { true });
+
+                final var results = useCase.execute(List.of(first, repeated));
+
+                assertTrue(results.get(0).isCreated());
+                assertFalse(results.get(1).isCreated());
+                assertEquals(List.of("REGISTER_USER_EMAIL_DUPLICATED"), results.get(1).getErrorCodes());
+        }
+
+        @Test
+        void shouldRejectRowsAlreadyRegisteredAndNotifyOwner() {
+                final var fresh = domain("1001", "a@uco.edu.co", "3001000001");
+                final var taken = domain("1002", "b@uco.edu.co", "3001000002");
+                final var existing = ExistingUserSnapshotDomain.builder()
+                                .id(UUID.randomUUID())
+                                .firstName("Ana")
+                                .firstSurname("Gomez")
+                                .email(taken.getEmail())
+                                .build();
+                when(repositoryPort.findByIdentifications(anyCollection())).thenReturn(Map.of());
+                when(repositoryPort.findByEmails(anyCollection())).thenReturn(Map.of(taken.getEmail(), existing));
+                when(repositoryPort.findByMobileNumbers(anyCollection())).thenReturn(Map.of());
+                when(repositoryPort.saveAllIfAbsent(List.of(fresh))).thenReturn(new boolean[] { true });
+
+                final var results = useCase.execute(List.of(fresh, taken));
+
+                assertTrue(results.get(0).isCreated());
+                assertFalse(results.get(1).isCreated());
+                verify(notificationPort).notifyEmailOwner(eq(taken.getEmail()), anyString());
+        }
+
+        @Test
+        void shouldReportConflictWhenInsertLosesRace() {
+                final var row = domain("1001", "a@uco.edu.co", "3001000001");
+                stubNoExistingUsers();
+                when(repositoryPort.saveAllIfAbsent(any())).thenReturn(new boolean[] { false });
+
+                final var results = useCase.execute(List.of(row));
+
+                assertEquals(List.of("register.user.duplicated"), results.get(0).getErrorCodes());
+        }
+
+        private void stubNoExistingUsers() {
+                when(repositoryPort.findByIdentifications(anyCollection())).thenReturn(Map.of());
+                when(repositoryPort.findByEmails(anyCollection())).thenReturn(Map.of());
+                when(repositoryPort.findByMobileNumbers(anyCollection())).thenReturn(Map.of());
+        }
+
+        private RegisterUserDomain domain(final String idNumber, final String email, final String mobileNumber) {
+                return RegisterUserDomain.builder()
+                                .id(UUID.randomUUID())
+                                .idType(ID_TYPE)
+                                .idNumber(idNumber)
+                                .firstName("Juan")
+                                .firstSurname("Perez")
+                                .countryId(COUNTRY)
+                                .departmentId(DEPARTMENT)
+                                .homeCity(CITY)
+                                .email(email)
+                                .mobileNumber(mobileNumber)
+                                .build();
+        }
+}